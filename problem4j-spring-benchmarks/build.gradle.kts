@@ -0,0 +1,18 @@
+plugins {
+    id("internal.java-library-convention")
+    alias(libs.plugins.jmh)
+}
+
+// Benchmarks live in their own module, which is not published, so that JMH plugin does not leak
+// into POMs and variants of the published modules.
+
+dependencies {
+    // Benchmarks, run with ./gradlew :problem4j-spring-benchmarks:jmh
+    jmh(platform(libs.spring.boot.dependencies))
+    jmh(project(":problem4j-spring-web"))
+    jmh(project(":problem4j-spring-webflux"))
+    jmh(libs.spring.boot.jackson)
+    jmh(libs.spring.boot.starter.webflux)
+    jmh(libs.spring.web)
+    jmh(libs.jackson3.dataformat.xml)
+}
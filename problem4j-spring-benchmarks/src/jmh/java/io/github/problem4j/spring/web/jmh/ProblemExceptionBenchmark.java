@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.jmh;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ProblemSupport;
+import io.github.problem4j.spring.web.StacklessProblemException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Compares throw-and-handle round trip of {@link ProblemException} with {@link
+ * StacklessProblemException}, thrown from given call stack depth (a Spring request handler is
+ * typically well over a hundred frames deep) and handled by resolving the response status.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemExceptionBenchmark {
+
+  @Param({"10", "150"})
+  private int depth;
+
+  @Param({"0", "100"})
+  private int stackTraceSampleRate;
+
+  private Problem problem;
+
+  @Setup
+  public void setUp() {
+    problem = Problem.builder().status(ProblemStatus.CONFLICT).detail("already exists").build();
+    StacklessProblemException.setStackTraceSampleRate(stackTraceSampleRate);
+  }
+
+  @Benchmark
+  public HttpStatus problemException() {
+    try {
+      throwAt(depth, false);
+      return null;
+    } catch (ProblemException e) {
+      return ProblemSupport.resolveStatus(e.getProblem());
+    }
+  }
+
+  @Benchmark
+  public HttpStatus stacklessProblemException() {
+    try {
+      throwAt(depth, true);
+      return null;
+    } catch (ProblemException e) {
+      return ProblemSupport.resolveStatus(e.getProblem());
+    }
+  }
+
+  private void throwAt(int remaining, boolean stackless) {
+    if (remaining > 0) {
+      throwAt(remaining - 1, stackless);
+      return;
+    }
+    throw stackless ? new StacklessProblemException(problem) : new ProblemException(problem);
+  }
+}
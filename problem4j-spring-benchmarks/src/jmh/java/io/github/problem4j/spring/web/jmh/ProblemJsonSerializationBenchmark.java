@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.jmh;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.ProblemJsonMapperBuilderCustomizer;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares serialization of {@link Problem} through {@code ProblemJacksonMixIn} with dedicated
+ * {@code ProblemJsonSerializer}, for a plain problem and for a problem with {@code errors}
+ * extension of given size.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProblemJsonSerializationBenchmark {
+
+  @Param({"0", "10", "1000"})
+  private int violations;
+
+  private Problem problem;
+  private ObjectWriter mixinWriter;
+  private ObjectWriter serializerWriter;
+
+  @Setup
+  public void setUp() {
+    List<Violation> errors = new ArrayList<>(violations);
+    for (int i = 0; i < violations; i++) {
+      errors.add(new Violation("items[" + i + "].name", "must not be blank"));
+    }
+    problem =
+        Problem.builder()
+            .type("errors/invalid-request")
+            .title("Bad Request")
+            .status(400)
+            .detail("Validation failed")
+            .instance("urn:uuid:6d0b6ae4-5e5d-4a43-9d3b-4c3f9a2b8f51")
+            .extension("userId", "u-123")
+            .extension("errors", errors)
+            .build();
+    mixinWriter = createMapper(false).writerFor(Problem.class);
+    serializerWriter = createMapper(true).writerFor(Problem.class);
+  }
+
+  private static JsonMapper createMapper(boolean problemSerializerEnabled) {
+    JsonMapper.Builder builder = JsonMapper.builder();
+    new ProblemJsonMapperBuilderCustomizer(problemSerializerEnabled).customize(builder);
+    return builder.build();
+  }
+
+  @Benchmark
+  public byte[] mixin() {
+    return mixinWriter.writeValueAsBytes(problem);
+  }
+
+  @Benchmark
+  public byte[] serializer() {
+    return serializerWriter.writeValueAsBytes(problem);
+  }
+}
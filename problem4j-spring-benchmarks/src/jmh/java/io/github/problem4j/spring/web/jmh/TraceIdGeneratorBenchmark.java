@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.jmh;
+
+import io.github.problem4j.spring.web.tracing.RandomUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TimeOrderedUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.UlidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.W3cTraceIdGenerator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares built-in {@link TraceIdGenerator}s, with all benchmark threads sharing a single
+ * generator instance, as context filters do. Run with {@code -t} to vary the contention.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TraceIdGeneratorBenchmark {
+
+  @Param({"secure-uuid", "uuid", "uuid7", "ulid", "w3c"})
+  private String format;
+
+  private TraceIdGenerator generator;
+
+  @Setup
+  public void setUp() {
+    generator =
+        switch (format) {
+          case "uuid" -> new RandomUuidTraceIdGenerator();
+          case "uuid7" -> new TimeOrderedUuidTraceIdGenerator();
+          case "ulid" -> new UlidTraceIdGenerator();
+          case "w3c" -> new W3cTraceIdGenerator();
+          default -> new SecureUuidTraceIdGenerator();
+        };
+  }
+
+  @Benchmark
+  public String generate() {
+    return generator.generateTraceId();
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux.jmh;
+
+import io.github.problem4j.spring.web.AttributeSupport;
+import io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.server.WebExceptionHandler;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Compares eager and lazy {@link ProblemContextWebFluxFilter} on a Reactor Netty server, for
+ * requests that complete successfully and for requests failing with an exception, whose handler
+ * reads the trace ID the way problem advices do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ProblemContextWebFluxFilterBenchmark {
+
+  @Param({"false", "true"})
+  private boolean lazy;
+
+  @Param({"false", "true"})
+  private boolean failing;
+
+  private DisposableServer server;
+  private HttpClient client;
+
+  @Setup
+  public void setUp() {
+    WebHandler webHandler =
+        exchange ->
+            failing
+                ? Mono.error(new IllegalStateException("failure"))
+                : exchange.getResponse().setComplete();
+    WebExceptionHandler exceptionHandler =
+        (exchange, ex) -> {
+          String traceId = AttributeSupport.resolveTraceId(exchange::getAttribute);
+          exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+          exchange.getResponse().getHeaders().set("X-Trace-Id", traceId);
+          return exchange.getResponse().setComplete();
+        };
+    HttpHandler httpHandler =
+        WebHttpHandlerBuilder.webHandler(webHandler)
+            .filter(ProblemContextWebFluxFilter.builder(() -> null).lazy(lazy).build())
+            .exceptionHandler(exceptionHandler)
+            .build();
+
+    server =
+        HttpServer.create()
+            .host("127.0.0.1")
+            .port(0)
+            .handle(new ReactorHttpHandlerAdapter(httpHandler))
+            .bindNow();
+    client = HttpClient.create().baseUrl("http://127.0.0.1:" + server.port());
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.disposeNow();
+  }
+
+  @Benchmark
+  public Integer request() {
+    return client
+        .get()
+        .uri("/test")
+        .responseSingle((response, body) -> Mono.just(response.status().code()))
+        .block();
+  }
+}
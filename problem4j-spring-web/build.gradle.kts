@@ -14,9 +14,12 @@
     compileOnly(libs.spring.boot.jackson)
     compileOnly(libs.spring.web)
 
+    compileOnly(libs.jackson3.dataformat.cbor)
+    compileOnly(libs.jackson3.dataformat.smile)
     compileOnly(libs.jackson3.dataformat.xml)
     compileOnly(libs.jakarta.servlet.api)
     compileOnly(libs.jakarta.validation.api)
+    compileOnly(libs.micrometer.tracing)
 
     // for backwards compatibility with jackson-databind v2
     compileOnly(libs.jackson2.databind)
@@ -32,6 +35,9 @@
     testImplementation(libs.spring.boot.web.server)
     testImplementation(libs.spring.boot.validation)
     testImplementation(libs.jakarta.servlet.api)
+    testImplementation(libs.jackson3.dataformat.cbor)
+    testImplementation(libs.jackson3.dataformat.smile)
+    testImplementation(libs.micrometer.tracing)
 
     testRuntimeOnly(libs.junit.platform.launcher)
 }
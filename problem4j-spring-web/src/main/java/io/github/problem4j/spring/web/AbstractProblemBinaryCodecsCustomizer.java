@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import org.springframework.http.MediaType;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SerializationConfig;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.cfg.MapperBuilder;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Convenience base class for {@link ProblemCodecsCustomizer}-s registering a binary Jackson data
+ * format, such as CBOR or Smile.
+ *
+ * <p>If the application's {@link JsonMapper} is given, the binary mapper inherits its registered
+ * modules, mapper, serialization and deserialization features, default property inclusion and
+ * property naming strategy, so it follows {@code spring.jackson.*} properties and {@code
+ * JsonMapperBuilderCustomizer} beans. Mix-ins are not carried over, apart from the one for {@code
+ * Problem}, which is applied the same way as by {@link ProblemJsonMapperBuilderCustomizer}.
+ *
+ * @param <M> type of the data format's mapper
+ * @param <B> type of the data format's mapper builder
+ */
+public abstract class AbstractProblemBinaryCodecsCustomizer<
+        M extends ObjectMapper, B extends MapperBuilder<M, B>>
+    implements ProblemCodecsCustomizer {
+
+  private final MediaType mediaType;
+  private final boolean problemSerializerEnabled;
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Creates a new customizer.
+   *
+   * @param mediaType the media type to register the binary mapper for
+   * @param problemSerializerEnabled whether {@link ProblemJsonSerializer} should be used for
+   *     writing {@code Problem} objects instead of the mix-in
+   * @param jsonMapper the application's JSON mapper to inherit configuration from, or {@code null}
+   *     to start from data format's defaults
+   */
+  protected AbstractProblemBinaryCodecsCustomizer(
+      MediaType mediaType, boolean problemSerializerEnabled, JsonMapper jsonMapper) {
+    this.mediaType = mediaType;
+    this.problemSerializerEnabled = problemSerializerEnabled;
+    this.jsonMapper = jsonMapper;
+  }
+
+  /**
+   * Builds the binary mapper and registers it for the media type of this customizer.
+   *
+   * @param builder the builder to customize
+   */
+  @Override
+  public void customize(ProblemCodecs.Builder builder) {
+    B mapperBuilder = createMapperBuilder();
+    if (jsonMapper != null) {
+      inheritConfiguration(jsonMapper, mapperBuilder);
+    }
+    ProblemJsonMapperBuilderCustomizer.configure(mapperBuilder, problemSerializerEnabled);
+    builder.register(mediaType, mapperBuilder.build());
+  }
+
+  /**
+   * Creates a fresh builder of the data format's mapper.
+   *
+   * @return a new mapper builder
+   */
+  protected abstract B createMapperBuilder();
+
+  private static void inheritConfiguration(ObjectMapper source, MapperBuilder<?, ?> target) {
+    target.addModules(source.registeredModules());
+
+    for (MapperFeature feature : MapperFeature.values()) {
+      target.configure(feature, source.isEnabled(feature));
+    }
+    for (SerializationFeature feature : SerializationFeature.values()) {
+      target.configure(feature, source.isEnabled(feature));
+    }
+    for (DeserializationFeature feature : DeserializationFeature.values()) {
+      target.configure(feature, source.isEnabled(feature));
+    }
+
+    SerializationConfig config = source.serializationConfig();
+    target.changeDefaultPropertyInclusion(inclusion -> config.getDefaultPropertyInclusion());
+    if (config.getPropertyNamingStrategy() != null) {
+      target.propertyNamingStrategy(config.getPropertyNamingStrategy());
+    }
+  }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs inspectors off the request thread, on a delegate {@link Executor}, with a bound on the
+ * number of inspections that are submitted but not yet completed.
+ *
+ * <p>Once {@code maxPending} inspections are in flight, further ones are either dropped (and
+ * counted, see {@link #getDroppedCount()}) or make the submitting thread wait for a free slot,
+ * depending on {@link OverflowPolicy}. Bounding happens here rather than in the delegate, so that
+ * an unbounded executor, such as one starting a virtual thread per task, can be used safely.
+ *
+ * <p>Tasks are expected to handle their own failures. Exceptions thrown by a task are swallowed,
+ * so that a failing inspector cannot break the delegate's worker threads.
+ */
+public class AsyncInspectorExecutor implements Executor {
+
+  /** Default maximum number of inspections that are submitted but not yet completed. */
+  public static final int DEFAULT_MAX_PENDING = 1000;
+
+  private final Executor delegate;
+  private final int maxPending;
+  private final OverflowPolicy overflowPolicy;
+
+  private final Semaphore permits;
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * Creates a new executor that drops inspections over {@link #DEFAULT_MAX_PENDING}.
+   *
+   * @param delegate the executor to run inspections on
+   */
+  public AsyncInspectorExecutor(Executor delegate) {
+    this(delegate, DEFAULT_MAX_PENDING, OverflowPolicy.DROP);
+  }
+
+  /**
+   * Creates a new executor.
+   *
+   * @param delegate the executor to run inspections on
+   * @param maxPending maximum number of inspections that are submitted but not yet completed (must
+   *     be positive)
+   * @param overflowPolicy what to do with inspections submitted over {@code maxPending}
+   * @throws IllegalArgumentException if {@code maxPending} is not positive
+   */
+  public AsyncInspectorExecutor(Executor delegate, int maxPending, OverflowPolicy overflowPolicy) {
+    if (maxPending <= 0) {
+      throw new IllegalArgumentException("maxPending must be positive, but was " + maxPending);
+    }
+    this.delegate = delegate;
+    this.maxPending = maxPending;
+    this.overflowPolicy = overflowPolicy;
+    this.permits = new Semaphore(maxPending);
+  }
+
+  /**
+   * Submits given inspection to the delegate executor, unless {@code maxPending} inspections are
+   * already in flight and overflow policy is {@link OverflowPolicy#DROP}. Inspections rejected by
+   * the delegate are counted as dropped as well.
+   *
+   * @param task the inspection to run
+   */
+  @Override
+  public void execute(Runnable task) {
+    prepareAndExecute(() -> task);
+  }
+
+  /**
+   * Like {@link #execute(Runnable)}, but creates the inspection only once it is accepted, so that
+   * preparing it (e.g. copying request data on the submitting thread) is skipped for inspections
+   * that would be dropped anyway. The factory is called on the submitting thread.
+   *
+   * @param taskFactory creates the inspection to run
+   */
+  public void prepareAndExecute(Supplier<? extends Runnable> taskFactory) {
+    if (!acquire()) {
+      dropped.increment();
+      return;
+    }
+    Runnable task;
+    try {
+      task = taskFactory.get();
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+    try {
+      delegate.execute(() -> run(task));
+    } catch (RejectedExecutionException e) {
+      permits.release();
+      dropped.increment();
+    }
+  }
+
+  private boolean acquire() {
+    if (overflowPolicy != OverflowPolicy.BLOCK) {
+      return permits.tryAcquire();
+    }
+    try {
+      permits.acquire();
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void run(Runnable task) {
+    try {
+      task.run();
+    } catch (RuntimeException e) {
+      // tasks are expected to report their own failures
+    } finally {
+      permits.release();
+    }
+  }
+
+  /**
+   * Returns the maximum number of inspections that are submitted but not yet completed.
+   *
+   * @return maximum number of pending inspections
+   */
+  public int getMaxPending() {
+    return maxPending;
+  }
+
+  /**
+   * Returns what happens with inspections submitted over {@code maxPending}.
+   *
+   * @return overflow policy
+   */
+  public OverflowPolicy getOverflowPolicy() {
+    return overflowPolicy;
+  }
+
+  /**
+   * Returns the number of inspections that are submitted but not yet completed.
+   *
+   * @return number of pending inspections
+   */
+  public int getPendingCount() {
+    return maxPending - permits.availablePermits();
+  }
+
+  /**
+   * Returns the number of inspections dropped so far, because of overflow, rejection by the
+   * delegate executor or interruption of a blocked submitter.
+   *
+   * @return number of dropped inspections
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /** Policy of handling inspections submitted while {@code maxPending} ones are in flight. */
+  public enum OverflowPolicy {
+
+    /** Inspection is skipped and counted as dropped, request thread is never held up. */
+    DROP,
+
+    /** Request thread waits until one of pending inspections completes. */
+    BLOCK
+  }
+}
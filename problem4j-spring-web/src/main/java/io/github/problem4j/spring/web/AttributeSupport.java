@@ -20,6 +20,9 @@
  */
 package io.github.problem4j.spring.web;
 
+import io.github.problem4j.core.ProblemContext;
+import java.util.function.Function;
+
 /**
  * Utility class providing constants and helper methods for tracing support within the Problem4J.
  */
@@ -42,5 +45,52 @@ public final class AttributeSupport {
    */
   public static final String PROBLEM_CONTEXT_ATTRIBUTE = "io.github.problem4j.core.ProblemContext";
 
+  /**
+   * Request attribute key used to store a {@link LazyProblemContext}, installed instead of {@link
+   * #PROBLEM_CONTEXT_ATTRIBUTE} and {@link #TRACE_ID_ATTRIBUTE} by context filters in lazy mode.
+   * Both attributes are assigned once the context is created.
+   *
+   * <p>In eager mode, context filters install it next to both attributes, to defer parts of the
+   * context that are relevant only to problem rendering (e.g. {@code Accept} profile) until it is
+   * resolved. {@link #PROBLEM_CONTEXT_ATTRIBUTE} is then replaced with the completed context.
+   */
+  public static final String LAZY_PROBLEM_CONTEXT_ATTRIBUTE =
+      "io.github.problem4j.spring.web.LazyProblemContext";
+
+  /**
+   * Resolves the context of current request, creating or completing it if a {@link
+   * LazyProblemContext} was installed.
+   *
+   * @param attributes reads request attributes by name (e.g. {@code request::getAttribute})
+   * @return the context of current request, or {@code null} if none was assigned
+   */
+  public static ProblemContext resolveProblemContext(Function<String, Object> attributes) {
+    if (attributes.apply(LAZY_PROBLEM_CONTEXT_ATTRIBUTE) instanceof LazyProblemContext lazy) {
+      return lazy.get();
+    }
+    if (attributes.apply(PROBLEM_CONTEXT_ATTRIBUTE) instanceof ProblemContext context) {
+      return context;
+    }
+    return null;
+  }
+
+  /**
+   * Resolves the trace identifier of current request, creating the context if a {@link
+   * LazyProblemContext} was installed.
+   *
+   * @param attributes reads request attributes by name (e.g. {@code request::getAttribute})
+   * @return the trace identifier of current request, or {@code null} if none was assigned
+   */
+  public static String resolveTraceId(Function<String, Object> attributes) {
+    Object traceId = attributes.apply(TRACE_ID_ATTRIBUTE);
+    if (traceId != null) {
+      return traceId.toString();
+    }
+    if (attributes.apply(LAZY_PROBLEM_CONTEXT_ATTRIBUTE) instanceof LazyProblemContext lazy) {
+      return lazy.get().get("traceId");
+    }
+    return null;
+  }
+
   private AttributeSupport() {}
 }
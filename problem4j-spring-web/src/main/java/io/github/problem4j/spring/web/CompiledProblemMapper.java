@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemBuilder;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemMapping;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ProblemMapper} decorator that compiles each {@link ProblemMapping}-annotated exception
+ * class once into a renderer, instead of reading fields reflectively and interpolating placeholders
+ * on every exception.
+ *
+ * <p>Renderer keeps annotation templates pre-split into literal and placeholder parts, and reads
+ * exception fields through {@link MethodHandle}s. Supported placeholders are {@code {message}},
+ * {@code {context.<key>}} and names of exception fields, declared in the exception class or its
+ * superclasses. Renderers are kept in a {@link PerClassCache} owned by the mapper. Their method
+ * handles refer to exception classes, which therefore stay loaded while the mapper is reachable.
+ *
+ * <p>Renderer formats placeholder values with {@link String#valueOf(Object)} and passes extension
+ * values as they are. Exceptions with {@code null} placeholder or extension values are handed over
+ * to the delegate, as are classes whose templates cannot be compiled (e.g. unknown placeholders,
+ * inaccessible fields).
+ *
+ * <p>Output of the delegate is authoritative. Agreement on some field values does not prove
+ * agreement on all of them, so renderings keep being sampled against the delegate: the first
+ * {@value #VERIFICATION_SAMPLES} exceptions of each class are rendered both ways, and then every
+ * {@value #SAMPLING_INTERVAL}th one. The delegate's result is returned for sampled exceptions, and
+ * the first disagreement disables the renderer of that class for good.
+ */
+public class CompiledProblemMapper implements ProblemMapper {
+
+  /** Number of first exceptions of each class that are rendered by both renderer and delegate. */
+  static final int VERIFICATION_SAMPLES = 16;
+
+  /** Interval of exceptions of each class rendered by both, once its first samples agreed. */
+  static final int SAMPLING_INTERVAL = 1024;
+
+  private static final String MESSAGE_PLACEHOLDER = "message";
+  private static final String CONTEXT_PLACEHOLDER_PREFIX = "context.";
+
+  private final ProblemMapper delegate;
+
+  /** Renderers by exception class, empty for classes that cannot be compiled. */
+  private final PerClassCache<Optional<Renderer>> renderers =
+      new PerClassCache<>(type -> Optional.ofNullable(compile(type)));
+
+  /**
+   * Creates a new compiling decorator of given mapper.
+   *
+   * @param delegate mapper whose output is reproduced, used whenever compiled renderer cannot be
+   */
+  public CompiledProblemMapper(ProblemMapper delegate) {
+    this.delegate = delegate;
+  }
+
+  /**
+   * Checks whether given exception can be mapped, as decided by the delegate.
+   *
+   * @param t the exception to check
+   * @return {@code true} if the exception is a mapping candidate
+   */
+  @Override
+  public boolean isMappingCandidate(Throwable t) {
+    return delegate.isMappingCandidate(t);
+  }
+
+  /**
+   * Maps given exception into a {@link ProblemBuilder}, using compiled renderer of its class if
+   * there is one that agreed with the delegate so far. Sampled exceptions are mapped by the
+   * delegate.
+   *
+   * @param t the exception to map
+   * @param context the current problem context, may be {@code null}
+   * @return builder of problem describing the exception
+   */
+  @Override
+  public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+    if (t == null) {
+      return delegate.toProblemBuilder(t, context);
+    }
+    Renderer renderer = renderers.get(t.getClass()).orElse(null);
+    if (renderer == null || renderer.disabled) {
+      return delegate.toProblemBuilder(t, context);
+    }
+    long rendering = renderer.renderings.getAndIncrement();
+    if (rendering < VERIFICATION_SAMPLES || rendering % SAMPLING_INTERVAL == 0) {
+      return verify(renderer, t, context);
+    }
+    ProblemBuilder builder = renderer.render(t, context);
+    return builder != null ? builder : delegate.toProblemBuilder(t, context);
+  }
+
+  /**
+   * Checks whether exceptions of given class are rendered by compiled renderer, without calling
+   * the delegate.
+   *
+   * @param type exception class
+   * @return {@code true} if the class is compiled, past its verification samples and not disabled
+   */
+  boolean isCompiled(Class<?> type) {
+    Renderer renderer = renderers.get(type).orElse(null);
+    return renderer != null
+        && !renderer.disabled
+        && renderer.renderings.get() >= VERIFICATION_SAMPLES;
+  }
+
+  private ProblemBuilder verify(Renderer renderer, Throwable t, ProblemContext context) {
+    ProblemBuilder expected = delegate.toProblemBuilder(t, context);
+    ProblemBuilder actual = renderer.render(t, context);
+    if (actual != null && !expected.build().equals(actual.build())) {
+      renderer.disabled = true;
+    }
+    return expected;
+  }
+
+  private static Renderer compile(Class<?> type) {
+    ProblemMapping mapping = type.getAnnotation(ProblemMapping.class);
+    if (mapping == null) {
+      return null;
+    }
+    try {
+      List<String> fieldNames = new ArrayList<>();
+      List<MethodHandle> fieldGetters = new ArrayList<>();
+      Template typeTemplate = Template.compile(mapping.type(), type, fieldNames, fieldGetters);
+      Template titleTemplate = Template.compile(mapping.title(), type, fieldNames, fieldGetters);
+      Template detailTemplate = Template.compile(mapping.detail(), type, fieldNames, fieldGetters);
+      Template instanceTemplate =
+          Template.compile(mapping.instance(), type, fieldNames, fieldGetters);
+      String[] extensions = mapping.extensions();
+      int[] extensionSlots = new int[extensions.length];
+      for (int i = 0; i < extensions.length; i++) {
+        extensionSlots[i] = slotOf(extensions[i], type, fieldNames, fieldGetters);
+      }
+      return new Renderer(
+          mapping.status(),
+          typeTemplate,
+          titleTemplate,
+          detailTemplate,
+          instanceTemplate,
+          extensions,
+          extensionSlots,
+          fieldGetters.toArray(new MethodHandle[0]));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static int slotOf(
+      String fieldName, Class<?> type, List<String> fieldNames, List<MethodHandle> fieldGetters)
+      throws ReflectiveOperationException {
+    int slot = fieldNames.indexOf(fieldName);
+    if (slot >= 0) {
+      return slot;
+    }
+    fieldNames.add(fieldName);
+    fieldGetters.add(findGetter(type, fieldName));
+    return fieldNames.size() - 1;
+  }
+
+  private static MethodHandle findGetter(Class<?> type, String fieldName)
+      throws ReflectiveOperationException {
+    for (Class<?> c = type; c != null && c != Throwable.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (field.getName().equals(fieldName)
+            && !Modifier.isStatic(field.getModifiers())) {
+          return MethodHandles.privateLookupIn(c, MethodHandles.lookup())
+              .unreflectGetter(field)
+              .asType(MethodType.methodType(Object.class, Throwable.class));
+        }
+      }
+    }
+    throw new NoSuchFieldException(fieldName);
+  }
+
+  /** Annotation template split into literal and placeholder parts. */
+  private static final class Template {
+
+    private static final Template EMPTY = new Template(new String[0], new int[0]);
+
+    /** Placeholder slot of {@code {message}}. */
+    private static final int MESSAGE = -1;
+
+    /** Placeholder slot of {@code {context.<key>}}, with the key kept in place of its name. */
+    private static final int CONTEXT = -2;
+
+    private final String[] parts;
+    private final int[] slots;
+
+    private Template(String[] parts, int[] slots) {
+      this.parts = parts;
+      this.slots = slots;
+    }
+
+    /**
+     * Splits given template. Literal parts are at even indices of {@code parts}, placeholders at
+     * odd ones, with their slots in {@code slots}: field getter index, {@link #MESSAGE} or {@link
+     * #CONTEXT}.
+     */
+    private static Template compile(
+        String template, Class<?> type, List<String> fieldNames, List<MethodHandle> fieldGetters)
+        throws ReflectiveOperationException {
+      if (template == null || template.isEmpty()) {
+        return EMPTY;
+      }
+      List<String> parts = new ArrayList<>();
+      List<Integer> slots = new ArrayList<>();
+      int start = 0;
+      while (true) {
+        int open = template.indexOf('{', start);
+        if (open < 0) {
+          parts.add(template.substring(start));
+          break;
+        }
+        int close = template.indexOf('}', open + 1);
+        if (close < 0) {
+          throw new IllegalArgumentException("Unclosed placeholder in " + template);
+        }
+        parts.add(template.substring(start, open));
+        String name = template.substring(open + 1, close);
+        parts.add(name);
+        if (name.equals(MESSAGE_PLACEHOLDER)) {
+          slots.add(MESSAGE);
+        } else if (name.startsWith(CONTEXT_PLACEHOLDER_PREFIX)) {
+          slots.add(CONTEXT);
+          parts.set(parts.size() - 1, name.substring(CONTEXT_PLACEHOLDER_PREFIX.length()));
+        } else {
+          slots.add(slotOf(name, type, fieldNames, fieldGetters));
+        }
+        start = close + 1;
+      }
+      return new Template(
+          parts.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private boolean isEmpty() {
+      return parts.length == 0;
+    }
+
+    /**
+     * Renders the template, or returns {@code null} if any of placeholder values is {@code null}.
+     */
+    private String render(Throwable t, ProblemContext context, Object[] values) {
+      if (slots.length == 0) {
+        return parts[0];
+      }
+      StringBuilder builder = new StringBuilder();
+      for (int i = 0; i < slots.length; i++) {
+        builder.append(parts[2 * i]);
+        Object value;
+        if (slots[i] == MESSAGE) {
+          value = t.getMessage();
+        } else if (slots[i] == CONTEXT) {
+          value = context != null ? context.get(parts[2 * i + 1]) : null;
+        } else {
+          value = values[slots[i]];
+        }
+        if (value == null) {
+          return null;
+        }
+        builder.append(value);
+      }
+      builder.append(parts[parts.length - 1]);
+      return builder.toString();
+    }
+  }
+
+  /** Compiled rendering of a single {@link ProblemMapping}-annotated class. */
+  private static final class Renderer {
+
+    private final int status;
+    private final Template type;
+    private final Template title;
+    private final Template detail;
+    private final Template instance;
+    private final String[] extensions;
+    private final int[] extensionSlots;
+    private final MethodHandle[] fieldGetters;
+
+    private final AtomicLong renderings = new AtomicLong();
+    private volatile boolean disabled;
+
+    private Renderer(
+        int status,
+        Template type,
+        Template title,
+        Template detail,
+        Template instance,
+        String[] extensions,
+        int[] extensionSlots,
+        MethodHandle[] fieldGetters) {
+      this.status = status;
+      this.type = type;
+      this.title = title;
+      this.detail = detail;
+      this.instance = instance;
+      this.extensions = extensions;
+      this.extensionSlots = extensionSlots;
+      this.fieldGetters = fieldGetters;
+    }
+
+    /**
+     * Renders given exception, or returns {@code null} if it must be left to the delegate.
+     */
+    private ProblemBuilder render(Throwable t, ProblemContext context) {
+      if (disabled) {
+        return null;
+      }
+      Object[] values = new Object[fieldGetters.length];
+      for (int i = 0; i < fieldGetters.length; i++) {
+        try {
+          values[i] = (Object) fieldGetters[i].invokeExact(t);
+        } catch (Throwable e) {
+          return null;
+        }
+      }
+
+      ProblemBuilder builder = Problem.builder().status(status);
+      if (!type.isEmpty()) {
+        String value = type.render(t, context, values);
+        if (value == null) {
+          return null;
+        }
+        builder = builder.type(value);
+      }
+      if (!title.isEmpty()) {
+        String value = title.render(t, context, values);
+        if (value == null) {
+          return null;
+        }
+        builder = builder.title(value);
+      }
+      if (!detail.isEmpty()) {
+        String value = detail.render(t, context, values);
+        if (value == null) {
+          return null;
+        }
+        builder = builder.detail(value);
+      }
+      if (!instance.isEmpty()) {
+        String value = instance.render(t, context, values);
+        if (value == null) {
+          return null;
+        }
+        builder = builder.instance(value);
+      }
+      for (int i = 0; i < extensions.length; i++) {
+        Object value = values[extensionSlots[i]];
+        if (value == null) {
+          return null;
+        }
+        builder = builder.extension(extensions[i], value);
+      }
+      return builder;
+    }
+  }
+}
@@ -20,6 +20,7 @@
  */
 package io.github.problem4j.spring.web;
 
+import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.spring.web.autoconfigure.ProblemProperties;
 import java.util.Locale;
 import org.springframework.util.StringUtils;
@@ -29,25 +30,39 @@
  * details according to a configured format.
  *
  * <p>Property {@link ProblemProperties#getDetailFormat()} determines formatting behavior -
- * lowercase, capitalized, or uppercase.
+ * lowercase, capitalized, or uppercase. Property {@link ProblemProperties#getErrorsFormat()}
+ * determines encoding of {@code errors} extension - flat or grouped.
  *
  * <p>This class is typically registered automatically as a Spring bean, but can also be
  * instantiated directly.
  *
  * @see ProblemFormat
  * @see ProblemProperties.DetailFormat
+ * @see ProblemProperties.ErrorsFormat
  */
 public class DefaultProblemFormat implements ProblemFormat {
 
   private final String detailFormat;
+  private final String errorsFormat;
 
   /**
-   * Constructs a new {@link DefaultProblemFormat}.
+   * Constructs a new {@link DefaultProblemFormat} with flat {@code errors} encoding.
    *
    * @param detailFormat the detail format string to use
    */
   public DefaultProblemFormat(String detailFormat) {
+    this(detailFormat, ProblemProperties.ErrorsFormat.FLAT);
+  }
+
+  /**
+   * Constructs a new {@link DefaultProblemFormat}.
+   *
+   * @param detailFormat the detail format string to use
+   * @param errorsFormat the errors format string to use
+   */
+  public DefaultProblemFormat(String detailFormat, String errorsFormat) {
     this.detailFormat = detailFormat;
+    this.errorsFormat = errorsFormat;
   }
 
   /**
@@ -77,6 +92,19 @@ public String formatDetail(String detail) {
     };
   }
 
+  /**
+   * Returns {@code true} if {@code grouped} errors format is configured, otherwise falls back to
+   * {@code Accept} profile requested by the client.
+   *
+   * @param context problem context of the current request (nullable)
+   * @return {@code true} if errors should be grouped by field, {@code false} otherwise
+   */
+  @Override
+  public boolean isGroupedErrors(ProblemContext context) {
+    return ProblemProperties.ErrorsFormat.GROUPED.equalsIgnoreCase(errorsFormat)
+        || ProblemFormat.super.isGroupedErrors(context);
+  }
+
   private String capitalize(String detail) {
     return Character.toTitleCase(detail.charAt(0)) + detail.substring(1);
   }
@@ -100,6 +100,22 @@ public Problem process(ProblemContext context, Problem problem) {
     return builder != null ? builder.build() : problem;
   }
 
+  /**
+   * Returns whether processing may depend on the context, which is only the case for an {@code
+   * instance} override referencing it. Subclasses are always considered context sensitive, as they
+   * may resolve overrides differently.
+   *
+   * @return {@code true} if processing may depend on the context
+   */
+  @Override
+  public boolean isContextSensitive() {
+    if (getClass() != DefaultProblemPostProcessor.class) {
+      return true;
+    }
+    String instanceOverride = settings.getInstanceOverride();
+    return StringUtils.hasLength(instanceOverride) && instanceOverride.contains("{context.");
+  }
+
   /**
    * Applies a {@code type} override based on the configured template.
    *
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemBuilder;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.resolver.ProblemResolver;
+import java.util.Optional;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Resolution plans of uncaught exceptions, shared by fallback exception advices of Web MVC and
+ * WebFlux.
+ *
+ * <p>Strategy of turning an exception into a {@link ProblemBuilder} depends only on its class.
+ * Exceptions are resolved, in order, by {@link ProblemMapper} (for mapping candidates), by {@link
+ * ProblemResolver} found in {@link ProblemResolverStore}, by {@link ResponseStatus} annotation, or
+ * as {@link ProblemStatus#INTERNAL_SERVER_ERROR}. That decision is made once per exception class
+ * and kept as an immutable plan, so handling an exception only executes it.
+ *
+ * <p>Plans are kept in a {@link PerClassCache}, owned by this instance. As {@link
+ * ProblemMapper#isMappingCandidate} takes an exception instance, a plan is computed on the first
+ * exception of its class.
+ */
+public final class ExceptionResolutionPlans {
+
+  private final ProblemMapper problemMapper;
+  private final ProblemResolverStore problemResolverStore;
+
+  private final PerClassCache<PlanSlot> plans = new PerClassCache<>(type -> new PlanSlot());
+
+  /**
+   * Creates resolution plans backed by given mapper and resolver store.
+   *
+   * @param problemMapper the problem mapper
+   * @param problemResolverStore the resolver store
+   */
+  public ExceptionResolutionPlans(
+      ProblemMapper problemMapper, ProblemResolverStore problemResolverStore) {
+    this.problemMapper = problemMapper;
+    this.problemResolverStore = problemResolverStore;
+  }
+
+  /**
+   * Resolves {@link ProblemBuilder} of given exception, executing the plan of its class.
+   *
+   * @param ex the exception to resolve
+   * @param context the current problem context
+   * @param headers response headers, which resolvers may modify
+   * @return builder of problem describing the exception
+   */
+  public ProblemBuilder resolveBuilder(Exception ex, ProblemContext context, HttpHeaders headers) {
+    PlanSlot slot = plans.get(ex.getClass());
+    ResolutionPlan plan = slot.plan;
+    if (plan == null) {
+      plan = createPlan(ex);
+      slot.plan = plan;
+    }
+    return plan.resolveBuilder(ex, context, headers);
+  }
+
+  private ResolutionPlan createPlan(Exception ex) {
+    if (problemMapper.isMappingCandidate(ex)) {
+      return mapperPlan(problemMapper);
+    }
+
+    Optional<ProblemResolver> resolver = problemResolverStore.findResolver(ex.getClass());
+    if (resolver.isPresent()) {
+      return resolverPlan(resolver.get());
+    }
+
+    ResponseStatus responseStatus =
+        AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
+    if (responseStatus != null) {
+      String reason = responseStatus.reason();
+      return responseStatusPlan(
+          resolveStatus(responseStatus.code()), StringUtils.hasLength(reason) ? reason : null);
+    }
+
+    return responseStatusPlan(ProblemStatus.INTERNAL_SERVER_ERROR, null);
+  }
+
+  private static ResolutionPlan mapperPlan(ProblemMapper problemMapper) {
+    return (ex, context, headers) -> problemMapper.toProblemBuilder(ex, context);
+  }
+
+  private static ResolutionPlan resolverPlan(ProblemResolver resolver) {
+    return (ex, context, headers) ->
+        resolver.resolveBuilder(context, ex, headers, HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  private static ResolutionPlan responseStatusPlan(ProblemStatus status, String reason) {
+    return (ex, context, headers) -> {
+      ProblemBuilder builder = Problem.builder().status(status);
+      return reason != null ? builder.detail(reason) : builder;
+    };
+  }
+
+  /** Immutable strategy of resolving exceptions of a single class. */
+  @FunctionalInterface
+  private interface ResolutionPlan {
+
+    ProblemBuilder resolveBuilder(Exception ex, ProblemContext context, HttpHeaders headers);
+  }
+
+  /**
+   * Holder of plan of a single class. Plans are immutable and computing one twice is harmless, so
+   * racing threads may both compute it.
+   */
+  private static final class PlanSlot {
+
+    private volatile ResolutionPlan plan;
+  }
+}
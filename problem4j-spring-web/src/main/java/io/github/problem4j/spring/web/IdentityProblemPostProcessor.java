@@ -39,4 +39,14 @@ public class IdentityProblemPostProcessor implements ProblemPostProcessor {
   public Problem process(ProblemContext context, Problem problem) {
     return problem;
   }
+
+  /**
+   * Returns {@code false}, as the context is ignored.
+   *
+   * @return {@code false}
+   */
+  @Override
+  public boolean isContextSensitive() {
+    return false;
+  }
 }
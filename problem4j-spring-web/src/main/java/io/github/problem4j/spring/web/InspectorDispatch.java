@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Selects advice inspectors interested in a problem, according to their {@link
+ * InspectorInterest}s.
+ *
+ * <p>Status series and exception types of interest are evaluated once per exception class and
+ * status series, and the resulting dispatch list is kept, so inspectors not interested in a problem
+ * are never invoked and filtering is not repeated for each problem. Only problem types, if declared
+ * by any of the selected inspectors, are checked for each problem.
+ *
+ * <p>Dispatch lists are kept in a {@link PerClassCache} owned by this instance. If no inspector
+ * narrows its interest, all inspectors are selected without any lookup.
+ *
+ * @param <T> type of inspectors
+ */
+public final class InspectorDispatch<T> {
+
+  /** Slots per exception class, one per status series and one for statuses out of any series. */
+  private static final int SLOTS = 6;
+
+  private final List<T> inspectors;
+  private final List<InspectorInterest> interests;
+  private final boolean narrowed;
+
+  private final AtomicReferenceArray<Selection<T>> withoutException =
+      new AtomicReferenceArray<>(SLOTS);
+
+  private final PerClassCache<AtomicReferenceArray<Selection<T>>> byExceptionClass =
+      new PerClassCache<>(type -> new AtomicReferenceArray<>(SLOTS));
+
+  /**
+   * Creates dispatch of given inspectors.
+   *
+   * @param inspectors the inspectors, in order of invocation
+   * @param interestOf function returning interest of an inspector, invoked once per inspector
+   */
+  public InspectorDispatch(
+      List<? extends T> inspectors, Function<? super T, InspectorInterest> interestOf) {
+    this.inspectors = List.copyOf(inspectors);
+    List<InspectorInterest> interests = new ArrayList<>(inspectors.size());
+    boolean narrowed = false;
+    for (T inspector : this.inspectors) {
+      InspectorInterest interest = interestOf.apply(inspector);
+      if (interest == null) {
+        interest = InspectorInterest.all();
+      }
+      interests.add(interest);
+      narrowed |= !interest.isAll();
+    }
+    this.interests = List.copyOf(interests);
+    this.narrowed = narrowed;
+  }
+
+  /**
+   * Returns inspectors interested in given problem, in order of invocation.
+   *
+   * @param ex the exception that caused the problem, or {@code null} if there was none
+   * @param problem the problem
+   * @param status the response status
+   * @return the interested inspectors
+   */
+  public List<T> select(Throwable ex, Problem problem, int status) {
+    if (!narrowed) {
+      return inspectors;
+    }
+
+    int slot = slotOf(status);
+    AtomicReferenceArray<Selection<T>> selections =
+        ex != null ? byExceptionClass.get(ex.getClass()) : withoutException;
+    Selection<T> selection = selections.get(slot);
+    if (selection == null) {
+      Class<?> exceptionClass = ex != null ? ex.getClass() : null;
+      selection = createSelection(exceptionClass, HttpStatus.Series.resolve(status));
+      selections.set(slot, selection);
+    }
+
+    if (!selection.problemTypesDeclared) {
+      return selection.inspectors;
+    }
+    List<T> selected = new ArrayList<>(selection.inspectors.size());
+    for (int i = 0; i < selection.inspectors.size(); i++) {
+      if (selection.interests.get(i).matchesProblemType(problem)) {
+        selected.add(selection.inspectors.get(i));
+      }
+    }
+    return selected;
+  }
+
+  private Selection<T> createSelection(Class<?> exceptionClass, HttpStatus.Series series) {
+    List<T> selected = new ArrayList<>();
+    List<InspectorInterest> selectedInterests = new ArrayList<>();
+    boolean problemTypesDeclared = false;
+    for (int i = 0; i < inspectors.size(); i++) {
+      InspectorInterest interest = interests.get(i);
+      if (interest.matchesSeries(series) && interest.matchesException(exceptionClass)) {
+        selected.add(inspectors.get(i));
+        selectedInterests.add(interest);
+        problemTypesDeclared |= interest.hasProblemTypes();
+      }
+    }
+    return new Selection<>(
+        List.copyOf(selected), List.copyOf(selectedInterests), problemTypesDeclared);
+  }
+
+  private static int slotOf(int status) {
+    int series = status / 100;
+    return series >= 1 && series < SLOTS ? series : 0;
+  }
+
+  /**
+   * Inspectors selected for a single exception class and status series. Selections are immutable
+   * and computing one twice is harmless, so they are published without locking.
+   */
+  private static final class Selection<T> {
+
+    private final List<T> inspectors;
+    private final List<InspectorInterest> interests;
+    private final boolean problemTypesDeclared;
+
+    private Selection(
+        List<T> inspectors, List<InspectorInterest> interests, boolean problemTypesDeclared) {
+      this.inspectors = inspectors;
+      this.interests = interests;
+      this.problemTypesDeclared = problemTypesDeclared;
+    }
+  }
+}
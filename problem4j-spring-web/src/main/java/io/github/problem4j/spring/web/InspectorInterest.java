@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Declares which problems an advice inspector is interested in, so that it is not invoked for the
+ * others.
+ *
+ * <p>Interest can be narrowed by status series (e.g. only {@code 5xx}), by exception types (which
+ * also excludes problems not caused by an exception) and by problem types. Each criterion left
+ * unset matches everything, so {@link #all()} matches every problem.
+ *
+ * <pre>{@code
+ * @Override
+ * public InspectorInterest getInterest() {
+ *   return InspectorInterest.builder().series(HttpStatus.Series.SERVER_ERROR).build();
+ * }
+ * }</pre>
+ *
+ * <p>Status series and exception types are evaluated once per exception class and status series,
+ * see {@link InspectorDispatch}. Problem types are compared for each problem.
+ */
+public final class InspectorInterest {
+
+  private static final InspectorInterest ALL =
+      new InspectorInterest(Collections.emptySet(), List.of(), Set.of());
+
+  /**
+   * Returns interest matching every problem.
+   *
+   * @return interest matching every problem
+   */
+  public static InspectorInterest all() {
+    return ALL;
+  }
+
+  /**
+   * Creates a new {@link Builder} for {@link InspectorInterest}.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final Set<HttpStatus.Series> series;
+  private final List<Class<? extends Throwable>> exceptionTypes;
+  private final Set<String> problemTypes;
+
+  private InspectorInterest(
+      Set<HttpStatus.Series> series,
+      List<Class<? extends Throwable>> exceptionTypes,
+      Set<String> problemTypes) {
+    this.series = series;
+    this.exceptionTypes = exceptionTypes;
+    this.problemTypes = problemTypes;
+  }
+
+  /**
+   * Returns whether problems of given status series are of interest.
+   *
+   * @param series the status series, or {@code null} for statuses out of any series
+   * @return {@code true} if problems of given series are of interest
+   */
+  public boolean matchesSeries(HttpStatus.Series series) {
+    return this.series.isEmpty() || (series != null && this.series.contains(series));
+  }
+
+  /**
+   * Returns whether problems caused by exceptions of given class are of interest.
+   *
+   * @param exceptionClass the exception class, or {@code null} for problems not caused by an
+   *     exception
+   * @return {@code true} if problems caused by given exception class are of interest
+   */
+  public boolean matchesException(Class<?> exceptionClass) {
+    if (exceptionTypes.isEmpty()) {
+      return true;
+    }
+    if (exceptionClass == null) {
+      return false;
+    }
+    for (Class<? extends Throwable> exceptionType : exceptionTypes) {
+      if (exceptionType.isAssignableFrom(exceptionClass)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns whether given problem is of interest, considering its type.
+   *
+   * @param problem the problem
+   * @return {@code true} if the problem type is of interest
+   */
+  public boolean matchesProblemType(Problem problem) {
+    if (problemTypes.isEmpty()) {
+      return true;
+    }
+    return problem.isTypeNonBlank() && problemTypes.contains(problem.getType().toString());
+  }
+
+  /**
+   * Returns whether the interest is narrowed by problem types, which can only be checked for each
+   * problem.
+   *
+   * @return {@code true} if problem types were declared
+   */
+  public boolean hasProblemTypes() {
+    return !problemTypes.isEmpty();
+  }
+
+  /**
+   * Returns whether the interest matches every problem.
+   *
+   * @return {@code true} if no criterion was declared
+   */
+  public boolean isAll() {
+    return series.isEmpty() && exceptionTypes.isEmpty() && problemTypes.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "InspectorInterest{series="
+        + series
+        + ", exceptionTypes="
+        + exceptionTypes
+        + ", problemTypes="
+        + problemTypes
+        + "}";
+  }
+
+  /** Builder of {@link InspectorInterest}. */
+  public static class Builder {
+
+    private final EnumSet<HttpStatus.Series> series = EnumSet.noneOf(HttpStatus.Series.class);
+    private final List<Class<? extends Throwable>> exceptionTypes = new ArrayList<>();
+    private final Set<String> problemTypes = new LinkedHashSet<>();
+
+    private Builder() {}
+
+    /**
+     * Narrows the interest to problems of given status series.
+     *
+     * @param series the status series of interest
+     * @return this builder
+     */
+    public Builder series(HttpStatus.Series... series) {
+      Collections.addAll(this.series, series);
+      return this;
+    }
+
+    /**
+     * Narrows the interest to problems caused by exceptions of given types or their subtypes.
+     *
+     * @param exceptionTypes the exception types of interest
+     * @return this builder
+     */
+    @SafeVarargs
+    public final Builder exceptions(Class<? extends Throwable>... exceptionTypes) {
+      Collections.addAll(this.exceptionTypes, exceptionTypes);
+      return this;
+    }
+
+    /**
+     * Narrows the interest to problems of given types.
+     *
+     * @param problemTypes the problem types of interest
+     * @return this builder
+     */
+    public Builder problemTypes(String... problemTypes) {
+      Collections.addAll(this.problemTypes, problemTypes);
+      return this;
+    }
+
+    /**
+     * Builds the {@link InspectorInterest}.
+     *
+     * @return the interest
+     */
+    public InspectorInterest build() {
+      return new InspectorInterest(
+          Collections.unmodifiableSet(EnumSet.copyOf(series)),
+          List.copyOf(exceptionTypes),
+          Set.copyOf(problemTypes));
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.ProblemContext;
+import java.util.function.Supplier;
+
+/**
+ * Holder of a {@link ProblemContext} that is created only on first access.
+ *
+ * <p>Installed by context filters in lazy mode in place of an eagerly built context, so that
+ * requests which never fail do not pay for trace identifier generation and context allocation.
+ * Context is created at most once, even if first accessed concurrently (e.g. by parallel branches
+ * of a reactive pipeline); once created, reading it costs a single volatile read.
+ *
+ * @see AttributeSupport#LAZY_PROBLEM_CONTEXT_ATTRIBUTE
+ * @see AttributeSupport#resolveProblemContext(java.util.function.Function)
+ */
+public final class LazyProblemContext {
+
+  private Supplier<ProblemContext> initializer;
+  private volatile ProblemContext context;
+
+  /**
+   * Creates a new holder.
+   *
+   * @param initializer creates the context on first access
+   */
+  public LazyProblemContext(Supplier<ProblemContext> initializer) {
+    this.initializer = initializer;
+  }
+
+  /**
+   * Returns the context, creating it on first call.
+   *
+   * @return the context of current request
+   */
+  public ProblemContext get() {
+    ProblemContext result = context;
+    if (result == null) {
+      synchronized (this) {
+        result = context;
+        if (result == null) {
+          result = initializer.get();
+          context = result;
+          initializer = null;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Checks whether the context was already created.
+   *
+   * @return {@code true} if the context was created, {@code false} otherwise
+   */
+  public boolean isInitialized() {
+    return context != null;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import java.util.List;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * Request paths excluded from processing, given as {@link PathPattern} strings (e.g. {@code
+ * /actuator/**}, {@code /static/**}).
+ *
+ * <p>Patterns are parsed once, at construction. Matching a request takes its already parsed path
+ * and does not allocate.
+ */
+public final class PathExclusions {
+
+  private final PathPattern[] patterns;
+
+  /**
+   * Creates exclusions of given patterns.
+   *
+   * @param patterns path patterns, relative to application context path; {@code null} or empty for
+   *     no exclusions
+   */
+  public PathExclusions(List<String> patterns) {
+    this.patterns =
+        patterns == null
+            ? new PathPattern[0]
+            : patterns.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toArray(PathPattern[]::new);
+  }
+
+  /**
+   * Checks whether there are no exclusions, so callers can skip parsing request path altogether.
+   *
+   * @return {@code true} if no patterns were given, {@code false} otherwise
+   */
+  public boolean isEmpty() {
+    return patterns.length == 0;
+  }
+
+  /**
+   * Checks whether given path matches any of the patterns.
+   *
+   * @param pathWithinApplication request path, relative to application context path
+   * @return {@code true} if the path is excluded, {@code false} otherwise
+   */
+  public boolean matches(PathContainer pathWithinApplication) {
+    for (PathPattern pattern : patterns) {
+      if (pattern.matches(pathWithinApplication)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import java.util.function.Function;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
+
+/**
+ * Values computed once per class, such as strategies of handling exceptions of that class.
+ *
+ * <p>Classes are held through weak references, in a map owned by this cache. A class can therefore
+ * be unloaded (and its entry dropped) once nothing else refers to it, unless its value does, e.g.
+ * through method handles or annotations of that class. Such classes stay loaded for as long as the
+ * owner of this cache is reachable, which matters only for classes of class loaders expected to
+ * be discarded before the application itself.
+ *
+ * <p>Unlike a {@link ClassValue}, this cache stores nothing on the classes themselves. Values
+ * cached for classes of long-lived class loaders (e.g. JDK exceptions) are released together with
+ * the cache, rather than pinning the application class loader for as long as such classes live. In
+ * exchange, lookups go through a concurrent hash map instead of the class itself.
+ *
+ * <p>Values may be computed more than once if a class is looked up concurrently, only the first one
+ * stored is kept.
+ *
+ * @param <V> type of cached values
+ */
+final class PerClassCache<V> {
+
+  private final ConcurrentReferenceHashMap<Class<?>, V> values =
+      new ConcurrentReferenceHashMap<>(16, ReferenceType.WEAK);
+
+  private final Function<Class<?>, ? extends V> factory;
+
+  /**
+   * Creates a new cache.
+   *
+   * @param factory function computing value of a class, must not return {@code null}
+   */
+  PerClassCache(Function<Class<?>, ? extends V> factory) {
+    this.factory = factory;
+  }
+
+  /**
+   * Returns value of given class, computing it on first lookup.
+   *
+   * @param type the class
+   * @return value of the class
+   */
+  V get(Class<?> type) {
+    V value = values.get(type);
+    if (value == null) {
+      V computed = factory.apply(type);
+      value = values.putIfAbsent(type, computed);
+      if (value == null) {
+        value = computed;
+      }
+    }
+    return value;
+  }
+}
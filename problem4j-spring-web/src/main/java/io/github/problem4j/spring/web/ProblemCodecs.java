@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * Immutable registry of pre-built {@link ObjectWriter}s and {@link ObjectReader}s for {@link
+ * Problem}, one pair per supported problem media type (e.g. {@code application/problem+json}).
+ *
+ * <p>Writers and readers are created once, out of fully configured mappers, and are thread-safe, so
+ * encoding a problem never resolves serialization config again. Lookup compares only type and
+ * subtype of given media type, ignoring parameters such as {@code charset}.
+ *
+ * <p>Writing of a media type may be taken over by a dedicated {@link ProblemStreamWriter}, e.g.
+ * {@link ProblemXmlWriter}, while reading still goes through the mapper.
+ *
+ * @see ProblemCodecsCustomizer
+ */
+public final class ProblemCodecs {
+
+  /**
+   * Creates a new, empty {@link Builder}.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final List<MediaType> mediaTypes;
+  private final ObjectWriter[] writers;
+  private final ObjectReader[] readers;
+  private final ProblemStreamWriter[] streamWriters;
+
+  private ProblemCodecs(
+      Map<MediaType, ObjectMapper> mappers, Map<MediaType, ProblemStreamWriter> dedicatedWriters) {
+    List<MediaType> mediaTypes = new ArrayList<>(mappers.size());
+    this.writers = new ObjectWriter[mappers.size()];
+    this.readers = new ObjectReader[mappers.size()];
+    this.streamWriters = new ProblemStreamWriter[mappers.size()];
+
+    int i = 0;
+    for (Map.Entry<MediaType, ObjectMapper> entry : mappers.entrySet()) {
+      mediaTypes.add(entry.getKey());
+      writers[i] = entry.getValue().writerFor(Problem.class);
+      readers[i] = entry.getValue().readerFor(Problem.class);
+      ObjectWriter writer = writers[i];
+      streamWriters[i] =
+          dedicatedWriters.getOrDefault(
+              entry.getKey(), (problem, outputStream) -> writer.writeValue(outputStream, problem));
+      i++;
+    }
+    this.mediaTypes = Collections.unmodifiableList(mediaTypes);
+  }
+
+  /**
+   * Returns supported media types, in order of registration. The first one is the default.
+   *
+   * @return supported media types
+   */
+  public List<MediaType> getMediaTypes() {
+    return mediaTypes;
+  }
+
+  /**
+   * Returns the writer for given media type.
+   *
+   * @param mimeType requested media type, or {@code null} for the default one
+   * @return matching writer, or {@code null} if media type is not supported
+   */
+  public ObjectWriter findWriter(MimeType mimeType) {
+    int index = indexOf(mimeType);
+    return index >= 0 ? writers[index] : null;
+  }
+
+  /**
+   * Returns the writer to be used for writing problem responses of given media type. It is either a
+   * dedicated {@link ProblemStreamWriter}, if one was registered, or the mapper-based writer.
+   *
+   * @param mimeType requested media type, or {@code null} for the default one
+   * @return matching writer, or {@code null} if media type is not supported
+   */
+  public ProblemStreamWriter findStreamWriter(MimeType mimeType) {
+    int index = indexOf(mimeType);
+    return index >= 0 ? streamWriters[index] : null;
+  }
+
+  /**
+   * Returns the reader for given media type.
+   *
+   * @param mimeType requested media type, or {@code null} for the default one
+   * @return matching reader, or {@code null} if media type is not supported
+   */
+  public ObjectReader findReader(MimeType mimeType) {
+    int index = indexOf(mimeType);
+    return index >= 0 ? readers[index] : null;
+  }
+
+  private int indexOf(MimeType mimeType) {
+    if (mediaTypes.isEmpty()) {
+      return -1;
+    }
+    if (mimeType == null) {
+      return 0;
+    }
+    for (int i = 0; i < mediaTypes.size(); i++) {
+      if (mediaTypes.get(i).equalsTypeAndSubtype(mimeType)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /** Builder for {@link ProblemCodecs}. */
+  public static final class Builder {
+
+    private final Map<MediaType, ObjectMapper> mappers = new LinkedHashMap<>();
+    private final Map<MediaType, ProblemStreamWriter> streamWriters = new HashMap<>();
+
+    private Builder() {}
+
+    /**
+     * Registers a mapper for given media type, replacing previous registration, if any.
+     *
+     * @param mediaType the problem media type, without parameters
+     * @param mapper fully configured mapper to create writer and reader from
+     * @return this builder
+     */
+    public Builder register(MediaType mediaType, ObjectMapper mapper) {
+      mappers.put(mediaType, mapper);
+      return this;
+    }
+
+    /**
+     * Registers a dedicated writer for given media type, which takes over writing from the mapper.
+     * Has no effect unless a mapper is registered for the same media type as well.
+     *
+     * @param mediaType the problem media type, without parameters
+     * @param streamWriter the writer to use for writing problems
+     * @return this builder
+     */
+    public Builder streamWriter(MediaType mediaType, ProblemStreamWriter streamWriter) {
+      streamWriters.put(mediaType, streamWriter);
+      return this;
+    }
+
+    /**
+     * Creates writers and readers for all registered media types.
+     *
+     * @return a new {@link ProblemCodecs}
+     */
+    public ProblemCodecs build() {
+      return new ProblemCodecs(mappers, streamWriters);
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.ProblemContext;
+
+/**
+ * Binds the {@link ProblemContext} of the request being handled to the current thread, so that
+ * non-web code (e.g. services, loggers) can read it without access to the request.
+ *
+ * <p>Binding is set up by the Web MVC context filter, if enabled, and removed once the request
+ * leaves the filter chain. Reading the context is a single thread-local lookup and does not go
+ * through {@code RequestContextHolder}. In lazy mode, the context is created on first read.
+ *
+ * <p>The binding is not propagated to other threads, e.g. to asynchronous request processing or
+ * to executors used by service code.
+ */
+public final class ProblemContextHolder {
+
+  private static final ThreadLocal<Object> CURRENT = new ThreadLocal<>();
+
+  /**
+   * Returns the context bound to the current thread, creating it if it is bound lazily.
+   *
+   * @return the context of current request, or {@code null} if none is bound
+   */
+  public static ProblemContext getProblemContext() {
+    Object current = CURRENT.get();
+    if (current instanceof LazyProblemContext lazy) {
+      return lazy.get();
+    }
+    return (ProblemContext) current;
+  }
+
+  /**
+   * Returns the trace identifier of the context bound to the current thread.
+   *
+   * @return the trace identifier of current request, or {@code null} if no context is bound
+   */
+  public static String getTraceId() {
+    ProblemContext context = getProblemContext();
+    return context != null ? context.get("traceId") : null;
+  }
+
+  /**
+   * Binds given context to the current thread.
+   *
+   * @param context the context of current request
+   */
+  public static void setProblemContext(ProblemContext context) {
+    CURRENT.set(context);
+  }
+
+  /**
+   * Binds given context, created on first read, to the current thread.
+   *
+   * @param context holder of the context of current request
+   */
+  public static void setLazyProblemContext(LazyProblemContext context) {
+    CURRENT.set(context);
+  }
+
+  /** Removes the context bound to the current thread. */
+  public static void resetProblemContext() {
+    CURRENT.remove();
+  }
+
+  private ProblemContextHolder() {}
+}
@@ -20,6 +20,11 @@
  */
 package io.github.problem4j.spring.web;
 
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
+
+import io.github.problem4j.core.ProblemContext;
+
 /**
  * Defines a contract for formatting problem detail field and property names (mostly before they are
  * included in a {@code Problem} response).
@@ -39,4 +44,20 @@ public interface ProblemFormat {
    * @see io.github.problem4j.core.Problem
    */
   String formatDetail(String detail);
+
+  /**
+   * Decides whether {@code errors} extension should be encoded as {@code GroupedViolations}
+   * instead of a flat list of {@code Violation}s.
+   *
+   * <p>By default, grouped encoding is used only if requested by the client through {@code Accept}
+   * profile, stored in the context under {@link ProblemSupport#ERRORS_PROFILE_CONTEXT_KEY}.
+   *
+   * @param context problem context of the current request (nullable)
+   * @return {@code true} if errors should be grouped by field, {@code false} otherwise
+   * @see io.github.problem4j.spring.web.parameter.GroupedViolations
+   */
+  default boolean isGroupedErrors(ProblemContext context) {
+    return context != null
+        && GROUPED_ERRORS_PROFILE.equals(context.get(ERRORS_PROFILE_CONTEXT_KEY));
+  }
 }
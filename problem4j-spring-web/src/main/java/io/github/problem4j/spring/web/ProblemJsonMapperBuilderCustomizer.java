@@ -23,23 +23,60 @@
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.jackson3.ProblemJacksonMixIn;
 import org.springframework.boot.jackson.autoconfigure.JsonMapperBuilderCustomizer;
+import tools.jackson.databind.cfg.MapperBuilder;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
 
 /**
  * Customizes Spring Boot's JSON ObjectMapper by registering a mix-in for the {@link Problem}
  * interface. Ensures that all Problem objects are serialized and deserialized consistently
  * according to {@link ProblemJacksonMixIn}.
+ *
+ * <p>Also registers {@link ProblemViolationModule}, which streams {@code errors} extension straight
+ * into the generator. Optionally, {@link ProblemJsonSerializer} takes over writing of {@link
+ * Problem} objects, while the mix-in is still used for reading them.
  */
 public class ProblemJsonMapperBuilderCustomizer implements JsonMapperBuilderCustomizer {
 
+  private final boolean problemSerializerEnabled;
+
+  /** Creates a new customizer, which serializes {@link Problem} through the mix-in. */
+  public ProblemJsonMapperBuilderCustomizer() {
+    this(false);
+  }
+
+  /**
+   * Creates a new customizer.
+   *
+   * @param problemSerializerEnabled whether {@link ProblemJsonSerializer} should be used for
+   *     writing {@link Problem} objects instead of the mix-in
+   */
+  public ProblemJsonMapperBuilderCustomizer(boolean problemSerializerEnabled) {
+    this.problemSerializerEnabled = problemSerializerEnabled;
+  }
+
   /**
    * Adds the {@link ProblemJacksonMixIn} to the JSON mapper builder for proper serialization and
-   * deserialization of {@link Problem} objects.
+   * deserialization of {@link Problem} objects, together with {@link ProblemViolationModule}.
    *
    * @param builder the JSON mapper builder to customize
    */
   @Override
   public void customize(JsonMapper.Builder builder) {
+    configure(builder, problemSerializerEnabled);
+  }
+
+  /**
+   * Applies {@link Problem} mix-in and modules to a mapper builder of any data format, so that
+   * binary encodings produce the same structure as JSON.
+   */
+  static void configure(MapperBuilder<?, ?> builder, boolean problemSerializerEnabled) {
     builder.addMixIn(Problem.class, ProblemJacksonMixIn.class);
+    builder.addModule(new ProblemViolationModule());
+    if (problemSerializerEnabled) {
+      builder.addModule(
+          new SimpleModule(ProblemJsonSerializer.class.getSimpleName())
+              .addSerializer(Problem.class, new ProblemJsonSerializer()));
+    }
   }
 }
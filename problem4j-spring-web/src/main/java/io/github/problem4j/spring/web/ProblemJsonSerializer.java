@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.jackson3.ProblemJacksonMixIn;
+import java.net.URI;
+import java.util.Map;
+import java.util.TreeMap;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Dedicated serializer for {@link Problem}, as a faster alternative to bean serialization driven by
+ * {@link ProblemJacksonMixIn}.
+ *
+ * <p>Standard members are written in a fixed order ({@code type}, {@code title}, {@code status},
+ * {@code detail}, {@code instance}) using pre-encoded names, followed by extension members written
+ * directly from {@link Problem#getExtensionMembers()}. Members without value are skipped, as is
+ * {@code type} equal to {@link Problem#BLANK_TYPE}, so output matches the one of the mix-in. Note
+ * that it also applies to extension members with {@code null} value, which are never written.
+ *
+ * <p>Order follows the mix-in regardless of {@link MapperFeature#SORT_PROPERTIES_ALPHABETICALLY},
+ * as standard members have an explicit order there and extension members come from an any-getter,
+ * which is always written after them. Only {@link SerializationFeature#ORDER_MAP_ENTRIES_BY_KEYS}
+ * affects output, ordering extension members by their names.
+ *
+ * <p>Serializer only writes problems, reading them still relies on {@link ProblemJacksonMixIn}.
+ */
+public class ProblemJsonSerializer extends StdSerializer<Problem> {
+
+  private static final SerializableString TYPE_NAME = new SerializedString("type");
+  private static final SerializableString TITLE_NAME = new SerializedString("title");
+  private static final SerializableString STATUS_NAME = new SerializedString("status");
+  private static final SerializableString DETAIL_NAME = new SerializedString("detail");
+  private static final SerializableString INSTANCE_NAME = new SerializedString("instance");
+
+  /** Creates a new {@link ProblemJsonSerializer}. */
+  public ProblemJsonSerializer() {
+    super(Problem.class);
+  }
+
+  @Override
+  public void serialize(Problem value, JsonGenerator gen, SerializationContext provider)
+      throws JacksonException {
+    gen.writeStartObject(value);
+
+    if (value.isTypeNonBlank()) {
+      writeUri(TYPE_NAME, value.getType(), gen);
+    }
+    writeString(TITLE_NAME, value.getTitle(), gen);
+    if (value.getStatus() != 0) {
+      gen.writeName(STATUS_NAME);
+      gen.writeNumber(value.getStatus());
+    }
+    writeString(DETAIL_NAME, value.getDetail(), gen);
+    writeUri(INSTANCE_NAME, value.getInstance(), gen);
+
+    Map<String, Object> extensions = value.getExtensionMembers();
+    if (provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+      extensions = new TreeMap<>(extensions);
+    }
+    for (Map.Entry<String, Object> extension : extensions.entrySet()) {
+      writeExtension(extension.getKey(), extension.getValue(), gen, provider);
+    }
+
+    gen.writeEndObject();
+  }
+
+  private void writeString(SerializableString name, String value, JsonGenerator gen) {
+    if (value != null) {
+      gen.writeName(name);
+      gen.writeString(value);
+    }
+  }
+
+  private void writeUri(SerializableString name, URI value, JsonGenerator gen) {
+    if (value != null) {
+      gen.writeName(name);
+      gen.writeString(value.toString());
+    }
+  }
+
+  /**
+   * Writes a single extension member. Most common value types are written straight into the
+   * generator, others are delegated to serializers known to {@link SerializationContext}.
+   */
+  private void writeExtension(
+      String name, Object value, JsonGenerator gen, SerializationContext provider) {
+    if (value == null) {
+      return;
+    }
+    gen.writeName(name);
+    if (value instanceof String s) {
+      gen.writeString(s);
+    } else if (value instanceof Integer i) {
+      gen.writeNumber(i);
+    } else if (value instanceof Long l) {
+      gen.writeNumber(l);
+    } else if (value instanceof Boolean b) {
+      gen.writeBoolean(b);
+    } else {
+      provider.writeValue(gen, value);
+    }
+  }
+}
@@ -51,4 +51,15 @@ public interface ProblemPostProcessor {
    *     instance if no changes are applied
    */
   Problem process(ProblemContext context, Problem problem);
+
+  /**
+   * Returns whether result of {@link #process(ProblemContext, Problem)} may depend on given {@link
+   * ProblemContext}. If not, callers may process a {@link Problem} once and reuse the result for
+   * all requests.
+   *
+   * @return {@code true} if processing may depend on the context, which is the safe default
+   */
+  default boolean isContextSensitive() {
+    return true;
+  }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import java.util.Objects;
+
+/**
+ * Result of a controller method that either succeeds with a value or fails with a {@link Problem},
+ * without throwing an exception.
+ *
+ * <p>Returned problems are handled like ones resolved from exceptions, i.e. they go through {@code
+ * ProblemPostProcessor} and advice inspectors (with no exception given), and are written with a
+ * problem media type. Values are written as regular response bodies with {@code 200 OK} status.
+ *
+ * <pre>{@code
+ * @PostMapping("/orders")
+ * ProblemResult<Order> create(@RequestBody OrderRequest request) {
+ *   if (request.quantity() <= 0) {
+ *     return ProblemResult.problem(Problem.builder().status(400).detail("bad quantity").build());
+ *   }
+ *   return ProblemResult.of(orderService.create(request));
+ * }
+ * }</pre>
+ *
+ * @param <T> type of value of successful result
+ */
+public final class ProblemResult<T> {
+
+  /**
+   * Creates a successful result.
+   *
+   * @param value value written as response body, may be {@code null}
+   * @return a new successful result
+   * @param <T> type of value
+   */
+  public static <T> ProblemResult<T> of(T value) {
+    return new ProblemResult<>(value, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param problem problem written as response body
+   * @return a new failed result
+   * @param <T> type of value of successful result
+   */
+  public static <T> ProblemResult<T> problem(Problem problem) {
+    return new ProblemResult<>(null, Objects.requireNonNull(problem, "problem"));
+  }
+
+  private final T value;
+  private final Problem problem;
+
+  private ProblemResult(T value, Problem problem) {
+    this.value = value;
+    this.problem = problem;
+  }
+
+  /**
+   * Checks whether this result is a failed one.
+   *
+   * @return {@code true} if this result holds a problem, {@code false} if it holds a value
+   */
+  public boolean isProblem() {
+    return problem != null;
+  }
+
+  /**
+   * Returns value of successful result.
+   *
+   * @return the value, or {@code null} if this result holds a problem
+   */
+  public T getValue() {
+    return value;
+  }
+
+  /**
+   * Returns problem of failed result.
+   *
+   * @return the problem, or {@code null} if this result holds a value
+   */
+  public Problem getProblem() {
+    return problem;
+  }
+
+  @Override
+  public String toString() {
+    return isProblem()
+        ? "ProblemResult[problem=" + problem + "]"
+        : "ProblemResult[value=" + value + "]";
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Registers {@code application/problem+smile} in {@link ProblemCodecs}, backed by a dedicated
+ * {@link SmileMapper}.
+ *
+ * <p>The mapper is configured the same way as the JSON one by {@link
+ * ProblemJsonMapperBuilderCustomizer}, so Smile-encoded problems carry the same members, including
+ * extensions and {@code errors} violation lists.
+ *
+ * @see AbstractProblemBinaryCodecsCustomizer
+ */
+public class ProblemSmileCodecsCustomizer
+    extends AbstractProblemBinaryCodecsCustomizer<SmileMapper, SmileMapper.Builder> {
+
+  /** Creates a new customizer, which serializes {@code Problem} through the mix-in. */
+  public ProblemSmileCodecsCustomizer() {
+    this(false);
+  }
+
+  /**
+   * Creates a new customizer, which starts from Smile mapper defaults.
+   *
+   * @param problemSerializerEnabled whether {@link ProblemJsonSerializer} should be used for
+   *     writing {@code Problem} objects instead of the mix-in
+   */
+  public ProblemSmileCodecsCustomizer(boolean problemSerializerEnabled) {
+    this(problemSerializerEnabled, null);
+  }
+
+  /**
+   * Creates a new customizer, which inherits configuration of the application's JSON mapper.
+   *
+   * @param problemSerializerEnabled whether {@link ProblemJsonSerializer} should be used for
+   *     writing {@code Problem} objects instead of the mix-in
+   * @param jsonMapper the application's JSON mapper, or {@code null} to start from Smile mapper
+   *     defaults
+   */
+  public ProblemSmileCodecsCustomizer(boolean problemSerializerEnabled, JsonMapper jsonMapper) {
+    super(ProblemSupport.APPLICATION_PROBLEM_SMILE, problemSerializerEnabled, jsonMapper);
+  }
+
+  @Override
+  protected SmileMapper.Builder createMapperBuilder() {
+    return SmileMapper.builder();
+  }
+}
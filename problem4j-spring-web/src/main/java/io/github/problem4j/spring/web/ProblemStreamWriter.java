@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes a {@link Problem} into an output stream, in a format bound to a problem media type.
+ *
+ * @see ProblemCodecs#findStreamWriter(org.springframework.util.MimeType)
+ */
+@FunctionalInterface
+public interface ProblemStreamWriter {
+
+  /**
+   * Writes given problem. Implementations must not close the output stream.
+   *
+   * @param problem the problem to write
+   * @param outputStream the stream to write into
+   * @throws IOException if writing fails
+   */
+  void write(Problem problem, OutputStream outputStream) throws IOException;
+}
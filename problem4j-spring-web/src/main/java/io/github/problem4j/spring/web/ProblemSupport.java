@@ -24,6 +24,10 @@
 import io.github.problem4j.core.ProblemStatus;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.InvalidMediaTypeException;
+import java.util.List;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
 
 /**
  * Central constants and small utilities used when constructing RFC 7807 {@link Problem} responses.
@@ -143,6 +147,36 @@ public final class ProblemSupport {
   /** Generic error message for invalid values. */
   public static final String IS_NOT_VALID_ERROR = "is not valid";
 
+  // ---------------------------------------------------------------------------
+  // Content negotiation of alternative encodings of extensions. Clients opt in through the
+  // "profile" parameter of the Accept media type (RFC 6906), which context filters store in the
+  // ProblemContext for resolvers to pick up.
+  // ---------------------------------------------------------------------------
+
+  /** Media type parameter carrying requested profiles. */
+  public static final String PROFILE_PARAMETER = "profile";
+
+  /** Profile requesting {@code errors} extension grouped by field. */
+  public static final String GROUPED_ERRORS_PROFILE = "grouped-errors";
+
+  /** {@code ProblemContext} key under which requested {@code errors} profile is stored. */
+  public static final String ERRORS_PROFILE_CONTEXT_KEY = "errorsProfile";
+
+  // ---------------------------------------------------------------------------
+  // Problem media types. Alternative encodings are served only when explicitly listed in Accept
+  // header, otherwise responses stay application/problem+json.
+  // ---------------------------------------------------------------------------
+
+  /** Binary, CBOR-encoded problem media type. */
+  public static final MediaType APPLICATION_PROBLEM_CBOR =
+      new MediaType("application", "problem+cbor");
+
+  /** Binary, Smile-encoded problem media type. */
+  public static final MediaType APPLICATION_PROBLEM_SMILE =
+      new MediaType("application", "problem+smile");
+
+  private static final String PROBLEM_SUBTYPE_PREFIX = "problem+";
+
   /**
    * Resolves a {@link Problem} to a corresponding {@link HttpStatus}.
    *
@@ -178,5 +212,87 @@ public static ProblemStatus resolveStatus(HttpStatusCode status) {
         : ProblemStatus.findValue(status.value()).orElse(ProblemStatus.INTERNAL_SERVER_ERROR);
   }
 
+  /**
+   * Checks whether given {@code Accept} header value requests {@link #GROUPED_ERRORS_PROFILE}, as
+   * in {@code application/problem+json; profile="grouped-errors"}.
+   *
+   * <p>Header value is parsed only if it contains the profile name at all, so requests not using
+   * this feature pay for a single substring search.
+   *
+   * @param accept value of {@code Accept} header (nullable)
+   * @return {@code true} if grouped errors are requested, {@code false} otherwise
+   */
+  public static boolean hasGroupedErrorsProfile(String accept) {
+    if (accept == null || !accept.contains(GROUPED_ERRORS_PROFILE)) {
+      return false;
+    }
+    try {
+      for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+        String profile = mediaType.getParameter(PROFILE_PARAMETER);
+        if (profile != null && containsProfile(profile, GROUPED_ERRORS_PROFILE)) {
+          return true;
+        }
+      }
+    } catch (InvalidMediaTypeException e) {
+      return false;
+    }
+    return false;
+  }
+
+  /**
+   * Resolves the content type of a problem response from given {@code Accept} header value.
+   *
+   * <p>Only problem media types explicitly listed in the header are taken into account, the one
+   * with the highest quality winning. Wildcards and other media types resolve to the first of given
+   * problem media types, so {@code application/problem+json} stays the default.
+   *
+   * @param accept value of {@code Accept} header, may be {@code null}
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   * @return content type for the problem response
+   */
+  public static MediaType resolveProblemMediaType(
+      String accept, List<MediaType> problemMediaTypes) {
+    MediaType fallback =
+        problemMediaTypes.isEmpty() ? MediaType.APPLICATION_PROBLEM_JSON : problemMediaTypes.get(0);
+    if (accept == null
+        || problemMediaTypes.size() < 2
+        || !accept.contains(PROBLEM_SUBTYPE_PREFIX)) {
+      return fallback;
+    }
+    try {
+      MediaType resolved = fallback;
+      double resolvedQuality = 0.0;
+      for (MediaType mediaType : MediaType.parseMediaTypes(accept)) {
+        double quality = mediaType.getQualityValue();
+        if (quality <= resolvedQuality) {
+          continue;
+        }
+        for (MediaType problemMediaType : problemMediaTypes) {
+          if (problemMediaType.equalsTypeAndSubtype(mediaType)) {
+            resolved = problemMediaType;
+            resolvedQuality = quality;
+            break;
+          }
+        }
+      }
+      return resolved;
+    } catch (InvalidMediaTypeException e) {
+      return fallback;
+    }
+  }
+
+  private static boolean containsProfile(String profiles, String profile) {
+    String unquoted =
+        profiles.length() > 1 && profiles.startsWith("\"") && profiles.endsWith("\"")
+            ? profiles.substring(1, profiles.length() - 1)
+            : profiles;
+    for (String token : StringUtils.tokenizeToStringArray(unquoted, " ")) {
+      if (profile.equals(token)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private ProblemSupport() {}
 }
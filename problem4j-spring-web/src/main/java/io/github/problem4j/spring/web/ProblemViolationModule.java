@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.spring.web.parameter.LazyViolationList;
+import io.github.problem4j.spring.web.parameter.Violation;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Jackson module with streaming serializers for {@link Violation}s, bypassing generic bean
+ * introspection for the (possibly very large) {@code errors} extension.
+ *
+ * <p>Property names are pre-encoded once, and {@link LazyViolationList}s are written element by
+ * element straight into the {@link JsonGenerator}, through {@link LazyViolationList#getUncached}.
+ * Violations not accessed before are resolved, written and dropped one at a time, so serializing an
+ * {@code errors} extension needs constant memory on top of the list itself, no matter how many
+ * violations it reports. The price is that serializing the same list twice resolves such violations
+ * twice. Output is the same as produced through {@link Violation}'s own annotations, including
+ * property order if {@link MapperFeature#SORT_PROPERTIES_ALPHABETICALLY} is enabled.
+ */
+public class ProblemViolationModule extends SimpleModule {
+
+  private static final SerializableString FIELD_NAME = new SerializedString("field");
+  private static final SerializableString ERROR_NAME = new SerializedString("error");
+
+  /** Creates a new {@link ProblemViolationModule}. */
+  public ProblemViolationModule() {
+    super(ProblemViolationModule.class.getSimpleName());
+    addSerializer(Violation.class, new ViolationSerializer());
+    addSerializer(LazyViolationList.class, new LazyViolationListSerializer());
+  }
+
+  private static void writeViolation(Violation violation, JsonGenerator gen, boolean sorted) {
+    gen.writeStartObject(violation);
+    if (sorted) {
+      writeProperty(ERROR_NAME, violation.getError(), gen);
+      writeProperty(FIELD_NAME, violation.getField(), gen);
+    } else {
+      writeProperty(FIELD_NAME, violation.getField(), gen);
+      writeProperty(ERROR_NAME, violation.getError(), gen);
+    }
+    gen.writeEndObject();
+  }
+
+  private static void writeProperty(SerializableString name, String value, JsonGenerator gen) {
+    if (value != null) {
+      gen.writeName(name);
+      gen.writeString(value);
+    }
+  }
+
+  private static boolean isSorted(SerializationContext provider) {
+    return provider.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+  }
+
+  /** Writes a single {@link Violation}, omitting {@code null} properties. */
+  public static class ViolationSerializer extends StdSerializer<Violation> {
+
+    /** Creates a new {@link ViolationSerializer}. */
+    public ViolationSerializer() {
+      super(Violation.class);
+    }
+
+    @Override
+    public void serialize(Violation value, JsonGenerator gen, SerializationContext provider)
+        throws JacksonException {
+      writeViolation(value, gen, isSorted(provider));
+    }
+  }
+
+  /**
+   * Writes a {@link LazyViolationList} as an array, resolving and writing one violation at a time,
+   * without caching violations in the list.
+   */
+  @SuppressWarnings("rawtypes")
+  public static class LazyViolationListSerializer extends StdSerializer<LazyViolationList> {
+
+    /** Creates a new {@link LazyViolationListSerializer}. */
+    public LazyViolationListSerializer() {
+      super(LazyViolationList.class);
+    }
+
+    @Override
+    public void serialize(LazyViolationList value, JsonGenerator gen, SerializationContext provider)
+        throws JacksonException {
+      boolean sorted = isSorted(provider);
+      int size = value.size();
+      gen.writeStartArray(value, size);
+      for (int i = 0; i < size; i++) {
+        writeViolation(value.getUncached(i), gen, sorted);
+      }
+      gen.writeEndArray();
+    }
+  }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.parameter.GroupedViolations;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming writer of {@link Problem}s in the XML format defined by RFC 9457 (Appendix B), which
+ * writes straight through a StAX {@link XMLStreamWriter}, without building any intermediate tree.
+ *
+ * <pre>{@code
+ * <problem xmlns="urn:ietf:rfc:7807">
+ *   <title>Bad Request</title>
+ *   <status>400</status>
+ *   <errors>
+ *     <i><field>name</field><error>must not be blank</error></i>
+ *   </errors>
+ * </problem>
+ * }</pre>
+ *
+ * <p>Standard members are written in a fixed order, followed by extension members. Arrays and
+ * collections are written as {@code <i>} elements, maps and {@link Violation}s as nested elements.
+ * Members without value are skipped, as is {@code type} equal to {@link Problem#BLANK_TYPE}, same
+ * as in JSON. Extension members and map entries whose names are not valid XML element names (see
+ * {@code NCName} production of Namespaces in XML) are skipped as well. Characters not allowed in
+ * XML 1.0 documents (control characters other than tab, line feed and carriage return, unpaired
+ * surrogates, {@code U+FFFE} and {@code U+FFFF}) are replaced with {@code U+FFFD}.
+ *
+ * <p>Values of other types (e.g. POJOs, enums or dates) are converted through the {@link
+ * ObjectMapper} given in constructor into maps, lists and scalars, which are then written as above.
+ * Without a mapper, such values are written as their string representation.
+ *
+ * <p>Writer only writes problems, reading them still relies on the {@code XmlMapper}.
+ */
+public class ProblemXmlWriter implements ProblemStreamWriter {
+
+  /** Namespace of problem XML documents. */
+  public static final String PROBLEM_NAMESPACE = "urn:ietf:rfc:7807";
+
+  private static final String PROBLEM_ELEMENT = "problem";
+  private static final String ITEM_ELEMENT = "i";
+
+  private final XMLOutputFactory outputFactory;
+  private final ObjectMapper valueMapper;
+
+  /**
+   * Creates a new {@link ProblemXmlWriter} backed by the default StAX implementation, which writes
+   * values of unknown types as their string representation.
+   */
+  public ProblemXmlWriter() {
+    this(XMLOutputFactory.newFactory());
+  }
+
+  /**
+   * Creates a new {@link ProblemXmlWriter}, which writes values of unknown types as their string
+   * representation.
+   *
+   * @param outputFactory configured factory of StAX writers, shared by all invocations
+   */
+  public ProblemXmlWriter(XMLOutputFactory outputFactory) {
+    this(outputFactory, null);
+  }
+
+  /**
+   * Creates a new {@link ProblemXmlWriter}.
+   *
+   * @param outputFactory configured factory of StAX writers, shared by all invocations
+   * @param valueMapper mapper converting values of unknown types into maps, lists and scalars, or
+   *     {@code null} to write them as their string representation
+   */
+  public ProblemXmlWriter(XMLOutputFactory outputFactory, ObjectMapper valueMapper) {
+    this.outputFactory = outputFactory;
+    this.valueMapper = valueMapper;
+  }
+
+  /**
+   * Writes given problem as an UTF-8 encoded XML document.
+   *
+   * @param problem the problem to write
+   * @param outputStream the stream to write into, left open
+   * @throws IOException if StAX writer fails
+   */
+  @Override
+  public void write(Problem problem, OutputStream outputStream) throws IOException {
+    try {
+      XMLStreamWriter writer =
+          outputFactory.createXMLStreamWriter(outputStream, StandardCharsets.UTF_8.name());
+      try {
+        writeDocument(problem, writer);
+        writer.flush();
+      } finally {
+        writer.close();
+      }
+    } catch (XMLStreamException e) {
+      throw new IOException("Could not write problem XML: " + e.getMessage(), e);
+    }
+  }
+
+  private void writeDocument(Problem problem, XMLStreamWriter writer) throws XMLStreamException {
+    writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+    writer.setDefaultNamespace(PROBLEM_NAMESPACE);
+    writer.writeStartElement(PROBLEM_NAMESPACE, PROBLEM_ELEMENT);
+    writer.writeDefaultNamespace(PROBLEM_NAMESPACE);
+
+    if (problem.isTypeNonBlank()) {
+      writeUri("type", problem.getType(), writer);
+    }
+    writeText("title", problem.getTitle(), writer);
+    if (problem.getStatus() != 0) {
+      writeText("status", Integer.toString(problem.getStatus()), writer);
+    }
+    writeText("detail", problem.getDetail(), writer);
+    writeUri("instance", problem.getInstance(), writer);
+
+    for (Map.Entry<String, Object> extension : problem.getExtensionMembers().entrySet()) {
+      if (extension.getValue() != null && isElementName(extension.getKey())) {
+        writeMember(extension.getKey(), extension.getValue(), writer);
+      }
+    }
+
+    writer.writeEndElement();
+    writer.writeEndDocument();
+  }
+
+  private void writeUri(String name, URI value, XMLStreamWriter writer) throws XMLStreamException {
+    if (value != null) {
+      writeText(name, value.toString(), writer);
+    }
+  }
+
+  private void writeText(String name, String value, XMLStreamWriter writer)
+      throws XMLStreamException {
+    if (value != null) {
+      writer.writeStartElement(name);
+      writer.writeCharacters(toXmlText(value));
+      writer.writeEndElement();
+    }
+  }
+
+  private void writeMember(String name, Object value, XMLStreamWriter writer)
+      throws XMLStreamException {
+    writer.writeStartElement(name);
+    writeValue(value, writer);
+    writer.writeEndElement();
+  }
+
+  private void writeValue(Object value, XMLStreamWriter writer) throws XMLStreamException {
+    if (value instanceof CharSequence
+        || value instanceof Number
+        || value instanceof Boolean
+        || value instanceof Character
+        || value instanceof URI) {
+      writer.writeCharacters(toXmlText(value.toString()));
+    } else if (value instanceof Violation violation) {
+      writeText("field", violation.getField(), writer);
+      writeText("error", violation.getError(), writer);
+    } else if (value instanceof GroupedViolations grouped) {
+      writeGroupedViolations(grouped, writer);
+    } else if (value instanceof Iterable<?> iterable) {
+      for (Object item : iterable) {
+        writeItem(item, writer);
+      }
+    } else if (value.getClass().isArray()) {
+      int length = Array.getLength(value);
+      for (int i = 0; i < length; i++) {
+        writeItem(Array.get(value, i), writer);
+      }
+    } else if (value instanceof Map<?, ?> map) {
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        if (entry.getKey() != null
+            && entry.getValue() != null
+            && isElementName(entry.getKey().toString())) {
+          writeMember(entry.getKey().toString(), entry.getValue(), writer);
+        }
+      }
+    } else if (valueMapper != null) {
+      Object converted = valueMapper.convertValue(value, Object.class);
+      if (converted != null) {
+        writeValue(converted, writer);
+      }
+    } else {
+      writer.writeCharacters(toXmlText(value.toString()));
+    }
+  }
+
+  private void writeItem(Object item, XMLStreamWriter writer) throws XMLStreamException {
+    if (item == null) {
+      writer.writeEmptyElement(ITEM_ELEMENT);
+    } else {
+      writeMember(ITEM_ELEMENT, item, writer);
+    }
+  }
+
+  private void writeGroupedViolations(GroupedViolations grouped, XMLStreamWriter writer)
+      throws XMLStreamException {
+    if (!grouped.getMessages().isEmpty()) {
+      writeMember("messages", grouped.getMessages(), writer);
+    }
+    if (!grouped.getFields().isEmpty()) {
+      writer.writeStartElement("fields");
+      for (GroupedViolations.FieldViolations field : grouped.getFields()) {
+        writer.writeStartElement(ITEM_ELEMENT);
+        writeText("field", field.getField(), writer);
+        writeMember("errors", field.getErrors(), writer);
+        writer.writeEndElement();
+      }
+      writer.writeEndElement();
+    }
+    if (grouped.getGlobal().length > 0) {
+      writeMember("global", grouped.getGlobal(), writer);
+    }
+  }
+
+  /**
+   * Replaces characters that do not match {@code Char} production of XML 1.0 with {@code U+FFFD}
+   * replacement character. Returns given text itself if it contains none of them.
+   */
+  static String toXmlText(String text) {
+    int length = text.length();
+    int i = 0;
+    while (i < length) {
+      int c = text.codePointAt(i);
+      if (!isXmlChar(c)) {
+        break;
+      }
+      i += Character.charCount(c);
+    }
+    if (i == length) {
+      return text;
+    }
+
+    StringBuilder builder = new StringBuilder(length).append(text, 0, i);
+    while (i < length) {
+      int c = text.codePointAt(i);
+      if (isXmlChar(c)) {
+        builder.appendCodePoint(c);
+      } else {
+        builder.append('\uFFFD');
+      }
+      i += Character.charCount(c);
+    }
+    return builder.toString();
+  }
+
+  /** Checks whether given code point is allowed in XML 1.0 documents. */
+  private static boolean isXmlChar(int c) {
+    return c == 0x9
+        || c == 0xA
+        || c == 0xD
+        || (c >= 0x20 && c <= 0xD7FF)
+        || (c >= 0xE000 && c <= 0xFFFD)
+        || c >= 0x10000;
+  }
+
+  /**
+   * Checks whether given name matches {@code NCName} production of Namespaces in XML, i.e. it's an
+   * XML name without colons, so it can be used as an element's local name.
+   */
+  static boolean isElementName(String name) {
+    if (name.isEmpty() || !isNameStartChar(name.codePointAt(0))) {
+      return false;
+    }
+    for (int i = Character.charCount(name.codePointAt(0)); i < name.length(); ) {
+      int c = name.codePointAt(i);
+      if (!isNameStartChar(c) && !isNameChar(c)) {
+        return false;
+      }
+      i += Character.charCount(c);
+    }
+    return true;
+  }
+
+  private static boolean isNameStartChar(int c) {
+    return (c >= 'A' && c <= 'Z')
+        || (c >= 'a' && c <= 'z')
+        || c == '_'
+        || (c >= 0xC0 && c <= 0xD6)
+        || (c >= 0xD8 && c <= 0xF6)
+        || (c >= 0xF8 && c <= 0x2FF)
+        || (c >= 0x370 && c <= 0x37D)
+        || (c >= 0x37F && c <= 0x1FFF)
+        || (c >= 0x200C && c <= 0x200D)
+        || (c >= 0x2070 && c <= 0x218F)
+        || (c >= 0x2C00 && c <= 0x2FEF)
+        || (c >= 0x3001 && c <= 0xD7FF)
+        || (c >= 0xF900 && c <= 0xFDCF)
+        || (c >= 0xFDF0 && c <= 0xFFFD)
+        || (c >= 0x10000 && c <= 0xEFFFF);
+  }
+
+  private static boolean isNameChar(int c) {
+    return c == '-'
+        || c == '.'
+        || (c >= '0' && c <= '9')
+        || c == 0xB7
+        || (c >= 0x300 && c <= 0x36F)
+        || (c >= 0x203F && c <= 0x2040);
+  }
+}
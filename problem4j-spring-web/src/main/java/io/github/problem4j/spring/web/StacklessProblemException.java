@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link ProblemException} that skips capturing its stack trace, for problems thrown as regular
+ * control flow (e.g. rejecting a request), where the trace is never logged by problem advices.
+ *
+ * <p>Capturing a stack trace walks the whole call stack, which within a Spring request is often
+ * well over a hundred frames deep, and is the dominant cost of constructing an exception. Instances
+ * of this class report an empty stack trace instead.
+ *
+ * <p>For debugging, stack traces can be captured for one in every {@code N} instances, see {@link
+ * #setStackTraceSampleRate(int)}, which is applied from {@code
+ * problem4j.stackless-exceptions.stack-trace-sample-rate} property at startup.
+ *
+ * <pre>{@code
+ * throw new StacklessProblemException(
+ *     Problem.builder().status(ProblemStatus.CONFLICT).detail("order already paid").build());
+ * }</pre>
+ */
+public class StacklessProblemException extends ProblemException {
+
+  /** Default sample rate, which never captures stack traces. */
+  public static final int DEFAULT_STACK_TRACE_SAMPLE_RATE = 0;
+
+  private static final AtomicLong created = new AtomicLong();
+
+  private static volatile int stackTraceSampleRate = DEFAULT_STACK_TRACE_SAMPLE_RATE;
+
+  /**
+   * Creates a new exception carrying given {@link Problem}.
+   *
+   * @param problem the problem to carry
+   */
+  public StacklessProblemException(Problem problem) {
+    super(problem);
+  }
+
+  /**
+   * Sets how often instances capture their stack trace. Applies to all instances created
+   * afterwards.
+   *
+   * <p>This is a process-global debug switch, shared by every application (and application
+   * context) running in the JVM, rather than a per-application setting.
+   *
+   * @param sampleRate capture stack trace of one in every {@code sampleRate} instances, or {@code
+   *     0} to never capture it
+   * @throws IllegalArgumentException if {@code sampleRate} is negative
+   */
+  public static void setStackTraceSampleRate(int sampleRate) {
+    if (sampleRate < 0) {
+      throw new IllegalArgumentException("sampleRate must not be negative, got " + sampleRate);
+    }
+    stackTraceSampleRate = sampleRate;
+  }
+
+  /**
+   * Returns how often instances capture their stack trace.
+   *
+   * @return sample rate, {@code 0} if stack traces are never captured
+   */
+  public static int getStackTraceSampleRate() {
+    return stackTraceSampleRate;
+  }
+
+  /**
+   * Captures stack trace only for sampled instances. Invoked from {@link Throwable} constructor,
+   * so sampling cannot depend on instance state.
+   *
+   * @return this exception
+   */
+  @Override
+  public synchronized Throwable fillInStackTrace() {
+    int sampleRate = stackTraceSampleRate;
+    if (sampleRate > 0 && created.getAndIncrement() % sampleRate == 0) {
+      return super.fillInStackTrace();
+    }
+    return this;
+  }
+}
@@ -23,17 +23,41 @@
 import com.fasterxml.jackson.databind.Module;
 import io.github.problem4j.core.ProblemMapper;
 import io.github.problem4j.jackson2.ProblemModule;
+import io.github.problem4j.spring.web.AsyncInspectorExecutor;
 import io.github.problem4j.spring.web.CachingProblemResolverStore;
+import io.github.problem4j.spring.web.CompiledProblemMapper;
 import io.github.problem4j.spring.web.DefaultProblemFormat;
 import io.github.problem4j.spring.web.DefaultProblemPostProcessor;
 import io.github.problem4j.spring.web.DefaultProblemResolverStore;
+import io.github.problem4j.spring.web.ProblemCborCodecsCustomizer;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import io.github.problem4j.spring.web.ProblemCodecsCustomizer;
 import io.github.problem4j.spring.web.ProblemFormat;
 import io.github.problem4j.spring.web.ProblemJsonMapperBuilderCustomizer;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
+import io.github.problem4j.spring.web.ProblemSmileCodecsCustomizer;
 import io.github.problem4j.spring.web.ProblemXmlMapperBuilderCustomizer;
+import io.github.problem4j.spring.web.ProblemXmlWriter;
+import io.github.problem4j.spring.web.StacklessProblemException;
+import io.github.problem4j.spring.web.client.ProblemResponseErrorHandler;
 import io.github.problem4j.spring.web.resolver.ProblemResolver;
+import io.github.problem4j.spring.web.tracing.MicrometerTraceIdResolver;
+import io.github.problem4j.spring.web.tracing.RandomUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TimeOrderedUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceContextTraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
+import io.github.problem4j.spring.web.tracing.UlidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.W3cTraceIdGenerator;
+import io.micrometer.tracing.Tracer;
 import java.util.List;
+import java.util.Locale;
+import javax.xml.stream.XMLOutputFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -45,7 +69,13 @@
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.MediaType;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 import tools.jackson.dataformat.xml.XmlMapper;
 
 /**
@@ -71,14 +101,16 @@
 public class ProblemAutoConfiguration {
 
   /**
-   * Provides a {@link ProblemMapper} if none is defined.
+   * Provides a {@link ProblemMapper} if none is defined. Default mapper is wrapped in {@link
+   * CompiledProblemMapper}, which renders {@code @ProblemMapping} exceptions without per-exception
+   * reflection.
    *
    * @return a new {@link ProblemMapper}
    */
   @ConditionalOnMissingBean(ProblemMapper.class)
   @Bean
   ProblemMapper problemMapper() {
-    return ProblemMapper.create();
+    return new CompiledProblemMapper(ProblemMapper.create());
   }
 
   /**
@@ -90,7 +122,7 @@ ProblemMapper problemMapper() {
   @ConditionalOnMissingBean(ProblemFormat.class)
   @Bean
   ProblemFormat problemFormat(ProblemProperties properties) {
-    return new DefaultProblemFormat(properties.getDetailFormat());
+    return new DefaultProblemFormat(properties.getDetailFormat(), properties.getErrorsFormat());
   }
 
   /**
@@ -143,6 +175,149 @@ ProblemResolverStore problemResolverStore(
     return problemResolverStore;
   }
 
+  /**
+   * Provides {@link ProblemCodecs} with writers and readers for every problem media type registered
+   * by {@link ProblemCodecsCustomizer} beans, if none is defined.
+   *
+   * @param customizers customizers registering problem media types, in their order
+   * @return a new {@link ProblemCodecs}
+   */
+  @ConditionalOnMissingBean(ProblemCodecs.class)
+  @Bean
+  ProblemCodecs problemCodecs(ObjectProvider<ProblemCodecsCustomizer> customizers) {
+    ProblemCodecs.Builder builder = ProblemCodecs.builder();
+    customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+    return builder.build();
+  }
+
+  /**
+   * Provides a {@link TraceIdGenerator} of {@code problem4j.trace-id-format}, used by context
+   * filters for requests that do not carry a trace ID.
+   *
+   * @param properties the configuration properties
+   * @return a new {@link TraceIdGenerator}
+   */
+  @ConditionalOnMissingBean(TraceIdGenerator.class)
+  @Bean
+  TraceIdGenerator traceIdGenerator(ProblemProperties properties) {
+    return switch (properties.getTraceIdFormat().toLowerCase(Locale.ROOT)) {
+      case ProblemProperties.TraceIdFormat.UUID -> new RandomUuidTraceIdGenerator();
+      case ProblemProperties.TraceIdFormat.UUID7 -> new TimeOrderedUuidTraceIdGenerator();
+      case ProblemProperties.TraceIdFormat.ULID -> new UlidTraceIdGenerator();
+      case ProblemProperties.TraceIdFormat.W3C -> new W3cTraceIdGenerator();
+      default -> new SecureUuidTraceIdGenerator();
+    };
+  }
+
+  /**
+   * Provides a {@link TraceIdValidator}, used by context filters to replace oversized or malformed
+   * trace IDs received from clients with generated ones.
+   *
+   * @param properties the configuration properties
+   * @return a new {@link TraceIdValidator}
+   */
+  @ConditionalOnProperty(name = "problem4j.trace-id-validation.enabled", matchIfMissing = true)
+  @ConditionalOnMissingBean(TraceIdValidator.class)
+  @Bean
+  TraceIdValidator traceIdValidator(ProblemProperties properties) {
+    return new TraceIdValidator(properties.getTraceIdValidation().getMaxLength());
+  }
+
+  /**
+   * Provides an {@link AsyncInspectorExecutor} if asynchronous inspectors are enabled and none is
+   * defined by the user. Inspections are started on new (optionally virtual) threads, bounded by
+   * {@code problem4j.async-inspectors.max-pending}.
+   *
+   * @param properties the configuration properties
+   * @return a new {@link AsyncInspectorExecutor}
+   */
+  @ConditionalOnProperty(name = "problem4j.async-inspectors.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(AsyncInspectorExecutor.class)
+  @Bean
+  AsyncInspectorExecutor asyncInspectorExecutor(ProblemProperties properties) {
+    ProblemProperties.AsyncInspectors settings = properties.getAsyncInspectors();
+    SimpleAsyncTaskExecutor delegate = new SimpleAsyncTaskExecutor("problem4j-inspector-");
+    delegate.setVirtualThreads(settings.isVirtualThreads());
+    AsyncInspectorExecutor.OverflowPolicy overflowPolicy =
+        ProblemProperties.OverflowPolicy.BLOCK.equalsIgnoreCase(settings.getOverflowPolicy())
+            ? AsyncInspectorExecutor.OverflowPolicy.BLOCK
+            : AsyncInspectorExecutor.OverflowPolicy.DROP;
+    return new AsyncInspectorExecutor(delegate, settings.getMaxPending(), overflowPolicy);
+  }
+
+  /**
+   * Applies {@code problem4j.stackless-exceptions.stack-trace-sample-rate} to {@link
+   * StacklessProblemException} once all singletons are initialized. Registered only if the
+   * property is set, so a rate set programmatically is not overwritten by the default.
+   *
+   * @param properties the configuration properties
+   * @return initializer applying the sample rate
+   */
+  @ConditionalOnProperty(name = "problem4j.stackless-exceptions.stack-trace-sample-rate")
+  @Bean
+  SmartInitializingSingleton stacklessProblemExceptionInitializer(ProblemProperties properties) {
+    int sampleRate = properties.getStacklessExceptions().getStackTraceSampleRate();
+    return () -> StacklessProblemException.setStackTraceSampleRate(sampleRate);
+  }
+
+  /**
+   * Provides a {@link ProblemResponseErrorHandler}, to be registered on {@code RestClient} or
+   * {@code RestTemplate} instances calling services that answer with problem documents.
+   *
+   * @param problemCodecs readers per problem media type
+   * @param properties the configuration properties
+   * @return a new {@link ProblemResponseErrorHandler}
+   */
+  @ConditionalOnMissingBean(ProblemResponseErrorHandler.class)
+  @Bean
+  ProblemResponseErrorHandler problemResponseErrorHandler(
+      ProblemCodecs problemCodecs, ProblemProperties properties) {
+    return new ProblemResponseErrorHandler(
+        problemCodecs, properties.getClient().getMaxBodySize());
+  }
+
+  /**
+   * Configuration of {@link TraceIdResolver}s, which let context filters reuse trace IDs propagated
+   * by callers or by tracing libraries instead of generating new ones.
+   */
+  @ConditionalOnProperty(name = "problem4j.trace-context.enabled")
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemTraceContextConfiguration {
+
+    /**
+     * Creates a {@link TraceContextTraceIdResolver}, reading W3C {@code traceparent} and B3
+     * headers.
+     *
+     * @return a new TraceContextTraceIdResolver bean
+     */
+    @Order(0)
+    @ConditionalOnMissingBean(TraceContextTraceIdResolver.class)
+    @Bean
+    TraceContextTraceIdResolver traceContextTraceIdResolver() {
+      return new TraceContextTraceIdResolver();
+    }
+
+    /** Configuration of trace ID resolution from Micrometer Tracing. */
+    @ConditionalOnClass(Tracer.class)
+    @Configuration(proxyBeanMethods = false)
+    static class MicrometerTraceIdResolverConfiguration {
+
+      /**
+       * Creates a {@link MicrometerTraceIdResolver}, reading the current span of {@link Tracer}.
+       * Consulted after propagation headers.
+       *
+       * @param tracer the tracer, if one is defined
+       * @return a new MicrometerTraceIdResolver bean
+       */
+      @Order(100)
+      @ConditionalOnMissingBean(MicrometerTraceIdResolver.class)
+      @Bean
+      MicrometerTraceIdResolver micrometerTraceIdResolver(ObjectProvider<Tracer> tracer) {
+        return new MicrometerTraceIdResolver(tracer::getIfAvailable);
+      }
+    }
+  }
+
   /** Configuration for JSON support in Problem serialization. */
   @ConditionalOnClass({JsonMapperBuilderCustomizer.class, JsonMapper.class})
   @Configuration(proxyBeanMethods = false)
@@ -152,13 +327,33 @@ static class ProblemJsonMapperConfiguration {
      * Creates a {@link ProblemJsonMapperBuilderCustomizer} to add the {@code ProblemJacksonMixIn}
      * to the JSON mapper for consistent Problem serialization.
      *
+     * @param properties the configuration properties
      * @return a new ProblemJsonMapperBuilderCustomizer bean
      * @see io.github.problem4j.jackson3.ProblemJacksonMixIn
+     * @see io.github.problem4j.spring.web.ProblemJsonSerializer
      */
     @ConditionalOnMissingBean(ProblemJsonMapperBuilderCustomizer.class)
     @Bean
-    ProblemJsonMapperBuilderCustomizer problemJsonMapperBuilderCustomizer() {
-      return new ProblemJsonMapperBuilderCustomizer();
+    ProblemJsonMapperBuilderCustomizer problemJsonMapperBuilderCustomizer(
+        ProblemProperties properties) {
+      return new ProblemJsonMapperBuilderCustomizer(
+          ProblemProperties.JsonSerialization.SERIALIZER.equalsIgnoreCase(
+              properties.getJsonSerialization()));
+    }
+
+    /**
+     * Registers the application's {@link JsonMapper} for {@code application/problem+json}, as the
+     * default problem media type.
+     *
+     * @param jsonMapper the application's JSON mapper, if available
+     * @return a new ProblemCodecsCustomizer bean
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @Bean
+    ProblemCodecsCustomizer problemJsonCodecsCustomizer(ObjectProvider<JsonMapper> jsonMapper) {
+      return builder ->
+          jsonMapper.ifAvailable(
+              mapper -> builder.register(MediaType.APPLICATION_PROBLEM_JSON, mapper));
     }
   }
 
@@ -179,6 +374,81 @@ public static class ProblemXmlMapperConfiguration {
     public ProblemXmlMapperBuilderCustomizer problemXmlMapperBuilderCustomizer() {
       return new ProblemXmlMapperBuilderCustomizer();
     }
+
+    /**
+     * Registers the application's {@link XmlMapper} for {@code application/problem+xml}. If so
+     * configured, problems are written by {@link ProblemXmlWriter} instead of the mapper, which is
+     * then used only for values of extension members of unknown types.
+     *
+     * @param xmlMapper the application's XML mapper, if available
+     * @param properties the configuration properties
+     * @return a new ProblemCodecsCustomizer bean
+     */
+    @Bean
+    public ProblemCodecsCustomizer problemXmlCodecsCustomizer(
+        ObjectProvider<XmlMapper> xmlMapper, ProblemProperties properties) {
+      boolean staxEnabled =
+          ProblemProperties.XmlSerialization.STAX.equalsIgnoreCase(
+              properties.getXmlSerialization());
+      return builder ->
+          xmlMapper.ifAvailable(
+              mapper -> {
+                builder.register(MediaType.APPLICATION_PROBLEM_XML, mapper);
+                if (staxEnabled) {
+                  builder.streamWriter(
+                      MediaType.APPLICATION_PROBLEM_XML,
+                      new ProblemXmlWriter(XMLOutputFactory.newFactory(), mapper));
+                }
+              });
+    }
+  }
+
+  /** Configuration for CBOR support in Problem serialization. */
+  @ConditionalOnClass(CBORMapper.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemCborCodecsConfiguration {
+
+    /**
+     * Creates a {@link ProblemCborCodecsCustomizer} registering {@code application/problem+cbor},
+     * for clients that ask for it in {@code Accept} header.
+     *
+     * @param properties the configuration properties
+     * @param jsonMapper the application's JSON mapper, to inherit CBOR mapper configuration from
+     * @return a new ProblemCborCodecsCustomizer bean
+     */
+    @ConditionalOnMissingBean(ProblemCborCodecsCustomizer.class)
+    @Bean
+    ProblemCborCodecsCustomizer problemCborCodecsCustomizer(
+        ProblemProperties properties, ObjectProvider<JsonMapper> jsonMapper) {
+      return new ProblemCborCodecsCustomizer(
+          ProblemProperties.JsonSerialization.SERIALIZER.equalsIgnoreCase(
+              properties.getJsonSerialization()),
+          jsonMapper.getIfAvailable());
+    }
+  }
+
+  /** Configuration for Smile support in Problem serialization. */
+  @ConditionalOnClass(SmileMapper.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemSmileCodecsConfiguration {
+
+    /**
+     * Creates a {@link ProblemSmileCodecsCustomizer} registering {@code
+     * application/problem+smile}, for clients that ask for it in {@code Accept} header.
+     *
+     * @param properties the configuration properties
+     * @param jsonMapper the application's JSON mapper, to inherit Smile mapper configuration from
+     * @return a new ProblemSmileCodecsCustomizer bean
+     */
+    @ConditionalOnMissingBean(ProblemSmileCodecsCustomizer.class)
+    @Bean
+    ProblemSmileCodecsCustomizer problemSmileCodecsCustomizer(
+        ProblemProperties properties, ObjectProvider<JsonMapper> jsonMapper) {
+      return new ProblemSmileCodecsCustomizer(
+          ProblemProperties.JsonSerialization.SERIALIZER.equalsIgnoreCase(
+              properties.getJsonSerialization()),
+          jsonMapper.getIfAvailable());
+    }
   }
 
   /**
@@ -26,8 +26,11 @@
 import io.github.problem4j.spring.web.parameter.DefaultMethodValidationResultSupport;
 import io.github.problem4j.spring.web.parameter.MethodParameterSupport;
 import io.github.problem4j.spring.web.parameter.MethodValidationResultSupport;
+import io.github.problem4j.spring.web.parameter.ParallelViolationExtractor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,6 +55,28 @@ MethodParameterSupport problemMethodParameterSupport() {
     return new DefaultMethodParameterSupport();
   }
 
+  /**
+   * Provides a {@link ParallelViolationExtractor} if parallel violation extraction is enabled and
+   * none is defined by the user. The extractor owns a dedicated pool, which is shut down together
+   * with the application context. Registered for servlet applications only, as extraction blocks
+   * the calling thread until the pool completes.
+   *
+   * @param properties the configuration properties
+   * @return a new {@link ParallelViolationExtractor}
+   */
+  @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+  @ConditionalOnProperty(name = "problem4j.parallel-violations.enabled", havingValue = "true")
+  @ConditionalOnMissingBean(ParallelViolationExtractor.class)
+  @Bean
+  ParallelViolationExtractor problemParallelViolationExtractor(ProblemProperties properties) {
+    ProblemProperties.ParallelViolations settings = properties.getParallelViolations();
+    int parallelism =
+        settings.getParallelism() > 0
+            ? settings.getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+    return new ParallelViolationExtractor(parallelism, settings.getThreshold());
+  }
+
   @ConditionalOnClass(MethodValidationResult.class)
   @Configuration(proxyBeanMethods = false)
   static class ProblemMethodValidationConfiguration {
@@ -59,6 +84,7 @@ static class ProblemMethodValidationConfiguration {
     /**
      * Provides a default {@link MethodValidationResultSupport} bean if none is defined by the user.
      *
+     * @param methodParameterSupport the method parameter support
      * @return a new {@link DefaultMethodValidationResultSupport}
      */
     @ConditionalOnMissingBean(MethodValidationResultSupport.class)
@@ -72,11 +98,13 @@ MethodValidationResultSupport problemMethodValidationResultSupport(
   /**
    * Provides a default {@link BindingResultSupport} bean that uses field names for violations.
    *
+   * @param parallelViolationExtractor the extractor for large binding results, if enabled
    * @return a new {@link DefaultBindingResultSupport}
    */
   @ConditionalOnMissingBean(BindingResultSupport.class)
   @Bean
-  BindingResultSupport problemBindingSupport() {
-    return new DefaultBindingResultSupport();
+  BindingResultSupport problemBindingSupport(
+      ObjectProvider<ParallelViolationExtractor> parallelViolationExtractor) {
+    return new DefaultBindingResultSupport(parallelViolationExtractor.getIfAvailable());
   }
 }
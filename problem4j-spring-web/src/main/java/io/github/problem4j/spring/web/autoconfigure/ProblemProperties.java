@@ -35,11 +35,21 @@ public class ProblemProperties implements ProblemContextSettings, PostProcessorS
 
   private final boolean enabled;
   private final String detailFormat;
+  private final String errorsFormat;
+  private final String jsonSerialization;
+  private final String xmlSerialization;
   private final String tracingHeaderName;
+  private final String traceIdFormat;
   private final String typeOverride;
   private final String instanceOverride;
 
   private final ResolverCaching resolverCaching;
+  private final ParallelViolations parallelViolations;
+  private final Client client;
+  private final TraceContext traceContext;
+  private final TraceIdValidation traceIdValidation;
+  private final AsyncInspectors asyncInspectors;
+  private final StacklessExceptions stacklessExceptions;
 
   /**
    * Constructs a new {@link ProblemProperties}.
@@ -47,29 +57,74 @@ public class ProblemProperties implements ProblemContextSettings, PostProcessorS
    * @param enabled whether problem handling is enabled
    * @param detailFormat format for the {@code detail} field (one of {@link DetailFormat#LOWERCASE},
    *     {@link DetailFormat#CAPITALIZED}, {@link DetailFormat#UPPERCASE})
+   * @param errorsFormat encoding of the {@code errors} extension (one of {@link ErrorsFormat#FLAT},
+   *     {@link ErrorsFormat#GROUPED})
+   * @param jsonSerialization how {@code Problem} is serialized into JSON (one of {@link
+   *     JsonSerialization#MIXIN}, {@link JsonSerialization#SERIALIZER})
+   * @param xmlSerialization how {@code Problem} is serialized into XML (one of {@link
+   *     XmlSerialization#MIXIN}, {@link XmlSerialization#STAX})
    * @param tracingHeaderName name of the HTTP header carrying a trace ID (nullable)
+   * @param traceIdFormat format of generated trace IDs (one of {@link TraceIdFormat#SECURE_UUID},
+   *     {@link TraceIdFormat#UUID}, {@link TraceIdFormat#UUID7}, {@link TraceIdFormat#ULID}, {@link
+   *     TraceIdFormat#W3C})
    * @param typeOverride template for overriding the {@code type} field; may contain {@code
    *     {context.traceId}} placeholder (nullable)
    * @param instanceOverride template for overriding the {@code instance} field; may contain {@code
    *     {context.traceId}} placeholder (nullable)
    * @param resolverCaching caching for resolver lookups ({@code CachingProblemResolverStore});
    *     defaults to {@link ResolverCaching#createDefault()}
+   * @param parallelViolations parallel extraction of violations from large validation results;
+   *     defaults to {@link ParallelViolations#createDefault()}
+   * @param client decoding of problems received by HTTP clients; defaults to {@link
+   *     Client#createDefault()}
+   * @param traceContext reuse of trace IDs propagated by callers or tracing libraries; defaults to
+   *     {@link TraceContext#createDefault()}
+   * @param traceIdValidation validation of trace IDs received from clients; defaults to {@link
+   *     TraceIdValidation#createDefault()}
+   * @param asyncInspectors asynchronous execution of inspectors; defaults to {@link
+   *     AsyncInspectors#createDefault()}
+   * @param stacklessExceptions stack trace sampling of {@code StacklessProblemException}; defaults
+   *     to {@link StacklessExceptions#createDefault()}
    * @see io.github.problem4j.spring.web.CachingProblemResolverStore
    */
   public ProblemProperties(
       @DefaultValue("true") boolean enabled,
       @DefaultValue(DetailFormat.CAPITALIZED) String detailFormat,
+      @DefaultValue(ErrorsFormat.FLAT) String errorsFormat,
+      @DefaultValue(JsonSerialization.MIXIN) String jsonSerialization,
+      @DefaultValue(XmlSerialization.MIXIN) String xmlSerialization,
       String tracingHeaderName,
+      @DefaultValue(TraceIdFormat.SECURE_UUID) String traceIdFormat,
       String typeOverride,
       String instanceOverride,
-      ResolverCaching resolverCaching) {
+      ResolverCaching resolverCaching,
+      ParallelViolations parallelViolations,
+      Client client,
+      TraceContext traceContext,
+      TraceIdValidation traceIdValidation,
+      AsyncInspectors asyncInspectors,
+      StacklessExceptions stacklessExceptions) {
     this.enabled = enabled;
     this.detailFormat = detailFormat;
+    this.errorsFormat = errorsFormat;
+    this.jsonSerialization = jsonSerialization;
+    this.xmlSerialization = xmlSerialization;
     this.tracingHeaderName = tracingHeaderName;
+    this.traceIdFormat = traceIdFormat;
     this.typeOverride = typeOverride;
     this.instanceOverride = instanceOverride;
     this.resolverCaching =
         resolverCaching != null ? resolverCaching : ResolverCaching.createDefault();
+    this.parallelViolations =
+        parallelViolations != null ? parallelViolations : ParallelViolations.createDefault();
+    this.client = client != null ? client : Client.createDefault();
+    this.traceContext = traceContext != null ? traceContext : TraceContext.createDefault();
+    this.traceIdValidation =
+        traceIdValidation != null ? traceIdValidation : TraceIdValidation.createDefault();
+    this.asyncInspectors =
+        asyncInspectors != null ? asyncInspectors : AsyncInspectors.createDefault();
+    this.stacklessExceptions =
+        stacklessExceptions != null ? stacklessExceptions : StacklessExceptions.createDefault();
   }
 
   /**
@@ -90,6 +145,42 @@ public String getDetailFormat() {
     return detailFormat;
   }
 
+  /**
+   * Returns the configured encoding of the {@code "errors"} extension.
+   *
+   * <p>With {@link ErrorsFormat#FLAT}, clients may still request grouped encoding per request, by
+   * adding {@code profile="grouped-errors"} parameter to {@code Accept} media type.
+   *
+   * @return the errors format
+   * @see io.github.problem4j.spring.web.parameter.GroupedViolations
+   */
+  public String getErrorsFormat() {
+    return errorsFormat;
+  }
+
+  /**
+   * Returns the configured way of serializing {@code Problem} into JSON.
+   *
+   * @return the JSON serialization
+   * @see io.github.problem4j.spring.web.ProblemJsonSerializer
+   */
+  public String getJsonSerialization() {
+    return jsonSerialization;
+  }
+
+  /**
+   * Returns the configured way of serializing {@code Problem} into XML.
+   *
+   * <p>With {@link XmlSerialization#STAX}, responses follow the XML format of RFC 9457, which
+   * differs from the one produced by {@code XmlMapper}.
+   *
+   * @return the XML serialization
+   * @see io.github.problem4j.spring.web.ProblemXmlWriter
+   */
+  public String getXmlSerialization() {
+    return xmlSerialization;
+  }
+
   /**
    * Returns the name of the HTTP header used for tracing requests.
    *
@@ -107,6 +198,19 @@ public String getTracingHeaderName() {
     return tracingHeaderName;
   }
 
+  /**
+   * Returns the configured format of trace IDs generated for requests that do not carry one.
+   *
+   * <p>Apart from {@link TraceIdFormat#SECURE_UUID}, all formats draw randomness from {@code
+   * ThreadLocalRandom}, so trace ID generation does not contend on a shared {@code SecureRandom}.
+   *
+   * @return the trace ID format
+   * @see io.github.problem4j.spring.web.tracing.TraceIdGenerator
+   */
+  public String getTraceIdFormat() {
+    return traceIdFormat;
+  }
+
   /**
    * Returns the configured type override.
    *
@@ -166,6 +270,60 @@ public ResolverCaching getResolverCaching() {
     return resolverCaching;
   }
 
+  /**
+   * Returns the parallel violation extraction configuration.
+   *
+   * @return parallel violation extraction settings
+   */
+  public ParallelViolations getParallelViolations() {
+    return parallelViolations;
+  }
+
+  /**
+   * Returns the configuration of decoding problems received by HTTP clients.
+   *
+   * @return client settings
+   */
+  public Client getClient() {
+    return client;
+  }
+
+  /**
+   * Returns the configuration of reusing propagated trace IDs.
+   *
+   * @return trace context settings
+   */
+  public TraceContext getTraceContext() {
+    return traceContext;
+  }
+
+  /**
+   * Returns validation of trace IDs received from clients.
+   *
+   * @return trace ID validation configuration
+   */
+  public TraceIdValidation getTraceIdValidation() {
+    return traceIdValidation;
+  }
+
+  /**
+   * Returns the configuration of running inspectors asynchronously.
+   *
+   * @return async inspectors settings
+   */
+  public AsyncInspectors getAsyncInspectors() {
+    return asyncInspectors;
+  }
+
+  /**
+   * Returns the configuration of stack trace sampling of {@code StacklessProblemException}.
+   *
+   * @return stackless exceptions settings
+   */
+  public StacklessExceptions getStacklessExceptions() {
+    return stacklessExceptions;
+  }
+
   /**
    * Caching configuration for ({@code CachingProblemResolverStore}).
    *
@@ -226,6 +384,359 @@ public int getMaxCacheSize() {
     }
   }
 
+  /**
+   * Configuration of parallel extraction of violations ({@code ParallelViolationExtractor}).
+   *
+   * <p>Meant for bulk endpoints, which validate thousands of elements in a single request. Only
+   * binding results with at least {@code threshold} errors are processed in parallel, on a
+   * dedicated pool of {@code parallelism} threads. Extraction is switched on by {@code
+   * problem4j.parallel-violations.enabled}, which is read by the bean condition only. Applies to
+   * servlet (WebMVC) applications only, as extraction blocks the request thread until it completes.
+   *
+   * @see io.github.problem4j.spring.web.parameter.ParallelViolationExtractor
+   */
+  public static class ParallelViolations {
+
+    /** Default minimum number of errors that engages parallel extraction. */
+    public static final int DEFAULT_THRESHOLD = 1000;
+
+    /** Default threshold value string for parallel violation extraction. */
+    public static final String DEFAULT_THRESHOLD_VALUE = "1000";
+
+    /** Default parallelism for parallel violation extraction. */
+    public static final int DEFAULT_PARALLELISM = -1;
+
+    /** Default parallelism value string for parallel violation extraction. */
+    public static final String DEFAULT_PARALLELISM_VALUE = "-1";
+
+    private static ParallelViolations createDefault() {
+      return new ParallelViolations(DEFAULT_THRESHOLD, DEFAULT_PARALLELISM);
+    }
+
+    private final int threshold;
+    private final int parallelism;
+
+    /**
+     * Creates a new parallel violation extraction configuration.
+     *
+     * @param threshold minimum number of errors that engages parallel extraction
+     * @param parallelism number of worker threads (-1 or 0 means number of available processors)
+     */
+    public ParallelViolations(
+        @DefaultValue(DEFAULT_THRESHOLD_VALUE) int threshold,
+        @DefaultValue(DEFAULT_PARALLELISM_VALUE) int parallelism) {
+      this.threshold = threshold;
+      this.parallelism = parallelism;
+    }
+
+    /**
+     * Returns the minimum number of errors that engages parallel extraction.
+     *
+     * @return the threshold
+     */
+    public int getThreshold() {
+      return threshold;
+    }
+
+    /**
+     * Returns the number of worker threads.
+     *
+     * @return worker threads; -1 (or non-positive) means number of available processors
+     */
+    public int getParallelism() {
+      return parallelism;
+    }
+  }
+
+  /**
+   * Configuration of decoding problems received by HTTP clients ({@code
+   * ProblemResponseErrorHandler}).
+   *
+   * <p>Error bodies are decoded straight from the response stream, up to {@code maxBodySize}
+   * bytes. Larger bodies are not read any further, and the problem is built from response status
+   * only.
+   *
+   * @see io.github.problem4j.spring.web.client.ProblemResponseErrorHandler
+   */
+  public static class Client {
+
+    /** Default maximum size of a decoded problem body, in bytes. */
+    public static final int DEFAULT_MAX_BODY_SIZE = 65536;
+
+    /** Default maximum body size value string. */
+    public static final String DEFAULT_MAX_BODY_SIZE_VALUE = "65536";
+
+    private static Client createDefault() {
+      return new Client(DEFAULT_MAX_BODY_SIZE);
+    }
+
+    private final int maxBodySize;
+
+    /**
+     * Creates a new client configuration.
+     *
+     * @param maxBodySize maximum size of a decoded problem body, in bytes
+     */
+    public Client(@DefaultValue(DEFAULT_MAX_BODY_SIZE_VALUE) int maxBodySize) {
+      this.maxBodySize = maxBodySize;
+    }
+
+    /**
+     * Returns the maximum size of a decoded problem body.
+     *
+     * @return maximum body size, in bytes
+     */
+    public int getMaxBodySize() {
+      return maxBodySize;
+    }
+  }
+
+  /**
+   * Configuration of reusing trace IDs propagated by callers or by tracing libraries.
+   *
+   * <p>If enabled, context filters take trace ID from W3C {@code traceparent} or B3 headers, or
+   * from the current span of Micrometer Tracing, before generating a new one. An explicitly
+   * configured {@code tracing-header-name} still takes precedence.
+   *
+   * @see io.github.problem4j.spring.web.tracing.TraceContextTraceIdResolver
+   * @see io.github.problem4j.spring.web.tracing.MicrometerTraceIdResolver
+   */
+  public static class TraceContext {
+
+    /** Default enabled flag for trace context reuse. */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /** Default enabled value string for trace context reuse. */
+    public static final String DEFAULT_ENABLED_VALUE = "false";
+
+    private static TraceContext createDefault() {
+      return new TraceContext(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new trace context configuration.
+     *
+     * @param enabled whether propagated trace IDs are reused
+     */
+    public TraceContext(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether propagated trace IDs are reused.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  /**
+   * Configuration of validating trace IDs received from clients in {@code tracing-header-name} or
+   * resolved from trace context.
+   *
+   * <p>Trace IDs longer than {@code max-length} or containing characters other than ASCII letters,
+   * digits and {@code - _ . : / + =} are replaced by generated ones instead of being echoed back.
+   *
+   * @see io.github.problem4j.spring.web.tracing.TraceIdValidator
+   */
+  public static class TraceIdValidation {
+
+    /** Default enabled flag for trace ID validation. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default enabled value string for trace ID validation. */
+    public static final String DEFAULT_ENABLED_VALUE = "true";
+
+    /** Default maximum length of a trace ID. */
+    public static final int DEFAULT_MAX_LENGTH = 128;
+
+    /** Default maximum length value string. */
+    public static final String DEFAULT_MAX_LENGTH_VALUE = "128";
+
+    private static TraceIdValidation createDefault() {
+      return new TraceIdValidation(DEFAULT_ENABLED, DEFAULT_MAX_LENGTH);
+    }
+
+    private final boolean enabled;
+    private final int maxLength;
+
+    /**
+     * Creates a new trace ID validation configuration.
+     *
+     * @param enabled whether trace IDs received from clients are validated
+     * @param maxLength maximum length of a trace ID, in characters
+     */
+    public TraceIdValidation(
+        @DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled,
+        @DefaultValue(DEFAULT_MAX_LENGTH_VALUE) int maxLength) {
+      this.enabled = enabled;
+      this.maxLength = maxLength;
+    }
+
+    /**
+     * Returns whether trace IDs received from clients are validated.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Returns the maximum accepted length of a trace ID.
+     *
+     * @return maximum length, in characters
+     */
+    public int getMaxLength() {
+      return maxLength;
+    }
+  }
+
+  /**
+   * Configuration of running inspectors off the request thread ({@code AsyncInspectorExecutor}).
+   *
+   * <p>If enabled, an executor is provided for inspectors that are explicitly wrapped for
+   * asynchronous execution. At most {@code max-pending} inspections may be in flight at once, the
+   * ones over that limit are handled according to {@code overflow-policy}. Inspections run on
+   * virtual threads if {@code virtual-threads} is enabled (requires Java 21 or higher).
+   *
+   * @see io.github.problem4j.spring.web.AsyncInspectorExecutor
+   */
+  public static class AsyncInspectors {
+
+    /** Default enabled flag for asynchronous inspectors. */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /** Default enabled value string for asynchronous inspectors. */
+    public static final String DEFAULT_ENABLED_VALUE = "false";
+
+    /** Default maximum number of pending inspections. */
+    public static final int DEFAULT_MAX_PENDING = 1000;
+
+    /** Default maximum pending value string. */
+    public static final String DEFAULT_MAX_PENDING_VALUE = "1000";
+
+    /** Default virtual threads flag for asynchronous inspectors. */
+    public static final boolean DEFAULT_VIRTUAL_THREADS = false;
+
+    /** Default virtual threads value string for asynchronous inspectors. */
+    public static final String DEFAULT_VIRTUAL_THREADS_VALUE = "false";
+
+    private static AsyncInspectors createDefault() {
+      return new AsyncInspectors(
+          DEFAULT_ENABLED, DEFAULT_MAX_PENDING, OverflowPolicy.DROP, DEFAULT_VIRTUAL_THREADS);
+    }
+
+    private final boolean enabled;
+    private final int maxPending;
+    private final String overflowPolicy;
+    private final boolean virtualThreads;
+
+    /**
+     * Creates a new asynchronous inspectors configuration.
+     *
+     * @param enabled whether an executor for asynchronous inspectors is provided
+     * @param maxPending maximum number of inspections that are submitted but not yet completed
+     * @param overflowPolicy what to do with inspections over {@code maxPending} (one of {@link
+     *     OverflowPolicy#DROP}, {@link OverflowPolicy#BLOCK})
+     * @param virtualThreads whether inspections run on virtual threads
+     */
+    public AsyncInspectors(
+        @DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled,
+        @DefaultValue(DEFAULT_MAX_PENDING_VALUE) int maxPending,
+        @DefaultValue(OverflowPolicy.DROP) String overflowPolicy,
+        @DefaultValue(DEFAULT_VIRTUAL_THREADS_VALUE) boolean virtualThreads) {
+      this.enabled = enabled;
+      this.maxPending = maxPending;
+      this.overflowPolicy = overflowPolicy;
+      this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Returns whether an executor for asynchronous inspectors is provided.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    /**
+     * Returns the maximum number of inspections that are submitted but not yet completed.
+     *
+     * @return maximum number of pending inspections
+     */
+    public int getMaxPending() {
+      return maxPending;
+    }
+
+    /**
+     * Returns what happens with inspections submitted over {@code maxPending}.
+     *
+     * @return overflow policy
+     */
+    public String getOverflowPolicy() {
+      return overflowPolicy;
+    }
+
+    /**
+     * Returns whether inspections run on virtual threads.
+     *
+     * @return true if virtual threads are used
+     */
+    public boolean isVirtualThreads() {
+      return virtualThreads;
+    }
+  }
+
+  /**
+   * Configuration of stack trace sampling of {@code StacklessProblemException}.
+   *
+   * <p>If {@code stack-trace-sample-rate} is set, it is applied once the application context is
+   * initialized. The rate is global to the JVM, so with several application contexts in one
+   * process, the one initialized last takes effect.
+   *
+   * @see io.github.problem4j.spring.web.StacklessProblemException#setStackTraceSampleRate(int)
+   */
+  public static class StacklessExceptions {
+
+    /** Default sample rate, which never captures stack traces. */
+    public static final int DEFAULT_STACK_TRACE_SAMPLE_RATE = 0;
+
+    /** Default sample rate value string. */
+    public static final String DEFAULT_STACK_TRACE_SAMPLE_RATE_VALUE = "0";
+
+    private static StacklessExceptions createDefault() {
+      return new StacklessExceptions(DEFAULT_STACK_TRACE_SAMPLE_RATE);
+    }
+
+    private final int stackTraceSampleRate;
+
+    /**
+     * Creates a new stackless exceptions configuration.
+     *
+     * @param stackTraceSampleRate capture stack trace of one in every {@code stackTraceSampleRate}
+     *     instances, or {@code 0} to never capture it
+     */
+    public StacklessExceptions(
+        @DefaultValue(DEFAULT_STACK_TRACE_SAMPLE_RATE_VALUE) int stackTraceSampleRate) {
+      this.stackTraceSampleRate = stackTraceSampleRate;
+    }
+
+    /**
+     * Returns how often instances capture their stack trace.
+     *
+     * @return sample rate, {@code 0} if stack traces are never captured
+     */
+    public int getStackTraceSampleRate() {
+      return stackTraceSampleRate;
+    }
+  }
+
   /** Supported values for {@code detailFormat}. */
   public static final class DetailFormat {
 
@@ -240,4 +751,73 @@ public static final class DetailFormat {
 
     private DetailFormat() {}
   }
+
+  /** Supported values for {@code errorsFormat}. */
+  public static final class ErrorsFormat {
+
+    /** Flat list of violations, each with its field and message. */
+    public static final String FLAT = "flat";
+
+    /** Messages grouped by field and deduplicated through an index. */
+    public static final String GROUPED = "grouped";
+
+    private ErrorsFormat() {}
+  }
+
+  /** Supported values for {@code jsonSerialization}. */
+  public static final class JsonSerialization {
+
+    /** Bean serialization driven by {@code ProblemJacksonMixIn}. */
+    public static final String MIXIN = "mixin";
+
+    /** Dedicated {@code ProblemJsonSerializer}, writing members straight into the generator. */
+    public static final String SERIALIZER = "serializer";
+
+    private JsonSerialization() {}
+  }
+
+  /** Supported values for {@code xmlSerialization}. */
+  public static final class XmlSerialization {
+
+    /** Bean serialization of {@code XmlMapper}, driven by {@code ProblemJacksonMixIn}. */
+    public static final String MIXIN = "mixin";
+
+    /** Dedicated {@code ProblemXmlWriter}, writing RFC 9457 XML straight through StAX. */
+    public static final String STAX = "stax";
+
+    private XmlSerialization() {}
+  }
+
+  /** Supported values for {@code traceIdFormat}. */
+  public static final class TraceIdFormat {
+
+    /** {@code urn:uuid:} with a random UUID from shared {@code SecureRandom}. */
+    public static final String SECURE_UUID = "secure-uuid";
+
+    /** {@code urn:uuid:} with a random (version 4) UUID from {@code ThreadLocalRandom}. */
+    public static final String UUID = "uuid";
+
+    /** {@code urn:uuid:} with a time-ordered (version 7) UUID. */
+    public static final String UUID7 = "uuid7";
+
+    /** Time-ordered ULID, 26 characters of Crockford's Base32. */
+    public static final String ULID = "ulid";
+
+    /** W3C Trace Context compatible trace ID, 32 lowercase hex digits. */
+    public static final String W3C = "w3c";
+
+    private TraceIdFormat() {}
+  }
+
+  /** Supported values for {@code asyncInspectors.overflowPolicy}. */
+  public static final class OverflowPolicy {
+
+    /** Inspections over the limit are skipped, request thread is never held up. */
+    public static final String DROP = "drop";
+
+    /** Request thread waits until one of pending inspections completes. */
+    public static final String BLOCK = "block";
+
+    private OverflowPolicy() {}
+  }
 }
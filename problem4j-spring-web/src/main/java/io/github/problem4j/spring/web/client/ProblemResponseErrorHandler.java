@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.client;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * {@code ResponseErrorHandler} for {@code RestClient} and {@code RestTemplate}, which turns error
+ * responses carrying a problem document into {@link ProblemException}.
+ *
+ * <p>Problems are decoded with the pre-built {@link ObjectReader}s of {@link ProblemCodecs},
+ * straight from the response stream, so the body is never buffered into a {@code String}. At most
+ * {@code maxBodySize} bytes are read. If the body is larger, or is not a valid problem, the thrown
+ * problem carries the response status only.
+ *
+ * <p>Error responses of other media types are handled as by {@link DefaultResponseErrorHandler}.
+ *
+ * <pre>{@code
+ * RestClient restClient =
+ *     RestClient.builder().defaultStatusHandler(problemResponseErrorHandler).build();
+ * }</pre>
+ */
+public class ProblemResponseErrorHandler extends DefaultResponseErrorHandler {
+
+  /** Default maximum size of a decoded problem body, in bytes. */
+  public static final int DEFAULT_MAX_BODY_SIZE = 64 * 1024;
+
+  private final ProblemCodecs problemCodecs;
+  private final int maxBodySize;
+
+  /**
+   * Creates a new handler with {@link #DEFAULT_MAX_BODY_SIZE}.
+   *
+   * @param problemCodecs readers per problem media type
+   */
+  public ProblemResponseErrorHandler(ProblemCodecs problemCodecs) {
+    this(problemCodecs, DEFAULT_MAX_BODY_SIZE);
+  }
+
+  /**
+   * Creates a new handler.
+   *
+   * @param problemCodecs readers per problem media type
+   * @param maxBodySize maximum number of bytes read from an error body
+   */
+  public ProblemResponseErrorHandler(ProblemCodecs problemCodecs, int maxBodySize) {
+    this.problemCodecs = problemCodecs;
+    this.maxBodySize = maxBodySize;
+  }
+
+  /**
+   * Throws {@link ProblemException} if the error response carries a problem document, otherwise
+   * delegates to {@link DefaultResponseErrorHandler}.
+   *
+   * @param url the request URL
+   * @param method the HTTP method
+   * @param response the error response
+   * @throws IOException in case of I/O errors of the default handling
+   */
+  @Override
+  public void handleError(URI url, HttpMethod method, ClientHttpResponse response)
+      throws IOException {
+    MediaType contentType = response.getHeaders().getContentType();
+    ObjectReader reader = contentType != null ? problemCodecs.findReader(contentType) : null;
+    if (reader == null) {
+      super.handleError(url, method, response);
+      return;
+    }
+    throw new ProblemException(readProblem(reader, response));
+  }
+
+  /**
+   * Decodes the problem from given response, falling back to a problem with response status only.
+   * If the decoded problem carries no {@code status}, the response status is filled in.
+   *
+   * @param reader reader matching response content type
+   * @param response the error response
+   * @return decoded problem
+   * @throws IOException if reading response status fails
+   */
+  protected Problem readProblem(ObjectReader reader, ClientHttpResponse response)
+      throws IOException {
+    int status = response.getStatusCode().value();
+    if (response.getHeaders().getContentLength() <= maxBodySize) {
+      try (InputStream body = new LimitedInputStream(response.getBody(), maxBodySize)) {
+        Problem problem = reader.readValue(body);
+        if (problem != null) {
+          return problem.getStatus() != 0 ? problem : problem.toBuilder().status(status).build();
+        }
+      } catch (JacksonException e) {
+        // body exceeded the limit, or was not a valid problem
+      }
+    }
+    return Problem.builder().status(status).build();
+  }
+
+  /** Stream that fails once more than {@code limit} bytes are read from it. */
+  private static final class LimitedInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    private LimitedInputStream(InputStream in, long limit) {
+      super(in);
+      this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b >= 0) {
+        consume(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        consume(n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      consume(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    private void consume(long n) throws IOException {
+      remaining -= n;
+      if (remaining < 0) {
+        throw new IOException("Problem body exceeds size limit");
+      }
+    }
+  }
+}
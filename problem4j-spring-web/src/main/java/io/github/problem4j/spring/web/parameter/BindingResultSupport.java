@@ -36,4 +36,18 @@ public interface BindingResultSupport {
    * @return list of violations extracted from the binding result
    */
   List<Violation> fetchViolations(BindingResult result);
+
+  /**
+   * Builds {@link GroupedViolations} from a Spring {@link BindingResult}, where error messages are
+   * grouped by field and deduplicated. Global errors are reported separately from field errors.
+   *
+   * <p>Default implementation groups the result of {@link #fetchViolations(BindingResult)}.
+   * Implementations are encouraged to build it directly from the binding result instead.
+   *
+   * @param result the binding/validation result to convert (must not be {@code null})
+   * @return grouped violations extracted from the binding result
+   */
+  default GroupedViolations fetchGroupedViolations(BindingResult result) {
+    return GroupedViolations.of(fetchViolations(result));
+  }
 }
@@ -33,6 +33,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
@@ -41,21 +42,112 @@
 /** Default implementation of {@link BindingResultSupport}. */
 public class DefaultBindingResultSupport implements BindingResultSupport {
 
+  private final ParallelViolationExtractor parallelViolationExtractor;
+
+  /** Creates a new instance that always extracts violations on the calling thread. */
+  public DefaultBindingResultSupport() {
+    this(null);
+  }
+
+  /**
+   * Creates a new instance that hands large binding results over to given {@link
+   * ParallelViolationExtractor}.
+   *
+   * @param parallelViolationExtractor extractor for large binding results, or {@code null} to
+   *     always extract violations on the calling thread
+   */
+  public DefaultBindingResultSupport(ParallelViolationExtractor parallelViolationExtractor) {
+    this.parallelViolationExtractor = parallelViolationExtractor;
+  }
+
   /**
    * Builds a {@link Violation}s list from a Spring {@link BindingResult} (e.g. produced when
    * binding a {@code @ModelAttribute} fails or when {@code @Valid} detects field / global errors).
    * Field errors are translated into {@link Violation}s keyed by field name; global errors use
    * {@code null} as the field name.
    *
+   * <p>If {@link #isDeferredResolutionSupported()}, target object's metadata is computed once up
+   * front and returned list is a mutable {@link LazyViolationList}, which resolves violations only
+   * as they are first read (typically, when written into the response body), so it does not keep
+   * the {@link BindingResult} (nor its target) alive. If a {@link ParallelViolationExtractor} was
+   * provided and the number of errors reaches its threshold, errors are instead converted eagerly
+   * in parallel, reusing the same metadata. Otherwise, violations are resolved eagerly on the
+   * calling thread with {@link #resolveFieldError} and {@link #resolveGlobalError}. Either way,
+   * field errors precede global errors.
+   *
    * @param result the binding/validation result to convert (must not be {@code null})
    * @return list of violations extracted from the binding result
    */
   @Override
   public List<Violation> fetchViolations(BindingResult result) {
-    List<Violation> errors = new ArrayList<>();
-    result.getFieldErrors().forEach(f -> errors.add(resolveFieldError(result, f)));
-    result.getGlobalErrors().forEach(g -> errors.add(resolveGlobalError(result, g)));
-    return errors;
+    List<ObjectError> sources = new ArrayList<>(result.getErrorCount());
+    sources.addAll(result.getFieldErrors());
+    sources.addAll(result.getGlobalErrors());
+
+    if (!isDeferredResolutionSupported()) {
+      List<Violation> violations = new ArrayList<>(sources.size());
+      for (ObjectError error : sources) {
+        violations.add(
+            error instanceof FieldError f
+                ? resolveFieldError(result, f)
+                : resolveGlobalError(result, error));
+      }
+      return violations;
+    }
+
+    Map<String, String> parametersMetadata =
+        result.getFieldErrorCount() > 0 ? findParametersMetadata(result) : Map.of();
+    Function<ObjectError, Violation> mapper = error -> resolveError(parametersMetadata, error);
+    if (parallelViolationExtractor != null
+        && parallelViolationExtractor.isParallel(sources.size())) {
+      return parallelViolationExtractor.extract(sources, mapper);
+    }
+    return new LazyViolationList<>(sources, mapper);
+  }
+
+  /**
+   * Indicates whether violations may be resolved from precomputed metadata, lazily or in parallel,
+   * instead of by calling {@link #resolveFieldError} and {@link #resolveGlobalError} for each
+   * error. Deferred resolution uses {@link #findParametersMetadata}, {@link #resolveFieldName} and
+   * {@link #resolveFieldMessage} only, and reports global errors with their default message.
+   *
+   * <p>Subclasses that override {@link #resolveFieldError} or {@link #resolveGlobalError} should
+   * return {@code false}, so that their overrides are honoured.
+   *
+   * @return {@code true} by default
+   */
+  protected boolean isDeferredResolutionSupported() {
+    return true;
+  }
+
+  private Violation resolveError(Map<String, String> parametersMetadata, ObjectError error) {
+    return error instanceof FieldError f
+        ? new Violation(resolveFieldName(parametersMetadata, f), resolveFieldMessage(f))
+        : new Violation(null, error.getDefaultMessage());
+  }
+
+  /**
+   * Builds {@link GroupedViolations} straight from a Spring {@link BindingResult}, without creating
+   * intermediate {@link Violation}s. Target object's metadata is computed once for all of its field
+   * errors.
+   *
+   * @param result the binding/validation result to convert (must not be {@code null})
+   * @return grouped violations extracted from the binding result
+   */
+  @Override
+  public GroupedViolations fetchGroupedViolations(BindingResult result) {
+    GroupedViolations.Builder builder = GroupedViolations.builder();
+    List<FieldError> fieldErrors = result.getFieldErrors();
+    if (!fieldErrors.isEmpty()) {
+      Map<String, String> parametersMetadata = findParametersMetadata(result);
+      for (FieldError error : fieldErrors) {
+        builder.fieldError(resolveFieldName(parametersMetadata, error), resolveFieldMessage(error));
+      }
+    }
+    for (ObjectError error : result.getGlobalErrors()) {
+      builder.globalError(error.getDefaultMessage());
+    }
+    return builder.build();
   }
 
   /**
@@ -74,12 +166,31 @@ public List<Violation> fetchViolations(BindingResult result) {
    */
   protected Violation resolveFieldError(BindingResult bindingResult, FieldError error) {
     Map<String, String> parametersMetadata = findParametersMetadata(bindingResult);
-    String field = parametersMetadata.getOrDefault(error.getField(), error.getField());
-    if (error.isBindingFailure()) {
-      return new Violation(field, IS_NOT_VALID_ERROR);
-    } else {
-      return new Violation(field, error.getDefaultMessage());
-    }
+    return new Violation(resolveFieldName(parametersMetadata, error), resolveFieldMessage(error));
+  }
+
+  /**
+   * Resolves the name under which a {@link FieldError} is reported, taking into account {@link
+   * BindParam} annotations on the target object's constructor parameters.
+   *
+   * @param parametersMetadata metadata of the target object, as returned by {@link
+   *     #findParametersMetadata(BindingResult)}
+   * @param error the {@link FieldError} to resolve name for
+   * @return the reported field name
+   */
+  protected String resolveFieldName(Map<String, String> parametersMetadata, FieldError error) {
+    return parametersMetadata.getOrDefault(error.getField(), error.getField());
+  }
+
+  /**
+   * Resolves the message reported for a {@link FieldError}. Binding failures are reported as
+   * {@code IS_NOT_VALID_ERROR}, not to expose conversion details.
+   *
+   * @param error the {@link FieldError} to resolve message for
+   * @return the reported error message
+   */
+  protected String resolveFieldMessage(FieldError error) {
+    return error.isBindingFailure() ? IS_NOT_VALID_ERROR : error.getDefaultMessage();
   }
 
   /**
@@ -22,6 +22,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import org.springframework.context.MessageSourceResolvable;
 import org.springframework.validation.method.MethodValidationResult;
 import org.springframework.validation.method.ParameterValidationResult;
 
@@ -65,4 +66,29 @@ public List<Violation> fetchViolations(MethodValidationResult result) {
     }
     return violations;
   }
+
+  /**
+   * Builds {@link GroupedViolations} straight from a {@link MethodValidationResult}, without
+   * creating intermediate {@link Violation}s. Each parameter name is resolved once for all of its
+   * errors. Errors of parameters without a resolvable name are reported as global errors.
+   *
+   * @param result aggregated method validation result (must not be {@code null})
+   * @return grouped violations extracted from the validation result
+   */
+  @Override
+  public GroupedViolations fetchGroupedViolations(MethodValidationResult result) {
+    GroupedViolations.Builder builder = GroupedViolations.builder();
+    for (ParameterValidationResult valueResult : result.getValueResults()) {
+      String fieldName =
+          methodParameterSupport.findParameterName(valueResult.getMethodParameter()).orElse(null);
+      for (MessageSourceResolvable error : valueResult.getResolvableErrors()) {
+        if (fieldName != null) {
+          builder.fieldError(fieldName, error.getDefaultMessage());
+        } else {
+          builder.globalError(error.getDefaultMessage());
+        }
+      }
+    }
+    return builder.build();
+  }
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.parameter;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compact alternative to a flat list of {@link Violation}s, where messages are grouped by field and
+ * each distinct message is present only once.
+ *
+ * <p>Fields and global errors refer to messages by their index in {@link #getMessages()}, so a
+ * message repeated by thousands of elements of a bulk request is still serialized once.
+ *
+ * <pre>{@code
+ * {
+ *   "messages": [ "must not be blank", "must be a well-formed email address" ],
+ *   "fields": [
+ *     { "field": "items[0].name", "errors": [ 0 ] },
+ *     { "field": "items[1].email", "errors": [ 0, 1 ] }
+ *   ],
+ *   "global": [ 1 ]
+ * }
+ * }</pre>
+ */
+@JsonInclude(NON_EMPTY)
+public class GroupedViolations implements Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  /**
+   * Creates a new {@link Builder} for {@link GroupedViolations}.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Converts a flat list of {@link Violation}s into {@link GroupedViolations}. Violations with
+   * {@code null} field are treated as global errors.
+   *
+   * @param violations violations to group
+   * @return grouped violations, keeping the order in which fields first appear
+   */
+  public static GroupedViolations of(List<Violation> violations) {
+    Builder builder = builder();
+    for (Violation violation : violations) {
+      if (violation.getField() != null) {
+        builder.fieldError(violation.getField(), violation.getError());
+      } else {
+        builder.globalError(violation.getError());
+      }
+    }
+    return builder.build();
+  }
+
+  /** Distinct error messages, referred to by their index. */
+  private final List<String> messages;
+
+  /** Indices of messages per field. */
+  private final List<FieldViolations> fields;
+
+  /** Indices of messages not associated with any field. */
+  private final int[] global;
+
+  /**
+   * Creates a new {@link GroupedViolations}.
+   *
+   * @param messages distinct error messages
+   * @param fields indices of messages per field
+   * @param global indices of messages not associated with any field
+   */
+  @JsonCreator
+  public GroupedViolations(
+      @JsonProperty("messages") List<String> messages,
+      @JsonProperty("fields") List<FieldViolations> fields,
+      @JsonProperty("global") int[] global) {
+    this.messages = messages != null ? Collections.unmodifiableList(messages) : List.of();
+    this.fields = fields != null ? Collections.unmodifiableList(fields) : List.of();
+    this.global = global != null ? global : new int[0];
+  }
+
+  /**
+   * Returns distinct error messages, referred to by their index.
+   *
+   * @return the messages
+   */
+  @JsonProperty("messages")
+  public List<String> getMessages() {
+    return messages;
+  }
+
+  /**
+   * Returns indices of messages per field, in order in which fields first appeared.
+   *
+   * @return the field violations
+   */
+  @JsonProperty("fields")
+  public List<FieldViolations> getFields() {
+    return fields;
+  }
+
+  /**
+   * Returns indices of messages not associated with any field.
+   *
+   * @return the global message indices
+   */
+  @JsonProperty("global")
+  public int[] getGlobal() {
+    return global.clone();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof GroupedViolations that)) {
+      return false;
+    }
+    return Objects.equals(getMessages(), that.getMessages())
+        && Objects.equals(getFields(), that.getFields())
+        && Arrays.equals(global, that.global);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getMessages(), getFields(), Arrays.hashCode(global));
+  }
+
+  @Override
+  public String toString() {
+    return "GroupedViolations{messages="
+        + getMessages()
+        + ", fields="
+        + getFields()
+        + ", global="
+        + Arrays.toString(global)
+        + "}";
+  }
+
+  /** Indices of messages reported for a single field. */
+  @JsonInclude(NON_EMPTY)
+  public static class FieldViolations implements Serializable {
+
+    @Serial private static final long serialVersionUID = 1L;
+
+    /** The field name. */
+    private final String field;
+
+    /** Indices of messages reported for the field. */
+    private final int[] errors;
+
+    /**
+     * Creates a new {@link FieldViolations}.
+     *
+     * @param field the field name
+     * @param errors indices of messages reported for the field
+     */
+    @JsonCreator
+    public FieldViolations(
+        @JsonProperty("field") String field, @JsonProperty("errors") int[] errors) {
+      this.field = field;
+      this.errors = errors != null ? errors : new int[0];
+    }
+
+    /**
+     * Returns the field name.
+     *
+     * @return the field name
+     */
+    @JsonProperty("field")
+    public String getField() {
+      return field;
+    }
+
+    /**
+     * Returns indices of messages reported for the field.
+     *
+     * @return the message indices
+     */
+    @JsonProperty("errors")
+    public int[] getErrors() {
+      return errors.clone();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof FieldViolations that)) {
+        return false;
+      }
+      return Objects.equals(getField(), that.getField()) && Arrays.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(getField(), Arrays.hashCode(errors));
+    }
+
+    @Override
+    public String toString() {
+      return "FieldViolations{field='" + getField() + "', errors=" + Arrays.toString(errors) + "}";
+    }
+  }
+
+  /**
+   * Incrementally builds {@link GroupedViolations}, deduplicating messages on the fly. Not thread
+   * safe.
+   */
+  public static class Builder {
+
+    private final Map<String, Integer> messageIndices = new HashMap<>();
+    private final List<String> messages = new ArrayList<>();
+    private final Map<String, IndexList> fields = new LinkedHashMap<>();
+    private final IndexList global = new IndexList();
+
+    private Builder() {}
+
+    /**
+     * Adds an error message reported for given field.
+     *
+     * @param field the field name
+     * @param message the error message
+     * @return this builder
+     */
+    public Builder fieldError(String field, String message) {
+      fields.computeIfAbsent(field, f -> new IndexList()).add(indexOf(message));
+      return this;
+    }
+
+    /**
+     * Adds an error message not associated with any field.
+     *
+     * @param message the error message
+     * @return this builder
+     */
+    public Builder globalError(String message) {
+      global.add(indexOf(message));
+      return this;
+    }
+
+    /**
+     * Builds {@link GroupedViolations} out of errors added so far.
+     *
+     * @return grouped violations
+     */
+    public GroupedViolations build() {
+      List<FieldViolations> fieldViolations = new ArrayList<>(fields.size());
+      fields.forEach((field, indices) -> fieldViolations.add(indices.toFieldViolations(field)));
+      return new GroupedViolations(new ArrayList<>(messages), fieldViolations, global.toArray());
+    }
+
+    private int indexOf(String message) {
+      Integer index = messageIndices.get(message);
+      if (index == null) {
+        index = messages.size();
+        messages.add(message);
+        messageIndices.put(message, index);
+      }
+      return index;
+    }
+  }
+
+  /** Growable list of primitive indices, so no boxing is needed while grouping. */
+  private static final class IndexList {
+
+    private int[] values = new int[2];
+    private int size;
+
+    private void add(int value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(values, size);
+    }
+
+    private FieldViolations toFieldViolations(String field) {
+      return new FieldViolations(field, toArray());
+    }
+  }
+}
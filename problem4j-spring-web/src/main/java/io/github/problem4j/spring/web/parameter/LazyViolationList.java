@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.parameter;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * {@link List} of {@link Violation}s, which resolves each violation from its source error only when
+ * it is first accessed. Violations read through {@link #get(int)} are cached, so reading the list
+ * again (e.g. iterating it in an inspector) does not repeat the conversion. Serializers can use
+ * {@link #getUncached(int)} instead, which does not retain the violations it resolves.
+ *
+ * <p>Once every element has been resolved, source errors and the conversion function are released,
+ * together with anything they refer to. The list is mutable: the first modification resolves all
+ * remaining elements and copies them into a regular list. On Java serialization, the list is
+ * replaced by a materialized copy.
+ *
+ * <p>All operations are synchronized on the list, because {@link #get(int)} writes the cache: the
+ * list is typically read by the request thread while it is serialized, and at the same time by
+ * inspectors running on other threads.
+ *
+ * @param <T> type of source errors
+ */
+public final class LazyViolationList<T> extends AbstractList<Violation>
+    implements RandomAccess, Serializable {
+
+  @Serial private static final long serialVersionUID = 1L;
+
+  private transient List<? extends T> sources;
+  private transient Function<? super T, Violation> mapper;
+  private transient Violation[] resolved;
+  private transient int unresolved;
+
+  /** Backing list, present once every element is resolved. */
+  private transient List<Violation> violations;
+
+  /** Whether {@link #violations} is a modifiable copy rather than a view of resolved elements. */
+  private transient boolean copied;
+
+  /**
+   * Creates a new {@link LazyViolationList}.
+   *
+   * @param sources source errors, copied if not randomly accessible
+   * @param mapper conversion of a source error into a {@link Violation}
+   */
+  public LazyViolationList(List<? extends T> sources, Function<? super T, Violation> mapper) {
+    this.sources = sources instanceof RandomAccess ? sources : new ArrayList<>(sources);
+    this.mapper = mapper;
+    this.resolved = new Violation[this.sources.size()];
+    this.unresolved = resolved.length;
+    if (unresolved == 0) {
+      release();
+    }
+  }
+
+  /**
+   * Returns violation at given position, resolving it from its source error on first access.
+   *
+   * @param index index of the violation
+   * @return the violation
+   */
+  @Override
+  public synchronized Violation get(int index) {
+    if (violations != null) {
+      return violations.get(index);
+    }
+    Objects.checkIndex(index, resolved.length);
+    Violation violation = resolved[index];
+    if (violation == null) {
+      violation = mapper.apply(sources.get(index));
+      resolved[index] = violation;
+      if (--unresolved == 0) {
+        release();
+      }
+    }
+    return violation;
+  }
+
+  /**
+   * Returns violation at given position, resolving it from its source error without caching it, if
+   * it was not accessed before. Conversion runs outside the lock on the list.
+   *
+   * @param index index of the violation
+   * @return the violation
+   */
+  public Violation getUncached(int index) {
+    Function<? super T, Violation> mapper;
+    T source;
+    synchronized (this) {
+      if (violations != null) {
+        return violations.get(index);
+      }
+      Objects.checkIndex(index, resolved.length);
+      Violation violation = resolved[index];
+      if (violation != null) {
+        return violation;
+      }
+      mapper = this.mapper;
+      source = sources.get(index);
+    }
+    return mapper.apply(source);
+  }
+
+  @Override
+  public synchronized int size() {
+    return violations != null ? violations.size() : resolved.length;
+  }
+
+  @Override
+  public synchronized Violation set(int index, Violation element) {
+    return materialize().set(index, element);
+  }
+
+  @Override
+  public synchronized void add(int index, Violation element) {
+    materialize().add(index, element);
+    modCount++;
+  }
+
+  @Override
+  public synchronized Violation remove(int index) {
+    Violation removed = materialize().remove(index);
+    modCount++;
+    return removed;
+  }
+
+  /**
+   * Indicates whether every element has been resolved and source errors have been released.
+   *
+   * @return {@code true} if the list no longer refers to its source errors
+   */
+  public synchronized boolean isResolved() {
+    return violations != null;
+  }
+
+  private List<Violation> materialize() {
+    for (int i = 0; violations == null; i++) {
+      get(i);
+    }
+    if (!copied) {
+      violations = new ArrayList<>(violations);
+      copied = true;
+    }
+    return violations;
+  }
+
+  private void release() {
+    violations = Arrays.asList(resolved);
+    resolved = null;
+    sources = null;
+    mapper = null;
+  }
+
+  @Serial
+  private synchronized Object writeReplace() {
+    return new ArrayList<>(materialize());
+  }
+}
@@ -39,4 +39,18 @@ public interface MethodValidationResultSupport {
    * @return list of violations extracted from the validation result
    */
   List<Violation> fetchViolations(MethodValidationResult result);
+
+  /**
+   * Builds {@link GroupedViolations} from a {@link MethodValidationResult}, where error messages are
+   * grouped by resolved parameter name and deduplicated.
+   *
+   * <p>Default implementation groups the result of {@link #fetchViolations(MethodValidationResult)}.
+   * Implementations are encouraged to build it directly from the validation result instead.
+   *
+   * @param result aggregated method validation result (must not be {@code null})
+   * @return grouped violations extracted from the validation result
+   */
+  default GroupedViolations fetchGroupedViolations(MethodValidationResult result) {
+    return GroupedViolations.of(fetchViolations(result));
+  }
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.parameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Converts validation errors into {@link Violation}s, switching to a dedicated, bounded {@link
+ * ForkJoinPool} once the number of errors reaches configured threshold. Smaller inputs are
+ * converted sequentially on the calling thread, as spinning up parallel tasks would only add
+ * overhead.
+ *
+ * <p>The common pool is never used, so that bulk validation responses cannot starve unrelated
+ * parallel streams or {@code CompletableFuture}s of the application. Returned list always keeps
+ * the order of the source errors, no matter which worker converted them.
+ *
+ * <p>The calling thread waits for parallel extraction to complete, so the extractor is meant for
+ * servlet (WebMVC) applications only, and is not auto-configured for reactive ones, where it would
+ * block an event loop thread.
+ */
+public class ParallelViolationExtractor implements AutoCloseable {
+
+  private static final int MIN_CHUNK_SIZE = 64;
+  private static final int CHUNKS_PER_WORKER = 4;
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  /**
+   * Creates a new extractor with its own {@link ForkJoinPool}.
+   *
+   * @param parallelism maximum number of worker threads (must be positive)
+   * @param threshold minimum number of errors that engages parallel extraction
+   */
+  public ParallelViolationExtractor(int parallelism, int threshold) {
+    this(new ForkJoinPool(parallelism, new ExtractorThreadFactory(), null, false), threshold);
+  }
+
+  /**
+   * Creates a new extractor using provided {@link ForkJoinPool}. The pool is shut down together
+   * with this extractor.
+   *
+   * @param pool the pool to run parallel extraction on
+   * @param threshold minimum number of errors that engages parallel extraction
+   */
+  public ParallelViolationExtractor(ForkJoinPool pool, int threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Indicates whether given number of errors is large enough to be extracted in parallel.
+   *
+   * @param size number of errors to extract
+   * @return {@code true} if extraction would engage the pool, {@code false} otherwise
+   */
+  public boolean isParallel(int size) {
+    return size >= threshold && size > 1;
+  }
+
+  /**
+   * Converts each of given sources into a {@link Violation}, preserving their order.
+   *
+   * @param sources errors to convert
+   * @param mapper conversion function, must be safe to call concurrently
+   * @param <T> type of source errors
+   * @return mutable list of violations, in the same order as {@code sources}
+   */
+  public <T> List<Violation> extract(List<T> sources, Function<? super T, Violation> mapper) {
+    if (!isParallel(sources.size())) {
+      List<Violation> violations = new ArrayList<>(sources.size());
+      for (T source : sources) {
+        violations.add(mapper.apply(source));
+      }
+      return violations;
+    }
+
+    List<T> indexed = sources instanceof RandomAccess ? sources : new ArrayList<>(sources);
+    Violation[] violations = new Violation[indexed.size()];
+    int chunkSize =
+        Math.max(MIN_CHUNK_SIZE, indexed.size() / (pool.getParallelism() * CHUNKS_PER_WORKER));
+    pool.invoke(new ExtractionTask<>(indexed, mapper, violations, 0, indexed.size(), chunkSize));
+    return new ArrayList<>(Arrays.asList(violations));
+  }
+
+  /** Shuts down the underlying {@link ForkJoinPool}. */
+  @Override
+  public void close() {
+    pool.shutdown();
+  }
+
+  /**
+   * Fills its own {@code [from, to)} slice of the result array, so no merging (and no reordering)
+   * is needed once all tasks complete.
+   */
+  private static final class ExtractionTask<T> extends RecursiveAction {
+
+    private final List<T> sources;
+    private final Function<? super T, Violation> mapper;
+    private final Violation[] violations;
+    private final int from;
+    private final int to;
+    private final int chunkSize;
+
+    private ExtractionTask(
+        List<T> sources,
+        Function<? super T, Violation> mapper,
+        Violation[] violations,
+        int from,
+        int to,
+        int chunkSize) {
+      this.sources = sources;
+      this.mapper = mapper;
+      this.violations = violations;
+      this.from = from;
+      this.to = to;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= chunkSize) {
+        for (int i = from; i < to; i++) {
+          violations[i] = mapper.apply(sources.get(i));
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(
+          new ExtractionTask<>(sources, mapper, violations, from, middle, chunkSize),
+          new ExtractionTask<>(sources, mapper, violations, middle, to, chunkSize));
+    }
+  }
+
+  private static final class ExtractorThreadFactory
+      implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+      ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      thread.setName("problem4j-violations-" + counter.incrementAndGet());
+      return thread;
+    }
+  }
+}
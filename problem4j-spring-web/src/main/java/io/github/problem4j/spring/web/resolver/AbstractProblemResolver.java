@@ -96,4 +96,15 @@ public final Problem resolveProblem(
   protected String formatDetail(String detail) {
     return problemFormat.formatDetail(detail);
   }
+
+  /**
+   * Applies the configured {@link ProblemFormat} to decide whether {@code errors} extension should
+   * be grouped by field.
+   *
+   * @param context problem context of the current request (nullable)
+   * @return {@code true} if errors should be grouped by field, {@code false} otherwise
+   */
+  protected boolean isGroupedErrors(ProblemContext context) {
+    return problemFormat.isGroupedErrors(context);
+  }
 }
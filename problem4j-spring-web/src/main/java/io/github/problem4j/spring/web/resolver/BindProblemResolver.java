@@ -34,6 +34,7 @@
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
 
 /**
  * Due to {@link BindException} being subclassed by {@code MethodArgumentNotValidException}, this
@@ -96,7 +97,7 @@ public BindProblemResolver(
    * ProblemStatus#BAD_REQUEST} and an {@code errors} extension listing field/global validation
    * violations produced by the underlying {@link BindException#getBindingResult()}.
    *
-   * @param context problem context (ignored for binding violations)
+   * @param context problem context, decides whether violations are grouped by field
    * @param ex the binding / validation exception (must be a {@link BindException})
    * @param headers HTTP response headers (unused here but part of the SPI)
    * @param status suggested HTTP status from caller (ignored; BAD_REQUEST is enforced)
@@ -106,11 +107,14 @@ public BindProblemResolver(
   public ProblemBuilder resolveBuilder(
       ProblemContext context, Exception ex, HttpHeaders headers, HttpStatusCode status) {
     BindException e = (BindException) ex;
+    BindingResult result = e.getBindingResult();
     return Problem.builder()
         .status(ProblemStatus.BAD_REQUEST)
         .detail(formatDetail(VALIDATION_FAILED_DETAIL))
         .extension(
             ProblemSupport.ERRORS_EXTENSION,
-            bindingResultSupport.fetchViolations(e.getBindingResult()));
+            isGroupedErrors(context)
+                ? bindingResultSupport.fetchGroupedViolations(result)
+                : bindingResultSupport.fetchViolations(result));
   }
 }
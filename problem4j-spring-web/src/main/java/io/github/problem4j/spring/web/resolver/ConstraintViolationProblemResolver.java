@@ -29,6 +29,7 @@
 import io.github.problem4j.core.ProblemStatus;
 import io.github.problem4j.spring.web.IdentityProblemFormat;
 import io.github.problem4j.spring.web.ProblemFormat;
+import io.github.problem4j.spring.web.parameter.GroupedViolations;
 import io.github.problem4j.spring.web.parameter.Violation;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -69,9 +70,9 @@ public ConstraintViolationProblemResolver(ProblemFormat problemFormat) {
   /**
    * Builds a {@link ProblemBuilder} with {@link ProblemStatus#BAD_REQUEST}, a formatted {@code
    * detail}, and an {@code errors} extension listing each constraint violation (property and
-   * message) extracted from the exception.
+   * message) extracted from the exception, grouped by property if requested by problem format.
    *
-   * @param context problem context (ignored)
+   * @param context problem context, decides whether violations are grouped by property
    * @param ex the thrown {@link ConstraintViolationException}
    * @param headers HTTP headers (unused here)
    * @param status suggested status (ignored; BAD_REQUEST enforced)
@@ -81,12 +82,12 @@ public ConstraintViolationProblemResolver(ProblemFormat problemFormat) {
   public ProblemBuilder resolveBuilder(
       ProblemContext context, Exception ex, HttpHeaders headers, HttpStatusCode status) {
     ConstraintViolationException e = (ConstraintViolationException) ex;
-    List<Violation> errors = extractViolations(e);
-
     return Problem.builder()
         .status(ProblemStatus.BAD_REQUEST)
         .detail(formatDetail(VALIDATION_FAILED_DETAIL))
-        .extension(ERRORS_EXTENSION, errors);
+        .extension(
+            ERRORS_EXTENSION,
+            isGroupedErrors(context) ? extractGroupedViolations(e) : extractViolations(e));
   }
 
   /**
@@ -99,6 +100,18 @@ private List<Violation> extractViolations(ConstraintViolationException e) {
         .toList();
   }
 
+  /**
+   * Groups each {@link ConstraintViolation}'s message by its leaf property name, without creating
+   * intermediate {@link Violation}s.
+   */
+  private GroupedViolations extractGroupedViolations(ConstraintViolationException e) {
+    GroupedViolations.Builder builder = GroupedViolations.builder();
+    for (ConstraintViolation<?> violation : e.getConstraintViolations()) {
+      builder.fieldError(fetchViolationProperty(violation), violation.getMessage());
+    }
+    return builder.build();
+  }
+
   /**
    * Returns the simple (leaf) property name from a violation's {@link Path}. If the path or its
    * terminal node name is absent, returns an empty string.
@@ -85,7 +85,7 @@ public HandlerMethodValidationProblemResolver(
    * violations collected by {@link MethodValidationResultSupport} and preserves the caller-provided
    * status.
    *
-   * @param context problem context (unused for method validation aggregation)
+   * @param context problem context, decides whether violations are grouped by parameter
    * @param ex the thrown validation exception (must be {@link HandlerMethodValidationException})
    * @param headers HTTP headers (unused)
    * @param status suggested HTTP status from caller (controls 4xx vs 5xx branch)
@@ -101,6 +101,10 @@ public ProblemBuilder resolveBuilder(
     return Problem.builder()
         .status(resolveStatus(status))
         .detail(formatDetail(VALIDATION_FAILED_DETAIL))
-        .extension(ERRORS_EXTENSION, methodValidationResultSupport.fetchViolations(e));
+        .extension(
+            ERRORS_EXTENSION,
+            isGroupedErrors(context)
+                ? methodValidationResultSupport.fetchGroupedViolations(e)
+                : methodValidationResultSupport.fetchViolations(e));
   }
 }
@@ -92,7 +92,7 @@ public MethodValidationProblemResolver(
    * value violation. Other parameters ({@code context}, {@code headers}, {@code status}) are
    * ignored for status selection; 400 is enforced.
    *
-   * @param context problem context (unused)
+   * @param context problem context, decides whether violations are grouped by parameter
    * @param ex the thrown {@link MethodValidationException}
    * @param headers HTTP headers (unused)
    * @param status suggested status (ignored; BAD_REQUEST enforced)
@@ -105,6 +105,10 @@ public ProblemBuilder resolveBuilder(
     return Problem.builder()
         .status(ProblemStatus.BAD_REQUEST)
         .detail(formatDetail(VALIDATION_FAILED_DETAIL))
-        .extension(ERRORS_EXTENSION, methodValidationResultSupport.fetchViolations(e));
+        .extension(
+            ERRORS_EXTENSION,
+            isGroupedErrors(context)
+                ? methodValidationResultSupport.fetchGroupedViolations(e)
+                : methodValidationResultSupport.fetchViolations(e));
   }
 }
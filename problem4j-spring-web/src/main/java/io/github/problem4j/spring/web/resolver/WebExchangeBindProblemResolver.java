@@ -33,6 +33,7 @@
 import io.github.problem4j.spring.web.parameter.DefaultBindingResultSupport;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.support.WebExchangeBindException;
 
 /**
@@ -81,7 +82,7 @@ public WebExchangeBindProblemResolver(
    * ProblemStatus#BAD_REQUEST} and an {@code errors} extension listing field/global validation
    * violations extracted from its {@code BindingResult}.
    *
-   * @param context problem context (unused)
+   * @param context problem context, decides whether violations are grouped by field
    * @param ex the triggering {@link WebExchangeBindException}
    * @param headers HTTP headers (unused)
    * @param status suggested status (ignored; BAD_REQUEST enforced)
@@ -92,11 +93,14 @@ public WebExchangeBindProblemResolver(
   public ProblemBuilder resolveBuilder(
       ProblemContext context, Exception ex, HttpHeaders headers, HttpStatusCode status) {
     WebExchangeBindException e = (WebExchangeBindException) ex;
+    BindingResult result = e.getBindingResult();
     return Problem.builder()
         .status(ProblemStatus.BAD_REQUEST)
         .detail(formatDetail(VALIDATION_FAILED_DETAIL))
         .extension(
             ProblemSupport.ERRORS_EXTENSION,
-            bindingResultSupport.fetchViolations(e.getBindingResult()));
+            isGroupedErrors(context)
+                ? bindingResultSupport.fetchGroupedViolations(result)
+                : bindingResultSupport.fetchViolations(result));
   }
 }
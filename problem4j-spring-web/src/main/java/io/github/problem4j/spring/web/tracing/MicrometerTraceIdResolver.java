@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resolves trace identifier of the current span of Micrometer Tracing {@link Tracer}, so problem
+ * responses carry the same trace identifier as logs and exported spans.
+ *
+ * <p>Requires the span to be in scope on the calling thread, which holds for Web MVC request
+ * handling, and for WebFlux with context propagation enabled.
+ */
+public class MicrometerTraceIdResolver implements TraceIdResolver {
+
+  private final Supplier<Tracer> tracer;
+
+  /**
+   * Creates a new resolver.
+   *
+   * @param tracer supplies the tracer, may supply {@code null} if tracing is not available
+   */
+  public MicrometerTraceIdResolver(Supplier<Tracer> tracer) {
+    this.tracer = tracer;
+  }
+
+  @Override
+  public String resolveTraceId(Function<String, String> headers) {
+    Tracer current = tracer.get();
+    if (current == null) {
+      return null;
+    }
+    Span span = current.currentSpan();
+    return span != null ? span.context().traceId() : null;
+  }
+}
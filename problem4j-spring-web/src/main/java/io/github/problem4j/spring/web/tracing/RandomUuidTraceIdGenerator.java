@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates {@code urn:uuid:} trace identifiers holding version 4 (random) UUIDs, drawn from
+ * {@link ThreadLocalRandom}.
+ *
+ * <p>Produces the same format as {@link SecureUuidTraceIdGenerator} without contending on a shared
+ * {@code SecureRandom}. Identifiers are unique, but not unpredictable, so they must not be used as
+ * secrets.
+ */
+public class RandomUuidTraceIdGenerator implements TraceIdGenerator {
+
+  @Override
+  public String generateTraceId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long msb = TraceIdChars.withVersion(random.nextLong(), 4);
+    long lsb = TraceIdChars.withVariant(random.nextLong());
+    return TraceIdChars.formatUrnUuid(msb, lsb);
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates {@code urn:uuid:} trace identifiers holding version 7 (time-ordered) UUIDs, as defined
+ * by RFC 9562.
+ *
+ * <p>The first 48 bits carry Unix epoch milliseconds, the remaining 74 bits are drawn from {@link
+ * ThreadLocalRandom}. Identifiers sort by creation time at millisecond granularity, which keeps
+ * them close together in log stores and database indexes.
+ */
+public class TimeOrderedUuidTraceIdGenerator implements TraceIdGenerator {
+
+  @Override
+  public String generateTraceId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long msb = (System.currentTimeMillis() << 16) | (random.nextInt() & 0xFFFL);
+    msb = TraceIdChars.withVersion(msb, 7);
+    long lsb = TraceIdChars.withVariant(random.nextLong());
+    return TraceIdChars.formatUrnUuid(msb, lsb);
+  }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.function.Function;
+
+/**
+ * Resolves trace identifier from W3C Trace Context {@code traceparent} header, or from B3
+ * propagation headers ({@code b3} single header, then {@code X-B3-TraceId}).
+ *
+ * <p>Headers are validated in place, character by character, so the only allocation is the
+ * returned trace identifier. Malformed headers are ignored.
+ */
+public class TraceContextTraceIdResolver implements TraceIdResolver {
+
+  /** W3C Trace Context header, {@code version-traceid-parentid-flags}. */
+  public static final String TRACEPARENT_HEADER = "traceparent";
+
+  /** B3 single header, {@code traceid-spanid[-sampled[-parentspanid]]}. */
+  public static final String B3_HEADER = "b3";
+
+  /** B3 multi header carrying trace identifier only. */
+  public static final String B3_TRACE_ID_HEADER = "X-B3-TraceId";
+
+  private static final int TRACEPARENT_LENGTH = 55;
+
+  @Override
+  public String resolveTraceId(Function<String, String> headers) {
+    String traceId = parseTraceparent(headers.apply(TRACEPARENT_HEADER));
+    if (traceId == null) {
+      traceId = parseB3(headers.apply(B3_HEADER));
+    }
+    if (traceId == null) {
+      traceId = parseB3TraceId(headers.apply(B3_TRACE_ID_HEADER));
+    }
+    return traceId;
+  }
+
+  /**
+   * Extracts trace identifier from {@code traceparent} header value.
+   *
+   * @param value header value, may be {@code null}
+   * @return 32 hex digits of trace identifier, or {@code null} if value is malformed
+   */
+  static String parseTraceparent(String value) {
+    if (value == null || value.length() < TRACEPARENT_LENGTH) {
+      return null;
+    }
+    if (value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-') {
+      return null;
+    }
+    if (!isHex(value, 0, 2) || (value.charAt(0) == 'f' && value.charAt(1) == 'f')) {
+      return null;
+    }
+    boolean versionZero = value.charAt(0) == '0' && value.charAt(1) == '0';
+    if (value.length() > TRACEPARENT_LENGTH
+        && (versionZero || value.charAt(TRACEPARENT_LENGTH) != '-')) {
+      return null;
+    }
+    if (!isHex(value, 3, 35) || isZeros(value, 3, 35)) {
+      return null;
+    }
+    if (!isHex(value, 36, 52) || isZeros(value, 36, 52) || !isHex(value, 53, 55)) {
+      return null;
+    }
+    return value.substring(3, 35);
+  }
+
+  /**
+   * Extracts trace identifier from {@code b3} single header value.
+   *
+   * @param value header value, may be {@code null}
+   * @return 16 or 32 hex digits of trace identifier, or {@code null} if value is malformed or
+   *     carries sampling decision only
+   */
+  static String parseB3(String value) {
+    if (value == null) {
+      return null;
+    }
+    int end = value.indexOf('-');
+    if (end != 16 && end != 32) {
+      return null;
+    }
+    return isHex(value, 0, end) && !isZeros(value, 0, end) ? value.substring(0, end) : null;
+  }
+
+  /**
+   * Validates {@code X-B3-TraceId} header value.
+   *
+   * @param value header value, may be {@code null}
+   * @return the value if it holds 16 or 32 hex digits, otherwise {@code null}
+   */
+  static String parseB3TraceId(String value) {
+    if (value == null || (value.length() != 16 && value.length() != 32)) {
+      return null;
+    }
+    return isHex(value, 0, value.length()) && !isZeros(value, 0, value.length()) ? value : null;
+  }
+
+  private static boolean isHex(String value, int from, int to) {
+    for (int i = from; i < to; i++) {
+      char c = value.charAt(i);
+      if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isZeros(String value, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (value.charAt(i) != '0') {
+        return false;
+      }
+    }
+    return true;
+  }
+}
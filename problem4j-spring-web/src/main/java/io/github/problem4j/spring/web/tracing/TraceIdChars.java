@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+/** Formatting of trace identifiers into pre-sized character buffers. */
+final class TraceIdChars {
+
+  static final String URN_UUID_PREFIX = "urn:uuid:";
+
+  private static final int URN_UUID_LENGTH = URN_UUID_PREFIX.length() + 36;
+
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+  /** Sets version bits of the most significant half of a UUID. */
+  static long withVersion(long msb, int version) {
+    return (msb & ~0xF000L) | ((long) version << 12);
+  }
+
+  /** Sets IETF variant bits of the least significant half of a UUID. */
+  static long withVariant(long lsb) {
+    return (lsb & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+  }
+
+  /**
+   * Formats given UUID halves as {@code urn:uuid:xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}.
+   *
+   * @param msb most significant 64 bits
+   * @param lsb least significant 64 bits
+   * @return formatted URN
+   */
+  static String formatUrnUuid(long msb, long lsb) {
+    char[] buf = new char[URN_UUID_LENGTH];
+    URN_UUID_PREFIX.getChars(0, URN_UUID_PREFIX.length(), buf, 0);
+    int pos = URN_UUID_PREFIX.length();
+    pos = writeHex(buf, pos, msb >>> 32, 8);
+    buf[pos++] = '-';
+    pos = writeHex(buf, pos, msb >>> 16, 4);
+    buf[pos++] = '-';
+    pos = writeHex(buf, pos, msb, 4);
+    buf[pos++] = '-';
+    pos = writeHex(buf, pos, lsb >>> 48, 4);
+    buf[pos++] = '-';
+    writeHex(buf, pos, lsb, 12);
+    return new String(buf);
+  }
+
+  /**
+   * Writes given number of lowest hex digits of a value, most significant digit first.
+   *
+   * @param buf target buffer
+   * @param pos position of the first digit
+   * @param value value to write
+   * @param digits number of digits to write
+   * @return position after the last digit
+   */
+  static int writeHex(char[] buf, int pos, long value, int digits) {
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      buf[i] = HEX_DIGITS[(int) (value & 0xF)];
+      value >>>= 4;
+    }
+    return pos + digits;
+  }
+
+  private TraceIdChars() {}
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+/**
+ * Generates trace identifiers for requests that do not carry one.
+ *
+ * <p>Called by context filters once per request (or once per failing request, in lazy mode), so
+ * implementations must be thread-safe and should avoid contended shared state, such as a single
+ * {@code SecureRandom}.
+ *
+ * @see SecureUuidTraceIdGenerator
+ * @see RandomUuidTraceIdGenerator
+ * @see TimeOrderedUuidTraceIdGenerator
+ * @see UlidTraceIdGenerator
+ * @see W3cTraceIdGenerator
+ */
+@FunctionalInterface
+public interface TraceIdGenerator {
+
+  /**
+   * Generates a new trace identifier.
+   *
+   * @return a newly generated trace identifier
+   */
+  String generateTraceId();
+}
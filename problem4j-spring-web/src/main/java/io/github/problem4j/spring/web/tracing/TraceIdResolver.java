@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.function.Function;
+
+/**
+ * Resolves trace identifier already assigned to a request, e.g. by an upstream service or by a
+ * tracing library, so that context filters do not generate a new one.
+ *
+ * <p>Context filters consult resolvers in order and use the first non-{@code null} result, before
+ * falling back to {@link TraceIdGenerator}.
+ *
+ * @see TraceContextTraceIdResolver
+ * @see MicrometerTraceIdResolver
+ */
+@FunctionalInterface
+public interface TraceIdResolver {
+
+  /**
+   * Resolves trace identifier of current request.
+   *
+   * @param headers reads first value of a request header by its name, {@code null} if absent
+   * @return trace identifier, or {@code null} if it cannot be resolved
+   */
+  String resolveTraceId(Function<String, String> headers);
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates trace identifiers received from clients before they are echoed in response headers,
+ * stored in {@code ProblemContext} and rendered into {@code instance} overrides.
+ *
+ * <p>A valid trace ID is not longer than configured maximum length and consists only of ASCII
+ * letters, digits and {@code - _ . : / + =} characters, which covers UUIDs (also as {@code
+ * urn:uuid:}), ULIDs, hex encoded W3C and B3 identifiers and Base64. Validation is a single pass
+ * over characters, without regular expressions, that stops at the first rejected one.
+ *
+ * <p>Rejected trace IDs are counted, see {@link #getRejectedCount()}.
+ */
+public final class TraceIdValidator {
+
+  /** Default maximum length of a trace ID. */
+  public static final int DEFAULT_MAX_LENGTH = 128;
+
+  private final int maxLength;
+  private final LongAdder rejected = new LongAdder();
+
+  /** Creates a validator accepting trace IDs up to {@link #DEFAULT_MAX_LENGTH} characters. */
+  public TraceIdValidator() {
+    this(DEFAULT_MAX_LENGTH);
+  }
+
+  /**
+   * Creates a validator accepting trace IDs up to given length.
+   *
+   * @param maxLength maximum length of a trace ID, in characters
+   */
+  public TraceIdValidator(int maxLength) {
+    this.maxLength = maxLength;
+  }
+
+  /**
+   * Checks whether given trace ID is acceptable, counting it as rejected if it is not.
+   *
+   * @param traceId trace ID to check, may be {@code null}
+   * @return {@code true} if trace ID is non-empty, within length limit and consists of allowed
+   *     characters only, {@code false} otherwise
+   */
+  public boolean validate(String traceId) {
+    if (isValid(traceId)) {
+      return true;
+    }
+    rejected.increment();
+    return false;
+  }
+
+  private boolean isValid(String traceId) {
+    if (traceId == null || traceId.isEmpty() || traceId.length() > maxLength) {
+      return false;
+    }
+    for (int i = 0; i < traceId.length(); i++) {
+      if (!isAllowed(traceId.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAllowed(char c) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '-'
+        || c == '_'
+        || c == '.'
+        || c == ':'
+        || c == '/'
+        || c == '+'
+        || c == '=';
+  }
+
+  /**
+   * Returns the maximum accepted length of a trace ID.
+   *
+   * @return maximum length, in characters
+   */
+  public int getMaxLength() {
+    return maxLength;
+  }
+
+  /**
+   * Returns the number of trace IDs rejected so far.
+   *
+   * @return number of rejected trace IDs
+   */
+  public long getRejectedCount() {
+    return rejected.sum();
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates trace identifiers in ULID format: 26 characters of Crockford's Base32, encoding 48 bits
+ * of Unix epoch milliseconds followed by 80 bits drawn from {@link ThreadLocalRandom}.
+ *
+ * <p>Identifiers are shorter than UUIDs and sort lexicographically by creation time at millisecond
+ * granularity.
+ */
+public class UlidTraceIdGenerator implements TraceIdGenerator {
+
+  private static final char[] ENCODING = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private static final int LENGTH = 26;
+  private static final long RANDOM_HALF_MASK = (1L << 40) - 1;
+
+  @Override
+  public String generateTraceId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    char[] buf = new char[LENGTH];
+    writeBase32(buf, 0, System.currentTimeMillis(), 10);
+    writeBase32(buf, 10, random.nextLong() & RANDOM_HALF_MASK, 8);
+    writeBase32(buf, 18, random.nextLong() & RANDOM_HALF_MASK, 8);
+    return new String(buf);
+  }
+
+  private static void writeBase32(char[] buf, int pos, long value, int digits) {
+    for (int i = pos + digits - 1; i >= pos; i--) {
+      buf[i] = ENCODING[(int) (value & 0x1F)];
+      value >>>= 5;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates trace identifiers compatible with W3C Trace Context: 32 lowercase hex digits encoding
+ * 128 bits drawn from {@link ThreadLocalRandom}, never all zeros.
+ *
+ * <p>Such identifiers can be passed as {@code trace-id} of a {@code traceparent} header and are
+ * accepted by common tracing backends as-is.
+ */
+public class W3cTraceIdGenerator implements TraceIdGenerator {
+
+  private static final int LENGTH = 32;
+
+  @Override
+  public String generateTraceId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long high;
+    long low;
+    do {
+      high = random.nextLong();
+      low = random.nextLong();
+    } while (high == 0L && low == 0L);
+
+    char[] buf = new char[LENGTH];
+    TraceIdChars.writeHex(buf, 0, high, 16);
+    TraceIdChars.writeHex(buf, 16, low, 16);
+    return new String(buf);
+  }
+}
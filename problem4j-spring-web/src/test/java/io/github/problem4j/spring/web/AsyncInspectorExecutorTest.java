@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.problem4j.spring.web.AsyncInspectorExecutor.OverflowPolicy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AsyncInspectorExecutorTest {
+
+  @Test
+  void givenFreeSlots_whenExecuting_thenRunsTaskOnDelegate() {
+    AtomicInteger hits = new AtomicInteger();
+    AsyncInspectorExecutor executor = new AsyncInspectorExecutor(Runnable::run);
+
+    executor.execute(hits::incrementAndGet);
+
+    assertThat(hits.get()).isEqualTo(1);
+    assertThat(executor.getPendingCount()).isZero();
+    assertThat(executor.getDroppedCount()).isZero();
+  }
+
+  @Test
+  void givenMaxPendingReached_whenDropPolicy_thenDropsTask() {
+    List<Runnable> submitted = new ArrayList<>();
+    AsyncInspectorExecutor executor =
+        new AsyncInspectorExecutor(submitted::add, 1, OverflowPolicy.DROP);
+
+    executor.execute(() -> {});
+    executor.execute(() -> {});
+
+    assertThat(submitted).hasSize(1);
+    assertThat(executor.getPendingCount()).isEqualTo(1);
+    assertThat(executor.getDroppedCount()).isEqualTo(1);
+
+    submitted.get(0).run();
+
+    assertThat(executor.getPendingCount()).isZero();
+  }
+
+  @Test
+  void givenMaxPendingReached_whenPreparingTask_thenSkipsPreparation() {
+    List<Runnable> submitted = new ArrayList<>();
+    AtomicInteger prepared = new AtomicInteger();
+    AsyncInspectorExecutor executor =
+        new AsyncInspectorExecutor(submitted::add, 1, OverflowPolicy.DROP);
+
+    executor.prepareAndExecute(
+        () -> {
+          prepared.incrementAndGet();
+          return () -> {};
+        });
+    executor.prepareAndExecute(
+        () -> {
+          prepared.incrementAndGet();
+          return () -> {};
+        });
+
+    assertThat(prepared.get()).isEqualTo(1);
+    assertThat(submitted).hasSize(1);
+    assertThat(executor.getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void givenFailingTask_whenExecuting_thenReleasesSlot() {
+    AsyncInspectorExecutor executor =
+        new AsyncInspectorExecutor(Runnable::run, 1, OverflowPolicy.DROP);
+
+    executor.execute(
+        () -> {
+          throw new IllegalStateException("sink unavailable");
+        });
+
+    assertThat(executor.getPendingCount()).isZero();
+    assertThat(executor.getDroppedCount()).isZero();
+  }
+
+  @Test
+  void givenRejectingDelegate_whenExecuting_thenCountsTaskAsDropped() {
+    AsyncInspectorExecutor executor =
+        new AsyncInspectorExecutor(
+            task -> {
+              throw new RejectedExecutionException();
+            });
+
+    executor.execute(() -> {});
+
+    assertThat(executor.getPendingCount()).isZero();
+    assertThat(executor.getDroppedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void givenMaxPendingReached_whenBlockPolicy_thenWaitsForFreeSlot() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(2);
+    AsyncInspectorExecutor executor =
+        new AsyncInspectorExecutor(task -> new Thread(task).start(), 1, OverflowPolicy.BLOCK);
+
+    executor.execute(
+        () -> {
+          awaitQuietly(release);
+          done.countDown();
+        });
+    Thread submitter = new Thread(() -> executor.execute(done::countDown));
+    submitter.start();
+
+    submitter.join(100);
+    assertThat(submitter.isAlive()).isTrue();
+
+    release.countDown();
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(executor.getDroppedCount()).isZero();
+  }
+
+  @Test
+  void givenNonPositiveMaxPending_whenCreating_thenThrowsException() {
+    assertThatThrownBy(() -> new AsyncInspectorExecutor(Runnable::run, 0, OverflowPolicy.DROP))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
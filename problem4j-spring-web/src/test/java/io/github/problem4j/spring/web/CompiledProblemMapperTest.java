@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemBuilder;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemMapping;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CompiledProblemMapperTest {
+
+  @ProblemMapping(
+      type = "https://example.org/literal",
+      title = "Literal Exception",
+      status = 400,
+      detail = "nothing to interpolate",
+      instance = "https://example.org/literal/instance")
+  static class LiteralException extends RuntimeException {}
+
+  @ProblemMapping(
+      type = "https://example.org/annotated/{value1}",
+      title = "Annotated Exception",
+      status = 418,
+      detail = "value2:{value2}",
+      instance = "https://example.org/annotated/instance/{value3}")
+  static class FieldsException extends RuntimeException {
+
+    private final String value1;
+    private final Long value2;
+    private final boolean value3;
+
+    FieldsException(String value1, Long value2, boolean value3) {
+      this.value1 = value1;
+      this.value2 = value2;
+      this.value3 = value3;
+    }
+  }
+
+  @ProblemMapping(
+      type = "errors/invalid-request",
+      title = "Invalid Request",
+      status = 400,
+      detail = "{message}: {fieldName}",
+      extensions = {"userId", "fieldName"})
+  static class MessageException extends RuntimeException {
+
+    private final String userId;
+    private final String fieldName;
+
+    MessageException(String userId, String fieldName) {
+      super("bad input for user " + userId);
+      this.userId = userId;
+      this.fieldName = fieldName;
+    }
+  }
+
+  static class InheritingException extends MessageException {
+
+    InheritingException(String userId, String fieldName) {
+      super(userId, fieldName);
+    }
+  }
+
+  @ProblemMapping(
+      title = "Traced Exception",
+      status = 500,
+      instance = "https://example.org/traces/{context.traceId}")
+  static class ContextException extends RuntimeException {}
+
+  @ProblemMapping(status = 404, detail = "missing {unknown}")
+  static class UnknownPlaceholderException extends RuntimeException {}
+
+  @ProblemMapping
+  static class EmptyException extends RuntimeException {}
+
+  static Stream<Exception> exceptions() {
+    return Stream.of(
+        new LiteralException(),
+        new FieldsException("string1", 1L, true),
+        new FieldsException("string2", 2L, false),
+        new FieldsException("", 0L, true),
+        new FieldsException("string3", Long.MIN_VALUE, false),
+        new FieldsException(null, null, false),
+        new MessageException("u-123", "age"),
+        new MessageException("u-456", "name"),
+        new MessageException("u-456", null),
+        new InheritingException("u-789", "name"),
+        new ContextException(),
+        new UnknownPlaceholderException(),
+        new EmptyException());
+  }
+
+  // shared by all cases, so that instances following the first one of each class are rendered by
+  // the renderer verified against the first one
+  private static final CompiledProblemMapper sharedMapper =
+      new CompiledProblemMapper(ProblemMapper.create());
+
+  @ParameterizedTest
+  @MethodSource("exceptions")
+  void givenMappedException_whenMappingRepeatedly_thenMatchesDefaultMapper(Exception ex) {
+    ProblemMapper reference = ProblemMapper.create();
+    ProblemContext context = ProblemContext.create().put("traceId", "trace-123");
+
+    Problem expected = reference.toProblemBuilder(ex, context).build();
+
+    assertThat(sharedMapper.isMappingCandidate(ex)).isEqualTo(reference.isMappingCandidate(ex));
+    for (int i = 0; i < CompiledProblemMapper.VERIFICATION_SAMPLES + 2; i++) {
+      assertThat(sharedMapper.toProblemBuilder(ex, context).build()).isEqualTo(expected);
+    }
+  }
+
+  @Test
+  void givenVerifiedRenderer_whenMappingOtherInstance_thenRendersWithoutDelegate() {
+    CountingMapper delegate =
+        new CountingMapper(Problem.builder().status(400).detail("bad input for user u-1: age"));
+    CompiledProblemMapper mapper = new CompiledProblemMapper(delegate);
+    for (int i = 0; i < CompiledProblemMapper.VERIFICATION_SAMPLES; i++) {
+      mapper.toProblemBuilder(new DetailException("u-1", "age"), ProblemContext.create());
+    }
+
+    Problem problem =
+        mapper
+            .toProblemBuilder(new DetailException("u-2", "name"), ProblemContext.create())
+            .build();
+
+    assertThat(problem.getDetail()).isEqualTo("bad input for user u-2: name");
+    assertThat(delegate.calls.get()).isEqualTo(CompiledProblemMapper.VERIFICATION_SAMPLES);
+  }
+
+  @Test
+  void givenDelegateDisagreeingOnLaterSample_whenMapping_thenDisablesRenderer() {
+    CountingMapper delegate =
+        new CountingMapper(Problem.builder().status(400).detail("bad input for user u-1: age"));
+    CompiledProblemMapper mapper = new CompiledProblemMapper(delegate);
+    for (int i = 0; i < CompiledProblemMapper.VERIFICATION_SAMPLES - 1; i++) {
+      mapper.toProblemBuilder(new DetailException("u-1", "age"), ProblemContext.create());
+    }
+
+    Problem sampled =
+        mapper
+            .toProblemBuilder(new DetailException("u-2", "name"), ProblemContext.create())
+            .build();
+    Problem next =
+        mapper
+            .toProblemBuilder(new DetailException("u-3", "size"), ProblemContext.create())
+            .build();
+
+    assertThat(sampled.getDetail()).isEqualTo("bad input for user u-1: age");
+    assertThat(next.getDetail()).isEqualTo("bad input for user u-1: age");
+    assertThat(mapper.isCompiled(DetailException.class)).isFalse();
+  }
+
+  @Test
+  void givenDelegateAgreeingWithRenderer_whenMapping_thenCallsDelegateOnlyForSamples() {
+    CountingMapper delegate =
+        new CountingMapper(Problem.builder().status(400).detail("bad input for user u-1: age"));
+    CompiledProblemMapper mapper = new CompiledProblemMapper(delegate);
+
+    for (int i = 0; i < CompiledProblemMapper.VERIFICATION_SAMPLES + 3; i++) {
+      DetailException ex = new DetailException("u-1", "age");
+      Problem problem = mapper.toProblemBuilder(ex, ProblemContext.create()).build();
+      assertThat(problem.getDetail()).isEqualTo("bad input for user u-1: age");
+    }
+
+    assertThat(mapper.isCompiled(DetailException.class)).isTrue();
+    assertThat(delegate.calls.get()).isEqualTo(CompiledProblemMapper.VERIFICATION_SAMPLES);
+  }
+
+  @Test
+  void givenDelegateDisagreeingWithRenderer_whenMapping_thenAlwaysUsesDelegate() {
+    CountingMapper delegate = new CountingMapper(Problem.builder().status(400).detail("other"));
+    CompiledProblemMapper mapper = new CompiledProblemMapper(delegate);
+
+    for (int i = 0; i < 3; i++) {
+      DetailException ex = new DetailException("u-1", "age");
+      Problem problem = mapper.toProblemBuilder(ex, ProblemContext.create()).build();
+      assertThat(problem.getDetail()).isEqualTo("other");
+    }
+
+    assertThat(mapper.isCompiled(DetailException.class)).isFalse();
+    assertThat(delegate.calls.get()).isEqualTo(3);
+  }
+
+  @ProblemMapping(status = 400, detail = "{message}: {fieldName}")
+  static class DetailException extends RuntimeException {
+
+    private final String fieldName;
+
+    DetailException(String userId, String fieldName) {
+      super("bad input for user " + userId);
+      this.fieldName = fieldName;
+    }
+  }
+
+  private static final class CountingMapper implements ProblemMapper {
+
+    private final ProblemBuilder result;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private CountingMapper(ProblemBuilder result) {
+      this.result = result;
+    }
+
+    @Override
+    public boolean isMappingCandidate(Throwable t) {
+      return true;
+    }
+
+    @Override
+    public ProblemBuilder toProblemBuilder(Throwable t, ProblemContext context) {
+      calls.incrementAndGet();
+      return result;
+    }
+  }
+}
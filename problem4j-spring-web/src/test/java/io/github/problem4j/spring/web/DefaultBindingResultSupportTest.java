@@ -25,8 +25,14 @@
 
 import io.github.problem4j.spring.web.parameter.BindingResultSupport;
 import io.github.problem4j.spring.web.parameter.DefaultBindingResultSupport;
+import io.github.problem4j.spring.web.parameter.GroupedViolations;
+import io.github.problem4j.spring.web.parameter.LazyViolationList;
+import io.github.problem4j.spring.web.parameter.ParallelViolationExtractor;
 import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
@@ -73,6 +79,157 @@ void givenBindingResultWithoutErrors_shouldNotReturnViolations() {
     assertThat(violations).isEmpty();
   }
 
+  @Test
+  void givenFetchedViolations_shouldAllowAppendingViolations() {
+    BindingResult bindingResult = new BeanPropertyBindingResult(new TestObject(), "testObject");
+    bindingResult.addError(new FieldError("testObject", "name", "must not be blank"));
+
+    List<Violation> violations = support.fetchViolations(bindingResult);
+    violations.add(new Violation("extra", "added by caller"));
+
+    assertThat(violations)
+        .containsExactly(
+            new Violation("name", "must not be blank"), new Violation("extra", "added by caller"));
+  }
+
+  @Test
+  void givenSubclassOverridingResolution_shouldResolveViolationsOnCallingThread() {
+    AtomicInteger resolutions = new AtomicInteger();
+    BindingResultSupport subclassSupport =
+        new DefaultBindingResultSupport() {
+          @Override
+          protected boolean isDeferredResolutionSupported() {
+            return false;
+          }
+
+          @Override
+          protected Violation resolveFieldError(BindingResult bindingResult, FieldError error) {
+            resolutions.incrementAndGet();
+            return super.resolveFieldError(bindingResult, error);
+          }
+        };
+    BindingResult bindingResult = new BeanPropertyBindingResult(new TestObject(), "testObject");
+    bindingResult.addError(new FieldError("testObject", "name", "must not be blank"));
+    bindingResult.addError(new FieldError("testObject", "nickname", "must not be blank"));
+
+    List<Violation> violations = subclassSupport.fetchViolations(bindingResult);
+
+    assertThat(resolutions.get()).isEqualTo(2);
+    assertThat(violations)
+        .containsExactly(
+            new Violation("name", "must not be blank"),
+            new Violation("nickname", "must not be blank"));
+    assertThat(resolutions.get()).isEqualTo(2);
+  }
+
+  @Test
+  void givenSubclassNotOverridingHook_shouldKeepLazyViolationList() {
+    BindingResultSupport subclassSupport = new DefaultBindingResultSupport() {};
+    BindingResult bindingResult = new BeanPropertyBindingResult(new TestObject(), "testObject");
+    bindingResult.addError(new FieldError("testObject", "name", "must not be blank"));
+
+    List<Violation> violations = subclassSupport.fetchViolations(bindingResult);
+
+    assertThat(violations).isInstanceOf(LazyViolationList.class);
+    assertThat(violations).containsExactly(new Violation("name", "must not be blank"));
+  }
+
+  @Test
+  void givenLargeBindingResultAndParallelExtractor_shouldComputeMetadataOnce() {
+    AtomicInteger metadataLookups = new AtomicInteger();
+    BindingResult bindingResult = new BeanPropertyBindingResult(new TestObject(), "testObject");
+    for (int i = 0; i < 1000; i++) {
+      bindingResult.addError(new FieldError("testObject", "name", "error " + i));
+    }
+
+    try (ParallelViolationExtractor extractor = new ParallelViolationExtractor(4, 100)) {
+      BindingResultSupport parallelSupport =
+          new DefaultBindingResultSupport(extractor) {
+            @Override
+            protected Map<String, String> findParametersMetadata(BindingResult result) {
+              metadataLookups.incrementAndGet();
+              return super.findParametersMetadata(result);
+            }
+          };
+
+      List<Violation> violations = parallelSupport.fetchViolations(bindingResult);
+
+      assertThat(violations).hasSize(1000);
+      assertThat(metadataLookups.get()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void givenLargeBindingResultAndParallelExtractor_shouldPreserveOrderOfViolations() {
+    BindingResult bindingResult = new BeanPropertyBindingResult(new TestObject(), "testObject");
+    List<Violation> expected = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      bindingResult.addError(new FieldError("testObject", "name", "error " + i));
+      expected.add(new Violation("name", "error " + i));
+    }
+    bindingResult.addError(new ObjectError("testObject", "object invalid"));
+    expected.add(new Violation(null, "object invalid"));
+
+    try (ParallelViolationExtractor extractor = new ParallelViolationExtractor(4, 100)) {
+      BindingResultSupport parallelSupport = new DefaultBindingResultSupport(extractor);
+
+      List<Violation> violations = parallelSupport.fetchViolations(bindingResult);
+
+      assertThat(violations).containsExactlyElementsOf(expected);
+    }
+  }
+
+  @Test
+  void givenBindingResultBelowThreshold_shouldResolveViolationsSequentially() {
+    BindingResult bindingResult = new BeanPropertyBindingResult(new TestObject(), "testObject");
+    bindingResult.addError(new FieldError("testObject", "name", "must not be blank"));
+
+    try (ParallelViolationExtractor extractor = new ParallelViolationExtractor(4, 100)) {
+      BindingResultSupport parallelSupport = new DefaultBindingResultSupport(extractor);
+
+      List<Violation> violations = parallelSupport.fetchViolations(bindingResult);
+
+      assertThat(extractor.isParallel(bindingResult.getErrorCount())).isFalse();
+      assertThat(violations).containsExactly(new Violation("name", "must not be blank"));
+    }
+  }
+
+  @Test
+  void givenBindingResultWithRepeatedMessages_shouldGroupViolationsByField() {
+    TestObject target = new TestObject();
+    BindingResult bindingResult = new BeanPropertyBindingResult(target, "testObject");
+    bindingResult.addError(new FieldError("testObject", "name", "must not be blank"));
+    bindingResult.addError(new FieldError("testObject", "name", "size must be between 1 and 10"));
+    bindingResult.addError(
+        new FieldError("testObject", "age", target, true, null, null, "should be ignored message"));
+    bindingResult.addError(new FieldError("testObject", "nickname", "must not be blank"));
+    bindingResult.addError(new ObjectError("testObject", "size must be between 1 and 10"));
+
+    GroupedViolations violations = support.fetchGroupedViolations(bindingResult);
+
+    assertThat(violations.getMessages())
+        .containsExactly("must not be blank", "size must be between 1 and 10", IS_NOT_VALID_ERROR);
+    assertThat(violations.getFields())
+        .containsExactly(
+            new GroupedViolations.FieldViolations("name", new int[] {0, 1}),
+            new GroupedViolations.FieldViolations("age", new int[] {2}),
+            new GroupedViolations.FieldViolations("nickname", new int[] {0}));
+    assertThat(violations.getGlobal()).containsExactly(1);
+  }
+
+  @Test
+  void givenBindingResult_shouldGroupViolationsSameAsFlatList() {
+    TestObject target = new TestObject();
+    BindingResult bindingResult = new BeanPropertyBindingResult(target, "testObject");
+    bindingResult.addError(new FieldError("testObject", "name", "must not be blank"));
+    bindingResult.addError(new FieldError("testObject", "age", "must be positive"));
+    bindingResult.addError(new ObjectError("testObject", "object invalid"));
+
+    GroupedViolations grouped = support.fetchGroupedViolations(bindingResult);
+
+    assertThat(grouped).isEqualTo(GroupedViolations.of(support.fetchViolations(bindingResult)));
+  }
+
   static class TestObject {
     private String name;
     private Integer age;
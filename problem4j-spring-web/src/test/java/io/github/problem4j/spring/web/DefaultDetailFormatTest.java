@@ -23,6 +23,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.spring.web.autoconfigure.ProblemProperties;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -101,4 +102,48 @@ void givenNullInput_whenFormatting_thenReturnsNull(String detailFormat) {
 
     assertNull(formatting.formatDetail(null));
   }
+
+  @Test
+  void givenGroupedErrorsFormat_whenCheckingErrorsFormat_thenReturnsGrouped() {
+    DefaultProblemFormat formatting =
+        new DefaultProblemFormat(
+            ProblemProperties.DetailFormat.CAPITALIZED, ProblemProperties.ErrorsFormat.GROUPED);
+
+    assertThat(formatting.isGroupedErrors(null)).isTrue();
+  }
+
+  @Test
+  void givenFlatErrorsFormatAndGroupedProfile_whenCheckingErrorsFormat_thenReturnsGrouped() {
+    DefaultProblemFormat formatting =
+        new DefaultProblemFormat(
+            ProblemProperties.DetailFormat.CAPITALIZED, ProblemProperties.ErrorsFormat.FLAT);
+    ProblemContext context =
+        ProblemContext.create()
+            .put(ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY, ProblemSupport.GROUPED_ERRORS_PROFILE);
+
+    assertThat(formatting.isGroupedErrors(context)).isTrue();
+    assertThat(formatting.isGroupedErrors(ProblemContext.create())).isFalse();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "application/problem+json; profile=\"grouped-errors\"",
+        "application/json, application/problem+json;profile=grouped-errors",
+        "application/problem+json; profile=\"urn:example grouped-errors\""
+      })
+  void givenAcceptWithGroupedErrorsProfile_whenParsing_thenDetectsProfile(String accept) {
+    assertThat(ProblemSupport.hasGroupedErrorsProfile(accept)).isTrue();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "application/problem+json",
+        "application/problem+json; profile=\"grouped-errors-v2\"",
+        "application/grouped-errors"
+      })
+  void givenAcceptWithoutGroupedErrorsProfile_whenParsing_thenDoesNotDetectProfile(String accept) {
+    assertThat(ProblemSupport.hasGroupedErrorsProfile(accept)).isFalse();
+  }
 }
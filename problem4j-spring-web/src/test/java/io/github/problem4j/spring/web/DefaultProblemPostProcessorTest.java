@@ -235,6 +235,22 @@ void givenOverrideWithUnknownPlaceholders_shouldRemoveUnknownPlaceholders() {
     assertThat(result).isSameAs(problem);
   }
 
+  @Test
+  void givenInstanceOverrideWithTraceId_whenCheckingContextSensitivity_thenIsSensitive() {
+    ProblemPostProcessor processor =
+        new DefaultProblemPostProcessor(getSettings(null, "/errors/{context.traceId}"));
+
+    assertThat(processor.isContextSensitive()).isTrue();
+  }
+
+  @Test
+  void givenTypeOverrideOnly_whenCheckingContextSensitivity_thenIsNotSensitive() {
+    PostProcessorSettings settings = getSettings("https://errors.example.com/{problem.type}", null);
+    ProblemPostProcessor processor = new DefaultProblemPostProcessor(settings);
+
+    assertThat(processor.isContextSensitive()).isFalse();
+  }
+
   private PostProcessorSettings getSettings(String typeOverride, String instanceOverride) {
     return new PostProcessorSettings() {
       @Override
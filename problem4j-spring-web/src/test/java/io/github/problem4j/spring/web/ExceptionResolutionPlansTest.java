@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemBuilder;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.resolver.ProblemResolver;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+class ExceptionResolutionPlansTest {
+
+  private static class ResolvedException extends RuntimeException {}
+
+  @ResponseStatus(code = HttpStatus.CONFLICT, reason = "already exists")
+  private static class AnnotatedException extends RuntimeException {}
+
+  private final AtomicInteger lookups = new AtomicInteger();
+
+  private final ProblemResolver resolver =
+      new ProblemResolver() {
+        @Override
+        public Class<? extends Exception> getExceptionClass() {
+          return ResolvedException.class;
+        }
+
+        @Override
+        public ProblemBuilder resolveBuilder(
+            ProblemContext context, Exception ex, HttpHeaders headers, HttpStatusCode status) {
+          return Problem.builder().status(ProblemStatus.BAD_REQUEST);
+        }
+      };
+
+  private final ExceptionResolutionPlans plans =
+      new ExceptionResolutionPlans(
+          ProblemMapper.create(),
+          clazz -> {
+            lookups.incrementAndGet();
+            return ResolvedException.class.isAssignableFrom(clazz)
+                ? Optional.of(resolver)
+                : Optional.empty();
+          });
+
+  @Test
+  void givenExceptionWithResolver_whenResolvingTwice_thenLooksResolverUpOnce() {
+    Problem first = resolve(new ResolvedException());
+    Problem second = resolve(new ResolvedException());
+
+    assertThat(first.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(second.getStatus()).isEqualTo(first.getStatus());
+    assertThat(lookups.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenResponseStatusAnnotatedException_whenResolving_thenUsesItsCodeAndReason() {
+    Problem problem = resolve(new AnnotatedException());
+
+    assertThat(problem.getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+    assertThat(problem.getDetail()).isEqualTo("already exists");
+  }
+
+  @Test
+  void givenUnknownException_whenResolving_thenFallsBackToInternalServerError() {
+    Problem problem = resolve(new IllegalStateException("boom"));
+
+    assertThat(problem.getStatus()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR.value());
+    assertThat(problem.getDetail()).isNull();
+  }
+
+  private Problem resolve(Exception ex) {
+    return plans.resolveBuilder(ex, ProblemContext.create(), new HttpHeaders()).build();
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemBuilder;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+class InspectorDispatchTest {
+
+  private static final String ALL = "all";
+  private static final String SERVER_ERRORS = "server-errors";
+  private static final String ILLEGAL_STATE = "illegal-state";
+  private static final String OUT_OF_STOCK = "out-of-stock";
+
+  private final Map<String, InspectorInterest> interests =
+      Map.of(
+          ALL,
+          InspectorInterest.all(),
+          SERVER_ERRORS,
+          InspectorInterest.builder().series(HttpStatus.Series.SERVER_ERROR).build(),
+          ILLEGAL_STATE,
+          InspectorInterest.builder().exceptions(IllegalStateException.class).build(),
+          OUT_OF_STOCK,
+          InspectorInterest.builder().problemTypes("errors/out-of-stock").build());
+
+  private final InspectorDispatch<String> dispatch =
+      new InspectorDispatch<>(
+          List.of(ALL, SERVER_ERRORS, ILLEGAL_STATE, OUT_OF_STOCK), interests::get);
+
+  @Test
+  void givenNoNarrowedInterest_whenSelecting_thenSelectsAllInspectors() {
+    InspectorDispatch<String> unfiltered =
+        new InspectorDispatch<>(List.of("a", "b"), inspector -> InspectorInterest.all());
+
+    assertThat(unfiltered.select(null, problem(400, null), 400)).containsExactly("a", "b");
+  }
+
+  @Test
+  void givenServerError_whenSelecting_thenSelectsInspectorsOfServerErrorSeries() {
+    List<String> selected = dispatch.select(new RuntimeException(), problem(503, null), 503);
+
+    assertThat(selected).containsExactly(ALL, SERVER_ERRORS);
+  }
+
+  @Test
+  void givenExceptionSubtype_whenSelecting_thenSelectsInspectorsOfItsFamily() {
+    List<String> selected =
+        dispatch.select(new IllegalStateException() {}, problem(400, null), 400);
+
+    assertThat(selected).containsExactly(ALL, ILLEGAL_STATE);
+  }
+
+  @Test
+  void givenNoException_whenSelecting_thenSkipsInspectorsOfExceptionTypes() {
+    List<String> selected = dispatch.select(null, problem(500, null), 500);
+
+    assertThat(selected).containsExactly(ALL, SERVER_ERRORS);
+  }
+
+  @Test
+  void givenProblemType_whenSelecting_thenSelectsInspectorsOfThatTypeOnly() {
+    RuntimeException ex = new RuntimeException();
+
+    assertThat(dispatch.select(ex, problem(409, "errors/out-of-stock"), 409))
+        .containsExactly(ALL, OUT_OF_STOCK);
+    assertThat(dispatch.select(ex, problem(409, "errors/other"), 409)).containsExactly(ALL);
+  }
+
+  @Test
+  void givenRepeatedSelection_whenSelecting_thenReusesDispatchList() {
+    List<String> first = dispatch.select(new RuntimeException(), problem(502, null), 502);
+    List<String> second = dispatch.select(new RuntimeException(), problem(504, null), 504);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  private static Problem problem(int status, String type) {
+    ProblemBuilder builder = Problem.builder().status(status);
+    return type != null ? builder.type(type).build() : builder.build();
+  }
+}
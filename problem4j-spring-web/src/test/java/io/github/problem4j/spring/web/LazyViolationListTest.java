@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.spring.web.parameter.LazyViolationList;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LazyViolationListTest {
+
+  private final AtomicInteger resolutions = new AtomicInteger();
+
+  @Test
+  void givenRepeatedReads_whenAccessing_thenResolvesEachElementOnce() {
+    LazyViolationList<String> violations = newList("must not be blank", "too short");
+
+    for (int i = 0; i < 3; i++) {
+      assertThat(violations)
+          .containsExactly(
+              new Violation("name", "must not be blank"), new Violation("name", "too short"));
+    }
+
+    assertThat(resolutions.get()).isEqualTo(2);
+  }
+
+  @Test
+  void givenPartiallyReadList_whenReadingRest_thenReleasesSources() {
+    LazyViolationList<String> violations = newList("must not be blank", "too short");
+
+    violations.get(1);
+
+    assertThat(violations.isResolved()).isFalse();
+
+    violations.get(0);
+
+    assertThat(violations.isResolved()).isTrue();
+    assertThat(violations).hasSize(2);
+  }
+
+  @Test
+  void givenUnreadList_whenAppending_thenResolvesAndKeepsOrder() {
+    LazyViolationList<String> violations = newList("must not be blank");
+
+    violations.add(new Violation("extra", "added by caller"));
+
+    assertThat(violations)
+        .containsExactly(
+            new Violation("name", "must not be blank"), new Violation("extra", "added by caller"));
+    assertThat(resolutions.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenUnreadList_whenReadingUncached_thenResolvesOnEveryRead() {
+    LazyViolationList<String> violations = newList("must not be blank");
+
+    violations.getUncached(0);
+    Violation violation = violations.getUncached(0);
+
+    assertThat(violation).isEqualTo(new Violation("name", "must not be blank"));
+    assertThat(resolutions.get()).isEqualTo(2);
+    assertThat(violations.isResolved()).isFalse();
+  }
+
+  @Test
+  void givenReadElement_whenReadingUncached_thenReturnsCachedViolation() {
+    LazyViolationList<String> violations = newList("must not be blank", "too short");
+
+    Violation cached = violations.get(0);
+
+    assertThat(violations.getUncached(0)).isSameAs(cached);
+    assertThat(resolutions.get()).isEqualTo(1);
+  }
+
+  private LazyViolationList<String> newList(String... errors) {
+    return new LazyViolationList<>(
+        List.of(errors),
+        error -> {
+          resolutions.incrementAndGet();
+          return new Violation("name", error);
+        });
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class PerClassCacheTest {
+
+  private final AtomicInteger computations = new AtomicInteger();
+
+  private final PerClassCache<String> cache =
+      new PerClassCache<>(
+          type -> {
+            computations.incrementAndGet();
+            return type.getSimpleName();
+          });
+
+  @Test
+  void givenRepeatedLookups_whenGettingValue_thenComputesItOnce() {
+    for (int i = 0; i < 3; i++) {
+      assertThat(cache.get(IllegalStateException.class)).isEqualTo("IllegalStateException");
+    }
+
+    assertThat(computations.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenDifferentClasses_whenGettingValues_thenComputesEachSeparately() {
+    assertThat(cache.get(IllegalStateException.class)).isEqualTo("IllegalStateException");
+    assertThat(cache.get(IllegalArgumentException.class)).isEqualTo("IllegalArgumentException");
+
+    assertThat(computations.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static io.github.problem4j.spring.web.ProblemSupport.APPLICATION_PROBLEM_CBOR;
+import static io.github.problem4j.spring.web.ProblemSupport.APPLICATION_PROBLEM_SMILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.ToStringSerializer;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+class ProblemBinaryCodecsTest {
+
+  private final ProblemCodecs codecs = createCodecs();
+
+  private static ProblemCodecs createCodecs() {
+    JsonMapper.Builder jsonBuilder = JsonMapper.builder();
+    new ProblemJsonMapperBuilderCustomizer().customize(jsonBuilder);
+
+    ProblemCodecs.Builder builder =
+        ProblemCodecs.builder().register(MediaType.APPLICATION_PROBLEM_JSON, jsonBuilder.build());
+    new ProblemCborCodecsCustomizer().customize(builder);
+    new ProblemSmileCodecsCustomizer().customize(builder);
+    return builder.build();
+  }
+
+  static Stream<Arguments> binaryFormats() {
+    return Stream.of(
+        Arguments.of(APPLICATION_PROBLEM_CBOR, new CBORMapper()),
+        Arguments.of(APPLICATION_PROBLEM_SMILE, new SmileMapper()));
+  }
+
+  static Stream<Arguments> binaryCustomizers() {
+    return Stream.of(
+        Arguments.of(
+            APPLICATION_PROBLEM_CBOR,
+            new CBORMapper(),
+            (BiFunction<Boolean, JsonMapper, ProblemCodecsCustomizer>)
+                ProblemCborCodecsCustomizer::new),
+        Arguments.of(
+            APPLICATION_PROBLEM_SMILE,
+            new SmileMapper(),
+            (BiFunction<Boolean, JsonMapper, ProblemCodecsCustomizer>)
+                ProblemSmileCodecsCustomizer::new));
+  }
+
+  private static Problem problem() {
+    return Problem.builder()
+        .type("errors/validation")
+        .title("Bad Request")
+        .status(400)
+        .detail("Validation failed")
+        .instance("urn:uuid:6d0b6ae4-5e5d-4a43-9d3b-4c3f9a2b8f51")
+        .extension("userId", "u-123")
+        .extension("attempt", 3)
+        .extension("nested", Map.of("key", "value"))
+        .extension(
+            "errors",
+            List.of(new Violation("name", "must not be blank"), new Violation(null, "invalid")))
+        .build();
+  }
+
+  @ParameterizedTest
+  @MethodSource("binaryFormats")
+  void givenProblem_whenEncodingBinary_thenCarriesSameTreeAsJson(
+      MediaType mediaType, ObjectMapper plainMapper) {
+    Problem problem = problem();
+
+    String json = codecs.findWriter(MediaType.APPLICATION_PROBLEM_JSON).writeValueAsString(problem);
+    byte[] binary = codecs.findWriter(mediaType).writeValueAsBytes(problem);
+
+    assertThat(plainMapper.readTree(binary)).isEqualTo(new JsonMapper().readTree(json));
+  }
+
+  @ParameterizedTest
+  @MethodSource("binaryFormats")
+  void givenBinaryProblem_whenDecoding_thenReadsSameProblemAsJson(
+      MediaType mediaType, ObjectMapper plainMapper) {
+    Problem problem = problem();
+
+    String json = codecs.findWriter(MediaType.APPLICATION_PROBLEM_JSON).writeValueAsString(problem);
+    byte[] binary = codecs.findWriter(mediaType).writeValueAsBytes(problem);
+
+    Problem fromJson = codecs.findReader(MediaType.APPLICATION_PROBLEM_JSON).readValue(json);
+    Problem fromBinary = codecs.findReader(mediaType).readValue(binary);
+
+    assertThat(fromBinary).isEqualTo(fromJson);
+  }
+
+  @ParameterizedTest
+  @MethodSource("binaryCustomizers")
+  void givenApplicationJsonMapper_whenEncodingBinary_thenInheritsItsModules(
+      MediaType mediaType,
+      ObjectMapper plainMapper,
+      BiFunction<Boolean, JsonMapper, ProblemCodecsCustomizer> customizer) {
+    JsonMapper jsonMapper =
+        JsonMapper.builder()
+            .addModule(new SimpleModule().addSerializer(Money.class, ToStringSerializer.instance))
+            .build();
+    ProblemCodecs.Builder builder = ProblemCodecs.builder();
+    customizer.apply(false, jsonMapper).customize(builder);
+    ProblemCodecs codecs = builder.build();
+
+    Problem problem =
+        Problem.builder().status(402).extension("price", new Money(10, "EUR")).build();
+    byte[] binary = codecs.findWriter(mediaType).writeValueAsBytes(problem);
+
+    assertThat(plainMapper.readTree(binary).get("price").asString())
+        .isEqualTo("Money[amount=10, currency=EUR]");
+  }
+
+  record Money(int amount, String currency) {}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.jackson3.ProblemJacksonMixIn;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemCodecsTest {
+
+  private final JsonMapper mapper =
+      JsonMapper.builder().addMixIn(Problem.class, ProblemJacksonMixIn.class).build();
+
+  private final ProblemCodecs codecs =
+      ProblemCodecs.builder().register(MediaType.APPLICATION_PROBLEM_JSON, mapper).build();
+
+  @Test
+  void givenMediaTypeWithParameters_whenFindingWriter_thenMatchesTypeAndSubtype() {
+    MediaType mediaType = MediaType.parseMediaType("application/problem+json;charset=UTF-8");
+
+    assertThat(codecs.findWriter(mediaType)).isNotNull();
+    assertThat(codecs.findReader(mediaType)).isNotNull();
+  }
+
+  @Test
+  void givenNullMediaType_whenFindingWriter_thenReturnsDefault() {
+    assertThat(codecs.findWriter(null)).isNotNull();
+  }
+
+  @Test
+  void givenUnregisteredMediaType_whenFindingWriter_thenReturnsNull() {
+    assertThat(codecs.findWriter(MediaType.APPLICATION_PROBLEM_XML)).isNull();
+    assertThat(codecs.findReader(MediaType.APPLICATION_PROBLEM_XML)).isNull();
+  }
+
+  @Test
+  void givenProblem_whenWritingAndReading_thenProducesMapperOutput() {
+    Problem problem = Problem.builder().title("Bad Request").status(400).detail("oops").build();
+
+    String json = codecs.findWriter(MediaType.APPLICATION_PROBLEM_JSON).writeValueAsString(problem);
+    Problem read = codecs.findReader(MediaType.APPLICATION_PROBLEM_JSON).readValue(json);
+
+    assertThat(json).isEqualTo(mapper.writeValueAsString(problem));
+    assertThat(read).isEqualTo(problem);
+  }
+
+  @Test
+  void givenNoRegistrations_whenFindingWriter_thenReturnsNull() {
+    ProblemCodecs empty = ProblemCodecs.builder().build();
+
+    assertThat(empty.getMediaTypes()).isEmpty();
+    assertThat(empty.findWriter(null)).isNull();
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.jackson3.ProblemJacksonMixIn;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemJsonSerializerTest {
+
+  private final JsonMapper mixinMapper =
+      JsonMapper.builder().addMixIn(Problem.class, ProblemJacksonMixIn.class).build();
+
+  private final JsonMapper serializerMapper = createSerializerMapper();
+
+  private static JsonMapper createSerializerMapper() {
+    return createSerializerMapper(JsonMapper.builder());
+  }
+
+  private static JsonMapper createSerializerMapper(JsonMapper.Builder builder) {
+    new ProblemJsonMapperBuilderCustomizer(true).customize(builder);
+    return builder.build();
+  }
+
+  static Stream<Problem> problems() {
+    return Stream.of(
+        Problem.builder().status(404).build(),
+        Problem.builder()
+            .type("errors/invalid-request")
+            .title("Invalid Request")
+            .status(400)
+            .detail("not a valid json")
+            .instance("urn:uuid:6d0b6ae4-5e5d-4a43-9d3b-4c3f9a2b8f51")
+            .build(),
+        Problem.builder()
+            .status(400)
+            .detail("Validation failed")
+            .extension("userId", "u-123")
+            .extension("attempt", 3)
+            .extension("retryable", false)
+            .extension("nested", Map.of("key", "value"))
+            .extension("errors", List.of(new Violation("name", "must not be blank")))
+            .build());
+  }
+
+  @ParameterizedTest
+  @MethodSource("problems")
+  void givenProblem_whenSerializing_thenOutputEqualsMixinOutput(Problem problem) {
+    String expected = mixinMapper.writeValueAsString(problem);
+    String actual = serializerMapper.writeValueAsString(problem);
+
+    assertThat(serializerMapper.readTree(actual)).isEqualTo(mixinMapper.readTree(expected));
+  }
+
+  @ParameterizedTest
+  @MethodSource("problems")
+  void givenProblem_whenSerializing_thenOutputStringEqualsMixinOutput(Problem problem) {
+    String expected = mixinMapper.writeValueAsString(problem);
+    String actual = serializerMapper.writeValueAsString(problem);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void givenNullExtension_whenSerializing_thenOutputStringEqualsMixinOutput() {
+    Problem problem =
+        Problem.builder().status(400).extension("userId", null).extension("attempt", 3).build();
+
+    String expected = mixinMapper.writeValueAsString(problem);
+    String actual = serializerMapper.writeValueAsString(problem);
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual).doesNotContain("userId");
+  }
+
+  @ParameterizedTest
+  @MethodSource("problems")
+  void givenSortPropertiesAlphabetically_whenSerializing_thenOutputStringEqualsMixinOutput(
+      Problem problem) {
+    JsonMapper sortedMixinMapper =
+        JsonMapper.builder()
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .addMixIn(Problem.class, ProblemJacksonMixIn.class)
+            .build();
+    JsonMapper sortedMapper =
+        createSerializerMapper(
+            JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY));
+
+    String expected = sortedMixinMapper.writeValueAsString(problem);
+    String actual = sortedMapper.writeValueAsString(problem);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void givenSortPropertiesAlphabetically_whenSerializing_thenExtensionsFollowStandardMembers() {
+    JsonMapper sortedMapper =
+        createSerializerMapper(
+            JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY));
+    Problem problem =
+        Problem.builder()
+            .type("errors/invalid-request")
+            .title("Invalid Request")
+            .status(400)
+            .extension("userId", "u-123")
+            .extension("attempt", 3)
+            .build();
+
+    String actual = sortedMapper.writeValueAsString(problem);
+
+    assertThat(actual)
+        .isEqualTo(
+            "{\"type\":\"errors/invalid-request\","
+                + "\"title\":\"Invalid Request\","
+                + "\"status\":400,"
+                + "\"userId\":\"u-123\","
+                + "\"attempt\":3}");
+  }
+
+  @ParameterizedTest
+  @MethodSource("problems")
+  void givenOrderMapEntriesByKeys_whenSerializing_thenOutputStringEqualsMixinOutput(
+      Problem problem) {
+    JsonMapper orderedMixinMapper =
+        JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .addMixIn(Problem.class, ProblemJacksonMixIn.class)
+            .build();
+    JsonMapper orderedMapper =
+        createSerializerMapper(
+            JsonMapper.builder().enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS));
+
+    String expected = orderedMixinMapper.writeValueAsString(problem);
+    String actual = orderedMapper.writeValueAsString(problem);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @MethodSource("problems")
+  void givenProblem_whenSerializing_thenMixinReadsSameProblem(Problem problem) {
+    String expected = mixinMapper.writeValueAsString(problem);
+    String actual = serializerMapper.writeValueAsString(problem);
+
+    assertThat(serializerMapper.readValue(actual, Problem.class))
+        .isEqualTo(mixinMapper.readValue(expected, Problem.class));
+  }
+}
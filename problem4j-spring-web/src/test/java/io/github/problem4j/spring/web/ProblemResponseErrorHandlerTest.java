@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.spring.web.client.ProblemResponseErrorHandler;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemResponseErrorHandlerTest {
+
+  private static final URI URL = URI.create("http://localhost/orders");
+
+  private final ProblemCodecs codecs = createCodecs();
+
+  private static ProblemCodecs createCodecs() {
+    JsonMapper.Builder builder = JsonMapper.builder();
+    new ProblemJsonMapperBuilderCustomizer().customize(builder);
+    return ProblemCodecs.builder()
+        .register(MediaType.APPLICATION_PROBLEM_JSON, builder.build())
+        .build();
+  }
+
+  private static MockClientHttpResponse response(String body, MediaType contentType) {
+    MockClientHttpResponse response =
+        new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.CONFLICT);
+    response.getHeaders().setContentType(contentType);
+    return response;
+  }
+
+  @Test
+  void givenProblemBody_whenHandlingError_thenThrowsDecodedProblem() {
+    ProblemResponseErrorHandler handler = new ProblemResponseErrorHandler(codecs);
+    MockClientHttpResponse response =
+        response(
+            "{\"type\":\"errors/conflict\",\"title\":\"Conflict\",\"status\":409,"
+                + "\"detail\":\"order already exists\",\"orderId\":\"o-1\"}",
+            MediaType.APPLICATION_PROBLEM_JSON);
+
+    assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.POST, response))
+        .isInstanceOf(ProblemException.class)
+        .satisfies(
+            e -> {
+              Problem problem = ((ProblemException) e).getProblem();
+              assertThat(problem.getType()).hasToString("errors/conflict");
+              assertThat(problem.getStatus()).isEqualTo(409);
+              assertThat(problem.getDetail()).isEqualTo("order already exists");
+              assertThat(problem.getExtensionValue("orderId")).isEqualTo("o-1");
+            });
+  }
+
+  @Test
+  void givenProblemBodyWithoutStatus_whenHandlingError_thenFillsInResponseStatus() {
+    ProblemResponseErrorHandler handler = new ProblemResponseErrorHandler(codecs);
+    MockClientHttpResponse response =
+        response(
+            "{\"title\":\"Conflict\",\"detail\":\"order already exists\"}",
+            MediaType.APPLICATION_PROBLEM_JSON);
+
+    assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.POST, response))
+        .isInstanceOf(ProblemException.class)
+        .satisfies(
+            e -> {
+              Problem problem = ((ProblemException) e).getProblem();
+              assertThat(problem.getStatus()).isEqualTo(409);
+              assertThat(problem.getDetail()).isEqualTo("order already exists");
+            });
+  }
+
+  @Test
+  void givenBodyOverLimit_whenHandlingError_thenThrowsProblemWithStatusOnly() {
+    ProblemResponseErrorHandler handler = new ProblemResponseErrorHandler(codecs, 32);
+    MockClientHttpResponse response =
+        response(
+            "{\"title\":\"Conflict\",\"status\":409,\"detail\":\"" + "x".repeat(1024) + "\"}",
+            MediaType.APPLICATION_PROBLEM_JSON);
+
+    assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.POST, response))
+        .isInstanceOf(ProblemException.class)
+        .satisfies(
+            e -> {
+              Problem problem = ((ProblemException) e).getProblem();
+              assertThat(problem.getStatus()).isEqualTo(409);
+              assertThat(problem.getDetail()).isNull();
+            });
+  }
+
+  @Test
+  void givenMalformedProblemBody_whenHandlingError_thenThrowsProblemWithStatusOnly() {
+    ProblemResponseErrorHandler handler = new ProblemResponseErrorHandler(codecs);
+    MockClientHttpResponse response = response("{not json", MediaType.APPLICATION_PROBLEM_JSON);
+
+    assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.GET, response))
+        .isInstanceOf(ProblemException.class)
+        .satisfies(e -> assertThat(((ProblemException) e).getProblem().getStatus()).isEqualTo(409));
+  }
+
+  @Test
+  void givenNonProblemBody_whenHandlingError_thenFallsBackToDefaultHandling() {
+    ProblemResponseErrorHandler handler = new ProblemResponseErrorHandler(codecs);
+    MockClientHttpResponse response =
+        response("{\"error\":\"conflict\"}", MediaType.APPLICATION_JSON);
+
+    assertThatThrownBy(() -> handler.handleError(URL, HttpMethod.GET, response))
+        .isInstanceOf(HttpClientErrorException.Conflict.class);
+  }
+}
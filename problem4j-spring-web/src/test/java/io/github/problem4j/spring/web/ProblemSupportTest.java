@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static io.github.problem4j.spring.web.ProblemSupport.APPLICATION_PROBLEM_CBOR;
+import static io.github.problem4j.spring.web.ProblemSupport.APPLICATION_PROBLEM_SMILE;
+import static io.github.problem4j.spring.web.ProblemSupport.resolveProblemMediaType;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.MediaType;
+
+class ProblemSupportTest {
+
+  private static final List<MediaType> PROBLEM_MEDIA_TYPES =
+      List.of(
+          MediaType.APPLICATION_PROBLEM_JSON,
+          MediaType.APPLICATION_PROBLEM_XML,
+          APPLICATION_PROBLEM_CBOR,
+          APPLICATION_PROBLEM_SMILE);
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(
+      strings = {
+        "*/*",
+        "application/json",
+        "application/cbor",
+        "application/problem+yaml",
+        "not a media type"
+      })
+  void givenNoProblemMediaTypeAccepted_whenResolving_thenReturnsDefault(String accept) {
+    assertThat(resolveProblemMediaType(accept, PROBLEM_MEDIA_TYPES))
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+  }
+
+  @Test
+  void givenProblemCborAccepted_whenResolving_thenReturnsCbor() {
+    assertThat(resolveProblemMediaType("application/problem+cbor, */*", PROBLEM_MEDIA_TYPES))
+        .isEqualTo(APPLICATION_PROBLEM_CBOR);
+  }
+
+  @Test
+  void givenSeveralProblemMediaTypesAccepted_whenResolving_thenReturnsHighestQuality() {
+    String accept = "application/problem+cbor;q=0.5, application/problem+smile;q=0.9";
+
+    assertThat(resolveProblemMediaType(accept, PROBLEM_MEDIA_TYPES))
+        .isEqualTo(APPLICATION_PROBLEM_SMILE);
+  }
+
+  @Test
+  void givenUnsupportedProblemMediaType_whenResolving_thenReturnsDefault() {
+    assertThat(
+            resolveProblemMediaType(
+                "application/problem+cbor", List.of(MediaType.APPLICATION_PROBLEM_JSON)))
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+  }
+
+  @Test
+  void givenNoProblemMediaTypes_whenResolving_thenReturnsProblemJson() {
+    assertThat(resolveProblemMediaType("application/problem+cbor", List.of()))
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+  }
+}
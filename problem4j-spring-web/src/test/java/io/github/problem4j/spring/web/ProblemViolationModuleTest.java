@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.spring.web.parameter.LazyViolationList;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemViolationModuleTest {
+
+  private final JsonMapper defaultMapper = JsonMapper.builder().build();
+  private final JsonMapper streamingMapper =
+      JsonMapper.builder().addModule(new ProblemViolationModule()).build();
+
+  @Test
+  void givenViolations_whenSerializing_thenOutputMatchesDefaultSerialization() {
+    List<Violation> violations =
+        List.of(
+            new Violation("name", "must not be blank"),
+            new Violation(null, "object invalid"),
+            new Violation("age", null));
+
+    String expected = defaultMapper.writeValueAsString(violations);
+    String actual = streamingMapper.writeValueAsString(violations);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void givenUnsortedProperties_whenSerializing_thenOutputMatchesDefaultSerialization() {
+    JsonMapper unsortedDefaultMapper =
+        JsonMapper.builder().disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build();
+    JsonMapper unsortedStreamingMapper =
+        JsonMapper.builder()
+            .disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .addModule(new ProblemViolationModule())
+            .build();
+    List<Violation> violations = List.of(new Violation("name", "must not be blank"));
+
+    String expected = unsortedDefaultMapper.writeValueAsString(violations);
+    String actual = unsortedStreamingMapper.writeValueAsString(violations);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void givenLazyViolationList_whenSerializing_thenOutputMatchesMaterializedList() {
+    List<String> sources = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      sources.add("error " + i);
+    }
+    LazyViolationList<String> violations =
+        new LazyViolationList<>(sources, error -> new Violation("items", error));
+
+    String expected = defaultMapper.writeValueAsString(new ArrayList<>(violations));
+    String actual = streamingMapper.writeValueAsString(violations);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @Test
+  void givenUnreadLazyViolationList_whenSerializing_thenDoesNotRetainViolations() {
+    LazyViolationList<String> violations =
+        new LazyViolationList<>(
+            List.of("must not be blank", "too short"), e -> new Violation("name", e));
+
+    String expected =
+        defaultMapper.writeValueAsString(
+            List.of(
+                new Violation("name", "must not be blank"), new Violation("name", "too short")));
+    String actual = streamingMapper.writeValueAsString(violations);
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(violations.isResolved()).isFalse();
+  }
+
+  @Test
+  void givenLazyViolationListInExtensionMap_whenSerializing_thenWritesArray() {
+    LazyViolationList<String> violations =
+        new LazyViolationList<>(List.of("must not be blank"), e -> new Violation("name", e));
+
+    String expected =
+        defaultMapper.writeValueAsString(
+            Map.of("errors", List.of(new Violation("name", "must not be blank"))));
+    String actual = streamingMapper.writeValueAsString(Map.of("errors", violations));
+
+    assertThat(actual).isEqualTo(expected);
+  }
+}
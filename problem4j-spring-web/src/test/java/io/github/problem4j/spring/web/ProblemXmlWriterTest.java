@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static io.github.problem4j.spring.web.ProblemXmlWriter.PROBLEM_NAMESPACE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLOutputFactory;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemXmlWriterTest {
+
+  private final ProblemXmlWriter writer = new ProblemXmlWriter();
+
+  @Test
+  void givenProblem_whenWriting_thenWritesStandardMembersInNamespace() throws Exception {
+    Problem problem =
+        Problem.builder()
+            .type("errors/invalid-request")
+            .title("Bad Request")
+            .status(400)
+            .detail("Validation failed")
+            .instance("urn:uuid:6d0b6ae4-5e5d-4a43-9d3b-4c3f9a2b8f51")
+            .build();
+
+    Element root = write(problem);
+
+    assertThat(root.getNamespaceURI()).isEqualTo(PROBLEM_NAMESPACE);
+    assertThat(root.getLocalName()).isEqualTo("problem");
+    assertThat(childNames(root)).containsExactly("type", "title", "status", "detail", "instance");
+    assertThat(child(root, "type").getTextContent()).isEqualTo("errors/invalid-request");
+    assertThat(child(root, "status").getTextContent()).isEqualTo("400");
+    assertThat(child(root, "status").getNamespaceURI()).isEqualTo(PROBLEM_NAMESPACE);
+  }
+
+  @Test
+  void givenBlankTypeAndNoStatus_whenWriting_thenSkipsThem() throws Exception {
+    Problem problem = Problem.builder().title("Unknown").build();
+
+    Element root = write(problem);
+
+    assertThat(childNames(root)).containsExactly("title");
+  }
+
+  @Test
+  void givenExtensions_whenWriting_thenWritesArraysAsItemsAndObjectsAsElements() throws Exception {
+    Problem problem =
+        Problem.builder()
+            .status(400)
+            .extension("userId", "u-123")
+            .extension("retryable", false)
+            .extension("nested", Map.of("key", "value"))
+            .extension(
+                "errors",
+                List.of(new Violation("name", "must not be blank"), new Violation(null, "invalid")))
+            .build();
+
+    Element root = write(problem);
+
+    assertThat(child(root, "userId").getTextContent()).isEqualTo("u-123");
+    assertThat(child(root, "retryable").getTextContent()).isEqualTo("false");
+    assertThat(child(child(root, "nested"), "key").getTextContent()).isEqualTo("value");
+
+    Element errors = child(root, "errors");
+    assertThat(childNames(errors)).containsExactly("i", "i");
+    Element first = (Element) errors.getElementsByTagNameNS(PROBLEM_NAMESPACE, "i").item(0);
+    assertThat(childNames(first)).containsExactly("field", "error");
+    assertThat(child(first, "error").getTextContent()).isEqualTo("must not be blank");
+    Element second = (Element) errors.getElementsByTagNameNS(PROBLEM_NAMESPACE, "i").item(1);
+    assertThat(childNames(second)).containsExactly("error");
+  }
+
+  @Test
+  void givenSpecialCharacters_whenWriting_thenEscapesThem() throws Exception {
+    Problem problem = Problem.builder().detail("a < b & \"c\"").build();
+
+    Element root = write(problem);
+
+    assertThat(child(root, "detail").getTextContent()).isEqualTo("a < b & \"c\"");
+  }
+
+  @Test
+  void givenCharactersIllegalInXml_whenWriting_thenReplacesThem() throws Exception {
+    Problem problem =
+        Problem.builder()
+            .detail("a\u0000b\u001Bc\td\ne")
+            .extension("userId", "u\uD800-\uDC00-\uFFFE")
+            .extension("emoji", "\uD83D\uDE00")
+            .build();
+
+    Element root = write(problem);
+
+    assertThat(child(root, "detail").getTextContent()).isEqualTo("a\uFFFDb\uFFFDc\td\ne");
+    assertThat(child(root, "userId").getTextContent()).isEqualTo("u\uFFFD-\uFFFD-\uFFFD");
+    assertThat(child(root, "emoji").getTextContent()).isEqualTo("\uD83D\uDE00");
+  }
+
+  @Test
+  void givenTextWithoutIllegalCharacters_whenConverting_thenReturnsSameInstance() {
+    String text = "plain text \u00e9\uD83D\uDE00";
+
+    assertThat(ProblemXmlWriter.toXmlText(text)).isSameAs(text);
+  }
+
+  @Test
+  void givenInvalidExtensionNames_whenWriting_thenSkipsThem() throws Exception {
+    Problem problem =
+        Problem.builder()
+            .status(400)
+            .extension("1st", "a")
+            .extension("with space", "b")
+            .extension("ns:name", "c")
+            .extension("<script>", "d")
+            .extension("valid-name_1.x", "e")
+            .extension("\u00e9t\u00e9", "f")
+            .extension("nested", Map.of("", "g", "key", "h"))
+            .build();
+
+    Element root = write(problem);
+
+    assertThat(childNames(root))
+        .containsExactlyInAnyOrder("status", "valid-name_1.x", "\u00e9t\u00e9", "nested");
+    assertThat(childNames(child(root, "nested"))).containsExactly("key");
+  }
+
+  @Test
+  void givenPojoExtensionWithoutMapper_whenWriting_thenWritesItsStringRepresentation()
+      throws Exception {
+    Problem problem = Problem.builder().extension("price", new Money(10, "EUR")).build();
+
+    Element root = write(problem);
+
+    assertThat(child(root, "price").getTextContent())
+        .isEqualTo("Money[amount=10, currency=EUR]");
+  }
+
+  @Test
+  void givenPojoExtensionWithMapper_whenWriting_thenWritesItThroughMapper() throws Exception {
+    ProblemXmlWriter mapperWriter =
+        new ProblemXmlWriter(XMLOutputFactory.newFactory(), new JsonMapper());
+    Problem problem = Problem.builder().extension("price", new Money(10, "EUR")).build();
+
+    Element root = write(mapperWriter, problem);
+
+    Element price = child(root, "price");
+    assertThat(childNames(price)).containsExactly("amount", "currency");
+    assertThat(child(price, "amount").getTextContent()).isEqualTo("10");
+    assertThat(child(price, "currency").getTextContent()).isEqualTo("EUR");
+  }
+
+  private Element write(Problem problem) throws Exception {
+    return write(writer, problem);
+  }
+
+  private static Element write(ProblemXmlWriter writer, Problem problem) throws Exception {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    writer.write(problem, outputStream);
+
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    return factory
+        .newDocumentBuilder()
+        .parse(new ByteArrayInputStream(outputStream.toByteArray()))
+        .getDocumentElement();
+  }
+
+  private static List<String> childNames(Element element) {
+    List<String> names = new ArrayList<>();
+    for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node instanceof Element child) {
+        names.add(child.getLocalName());
+      }
+    }
+    return names;
+  }
+
+  private static Element child(Element element, String name) {
+    for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+      if (node instanceof Element child && name.equals(child.getLocalName())) {
+        return child;
+      }
+    }
+    throw new AssertionError("No <" + name + "> in <" + element.getLocalName() + ">");
+  }
+
+  record Money(int amount, String currency) {}
+}
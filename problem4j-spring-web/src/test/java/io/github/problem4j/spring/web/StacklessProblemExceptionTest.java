@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StacklessProblemExceptionTest {
+
+  private final Problem problem = Problem.builder().status(ProblemStatus.BAD_REQUEST).build();
+
+  @AfterEach
+  void afterEach() {
+    StacklessProblemException.setStackTraceSampleRate(
+        StacklessProblemException.DEFAULT_STACK_TRACE_SAMPLE_RATE);
+  }
+
+  @Test
+  void givenDefaultSampleRate_whenCreated_thenHasEmptyStackTrace() {
+    StacklessProblemException ex = new StacklessProblemException(problem);
+
+    assertThat(ex.getStackTrace()).isEmpty();
+    assertThat(ex.getProblem()).isEqualTo(problem);
+  }
+
+  @Test
+  void givenSampleRateOfOne_whenCreated_thenCapturesStackTrace() {
+    StacklessProblemException.setStackTraceSampleRate(1);
+
+    StacklessProblemException ex = new StacklessProblemException(problem);
+
+    assertThat(ex.getStackTrace()).isNotEmpty();
+  }
+
+  @Test
+  void givenSampleRate_whenCreatingMany_thenCapturesStackTraceOfOneInN() {
+    StacklessProblemException.setStackTraceSampleRate(4);
+
+    int captured = 0;
+    for (int i = 0; i < 40; i++) {
+      if (new StacklessProblemException(problem).getStackTrace().length > 0) {
+        captured++;
+      }
+    }
+
+    assertThat(captured).isEqualTo(10);
+  }
+
+  @Test
+  void givenNegativeSampleRate_whenSetting_thenThrowsIllegalArgumentException() {
+    assertThatThrownBy(() -> StacklessProblemException.setStackTraceSampleRate(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
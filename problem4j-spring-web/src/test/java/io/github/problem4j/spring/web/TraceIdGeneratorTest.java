@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.spring.web.tracing.RandomUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TimeOrderedUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.UlidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.W3cTraceIdGenerator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class TraceIdGeneratorTest {
+
+  private static final String URN_UUID_PATTERN =
+      "urn:uuid:[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}";
+
+  static Stream<Arguments> generators() {
+    return Stream.of(
+        Arguments.of(new SecureUuidTraceIdGenerator(), URN_UUID_PATTERN),
+        Arguments.of(new RandomUuidTraceIdGenerator(), URN_UUID_PATTERN),
+        Arguments.of(new TimeOrderedUuidTraceIdGenerator(), URN_UUID_PATTERN),
+        Arguments.of(new UlidTraceIdGenerator(), "[0-9A-HJKMNP-TV-Z]{26}"),
+        Arguments.of(new W3cTraceIdGenerator(), "[0-9a-f]{32}"));
+  }
+
+  @ParameterizedTest
+  @MethodSource("generators")
+  void givenGenerator_whenGenerating_thenProducesUniqueIdsOfItsFormat(
+      TraceIdGenerator generator, String pattern) {
+    Set<String> traceIds = new HashSet<>();
+    for (int i = 0; i < 1000; i++) {
+      String traceId = generator.generateTraceId();
+      assertThat(traceId).matches(pattern);
+      traceIds.add(traceId);
+    }
+    assertThat(traceIds).hasSize(1000);
+  }
+
+  @Test
+  void givenRandomUuidGenerator_whenGenerating_thenProducesVersion4Uuid() {
+    UUID uuid = parseUrnUuid(new RandomUuidTraceIdGenerator().generateTraceId());
+
+    assertThat(uuid.version()).isEqualTo(4);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+  @Test
+  void givenTimeOrderedUuidGenerator_whenGenerating_thenProducesVersion7UuidWithTimestamp() {
+    long before = System.currentTimeMillis();
+    UUID uuid = parseUrnUuid(new TimeOrderedUuidTraceIdGenerator().generateTraceId());
+    long after = System.currentTimeMillis();
+
+    assertThat(uuid.version()).isEqualTo(7);
+    assertThat(uuid.variant()).isEqualTo(2);
+    assertThat(uuid.getMostSignificantBits() >>> 16).isBetween(before, after);
+  }
+
+  @Test
+  void givenUlidGenerator_whenGeneratingInLaterMillisecond_thenSortsAfterEarlierId()
+      throws InterruptedException {
+    UlidTraceIdGenerator generator = new UlidTraceIdGenerator();
+
+    String first = generator.generateTraceId();
+    Thread.sleep(2);
+    String second = generator.generateTraceId();
+
+    assertThat(second).isGreaterThan(first);
+  }
+
+  private static UUID parseUrnUuid(String traceId) {
+    return UUID.fromString(traceId.substring("urn:uuid:".length()));
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.problem4j.spring.web.tracing.MicrometerTraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceContextTraceIdResolver;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import java.util.Map;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TraceIdResolverTest {
+
+  private final TraceContextTraceIdResolver resolver = new TraceContextTraceIdResolver();
+
+  @Test
+  void givenTraceparent_whenResolving_thenReturnsItsTraceId() {
+    String traceId =
+        resolver.resolveTraceId(
+            Map.of("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")::get);
+
+    assertThat(traceId).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+  }
+
+  @Test
+  void givenTraceparentOfFutureVersion_whenResolving_thenIgnoresTrailingFields() {
+    String traceId =
+        resolver.resolveTraceId(
+            header(
+                "traceparent",
+                "cc-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-what-the-future-holds"));
+
+    assertThat(traceId).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+  }
+
+  @ParameterizedTest
+  @NullSource
+  @ValueSource(
+      strings = {
+        "",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01-extra",
+        "00-00000000000000000000000000000000-00f067aa0ba902b7-01",
+        "00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01",
+        "00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01",
+        "ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01",
+        "00_4bf92f3577b34da6a3ce929d0e0e4736_00f067aa0ba902b7_01"
+      })
+  void givenMalformedTraceparent_whenResolving_thenReturnsNull(String value) {
+    assertThat(resolver.resolveTraceId(header("traceparent", value))).isNull();
+  }
+
+  @Test
+  void givenB3SingleHeader_whenResolving_thenReturnsItsTraceId() {
+    String traceId =
+        resolver.resolveTraceId(
+            Map.of("b3", "80f198ee56343ba864fe8b2a57d3eff7-e457b5a2e4d86bd1-1")::get);
+
+    assertThat(traceId).isEqualTo("80f198ee56343ba864fe8b2a57d3eff7");
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"0", "1", "d", "80f198ee56343ba-e457b5a2e4d86bd1", "xyz-abc"})
+  void givenB3SingleHeaderWithoutTraceId_whenResolving_thenReturnsNull(String value) {
+    assertThat(resolver.resolveTraceId(header("b3", value))).isNull();
+  }
+
+  @Test
+  void givenB3MultiHeaders_whenResolving_thenReturnsTraceIdHeader() {
+    String traceId = resolver.resolveTraceId(Map.of("X-B3-TraceId", "463ac35c9f6413ad")::get);
+
+    assertThat(traceId).isEqualTo("463ac35c9f6413ad");
+  }
+
+  @Test
+  void givenNoPropagationHeaders_whenResolving_thenReturnsNull() {
+    assertThat(resolver.resolveTraceId(Map.<String, String>of()::get)).isNull();
+  }
+
+  @Test
+  void givenCurrentSpan_whenResolvingFromMicrometer_thenReturnsItsTraceId() {
+    TraceContext context = mock(TraceContext.class);
+    when(context.traceId()).thenReturn("4bf92f3577b34da6a3ce929d0e0e4736");
+    Span span = mock(Span.class);
+    when(span.context()).thenReturn(context);
+    Tracer tracer = mock(Tracer.class);
+    when(tracer.currentSpan()).thenReturn(span);
+
+    String traceId = new MicrometerTraceIdResolver(() -> tracer).resolveTraceId(name -> null);
+
+    assertThat(traceId).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+  }
+
+  @Test
+  void givenNoTracerOrSpan_whenResolvingFromMicrometer_thenReturnsNull() {
+    Tracer tracer = mock(Tracer.class);
+
+    assertThat(new MicrometerTraceIdResolver(() -> null).resolveTraceId(name -> null)).isNull();
+    assertThat(new MicrometerTraceIdResolver(() -> tracer).resolveTraceId(name -> null)).isNull();
+  }
+
+  private static Function<String, String> header(String name, String value) {
+    return headerName -> name.equals(headerName) ? value : null;
+  }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TraceIdValidatorTest {
+
+  private final TraceIdValidator validator = new TraceIdValidator(40);
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "urn:uuid:3f1c2a9e-7b4d-4e8a-9c6f-1d2e3f4a5b6c",
+        "01ARZ3NDEKTSV4RRFFQ69G5FAV",
+        "4bf92f3577b34da6a3ce929d0e0e4736",
+        "dHJhY2UtaWQ=",
+        "trace_1.2/3+4"
+      })
+  void givenWellFormedTraceId_whenValidating_thenAccepts(String traceId) {
+    TraceIdValidator defaultValidator = new TraceIdValidator();
+
+    assertThat(defaultValidator.validate(traceId)).isTrue();
+    assertThat(defaultValidator.getRejectedCount()).isZero();
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"trace id", "trace\r\nX-Injected: 1", "trace<script>", "trąće"})
+  void givenMalformedTraceId_whenValidating_thenRejectsAndCounts(String traceId) {
+    assertThat(validator.validate(traceId)).isFalse();
+    assertThat(validator.getRejectedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void givenOversizedTraceId_whenValidating_thenRejects() {
+    assertThat(validator.validate("a".repeat(40))).isTrue();
+    assertThat(validator.validate("a".repeat(41))).isFalse();
+    assertThat(validator.validate("a".repeat(8192))).isFalse();
+    assertThat(validator.getRejectedCount()).isEqualTo(2);
+  }
+}
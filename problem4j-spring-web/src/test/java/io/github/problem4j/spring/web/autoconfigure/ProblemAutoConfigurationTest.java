@@ -22,7 +22,9 @@
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.github.problem4j.spring.web.StacklessProblemException;
 import io.github.problem4j.spring.web.app.TestApp;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -85,4 +87,25 @@ void contextLoadsWithoutProblemConfiguration() {
       assertThat(properties).isNull();
     }
   }
+
+  @SpringBootTest(
+      classes = {TestApp.class},
+      properties = {"problem4j.stackless-exceptions.stack-trace-sample-rate=8"})
+  @Nested
+  class WithStackTraceSampleRate {
+
+    @Autowired private ProblemProperties properties;
+
+    @AfterEach
+    void afterEach() {
+      StacklessProblemException.setStackTraceSampleRate(
+          StacklessProblemException.DEFAULT_STACK_TRACE_SAMPLE_RATE);
+    }
+
+    @Test
+    void contextLoadsAndAppliesSampleRate() {
+      assertThat(properties.getStacklessExceptions().getStackTraceSampleRate()).isEqualTo(8);
+      assertThat(StacklessProblemException.getStackTraceSampleRate()).isEqualTo(8);
+    }
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.resolver;
+
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_EXTENSION;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.parameter.GroupedViolations;
+import io.github.problem4j.spring.web.parameter.Violation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+class ConstraintViolationProblemResolverTest {
+
+  private ValidatorFactory validatorFactory;
+
+  private ConstraintViolationProblemResolver constraintViolationProblemResolver;
+
+  private ConstraintViolationException ex;
+
+  @BeforeEach
+  void beforeEach() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    Validator validator = validatorFactory.getValidator();
+    constraintViolationProblemResolver = new ConstraintViolationProblemResolver();
+    ex = new ConstraintViolationException(validator.validate(new Sample("x")));
+  }
+
+  @AfterEach
+  void afterEach() {
+    validatorFactory.close();
+  }
+
+  @Test
+  void givenConstraintViolationException_whenResolving_thenListsViolations() {
+    Problem problem =
+        constraintViolationProblemResolver.resolveProblem(
+            ProblemContext.create(), ex, new HttpHeaders(), HttpStatus.BAD_REQUEST);
+
+    assertThat(problem.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(problem.getExtensionValue(ERRORS_EXTENSION))
+        .isEqualTo(List.of(new Violation("name", "too short")));
+  }
+
+  @Test
+  void givenGroupedErrorsProfile_whenResolving_thenGroupsViolationsByProperty() {
+    Problem problem =
+        constraintViolationProblemResolver.resolveProblem(
+            ProblemContext.create().put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE),
+            ex,
+            new HttpHeaders(),
+            HttpStatus.BAD_REQUEST);
+
+    assertThat(problem.getExtensionValue(ERRORS_EXTENSION))
+        .isEqualTo(GroupedViolations.builder().fieldError("name", "too short").build());
+  }
+
+  record Sample(@NotBlank @Size(min = 3, message = "too short") String name) {}
+}
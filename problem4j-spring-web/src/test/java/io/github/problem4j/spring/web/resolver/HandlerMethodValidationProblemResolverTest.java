@@ -20,16 +20,26 @@
  */
 package io.github.problem4j.spring.web.resolver;
 
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_EXTENSION;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.parameter.GroupedViolations;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.validation.ObjectError;
 import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.validation.method.ParameterValidationResult;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 class HandlerMethodValidationProblemResolverTest {
@@ -58,4 +68,39 @@ void givenHandlerMethodValidationException_shouldGenerateProblem() {
     assertEquals(HttpStatus.BAD_REQUEST.getReasonPhrase(), problem.getTitle());
     assertEquals(HttpStatus.BAD_REQUEST.value(), problem.getStatus());
   }
+
+  @Test
+  void givenGroupedErrorsProfile_whenResolving_thenGroupsViolationsByParameter()
+      throws NoSuchMethodException {
+    MethodValidationResult result = mock(MethodValidationResult.class);
+    ParameterValidationResult valueResult = mock(ParameterValidationResult.class);
+    when(valueResult.getMethodParameter())
+        .thenReturn(
+            new MethodParameter(Sample.class.getDeclaredMethod("sample", String.class), 0));
+    when(valueResult.getResolvableErrors())
+        .thenReturn(
+            List.of(
+                new ObjectError("name", "must not be blank"),
+                new ObjectError("name", "too short")));
+    when(result.getValueResults()).thenReturn(List.of(valueResult));
+    HandlerMethodValidationException ex = new HandlerMethodValidationException(result);
+
+    Problem problem =
+        handlerMethodValidationProblemResolver.resolveProblem(
+            ProblemContext.create().put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE),
+            ex,
+            new HttpHeaders(),
+            ex.getStatusCode());
+
+    assertEquals(
+        GroupedViolations.builder()
+            .fieldError("name", "must not be blank")
+            .fieldError("name", "too short")
+            .build(),
+        problem.getExtensionValue(ERRORS_EXTENSION));
+  }
+
+  static class Sample {
+    void sample(@RequestParam("name") String value) {}
+  }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.web.resolver;
+
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_EXTENSION;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.parameter.GroupedViolations;
+import io.github.problem4j.spring.web.parameter.Violation;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.ObjectError;
+import org.springframework.validation.method.MethodValidationException;
+import org.springframework.validation.method.MethodValidationResult;
+import org.springframework.validation.method.ParameterValidationResult;
+import org.springframework.web.bind.annotation.RequestParam;
+
+class MethodValidationProblemResolverTest {
+
+  private MethodValidationProblemResolver methodValidationProblemResolver;
+
+  private MethodValidationException ex;
+
+  @BeforeEach
+  void beforeEach() throws NoSuchMethodException {
+    methodValidationProblemResolver = new MethodValidationProblemResolver();
+
+    ParameterValidationResult valueResult = mock(ParameterValidationResult.class);
+    when(valueResult.getMethodParameter())
+        .thenReturn(
+            new MethodParameter(Sample.class.getDeclaredMethod("sample", String.class), 0));
+    when(valueResult.getResolvableErrors())
+        .thenReturn(
+            List.of(
+                new ObjectError("name", "must not be blank"),
+                new ObjectError("name", "too short")));
+    MethodValidationResult result = mock(MethodValidationResult.class);
+    when(result.getValueResults()).thenReturn(List.of(valueResult));
+    ex = new MethodValidationException(result);
+  }
+
+  @Test
+  void givenMethodValidationException_whenResolving_thenListsViolations() {
+    Problem problem =
+        methodValidationProblemResolver.resolveProblem(
+            ProblemContext.create(), ex, new HttpHeaders(), HttpStatus.BAD_REQUEST);
+
+    assertThat(problem.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    assertThat(problem.getExtensionValue(ERRORS_EXTENSION))
+        .isEqualTo(
+            List.of(
+                new Violation("name", "must not be blank"), new Violation("name", "too short")));
+  }
+
+  @Test
+  void givenGroupedErrorsProfile_whenResolving_thenGroupsViolationsByParameter() {
+    Problem problem =
+        methodValidationProblemResolver.resolveProblem(
+            ProblemContext.create().put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE),
+            ex,
+            new HttpHeaders(),
+            HttpStatus.BAD_REQUEST);
+
+    assertThat(problem.getExtensionValue(ERRORS_EXTENSION))
+        .isEqualTo(
+            GroupedViolations.builder()
+                .fieldError("name", "must not be blank")
+                .fieldError("name", "too short")
+                .build());
+  }
+
+  static class Sample {
+    void sample(@RequestParam("name") String value) {}
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.AsyncInspectorExecutor;
+import io.github.problem4j.spring.web.InspectorInterest;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Decorates a {@link ReactiveAdviceWebFluxInspector} with a bound on the number of its inspections
+ * that are subscribed but not yet completed, the reactive counterpart of {@link
+ * AsyncInspectorExecutor}. Once {@code maxPending} inspections are in flight, further ones are
+ * dropped (and counted, see {@link #getDroppedCount()}), and each inspection is cancelled once
+ * {@link ReactiveAdviceWebFluxInspector#getTimeout()} of the delegate elapses, so a hanging sink
+ * cannot pile up subscriptions.
+ *
+ * <p>Problem handlers of this library decorate reactive inspectors they are given, unless already
+ * decorated, so each handler bounds its inspections separately. To share one bound among all
+ * handlers, declare the decorated inspector as the bean instead:
+ *
+ * <pre>{@code
+ * @Bean
+ * AdviceWebFluxInspector auditInspector() {
+ *   return new BoundedReactiveAdviceWebFluxInspector(new AuditInspector(), 100);
+ * }
+ * }</pre>
+ */
+public class BoundedReactiveAdviceWebFluxInspector implements ReactiveAdviceWebFluxInspector {
+
+  /** Default maximum number of inspections that are subscribed but not yet completed. */
+  public static final int DEFAULT_MAX_PENDING = AsyncInspectorExecutor.DEFAULT_MAX_PENDING;
+
+  private final ReactiveAdviceWebFluxInspector delegate;
+  private final int maxPending;
+
+  private final Semaphore permits;
+  private final LongAdder dropped = new LongAdder();
+
+  /**
+   * Creates a new bounded inspector, which allows up to {@link #DEFAULT_MAX_PENDING} pending
+   * inspections.
+   *
+   * @param delegate the inspector to bound
+   */
+  public BoundedReactiveAdviceWebFluxInspector(ReactiveAdviceWebFluxInspector delegate) {
+    this(delegate, DEFAULT_MAX_PENDING);
+  }
+
+  /**
+   * Creates a new bounded inspector.
+   *
+   * @param delegate the inspector to bound
+   * @param maxPending maximum number of inspections that are subscribed but not yet completed
+   *     (must be positive)
+   * @throws IllegalArgumentException if {@code maxPending} is not positive
+   */
+  public BoundedReactiveAdviceWebFluxInspector(
+      ReactiveAdviceWebFluxInspector delegate, int maxPending) {
+    if (maxPending <= 0) {
+      throw new IllegalArgumentException("maxPending must be positive, but was " + maxPending);
+    }
+    this.delegate = delegate;
+    this.maxPending = maxPending;
+    this.permits = new Semaphore(maxPending);
+  }
+
+  /**
+   * Runs the delegate's inspection, unless {@code maxPending} inspections are already in flight,
+   * in which case the inspection is dropped and an empty {@link Mono} is returned. A slot is taken
+   * on subscription and freed once the inspection completes, fails, times out or is cancelled.
+   *
+   * @param context the {@link ProblemContext} containing information about the current error
+   *     handling context
+   * @param problem the {@link Problem} object representing the response body
+   * @param ex the original {@link Exception} that triggered the Problem, or {@code null} if the
+   *     Problem was returned by a controller
+   * @param headers the HTTP headers that will be included in the response
+   * @param status the HTTP status code for the response
+   * @param exchange the current {@link ServerWebExchange} associated with the handling
+   * @return a {@link Mono} completing once the inspection is done, dropped or timed out
+   */
+  @Override
+  public Mono<Void> inspectReactive(
+      ProblemContext context,
+      Problem problem,
+      Exception ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    return Mono.defer(
+        () -> {
+          if (!permits.tryAcquire()) {
+            dropped.increment();
+            return Mono.empty();
+          }
+          return Mono.defer(
+                  () -> delegate.inspectReactive(context, problem, ex, headers, status, exchange))
+              .timeout(delegate.getTimeout())
+              .doFinally(signal -> permits.release());
+        });
+  }
+
+  /**
+   * Returns the timeout of the delegate inspector.
+   *
+   * @return timeout of the delegate inspector
+   */
+  @Override
+  public Duration getTimeout() {
+    return delegate.getTimeout();
+  }
+
+  /**
+   * Returns the interest of the delegate inspector.
+   *
+   * @return interest of the delegate inspector
+   */
+  @Override
+  public InspectorInterest getInterest() {
+    return delegate.getInterest();
+  }
+
+  /**
+   * Returns the decorated inspector.
+   *
+   * @return the delegate inspector
+   */
+  public ReactiveAdviceWebFluxInspector getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Returns the maximum number of inspections that are subscribed but not yet completed.
+   *
+   * @return maximum number of pending inspections
+   */
+  public int getMaxPending() {
+    return maxPending;
+  }
+
+  /**
+   * Returns the number of inspections that are subscribed but not yet completed.
+   *
+   * @return number of pending inspections
+   */
+  public int getPendingCount() {
+    return maxPending - permits.availablePermits();
+  }
+
+  /**
+   * Returns the number of inspections dropped so far, because {@code maxPending} ones were in
+   * flight.
+   *
+   * @return number of dropped inspections
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+}
@@ -20,30 +20,29 @@
  */
 package io.github.problem4j.spring.webflux;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.boundReactiveInspectors;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.inspect;
 import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.resolveProblemMediaType;
 
 import io.github.problem4j.core.Problem;
-import io.github.problem4j.core.ProblemBuilder;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemMapper;
 import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ExceptionResolutionPlans;
+import io.github.problem4j.spring.web.InspectorDispatch;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
-import io.github.problem4j.spring.web.resolver.ProblemResolver;
 import java.util.List;
-import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
@@ -57,7 +56,8 @@
  * <ul>
  *   <li>HTTP status: {@link HttpStatus#INTERNAL_SERVER_ERROR}
  *   <li>Response body: a {@link Problem} object containing the status code and reason phrase
- *   <li>Content type: {@code application/problem+json}
+ *   <li>Content type: {@code application/problem+json}, unless client explicitly accepts another
+ *       supported problem media type
  * </ul>
  *
  * <p>Intended as a **generic fallback**, it ensures that unexpected exceptions still produce a
@@ -69,11 +69,11 @@ public class ExceptionWebFluxAdvice {
 
   private static final Logger log = LoggerFactory.getLogger(ExceptionWebFluxAdvice.class);
 
-  private final ProblemMapper problemMapper;
-  private final ProblemResolverStore problemResolverStore;
+  private final ExceptionResolutionPlans resolutionPlans;
   private final ProblemPostProcessor problemPostProcessor;
 
-  private final List<AdviceWebFluxInspector> adviceWebFluxInspectors;
+  private final InspectorDispatch<AdviceWebFluxInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
 
   /**
    * Constructs a new {@code ExceptionWebFluxAdvice}.
@@ -88,10 +88,36 @@ public ExceptionWebFluxAdvice(
       ProblemResolverStore problemResolverStore,
       ProblemPostProcessor problemPostProcessor,
       List<AdviceWebFluxInspector> adviceWebFluxInspectors) {
-    this.problemMapper = problemMapper;
-    this.problemResolverStore = problemResolverStore;
+    this(
+        problemMapper,
+        problemResolverStore,
+        problemPostProcessor,
+        adviceWebFluxInspectors,
+        List.of());
+  }
+
+  /**
+   * Constructs a new {@code ExceptionWebFluxAdvice}, which negotiates content type of problem
+   * responses among given problem media types.
+   *
+   * @param problemMapper the problem mapper to use
+   * @param problemResolverStore the resolver store for mapping exceptions
+   * @param problemPostProcessor the post-processor for problems
+   * @param adviceWebFluxInspectors the inspectors to apply to advice
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ExceptionWebFluxAdvice(
+      ProblemMapper problemMapper,
+      ProblemResolverStore problemResolverStore,
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+      List<MediaType> problemMediaTypes) {
+    this.resolutionPlans = new ExceptionResolutionPlans(problemMapper, problemResolverStore);
     this.problemPostProcessor = problemPostProcessor;
-    this.adviceWebFluxInspectors = adviceWebFluxInspectors;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(
+            boundReactiveInspectors(adviceWebFluxInspectors), AdviceWebFluxInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
   }
 
   /**
@@ -104,15 +130,17 @@ public ExceptionWebFluxAdvice(
    */
   @ExceptionHandler(Exception.class)
   public Mono<ResponseEntity<Problem>> handleException(Exception ex, ServerWebExchange exchange) {
-    ProblemContext context =
-        exchange.getAttributeOrDefault(PROBLEM_CONTEXT_ATTRIBUTE, ProblemContext.create());
+    ProblemContext context = resolveProblemContext(exchange::getAttribute);
+    if (context == null) {
+      context = ProblemContext.create();
+    }
 
     HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+    headers.setContentType(resolveProblemMediaType(exchange, problemMediaTypes));
 
     Problem problem;
     try {
-      problem = getProblemBuilder(ex, context, headers).build();
+      problem = resolutionPlans.resolveBuilder(ex, context, headers).build();
       problem = problemPostProcessor.process(context, problem);
     } catch (Exception e) {
       logAdviceException(log, ex, exchange, e);
@@ -121,38 +149,8 @@ public Mono<ResponseEntity<Problem>> handleException(Exception ex, ServerWebExch
 
     HttpStatus status = resolveStatus(problem);
 
-    for (AdviceWebFluxInspector inspector : adviceWebFluxInspectors) {
-      inspector.inspect(context, problem, ex, headers, status, exchange);
-    }
-
+    List<AdviceWebFluxInspector> inspectors = inspectorDispatch.select(ex, problem, status.value());
+    inspect(log, inspectors, context, problem, ex, headers, status, exchange);
     return Mono.just(new ResponseEntity<>(problem, headers, status));
   }
-
-  private ProblemBuilder getProblemBuilder(
-      Exception ex, ProblemContext context, HttpHeaders headers) {
-    ProblemBuilder builder;
-    if (problemMapper.isMappingCandidate(ex)) {
-      builder = problemMapper.toProblemBuilder(ex, context);
-    } else {
-      Optional<ProblemResolver> optionalResolver = problemResolverStore.findResolver(ex.getClass());
-      if (optionalResolver.isPresent()) {
-        builder =
-            optionalResolver
-                .get()
-                .resolveBuilder(context, ex, headers, HttpStatus.INTERNAL_SERVER_ERROR);
-      } else {
-        ResponseStatus responseStatus =
-            AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
-        if (responseStatus != null) {
-          builder = Problem.builder().status(resolveStatus(responseStatus.code()));
-          if (StringUtils.hasLength(responseStatus.reason())) {
-            builder = builder.detail(responseStatus.reason());
-          }
-        } else {
-          builder = Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR);
-        }
-      }
-    }
-    return builder;
-  }
 }
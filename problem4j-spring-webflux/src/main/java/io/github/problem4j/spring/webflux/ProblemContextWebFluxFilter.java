@@ -20,13 +20,25 @@
  */
 package io.github.problem4j.spring.webflux;
 
+import static io.github.problem4j.spring.web.AttributeSupport.LAZY_PROBLEM_CONTEXT_ATTRIBUTE;
 import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
 import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
 
 import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.LazyProblemContext;
+import io.github.problem4j.spring.web.PathExclusions;
 import io.github.problem4j.spring.web.ProblemContextSettings;
+import io.github.problem4j.spring.web.ProblemSupport;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
 import org.springframework.util.StringUtils;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
@@ -41,18 +53,76 @@
  * <p>The filter reads the trace ID from a configured HTTP header, generates one if missing, and
  * stores it in the {@link ServerWebExchange} attributes, response headers, and Reactor context for
  * downstream access.
+ *
+ * <p>In lazy mode, a single {@link LazyProblemContext} is stored in the exchange attributes and in
+ * the Reactor context, under {@code LAZY_PROBLEM_CONTEXT_ATTRIBUTE}. The context with its trace ID
+ * is created once an error advice or downstream code asks for it (see {@code
+ * AttributeSupport.resolveProblemContext}), so successful requests skip trace ID generation and
+ * extra {@link Context} allocations on the event loop. As the trace ID must be known before the
+ * response is committed to be echoed in {@code tracing-header-name} response header, lazy mode has
+ * no effect when that header is configured.
+ *
+ * <p>In eager mode, the context is created upfront, but {@link #isGroupedErrorsRequested} is
+ * deferred the same way, through a {@link LazyProblemContext} kept in the exchange attributes next
+ * to the context. The Reactor context receives the context without the {@code Accept} profile.
+ *
+ * <p>Requests matching exclude patterns (e.g. health checks, static resources) are passed through
+ * untouched, based on the path already parsed by the server request.
  */
 public class ProblemContextWebFluxFilter implements WebFilter {
 
   private final ProblemContextSettings settings;
+  private final boolean lazy;
+  private final TraceIdGenerator traceIdGenerator;
+  private final List<TraceIdResolver> traceIdResolvers;
+  private final PathExclusions excludedPaths;
+  private final TraceIdValidator traceIdValidator;
 
   /**
-   * Constructs a new {@link ProblemContextWebFluxFilter}.
+   * Constructs a new {@link ProblemContextWebFluxFilter}, which creates context eagerly.
    *
    * @param settings the context settings to use
    */
   public ProblemContextWebFluxFilter(ProblemContextSettings settings) {
+    this(settings, false, new SecureUuidTraceIdGenerator(), List.of(), List.of(), null);
+  }
+
+  /**
+   * Constructs a new {@link ProblemContextWebFluxFilter}.
+   *
+   * @param settings the context settings to use
+   * @param lazy whether to create context only on first access
+   * @param traceIdGenerator generator of trace IDs for requests that do not carry one
+   * @param traceIdResolvers resolvers of trace IDs already assigned to requests, in order
+   * @param excludePatterns path patterns of requests that are not filtered
+   * @param traceIdValidator validator of trace IDs received from clients, or {@code null} to accept
+   *     them as they are
+   * @see #builder(ProblemContextSettings)
+   */
+  public ProblemContextWebFluxFilter(
+      ProblemContextSettings settings,
+      boolean lazy,
+      TraceIdGenerator traceIdGenerator,
+      List<TraceIdResolver> traceIdResolvers,
+      List<String> excludePatterns,
+      TraceIdValidator traceIdValidator) {
     this.settings = settings;
+    this.lazy = lazy;
+    this.traceIdGenerator = traceIdGenerator;
+    this.traceIdResolvers = traceIdResolvers;
+    this.excludedPaths = new PathExclusions(excludePatterns);
+    this.traceIdValidator = traceIdValidator;
+  }
+
+  /**
+   * Creates a builder of {@link ProblemContextWebFluxFilter}, with the same defaults as {@link
+   * #ProblemContextWebFluxFilter(ProblemContextSettings)}.
+   *
+   * @param settings the context settings to use
+   * @return a new builder
+   */
+  public static Builder builder(ProblemContextSettings settings) {
+    return new Builder(settings);
   }
 
   /**
@@ -68,14 +138,76 @@ public ProblemContextWebFluxFilter(ProblemContextSettings settings) {
    */
   @Override
   public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+    if (isExcluded(exchange)) {
+      return chain.filter(exchange);
+    }
+    if (isLazy(exchange)) {
+      LazyProblemContext lazyContext =
+          new LazyProblemContext(() -> initLazyProblemContext(exchange));
+      exchange.getAttributes().put(LAZY_PROBLEM_CONTEXT_ATTRIBUTE, lazyContext);
+      return chain
+          .filter(exchange)
+          .contextWrite(ctx -> ctx.put(LAZY_PROBLEM_CONTEXT_ATTRIBUTE, lazyContext));
+    }
+
     ProblemContext context = buildProblemContext(exchange);
 
     assignContextAttributes(exchange, context);
     modifyServerExchange(exchange, context);
+    exchange
+        .getAttributes()
+        .put(
+            LAZY_PROBLEM_CONTEXT_ATTRIBUTE,
+            new LazyProblemContext(() -> initErrorsProfile(exchange, context)));
 
     return chain.filter(exchange).contextWrite(ctx -> contextWrite(ctx, exchange, context));
   }
 
+  /**
+   * Checks whether given exchange matches any of exclude patterns.
+   *
+   * @param exchange the current server exchange
+   * @return {@code true} if the exchange is excluded, {@code false} otherwise
+   */
+  protected boolean isExcluded(ServerWebExchange exchange) {
+    return !excludedPaths.isEmpty()
+        && excludedPaths.matches(exchange.getRequest().getPath().pathWithinApplication());
+  }
+
+  /**
+   * Checks whether the context of given exchange should be created lazily. Requires lazy mode, no
+   * {@code tracing-header-name} to echo and no context assigned upfront.
+   *
+   * @param exchange the current server exchange
+   * @return {@code true} if context should be created on first access, {@code false} otherwise
+   */
+  protected boolean isLazy(ServerWebExchange exchange) {
+    return lazy
+        && !StringUtils.hasLength(getSettings().getTracingHeaderName())
+        && exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE) == null;
+  }
+
+  private ProblemContext initLazyProblemContext(ServerWebExchange exchange) {
+    ProblemContext context = withErrorsProfile(exchange, buildProblemContext(exchange));
+    assignContextAttributes(exchange, context);
+    modifyServerExchange(exchange, context);
+    return context;
+  }
+
+  private ProblemContext initErrorsProfile(ServerWebExchange exchange, ProblemContext context) {
+    ProblemContext result = withErrorsProfile(exchange, context);
+    if (result != context) {
+      exchange.getAttributes().put(PROBLEM_CONTEXT_ATTRIBUTE, result);
+    }
+    return result;
+  }
+
+  private ProblemContext withErrorsProfile(ServerWebExchange exchange, ProblemContext context) {
+    return isGroupedErrorsRequested(exchange)
+        ? context.put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE)
+        : context;
+  }
+
   /**
    * Builds or retrieves an existing {@link ProblemContext} for the given request.
    *
@@ -86,10 +218,39 @@ public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
    * @return an existing or newly created {@link ProblemContext}
    */
   protected ProblemContext buildProblemContext(ServerWebExchange exchange) {
-    return exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE) instanceof ProblemContext attribute
-        ? attribute
-        : ProblemContext.create()
+    if (exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE) instanceof ProblemContext attribute) {
+      return attribute;
+    }
+    ProblemContext context =
+        ProblemContext.create()
             .put("traceId", findTraceId(exchange).orElseGet(() -> initTraceId(exchange)));
+    if (isGroupedErrorsRequested(exchange)) {
+      context = context.put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE);
+    }
+    return context;
+  }
+
+  /**
+   * Checks whether the client requested {@code errors} extension grouped by field, through {@code
+   * profile} parameter of any of its {@code Accept} media types. If so, grouped encoding is
+   * recorded in the context.
+   *
+   * <p>Called only once the context is resolved for a problem, so that requests which never fail do
+   * not pay for scanning {@code Accept} header.
+   *
+   * @param exchange the current server exchange
+   * @return {@code true} if grouped errors are requested, {@code false} otherwise
+   */
+  protected boolean isGroupedErrorsRequested(ServerWebExchange exchange) {
+    List<String> accept = exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT);
+    if (accept != null) {
+      for (String value : accept) {
+        if (ProblemSupport.hasGroupedErrorsProfile(value)) {
+          return true;
+        }
+      }
+    }
+    return false;
   }
 
   /**
@@ -106,31 +267,64 @@ protected Optional<String> findTraceId(ServerWebExchange exchange) {
    * Initializes a new trace ID for the request if one cannot be found.
    *
    * <p>If a tracing header name is configured in {@link ProblemContextSettings}, the header value
-   * is used if present. Otherwise, a new trace ID is generated using {@link #createNewTraceId}.
+   * is used if present. Then, {@link TraceIdResolver}s are consulted. Received trace IDs are used
+   * only if accepted by {@link #isValidTraceId}. Otherwise, a new trace ID is generated using
+   * {@link #createNewTraceId}.
    *
    * @param exchange the current server exchange
    * @return the existing or newly generated trace ID
    */
   protected String initTraceId(ServerWebExchange exchange) {
-    if (!StringUtils.hasLength(getSettings().getTracingHeaderName())) {
-      return createNewTraceId(exchange);
+    HttpHeaders headers = exchange.getRequest().getHeaders();
+    if (StringUtils.hasLength(getSettings().getTracingHeaderName())) {
+      String traceId = headers.getFirst(getSettings().getTracingHeaderName());
+      if (StringUtils.hasLength(traceId) && isValidTraceId(traceId)) {
+        return traceId;
+      }
+    }
+    String traceId = resolveTraceId(headers::getFirst);
+    return traceId != null && isValidTraceId(traceId) ? traceId : createNewTraceId(exchange);
+  }
+
+  /**
+   * Checks whether trace ID received from the client may be used as it is. By default, delegates to
+   * configured {@link TraceIdValidator}, if any.
+   *
+   * @param traceId received trace ID
+   * @return {@code true} if trace ID is accepted, {@code false} if a new one should be generated
+   */
+  protected boolean isValidTraceId(String traceId) {
+    return traceIdValidator == null || traceIdValidator.validate(traceId);
+  }
+
+  /**
+   * Resolves trace ID already assigned to the request, consulting {@link TraceIdResolver}s in
+   * order.
+   *
+   * @param headers reads first value of a request header by its name
+   * @return the first resolved trace ID, or {@code null} if none of resolvers found one
+   */
+  protected String resolveTraceId(Function<String, String> headers) {
+    for (TraceIdResolver resolver : traceIdResolvers) {
+      String traceId = resolver.resolveTraceId(headers);
+      if (traceId != null) {
+        return traceId;
+      }
     }
-    String traceId =
-        exchange.getRequest().getHeaders().getFirst(getSettings().getTracingHeaderName());
-    return StringUtils.hasLength(traceId) ? traceId : createNewTraceId(exchange);
+    return null;
   }
 
   /**
    * Generates a new trace identifier.
    *
    * <p>Subclasses may override this method to customize the trace ID generation logic. By default,
-   * it delegates to {@code getRandomTraceId()}.
+   * it delegates to configured {@link TraceIdGenerator}.
    *
    * @param exchange the current server exchange
    * @return a newly generated trace ID
    */
   protected String createNewTraceId(ServerWebExchange exchange) {
-    return "urn:uuid:" + UUID.randomUUID();
+    return traceIdGenerator.generateTraceId();
   }
 
   /**
@@ -147,6 +341,10 @@ protected void assignContextAttributes(ServerWebExchange exchange, ProblemContex
   /**
    * Adds the trace ID as an HTTP response header if tracing is enabled.
    *
+   * <p>In lazy mode, invoked only once the context is created, which happens while the filter
+   * chain is already running (typically, in an error advice) and possibly after the response is
+   * committed, or never at all if nothing asks for the context.
+   *
    * @param exchange the current server exchange
    * @param context the current {@link ProblemContext}
    */
@@ -193,4 +391,84 @@ protected Context contextWrite(Context ctx, ServerWebExchange exchange, ProblemC
   protected ProblemContextSettings getSettings() {
     return settings;
   }
+
+  /** Builder for {@link ProblemContextWebFluxFilter}. */
+  public static final class Builder {
+
+    private final ProblemContextSettings settings;
+    private boolean lazy = false;
+    private TraceIdGenerator traceIdGenerator = new SecureUuidTraceIdGenerator();
+    private List<TraceIdResolver> traceIdResolvers = List.of();
+    private List<String> excludePatterns = List.of();
+    private TraceIdValidator traceIdValidator;
+
+    private Builder(ProblemContextSettings settings) {
+      this.settings = settings;
+    }
+
+    /**
+     * Sets whether to create context only on first access.
+     *
+     * @param lazy whether to create context only on first access
+     * @return this builder
+     */
+    public Builder lazy(boolean lazy) {
+      this.lazy = lazy;
+      return this;
+    }
+
+    /**
+     * Sets generator of trace IDs for requests that do not carry one.
+     *
+     * @param traceIdGenerator the trace ID generator
+     * @return this builder
+     */
+    public Builder traceIdGenerator(TraceIdGenerator traceIdGenerator) {
+      this.traceIdGenerator = traceIdGenerator;
+      return this;
+    }
+
+    /**
+     * Sets resolvers of trace IDs already assigned to requests, in order.
+     *
+     * @param traceIdResolvers the trace ID resolvers
+     * @return this builder
+     */
+    public Builder traceIdResolvers(List<TraceIdResolver> traceIdResolvers) {
+      this.traceIdResolvers = traceIdResolvers;
+      return this;
+    }
+
+    /**
+     * Sets path patterns of requests that are not filtered.
+     *
+     * @param excludePatterns the exclude patterns
+     * @return this builder
+     */
+    public Builder excludePatterns(List<String> excludePatterns) {
+      this.excludePatterns = excludePatterns;
+      return this;
+    }
+
+    /**
+     * Sets validator of trace IDs received from clients, {@code null} to accept them as they are.
+     *
+     * @param traceIdValidator the trace ID validator
+     * @return this builder
+     */
+    public Builder traceIdValidator(TraceIdValidator traceIdValidator) {
+      this.traceIdValidator = traceIdValidator;
+      return this;
+    }
+
+    /**
+     * Creates the filter.
+     *
+     * @return a new {@link ProblemContextWebFluxFilter}
+     */
+    public ProblemContextWebFluxFilter build() {
+      return new ProblemContextWebFluxFilter(
+          settings, lazy, traceIdGenerator, traceIdResolvers, excludePatterns, traceIdValidator);
+    }
+  }
 }
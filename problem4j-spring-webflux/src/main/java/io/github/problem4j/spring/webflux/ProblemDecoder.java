@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+
+/**
+ * {@code Decoder} dedicated to {@link Problem} bodies, the reading counterpart of {@link
+ * ProblemEncoder}.
+ *
+ * <p>Reads problems with the pre-built {@link ObjectReader}s of {@link ProblemCodecs}, picked by
+ * content type. Incoming {@link DataBuffer}s are accumulated only up to {@code maxInMemorySize}
+ * bytes; once exceeded, received buffers are released, the body is cancelled and {@link
+ * DataBufferLimitException} is signalled. Accumulated buffers are then read as a single stream,
+ * without copying them into an intermediate array.
+ *
+ * <p>The decoder holds no per-response state and is meant to be shared.
+ */
+public class ProblemDecoder extends AbstractDecoder<Problem> {
+
+  private final ProblemCodecs problemCodecs;
+  private final int maxInMemorySize;
+
+  /**
+   * Creates a new decoder supporting all media types of given {@link ProblemCodecs}.
+   *
+   * @param problemCodecs writers and readers per problem media type
+   * @param maxInMemorySize maximum number of bytes accumulated for a single problem, or {@code -1}
+   *     for no limit
+   */
+  public ProblemDecoder(ProblemCodecs problemCodecs, int maxInMemorySize) {
+    super(problemCodecs.getMediaTypes().toArray(new MimeType[0]));
+    this.problemCodecs = problemCodecs;
+    this.maxInMemorySize = maxInMemorySize;
+  }
+
+  /**
+   * Returns maximum number of bytes accumulated for a single problem.
+   *
+   * @return maximum number of bytes, or {@code -1} for no limit
+   */
+  public int getMaxInMemorySize() {
+    return maxInMemorySize;
+  }
+
+  @Override
+  public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+    return Problem.class.isAssignableFrom(elementType.toClass())
+        && super.canDecode(elementType, mimeType);
+  }
+
+  @Override
+  public Flux<Problem> decode(
+      Publisher<DataBuffer> inputStream,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    return Flux.from(decodeToMono(inputStream, elementType, mimeType, hints));
+  }
+
+  @Override
+  public Mono<Problem> decodeToMono(
+      Publisher<DataBuffer> inputStream,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    return DataBufferUtils.join(inputStream, maxInMemorySize)
+        .map(buffer -> decode(buffer, elementType, mimeType, hints));
+  }
+
+  @Override
+  public Problem decode(
+      DataBuffer buffer, ResolvableType targetType, MimeType mimeType, Map<String, Object> hints) {
+    try {
+      ObjectReader reader = problemCodecs.findReader(mimeType);
+      if (reader == null) {
+        throw new DecodingException("Unsupported problem media type " + mimeType);
+      }
+      try (InputStream inputStream = buffer.asInputStream()) {
+        return reader.readValue(inputStream);
+      } catch (IOException | JacksonException e) {
+        throw new DecodingException("Could not read problem: " + e.getMessage(), e);
+      }
+    } finally {
+      DataBufferUtils.release(buffer);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import io.github.problem4j.spring.web.ProblemStreamWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * {@code Encoder} dedicated to {@link Problem} bodies, registered as a custom codec ahead of
+ * generic Jackson encoders.
+ *
+ * <p>Writes problems with the pre-built {@link ObjectWriter}s of {@link ProblemCodecs}, picked by
+ * content type, straight into a single {@link DataBuffer}, so no serialization config is resolved
+ * per response. Supports only the media types registered in {@link ProblemCodecs}.
+ *
+ * <p>Media types with a dedicated {@link ProblemStreamWriter} (e.g. StAX-based XML) are written
+ * through it instead.
+ */
+public class ProblemEncoder extends AbstractEncoder<Problem> {
+
+  private static final int INITIAL_BUFFER_SIZE = 256;
+
+  private final ProblemCodecs problemCodecs;
+
+  /**
+   * Creates a new encoder supporting all media types of given {@link ProblemCodecs}.
+   *
+   * @param problemCodecs writers and readers per problem media type
+   */
+  public ProblemEncoder(ProblemCodecs problemCodecs) {
+    super(problemCodecs.getMediaTypes().toArray(new MimeType[0]));
+    this.problemCodecs = problemCodecs;
+  }
+
+  /**
+   * Returns problem media types this encoder can write, the default one first.
+   *
+   * @return supported problem media types
+   */
+  public List<MediaType> getProblemMediaTypes() {
+    return problemCodecs.getMediaTypes();
+  }
+
+  @Override
+  public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+    return Problem.class.isAssignableFrom(elementType.toClass())
+        && super.canEncode(elementType, mimeType);
+  }
+
+  @Override
+  public Flux<DataBuffer> encode(
+      Publisher<? extends Problem> inputStream,
+      DataBufferFactory bufferFactory,
+      ResolvableType elementType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    return Flux.from(inputStream)
+        .map(problem -> encodeValue(problem, bufferFactory, elementType, mimeType, hints));
+  }
+
+  @Override
+  public DataBuffer encodeValue(
+      Problem problem,
+      DataBufferFactory bufferFactory,
+      ResolvableType valueType,
+      MimeType mimeType,
+      Map<String, Object> hints) {
+    ProblemStreamWriter writer = problemCodecs.findStreamWriter(mimeType);
+    if (writer == null) {
+      throw new EncodingException("Unsupported problem media type " + mimeType);
+    }
+
+    DataBuffer buffer = bufferFactory.allocateBuffer(INITIAL_BUFFER_SIZE);
+    boolean release = true;
+    try (OutputStream outputStream = buffer.asOutputStream()) {
+      writer.write(problem, outputStream);
+      release = false;
+      return buffer;
+    } catch (IOException | JacksonException e) {
+      throw new EncodingException("Could not write problem: " + e.getMessage(), e);
+    } finally {
+      if (release) {
+        DataBufferUtils.release(buffer);
+      }
+    }
+  }
+}
@@ -20,14 +20,18 @@
  */
 package io.github.problem4j.spring.webflux;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.boundReactiveInspectors;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.inspect;
 import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.resolveProblemMediaType;
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemBuilder;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.InspectorDispatch;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
 import java.util.List;
@@ -52,7 +56,8 @@
  *
  * <ul>
  *   <li>Delegates exception-to-problem mapping to {@link ProblemResolverStore}.
- *   <li>Sets content type to {@code application/problem+json}.
+ *   <li>Sets content type to {@code application/problem+json}, unless client explicitly accepts
+ *       another supported problem media type.
  *   <li>Falls back to {@link ProblemStatus#INTERNAL_SERVER_ERROR} if mapping fails.
  * </ul>
  *
@@ -67,7 +72,8 @@ public class ProblemEnhancedWebFluxHandler extends ResponseEntityExceptionHandle
   private final ProblemResolverStore problemResolverStore;
   private final ProblemPostProcessor problemPostProcessor;
 
-  private final List<AdviceWebFluxInspector> adviceWebFluxInspectors;
+  private final InspectorDispatch<AdviceWebFluxInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
 
   /**
    * Constructs a new {@code ProblemEnhancedWebFluxHandler}.
@@ -80,9 +86,29 @@ public ProblemEnhancedWebFluxHandler(
       ProblemResolverStore problemResolverStore,
       ProblemPostProcessor problemPostProcessor,
       List<AdviceWebFluxInspector> adviceWebFluxInspectors) {
+    this(problemResolverStore, problemPostProcessor, adviceWebFluxInspectors, List.of());
+  }
+
+  /**
+   * Constructs a new {@code ProblemEnhancedWebFluxHandler}, which negotiates content type of
+   * problem responses among given problem media types.
+   *
+   * @param problemResolverStore the resolver store for mapping exceptions
+   * @param problemPostProcessor the post-processor for problems
+   * @param adviceWebFluxInspectors the inspectors to apply to advice
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemEnhancedWebFluxHandler(
+      ProblemResolverStore problemResolverStore,
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+      List<MediaType> problemMediaTypes) {
     this.problemResolverStore = problemResolverStore;
     this.problemPostProcessor = problemPostProcessor;
-    this.adviceWebFluxInspectors = adviceWebFluxInspectors;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(
+            boundReactiveInspectors(adviceWebFluxInspectors), AdviceWebFluxInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
   }
 
   @Override
@@ -92,11 +118,13 @@ protected Mono<ResponseEntity<Object>> handleExceptionInternal(
       HttpHeaders headers,
       HttpStatusCode status,
       ServerWebExchange exchange) {
-    ProblemContext context =
-        exchange.getAttributeOrDefault(PROBLEM_CONTEXT_ATTRIBUTE, ProblemContext.create());
+    ProblemContext context = resolveProblemContext(exchange::getAttribute);
+    if (context == null) {
+      context = ProblemContext.create();
+    }
 
     headers = headers != null ? new HttpHeaders(headers) : new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+    headers.setContentType(resolveProblemMediaType(exchange, problemMediaTypes));
 
     Problem problem;
     try {
@@ -109,10 +137,8 @@ protected Mono<ResponseEntity<Object>> handleExceptionInternal(
 
     status = resolveStatus(problem);
 
-    for (AdviceWebFluxInspector inspector : adviceWebFluxInspectors) {
-      inspector.inspect(context, problem, ex, headers, status, exchange);
-    }
-
+    List<AdviceWebFluxInspector> inspectors = inspectorDispatch.select(ex, problem, status.value());
+    inspect(log, inspectors, context, problem, ex, headers, status, exchange);
     return super.handleExceptionInternal(ex, problem, headers, status, exchange);
   }
 
@@ -20,7 +20,7 @@
  */
 package io.github.problem4j.spring.webflux;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
 import static org.springframework.web.reactive.function.server.RequestPredicates.all;
 import static org.springframework.web.reactive.function.server.RouterFunctions.route;
@@ -28,13 +28,21 @@
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
-import java.util.Optional;
+import io.github.problem4j.spring.web.ProblemSupport;
+import java.util.List;
 import org.springframework.boot.autoconfigure.web.ErrorProperties;
 import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
 import org.springframework.boot.webflux.autoconfigure.error.DefaultErrorWebExceptionHandler;
+import org.springframework.boot.webflux.error.DefaultErrorAttributes;
 import org.springframework.boot.webflux.error.ErrorAttributes;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.ServerRequest;
@@ -46,11 +54,14 @@
  * HTTP problems (RFC 7807) instead of the default JSON error response.
  *
  * <p>It replaces the response body with a {@link Problem} object while preserving the original HTTP
- * status and content type {@code application/problem+json}.
+ * status and content type {@code application/problem+json}, unless client explicitly accepts
+ * another supported problem media type.
  */
 public class ProblemErrorWebExceptionHandler extends DefaultErrorWebExceptionHandler {
 
   private final ProblemPostProcessor problemPostProcessor;
+  private final List<MediaType> problemMediaTypes;
+  private final boolean customErrorAttributes;
 
   /**
    * Constructs a new {@link ProblemErrorWebExceptionHandler}.
@@ -67,8 +78,37 @@ public ProblemErrorWebExceptionHandler(
       WebProperties.Resources resources,
       ErrorProperties errorProperties,
       ApplicationContext applicationContext) {
+    this(
+        problemPostProcessor,
+        errorAttributes,
+        resources,
+        errorProperties,
+        applicationContext,
+        List.of());
+  }
+
+  /**
+   * Constructs a new {@link ProblemErrorWebExceptionHandler}, which negotiates content type of
+   * problem responses among given problem media types.
+   *
+   * @param problemPostProcessor the post-processor for problems
+   * @param errorAttributes the error attributes used to obtain error details
+   * @param resources configuration for static resources
+   * @param errorProperties configuration for error handling
+   * @param applicationContext the current application context
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemErrorWebExceptionHandler(
+      ProblemPostProcessor problemPostProcessor,
+      ErrorAttributes errorAttributes,
+      WebProperties.Resources resources,
+      ErrorProperties errorProperties,
+      ApplicationContext applicationContext,
+      List<MediaType> problemMediaTypes) {
     super(errorAttributes, resources, errorProperties, applicationContext);
     this.problemPostProcessor = problemPostProcessor;
+    this.problemMediaTypes = problemMediaTypes;
+    this.customErrorAttributes = errorAttributes.getClass() != DefaultErrorAttributes.class;
   }
 
   /**
@@ -87,33 +127,67 @@ protected RouterFunction<ServerResponse> getRoutingFunction(ErrorAttributes erro
   /**
    * Renders an error response as a {@link Problem} in {@code application/problem+json} format.
    *
+   * <p>With {@link DefaultErrorAttributes}, problem is rendered directly from the error stored for
+   * the request, without building error attributes and the default JSON error response, as none of
+   * their entries but the status end up in the problem. Any other {@link ErrorAttributes}
+   * (including subclasses of the default one) are still asked for the {@code status} entry.
+   *
    * @param request the current server request
    * @return a {@link Mono} emitting the problem response
    */
   @Override
   protected Mono<ServerResponse> renderErrorResponse(ServerRequest request) {
-    return super.renderErrorResponse(request).flatMap(res -> override(request, res));
+    HttpStatus status =
+        customErrorAttributes ? readStatus(request) : determineStatus(getError(request));
+    Problem problem = Problem.builder().status(resolveStatus(status)).build();
+
+    ProblemContext context = resolveProblemContext(name -> request.attribute(name).orElse(null));
+    if (context != null) {
+      problem = problemPostProcessor.process(context, problem);
+    }
+
+    return ServerResponse.status(problem.getStatus())
+        .contentType(
+            ProblemSupport.resolveProblemMediaType(
+                request.headers().firstHeader(HttpHeaders.ACCEPT), problemMediaTypes))
+        .body(BodyInserters.fromValue(problem));
   }
 
   /**
-   * Overrides the default error response with a {@link Problem} body.
+   * Reads HTTP status from {@code status} entry of error attributes, falling back to {@link
+   * #determineStatus(Throwable)} if the entry is missing or unknown.
    *
    * @param request the current server request
-   * @param response the response generated by the default handler
-   * @return a {@link Mono} emitting the updated response
+   * @return the HTTP status of the error
    */
-  private Mono<ServerResponse> override(ServerRequest request, ServerResponse response) {
-    Problem problem = Problem.builder().status(resolveStatus(response.statusCode())).build();
-
-    Optional<ProblemContext> optionalContext =
-        request.attribute(PROBLEM_CONTEXT_ATTRIBUTE).map(context -> (ProblemContext) context);
-    if (optionalContext.isPresent()) {
-      ProblemContext context = optionalContext.get();
-      problem = problemPostProcessor.process(context, problem);
+  protected HttpStatus readStatus(ServerRequest request) {
+    Object code = getErrorAttributes(request, ErrorAttributeOptions.defaults()).get("status");
+    if (code instanceof Integer value) {
+      HttpStatus status = HttpStatus.resolve(value);
+      if (status != null) {
+        return status;
+      }
     }
+    return determineStatus(getError(request));
+  }
 
-    return ServerResponse.status(problem.getStatus())
-        .contentType(MediaType.APPLICATION_PROBLEM_JSON)
-        .body(BodyInserters.fromValue(problem));
+  /**
+   * Determines HTTP status of given error, the same way as {@code DefaultErrorAttributes} does for
+   * its {@code status} entry. Status of {@link ErrorResponse} takes precedence over {@link
+   * ResponseStatus} annotation, otherwise {@link HttpStatus#INTERNAL_SERVER_ERROR} is used.
+   *
+   * @param error the error being handled
+   * @return the HTTP status of the error
+   */
+  protected HttpStatus determineStatus(Throwable error) {
+    if (error instanceof ErrorResponse errorResponse) {
+      HttpStatus status = HttpStatus.resolve(errorResponse.getStatusCode().value());
+      if (status != null) {
+        return status;
+      }
+    }
+    ResponseStatus responseStatus =
+        AnnotatedElementUtils.findMergedAnnotation(error.getClass(), ResponseStatus.class);
+    return responseStatus != null ? responseStatus.code() : HttpStatus.INTERNAL_SERVER_ERROR;
   }
 }
@@ -20,13 +20,17 @@
  */
 package io.github.problem4j.spring.webflux;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.boundReactiveInspectors;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.inspect;
 import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.resolveProblemMediaType;
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemException;
 import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.InspectorDispatch;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemSupport;
 import java.util.List;
@@ -45,7 +49,8 @@
  * Handles {@link ProblemException} thrown by application code.
  *
  * <p>Converts the exception into a {@link Problem} response with the appropriate HTTP status and
- * content type {@code application/problem+json}.
+ * content type {@code application/problem+json}, unless client explicitly accepts another supported
+ * problem media type.
  *
  * <p>This is intended for application-level exceptions already represented as {@link Problem}.
  */
@@ -56,7 +61,8 @@ public class ProblemExceptionWebFluxAdvice {
 
   private final ProblemPostProcessor problemPostProcessor;
 
-  private final List<AdviceWebFluxInspector> adviceWebFluxInspectors;
+  private final InspectorDispatch<AdviceWebFluxInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
 
   /**
    * Constructs a new {@code ProblemExceptionWebFluxAdvice}.
@@ -67,8 +73,26 @@ public class ProblemExceptionWebFluxAdvice {
   public ProblemExceptionWebFluxAdvice(
       ProblemPostProcessor problemPostProcessor,
       List<AdviceWebFluxInspector> adviceWebFluxInspectors) {
+    this(problemPostProcessor, adviceWebFluxInspectors, List.of());
+  }
+
+  /**
+   * Constructs a new {@code ProblemExceptionWebFluxAdvice}, which negotiates content type of
+   * problem responses among given problem media types.
+   *
+   * @param problemPostProcessor the post-processor for problems
+   * @param adviceWebFluxInspectors the inspectors to apply to advice
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemExceptionWebFluxAdvice(
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+      List<MediaType> problemMediaTypes) {
     this.problemPostProcessor = problemPostProcessor;
-    this.adviceWebFluxInspectors = adviceWebFluxInspectors;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(
+            boundReactiveInspectors(adviceWebFluxInspectors), AdviceWebFluxInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
   }
 
   /**
@@ -82,11 +106,13 @@ public ProblemExceptionWebFluxAdvice(
   @ExceptionHandler(ProblemException.class)
   public Mono<ResponseEntity<Problem>> handleProblemException(
       ProblemException ex, ServerWebExchange exchange) {
-    ProblemContext context =
-        exchange.getAttributeOrDefault(PROBLEM_CONTEXT_ATTRIBUTE, ProblemContext.create());
+    ProblemContext context = resolveProblemContext(exchange::getAttribute);
+    if (context == null) {
+      context = ProblemContext.create();
+    }
 
     HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+    headers.setContentType(resolveProblemMediaType(exchange, problemMediaTypes));
 
     Problem problem;
     try {
@@ -99,10 +125,8 @@ public Mono<ResponseEntity<Problem>> handleProblemException(
 
     HttpStatus status = ProblemSupport.resolveStatus(problem);
 
-    for (AdviceWebFluxInspector inspector : adviceWebFluxInspectors) {
-      inspector.inspect(context, problem, ex, headers, status, exchange);
-    }
-
+    List<AdviceWebFluxInspector> inspectors = inspectorDispatch.select(ex, problem, status.value());
+    inspect(log, inspectors, context, problem, ex, headers, status, exchange);
     return Mono.just(new ResponseEntity<>(problem, headers, status));
   }
 }
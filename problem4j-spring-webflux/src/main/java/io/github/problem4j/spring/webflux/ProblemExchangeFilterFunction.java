@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import java.util.Map;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyExtractors;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ExchangeFilterFunction} for {@code WebClient}, which turns error responses carrying a
+ * problem document into {@code Mono.error(ProblemException)}.
+ *
+ * <p>Problems are decoded with given, shared {@link ProblemDecoder}, so no codec is created or
+ * configured per response. If the body exceeds decoder's size limit, or is not a valid problem, the
+ * signalled problem carries the response status only. A decoded problem without {@code status}
+ * gets the response status filled in.
+ *
+ * <p>Successful responses and error responses of other media types are passed through unchanged.
+ *
+ * <pre>{@code
+ * WebClient webClient = WebClient.builder().filter(problemExchangeFilterFunction).build();
+ * }</pre>
+ */
+public class ProblemExchangeFilterFunction implements ExchangeFilterFunction {
+
+  private static final ResolvableType PROBLEM_TYPE = ResolvableType.forClass(Problem.class);
+
+  private final ProblemDecoder problemDecoder;
+
+  /**
+   * Creates a new filter function.
+   *
+   * @param problemDecoder shared decoder of problem bodies
+   */
+  public ProblemExchangeFilterFunction(ProblemDecoder problemDecoder) {
+    this.problemDecoder = problemDecoder;
+  }
+
+  @Override
+  public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+    return next.exchange(request).flatMap(this::handleResponse);
+  }
+
+  private Mono<ClientResponse> handleResponse(ClientResponse response) {
+    if (!response.statusCode().isError()) {
+      return Mono.just(response);
+    }
+    MediaType contentType = response.headers().contentType().orElse(null);
+    if (contentType == null || !problemDecoder.canDecode(PROBLEM_TYPE, contentType)) {
+      return Mono.just(response);
+    }
+
+    int status = response.statusCode().value();
+    Problem fallback = Problem.builder().status(status).build();
+    return problemDecoder
+        .decodeToMono(
+            response.body(BodyExtractors.toDataBuffers()), PROBLEM_TYPE, contentType, Map.of())
+        .onErrorResume(
+            e -> e instanceof DecodingException || e instanceof DataBufferLimitException,
+            e -> Mono.just(fallback))
+        .defaultIfEmpty(fallback)
+        .flatMap(
+            problem -> {
+              if (problem.getStatus() == 0) {
+                problem = problem.toBuilder().status(status).build();
+              }
+              return Mono.<ClientResponse>error(new ProblemException(problem));
+            });
+  }
+}
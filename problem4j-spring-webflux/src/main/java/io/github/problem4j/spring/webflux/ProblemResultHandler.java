@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
+import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.resolveProblemMediaType;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemResult;
+import java.util.List;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.Ordered;
+import org.springframework.core.ReactiveAdapter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
+import org.springframework.web.reactive.result.method.annotation.AbstractMessageWriterResultHandler;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link HandlerResultHandler} for controller methods returning {@link Problem} or {@link
+ * ProblemResult} directly (or as a single-value publisher, e.g. {@code Mono<ProblemResult<T>>}),
+ * so that rejecting a request does not require signalling an exception and dispatching it to an
+ * {@code @ExceptionHandler}.
+ *
+ * <p>Returned problems go through {@link ProblemPostProcessor}, the same way as problems resolved
+ * by advices, and are written with status of the problem and negotiated problem media type. {@link
+ * AdviceWebFluxInspector}s are not invoked, as there is no exception that caused the problem.
+ * Values of successful {@link ProblemResult}s are written with {@code 200 OK} status.
+ *
+ * <p>Ordered ahead of {@code ResponseEntityResultHandler} and {@code ResponseBodyResultHandler},
+ * which would otherwise claim these return types.
+ */
+public class ProblemResultHandler extends AbstractMessageWriterResultHandler
+    implements HandlerResultHandler {
+
+  /** Default order of this handler, ahead of Spring's {@code ResponseEntityResultHandler}. */
+  public static final int DEFAULT_ORDER = Ordered.HIGHEST_PRECEDENCE + 100;
+
+  private static final MethodParameter PROBLEM_TYPE = bodyType("problemBody");
+  private static final MethodParameter VALUE_TYPE = bodyType("valueBody");
+
+  private final ProblemPostProcessor problemPostProcessor;
+  private final List<MediaType> problemMediaTypes;
+
+  /**
+   * Creates a new {@link ProblemResultHandler}.
+   *
+   * @param messageWriters writers of response bodies
+   * @param contentTypeResolver resolver of requested content types
+   * @param adapterRegistry registry of reactive type adapters
+   * @param problemPostProcessor the post-processor
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemResultHandler(
+      List<HttpMessageWriter<?>> messageWriters,
+      RequestedContentTypeResolver contentTypeResolver,
+      ReactiveAdapterRegistry adapterRegistry,
+      ProblemPostProcessor problemPostProcessor,
+      List<MediaType> problemMediaTypes) {
+    super(messageWriters, contentTypeResolver, adapterRegistry);
+    this.problemPostProcessor = problemPostProcessor;
+    this.problemMediaTypes = problemMediaTypes;
+    setOrder(DEFAULT_ORDER);
+  }
+
+  /**
+   * Supports methods declared to return {@link Problem} or {@link ProblemResult}, either directly
+   * or through a single-value publisher.
+   *
+   * @param result the result of handler method
+   * @return {@code true} if return type is supported
+   */
+  @Override
+  public boolean supports(HandlerResult result) {
+    ResolvableType returnType = result.getReturnType();
+    if (isProblemType(returnType.toClass())) {
+      return true;
+    }
+    ReactiveAdapter adapter = getAdapter(result);
+    return adapter != null
+        && !adapter.isMultiValue()
+        && !adapter.isNoValue()
+        && isProblemType(returnType.getGeneric().toClass());
+  }
+
+  /**
+   * Writes returned problem, or value of successful {@link ProblemResult}.
+   *
+   * @param exchange the current server exchange
+   * @param result the result of handler method
+   * @return {@code Mono} that completes when response is written
+   */
+  @Override
+  public Mono<Void> handleResult(ServerWebExchange exchange, HandlerResult result) {
+    Object returnValue = result.getReturnValue();
+    ReactiveAdapter adapter = getAdapter(result);
+    if (adapter == null) {
+      return writeResult(exchange, returnValue);
+    }
+    return Mono.from(adapter.toPublisher(returnValue))
+        .flatMap(value -> writeResult(exchange, value));
+  }
+
+  private Mono<Void> writeResult(ServerWebExchange exchange, Object value) {
+    if (value instanceof ProblemResult<?> result && !result.isProblem()) {
+      return writeBody(result.getValue(), VALUE_TYPE, exchange);
+    }
+    Problem problem =
+        value instanceof ProblemResult<?> result ? result.getProblem() : (Problem) value;
+    return writeProblem(exchange, problem);
+  }
+
+  /**
+   * Writes returned problem, after post-processing.
+   *
+   * @param exchange the current server exchange
+   * @param problem the returned problem, {@code null} is treated as {@code 500 Internal Server
+   *     Error}
+   * @return {@code Mono} that completes when response is written
+   */
+  protected Mono<Void> writeProblem(ServerWebExchange exchange, Problem problem) {
+    ProblemContext context = resolveProblemContext(exchange::getAttribute);
+    if (context == null) {
+      context = ProblemContext.create();
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(resolveProblemMediaType(exchange, problemMediaTypes));
+
+    if (problem == null) {
+      problem = Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build();
+    }
+    problem = problemPostProcessor.process(context, problem);
+
+    HttpStatus status = resolveStatus(problem);
+
+    exchange.getResponse().setStatusCode(status);
+    exchange.getResponse().getHeaders().putAll(headers);
+    return writeBody(problem, PROBLEM_TYPE, exchange);
+  }
+
+  private static boolean isProblemType(Class<?> type) {
+    return Problem.class.isAssignableFrom(type) || ProblemResult.class.isAssignableFrom(type);
+  }
+
+  private static MethodParameter bodyType(String methodName) {
+    return new MethodParameter(
+        ReflectionUtils.findMethod(ProblemResultHandler.class, methodName), -1);
+  }
+
+  @SuppressWarnings("unused")
+  private static Problem problemBody() {
+    return null;
+  }
+
+  @SuppressWarnings("unused")
+  private static Object valueBody() {
+    return null;
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
+import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.boundReactiveInspectors;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.inspect;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webflux.WebFluxAdviceSupport.resolveProblemMediaType;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ExceptionResolutionPlans;
+import io.github.problem4j.spring.web.InspectorDispatch;
+import io.github.problem4j.spring.web.ProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemResolverStore;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link HandlerFilterFunction} converting errors of WebFlux.fn functional endpoints into {@link
+ * Problem} responses, without falling through to {@link ProblemErrorWebExceptionHandler}.
+ *
+ * <p>{@link ProblemException}s are written with their own problem, other exceptions are resolved
+ * the same way as in {@link ExceptionWebFluxAdvice}, through {@link ProblemMapper} and {@link
+ * ProblemResolverStore}. Problems go through {@link ProblemPostProcessor} and {@link
+ * AdviceWebFluxInspector}s as in controller advices.
+ *
+ * <pre>{@code
+ * RouterFunctions.route()
+ *     .GET("/orders/{id}", orderHandler::getOrder)
+ *     .filter(problemWebFluxHandlerFilterFunction)
+ *     .build();
+ * }</pre>
+ */
+public class ProblemWebFluxHandlerFilterFunction
+    implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(ProblemWebFluxHandlerFilterFunction.class);
+
+  private final ExceptionResolutionPlans resolutionPlans;
+  private final ProblemPostProcessor problemPostProcessor;
+
+  private final InspectorDispatch<AdviceWebFluxInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
+
+  /**
+   * Creates a new {@code ProblemWebFluxHandlerFilterFunction}.
+   *
+   * @param problemMapper the problem mapper to use
+   * @param problemResolverStore the resolver store for mapping exceptions
+   * @param problemPostProcessor the post-processor for problems
+   * @param adviceWebFluxInspectors the inspectors to invoke for resolved problems
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemWebFluxHandlerFilterFunction(
+      ProblemMapper problemMapper,
+      ProblemResolverStore problemResolverStore,
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+      List<MediaType> problemMediaTypes) {
+    this.resolutionPlans = new ExceptionResolutionPlans(problemMapper, problemResolverStore);
+    this.problemPostProcessor = problemPostProcessor;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(
+            boundReactiveInspectors(adviceWebFluxInspectors), AdviceWebFluxInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
+  }
+
+  /**
+   * Invokes given handler function, converting its errors into {@link Problem} responses.
+   *
+   * @param request the current request
+   * @param next the handler function being filtered
+   * @return the response of handler function, or the problem response if it failed
+   */
+  @Override
+  public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    return Mono.defer(() -> next.handle(request))
+        .onErrorResume(Exception.class, ex -> handleException(ex, request.exchange()));
+  }
+
+  /**
+   * Converts given exception into a {@link Problem} response.
+   *
+   * @param ex the exception to handle
+   * @param exchange the current server web exchange
+   * @return a {@link Mono} emitting the response with a {@link Problem} body
+   */
+  protected Mono<ServerResponse> handleException(Exception ex, ServerWebExchange exchange) {
+    ProblemContext context = resolveProblemContext(exchange::getAttribute);
+    if (context == null) {
+      context = ProblemContext.create();
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(resolveProblemMediaType(exchange, problemMediaTypes));
+
+    Problem problem;
+    try {
+      problem =
+          ex instanceof ProblemException pe
+              ? pe.getProblem()
+              : resolutionPlans.resolveBuilder(ex, context, headers).build();
+      problem = problemPostProcessor.process(context, problem);
+    } catch (Exception e) {
+      logAdviceException(log, ex, exchange, e);
+      problem = Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build();
+    }
+
+    HttpStatus status = resolveStatus(problem);
+
+    List<AdviceWebFluxInspector> inspectors = inspectorDispatch.select(ex, problem, status.value());
+    inspect(log, inspectors, context, problem, ex, headers, status, exchange);
+    return ServerResponse.status(status).headers(h -> h.addAll(headers)).bodyValue(problem);
+  }
+}
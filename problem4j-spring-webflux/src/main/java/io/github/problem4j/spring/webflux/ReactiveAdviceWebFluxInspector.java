@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import java.time.Duration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link AdviceWebFluxInspector}, for inspectors that publish audit events
+ * or call remote sinks.
+ *
+ * <p>Instead of being invoked on the event loop and expected to return quickly, the inspection is
+ * returned as a {@link Mono}, which problem handlers subscribe to without waiting for it, so it
+ * runs alongside writing the response and sink latency never delays the response. By the time the
+ * inspection runs, the response may already be committed. Problem handlers bound the number of
+ * pending inspections and cancel those exceeding {@link #getTimeout()}, see {@link
+ * BoundedReactiveAdviceWebFluxInspector}. Errors signalled by an inspection, including timeouts,
+ * are logged and do not affect the response.
+ */
+public interface ReactiveAdviceWebFluxInspector extends AdviceWebFluxInspector {
+
+  /** Default maximum time a reactive inspection may take before it is cancelled. */
+  Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+  /**
+   * Observe the details of a Problem response before it is sent to the client, without blocking.
+   *
+   * @param context the {@link ProblemContext} containing information about the current error
+   *     handling context
+   * @param problem the {@link Problem} object representing the response body
+   * @param ex the original {@link Exception} that triggered the Problem, or {@code null} if the
+   *     Problem was returned by a controller
+   * @param headers the HTTP headers that will be included in the response
+   * @param status the HTTP status code for the response
+   * @param exchange the current {@link ServerWebExchange} associated with the handling
+   * @return a {@link Mono} completing once the inspection is done
+   */
+  Mono<Void> inspectReactive(
+      ProblemContext context,
+      Problem problem,
+      Exception ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange);
+
+  /**
+   * Returns the maximum time {@link #inspectReactive} may take to complete. Once it elapses, the
+   * inspection is cancelled, so that it does not hold a slot of pending inspections any longer.
+   *
+   * @return the inspection timeout, {@link #DEFAULT_TIMEOUT} by default
+   */
+  default Duration getTimeout() {
+    return DEFAULT_TIMEOUT;
+  }
+
+  /**
+   * Subscribes to {@link #inspectReactive} without waiting for it to complete. Used only by callers
+   * that are not aware of reactive inspectors, as problem handlers of this library subscribe to
+   * {@link #inspectReactive} themselves.
+   *
+   * @param context the {@link ProblemContext} containing information about the current error
+   *     handling context
+   * @param problem the {@link Problem} object representing the response body
+   * @param ex the original {@link Exception} that triggered the Problem, or {@code null} if the
+   *     Problem was returned by a controller
+   * @param headers the HTTP headers that will be included in the response
+   * @param status the HTTP status code for the response
+   * @param exchange the current {@link ServerWebExchange} associated with the handling
+   */
+  @Override
+  default void inspect(
+      ProblemContext context,
+      Problem problem,
+      Exception ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    inspectReactive(context, problem, ex, headers, status, exchange).subscribe();
+  }
+}
@@ -20,13 +20,36 @@
  */
 package io.github.problem4j.spring.webflux;
 
-import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveTraceId;
 
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.ProblemSupport;
+import java.util.ArrayList;
+import java.util.List;
 import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 class WebFluxAdviceSupport {
 
+  /**
+   * Resolves content type of a problem response from {@code Accept} header of given exchange.
+   *
+   * @param exchange exchange that is being handled
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   * @return content type for the problem response
+   * @see ProblemSupport#resolveProblemMediaType(String, List)
+   */
+  static MediaType resolveProblemMediaType(
+      ServerWebExchange exchange, List<MediaType> problemMediaTypes) {
+    return ProblemSupport.resolveProblemMediaType(
+        exchange.getRequest().getHeaders().getFirst(HttpHeaders.ACCEPT), problemMediaTypes);
+  }
+
   /**
    * Logs exception that occurred while processing exception occurred within controller advices.
    *
@@ -41,10 +64,83 @@ static void logAdviceException(
         "Unable to resolve problem response (method={}, path={}, traceId={}, message={}, originalException=[{} : {}])",
         exchange.getRequest().getMethod(),
         exchange.getRequest().getPath(),
-        exchange.getAttribute(TRACE_ID_ATTRIBUTE),
+        resolveTraceId(exchange::getAttribute),
         e.getMessage(),
         ex.getClass().getName(),
         ex.getMessage(),
         e);
   }
+
+  /**
+   * Decorates reactive inspectors among given ones with {@link
+   * BoundedReactiveAdviceWebFluxInspector}, unless they are decorated already. Other inspectors are
+   * kept as they are.
+   *
+   * @param inspectors inspectors given to a problem handler
+   * @return inspectors with reactive ones bounded, in the same order
+   */
+  static List<AdviceWebFluxInspector> boundReactiveInspectors(
+      List<AdviceWebFluxInspector> inspectors) {
+    List<AdviceWebFluxInspector> bounded = new ArrayList<>(inspectors.size());
+    for (AdviceWebFluxInspector inspector : inspectors) {
+      if (inspector instanceof ReactiveAdviceWebFluxInspector reactive
+          && !(inspector instanceof BoundedReactiveAdviceWebFluxInspector)) {
+        bounded.add(new BoundedReactiveAdviceWebFluxInspector(reactive));
+      } else {
+        bounded.add(inspector);
+      }
+    }
+    return bounded;
+  }
+
+  /**
+   * Runs given inspectors. Regular ones are invoked right away, while inspections of {@link
+   * ReactiveAdviceWebFluxInspector}s are subscribed to without waiting for them, so they run
+   * alongside writing the response and never delay it. Errors signalled by reactive inspections,
+   * including timeouts, are logged and suppressed.
+   *
+   * @param log logger name configured to appropriate controller advice class name
+   * @param inspectors inspectors selected for the problem
+   * @param context the problem context of the exchange
+   * @param problem the problem to be written
+   * @param ex exception that triggered the problem, or {@code null} if the problem was returned
+   * @param headers headers of the problem response
+   * @param status status of the problem response
+   * @param exchange exchange that is being handled
+   */
+  static void inspect(
+      Logger log,
+      List<AdviceWebFluxInspector> inspectors,
+      ProblemContext context,
+      Problem problem,
+      Exception ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      ServerWebExchange exchange) {
+    for (AdviceWebFluxInspector inspector : inspectors) {
+      if (inspector instanceof ReactiveAdviceWebFluxInspector reactive) {
+        Mono.defer(() -> reactive.inspectReactive(context, problem, ex, headers, status, exchange))
+            .onErrorResume(e -> logInspectionError(log, reactive, exchange, e))
+            .subscribe();
+      } else {
+        inspector.inspect(context, problem, ex, headers, status, exchange);
+      }
+    }
+  }
+
+  private static Mono<Void> logInspectionError(
+      Logger log, AdviceWebFluxInspector inspector, ServerWebExchange exchange, Throwable e) {
+    if (inspector instanceof BoundedReactiveAdviceWebFluxInspector bounded) {
+      inspector = bounded.getDelegate();
+    }
+    log.warn(
+        "Reactive inspection failed (inspector={}, method={}, path={}, traceId={}, message={})",
+        inspector.getClass().getName(),
+        exchange.getRequest().getMethod(),
+        exchange.getRequest().getPath(),
+        resolveTraceId(exchange::getAttribute),
+        e.getMessage(),
+        e);
+    return Mono.empty();
+  }
 }
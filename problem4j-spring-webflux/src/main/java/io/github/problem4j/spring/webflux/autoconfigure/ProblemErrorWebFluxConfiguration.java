@@ -21,6 +21,7 @@
 package io.github.problem4j.spring.webflux.autoconfigure;
 
 import io.github.problem4j.spring.web.ProblemPostProcessor;
+import io.github.problem4j.spring.webflux.ProblemEncoder;
 import io.github.problem4j.spring.webflux.ProblemErrorWebExceptionHandler;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -89,14 +90,16 @@ ErrorWebExceptionHandler problemErrorWebExceptionHandler(
       WebProperties webProperties,
       ObjectProvider<ViewResolver> viewResolvers,
       ServerCodecConfigurer serverCodecConfigurer,
-      ApplicationContext applicationContext) {
+      ApplicationContext applicationContext,
+      ObjectProvider<ProblemEncoder> problemEncoder) {
     ProblemErrorWebExceptionHandler exceptionHandler =
         new ProblemErrorWebExceptionHandler(
             problemPostProcessor,
             errorAttributes,
             webProperties.getResources(),
             this.webProperties.getError(),
-            applicationContext);
+            applicationContext,
+            ProblemWebFluxAutoConfiguration.problemMediaTypes(problemEncoder));
     exceptionHandler.setViewResolvers(viewResolvers.orderedStream().toList());
     exceptionHandler.setMessageWriters(serverCodecConfigurer.getWriters());
     exceptionHandler.setMessageReaders(serverCodecConfigurer.getReaders());
@@ -21,15 +21,25 @@
 package io.github.problem4j.spring.webflux.autoconfigure;
 
 import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.spring.web.ProblemCodecs;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
 import io.github.problem4j.spring.web.autoconfigure.ProblemProperties;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
 import io.github.problem4j.spring.webflux.AdviceWebFluxInspector;
 import io.github.problem4j.spring.webflux.ExceptionWebFluxAdvice;
 import io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter;
+import io.github.problem4j.spring.webflux.ProblemDecoder;
+import io.github.problem4j.spring.webflux.ProblemEncoder;
 import io.github.problem4j.spring.webflux.ProblemEnhancedWebFluxHandler;
 import io.github.problem4j.spring.webflux.ProblemExceptionWebFluxAdvice;
+import io.github.problem4j.spring.webflux.ProblemExchangeFilterFunction;
+import io.github.problem4j.spring.webflux.ProblemResultHandler;
+import io.github.problem4j.spring.webflux.ProblemWebFluxHandlerFilterFunction;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -43,7 +53,15 @@
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.HandlerResultHandler;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolver;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
 import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
 import org.springframework.web.server.WebFilter;
 
@@ -83,9 +101,14 @@ ExceptionWebFluxAdvice exceptionWebFluxAdvice(
       ProblemMapper problemMapper,
       ProblemResolverStore problemResolverStore,
       ProblemPostProcessor problemPostProcessor,
-      List<AdviceWebFluxInspector> adviceWebFluxInspectors) {
+      List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+      ObjectProvider<ProblemEncoder> problemEncoder) {
     return new ExceptionWebFluxAdvice(
-        problemMapper, problemResolverStore, problemPostProcessor, adviceWebFluxInspectors);
+        problemMapper,
+        problemResolverStore,
+        problemPostProcessor,
+        adviceWebFluxInspectors,
+        problemMediaTypes(problemEncoder));
   }
 
   /**
@@ -103,8 +126,20 @@ ExceptionWebFluxAdvice exceptionWebFluxAdvice(
   @Bean
   ProblemExceptionWebFluxAdvice problemExceptionWebFluxAdvice(
       ProblemPostProcessor problemPostProcessor,
-      List<AdviceWebFluxInspector> adviceWebFluxInspectors) {
-    return new ProblemExceptionWebFluxAdvice(problemPostProcessor, adviceWebFluxInspectors);
+      List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+      ObjectProvider<ProblemEncoder> problemEncoder) {
+    return new ProblemExceptionWebFluxAdvice(
+        problemPostProcessor, adviceWebFluxInspectors, problemMediaTypes(problemEncoder));
+  }
+
+  /**
+   * Returns problem media types that can be negotiated through {@code Accept} header. These are
+   * the ones supported by {@link ProblemEncoder}, if registered, otherwise only the default {@code
+   * application/problem+json} is used.
+   */
+  static List<MediaType> problemMediaTypes(ObjectProvider<ProblemEncoder> problemEncoder) {
+    ProblemEncoder encoder = problemEncoder.getIfAvailable();
+    return encoder != null ? encoder.getProblemMediaTypes() : List.of();
   }
 
   /**
@@ -124,8 +159,19 @@ static class ProblemContextWebFluxFilterConfiguration {
      */
     @ConditionalOnMissingBean(ProblemContextWebFluxFilter.class)
     @Bean
-    ProblemContextWebFluxFilter problemContextWebFluxFilter(ProblemProperties properties) {
-      return new ProblemContextWebFluxFilter(properties);
+    ProblemContextWebFluxFilter problemContextWebFluxFilter(
+        ProblemProperties properties,
+        ProblemWebFluxProperties webFluxProperties,
+        TraceIdGenerator traceIdGenerator,
+        ObjectProvider<TraceIdResolver> traceIdResolvers,
+        ObjectProvider<TraceIdValidator> traceIdValidator) {
+      return new ProblemContextWebFluxFilter(
+          properties,
+          webFluxProperties.getProblemContextFilter().isLazy(),
+          traceIdGenerator,
+          traceIdResolvers.orderedStream().toList(),
+          webFluxProperties.getProblemContextFilter().getExcludePatterns(),
+          traceIdValidator.getIfAvailable());
     }
   }
 
@@ -150,9 +196,131 @@ static class ResponseEntityExceptionHandlerConfiguration {
     ResponseEntityExceptionHandler problemEnhancedWebFluxHandler(
         ProblemResolverStore problemResolverStore,
         ProblemPostProcessor problemPostProcessor,
-        List<AdviceWebFluxInspector> adviceWebFluxInspectors) {
+        List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+        ObjectProvider<ProblemEncoder> problemEncoder) {
       return new ProblemEnhancedWebFluxHandler(
-          problemResolverStore, problemPostProcessor, adviceWebFluxInspectors);
+          problemResolverStore,
+          problemPostProcessor,
+          adviceWebFluxInspectors,
+          problemMediaTypes(problemEncoder));
+    }
+  }
+
+  /**
+   * Nested configuration that registers {@link ProblemEncoder} as a custom codec, so problem
+   * responses are written with pre-built writers ahead of generic Jackson encoders.
+   */
+  @ConditionalOnProperty(name = "problem4j.webflux.encoder.enabled", matchIfMissing = true)
+  @ConditionalOnClass(WebFluxConfigurer.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemEncoderConfiguration {
+
+    /** Provides the {@link ProblemEncoder} backed by the application's {@link ProblemCodecs}. */
+    @ConditionalOnMissingBean(ProblemEncoder.class)
+    @Bean
+    ProblemEncoder problemEncoder(ProblemCodecs problemCodecs) {
+      return new ProblemEncoder(problemCodecs);
+    }
+
+    /**
+     * Registers {@link ProblemEncoder} among custom codecs, which take precedence over the default
+     * ones for {@code Problem} bodies.
+     */
+    @Bean
+    WebFluxConfigurer problemEncoderWebFluxConfigurer(ProblemEncoder problemEncoder) {
+      return new WebFluxConfigurer() {
+        @Override
+        public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+          configurer.customCodecs().register(problemEncoder);
+        }
+      };
+    }
+  }
+
+  /**
+   * Nested configuration that registers {@link ProblemResultHandler}, so controllers can return
+   * {@code Problem} and {@code ProblemResult} instead of signalling exceptions. Opt-in, as it
+   * changes how controllers returning {@code Problem} are written.
+   */
+  @ConditionalOnProperty(name = "problem4j.webflux.result-handler.enabled", havingValue = "true")
+  @ConditionalOnClass(HandlerResultHandler.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemResultHandlerConfiguration {
+
+    /**
+     * Provides the {@link ProblemResultHandler}, ordered ahead of Spring's own result handlers and
+     * writing through the application's codecs.
+     */
+    @ConditionalOnMissingBean(ProblemResultHandler.class)
+    @Bean
+    ProblemResultHandler problemResultHandler(
+        ServerCodecConfigurer serverCodecConfigurer,
+        RequestedContentTypeResolver contentTypeResolver,
+        ReactiveAdapterRegistry adapterRegistry,
+        ProblemPostProcessor problemPostProcessor,
+        ObjectProvider<ProblemEncoder> problemEncoder) {
+      return new ProblemResultHandler(
+          serverCodecConfigurer.getWriters(),
+          contentTypeResolver,
+          adapterRegistry,
+          problemPostProcessor,
+          problemMediaTypes(problemEncoder));
+    }
+  }
+
+  /**
+   * Nested configuration that provides {@link ProblemWebFluxHandlerFilterFunction}, to be applied
+   * on {@code RouterFunction}s of functional endpoints.
+   */
+  @ConditionalOnProperty(
+      name = "problem4j.webflux.handler-filter-function.enabled",
+      matchIfMissing = true)
+  @ConditionalOnClass(HandlerFilterFunction.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemHandlerFilterFunctionConfiguration {
+
+    /**
+     * Provides the {@link ProblemWebFluxHandlerFilterFunction}, resolving errors the same way as
+     * {@link ExceptionWebFluxAdvice}.
+     */
+    @ConditionalOnMissingBean(ProblemWebFluxHandlerFilterFunction.class)
+    @Bean
+    ProblemWebFluxHandlerFilterFunction problemWebFluxHandlerFilterFunction(
+        ProblemMapper problemMapper,
+        ProblemResolverStore problemResolverStore,
+        ProblemPostProcessor problemPostProcessor,
+        List<AdviceWebFluxInspector> adviceWebFluxInspectors,
+        ObjectProvider<ProblemEncoder> problemEncoder) {
+      return new ProblemWebFluxHandlerFilterFunction(
+          problemMapper,
+          problemResolverStore,
+          problemPostProcessor,
+          adviceWebFluxInspectors,
+          problemMediaTypes(problemEncoder));
+    }
+  }
+
+  /**
+   * Nested configuration that provides {@link ProblemExchangeFilterFunction} for {@code WebClient}
+   * instances calling services that answer with problem documents. Problem bodies are capped by
+   * {@code problem4j.client.max-body-size}.
+   */
+  @ConditionalOnClass(WebClient.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemClientConfiguration {
+
+    /** Provides the shared {@link ProblemDecoder} backed by the application's codecs. */
+    @ConditionalOnMissingBean(ProblemDecoder.class)
+    @Bean
+    ProblemDecoder problemDecoder(ProblemCodecs problemCodecs, ProblemProperties properties) {
+      return new ProblemDecoder(problemCodecs, properties.getClient().getMaxBodySize());
+    }
+
+    /** Provides the {@link ProblemExchangeFilterFunction} using the shared decoder. */
+    @ConditionalOnMissingBean(ProblemExchangeFilterFunction.class)
+    @Bean
+    ProblemExchangeFilterFunction problemExchangeFilterFunction(ProblemDecoder problemDecoder) {
+      return new ProblemExchangeFilterFunction(problemDecoder);
     }
   }
 }
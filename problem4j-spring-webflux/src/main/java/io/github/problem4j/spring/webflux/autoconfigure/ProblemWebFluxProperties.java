@@ -20,6 +20,7 @@
  */
 package io.github.problem4j.spring.webflux.autoconfigure;
 
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
@@ -38,6 +39,9 @@ public class ProblemWebFluxProperties {
   private final ProblemContextFilter problemContextFilter;
   private final ExceptionHandler exceptionHandler;
   private final ErrorWebExceptionHandler errorWebExceptionHandler;
+  private final Encoder encoder;
+  private final ResultHandler resultHandler;
+  private final HandlerFilterFunction handlerFilterFunction;
 
   /**
    * Creates a new instance.
@@ -48,11 +52,17 @@ public class ProblemWebFluxProperties {
    * @param problemContextFilter configuration for {@code ProblemContextWebFluxFilter}
    * @param exceptionHandler configuration for {@code ProblemEnhancedWebFluxHandler}
    * @param errorWebExceptionHandler configuration for {@code ProblemErrorWebExceptionHandler}
+   * @param encoder configuration for {@code ProblemEncoder}
+   * @param resultHandler configuration for {@code ProblemResultHandler}
+   * @param handlerFilterFunction configuration for {@code ProblemWebFluxHandlerFilterFunction}
    * @see io.github.problem4j.spring.webflux.ExceptionWebFluxAdvice
    * @see io.github.problem4j.spring.webflux.ProblemExceptionWebFluxAdvice
    * @see io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter
    * @see io.github.problem4j.spring.webflux.ProblemEnhancedWebFluxHandler
    * @see io.github.problem4j.spring.webflux.ProblemErrorWebExceptionHandler
+   * @see io.github.problem4j.spring.webflux.ProblemEncoder
+   * @see io.github.problem4j.spring.webflux.ProblemResultHandler
+   * @see io.github.problem4j.spring.webflux.ProblemWebFluxHandlerFilterFunction
    */
   public ProblemWebFluxProperties(
       @DefaultValue("true") boolean enabled,
@@ -60,7 +70,10 @@ public ProblemWebFluxProperties(
       ProblemExceptionAdvice problemExceptionAdvice,
       ProblemContextFilter problemContextFilter,
       ExceptionHandler exceptionHandler,
-      ErrorWebExceptionHandler errorWebExceptionHandler) {
+      ErrorWebExceptionHandler errorWebExceptionHandler,
+      Encoder encoder,
+      ResultHandler resultHandler,
+      HandlerFilterFunction handlerFilterFunction) {
     this.enabled = enabled;
     this.exceptionAdvice =
         exceptionAdvice != null ? exceptionAdvice : ExceptionAdvice.createDefault();
@@ -76,6 +89,12 @@ public ProblemWebFluxProperties(
         errorWebExceptionHandler != null
             ? errorWebExceptionHandler
             : ErrorWebExceptionHandler.createDefault();
+    this.encoder = encoder != null ? encoder : Encoder.createDefault();
+    this.resultHandler = resultHandler != null ? resultHandler : ResultHandler.createDefault();
+    this.handlerFilterFunction =
+        handlerFilterFunction != null
+            ? handlerFilterFunction
+            : HandlerFilterFunction.createDefault();
   }
 
   /**
@@ -147,6 +166,39 @@ public ErrorWebExceptionHandler getErrorWebExceptionHandler() {
     return errorWebExceptionHandler;
   }
 
+  /**
+   * Returns configuration for {@code ProblemEncoder}, which writes {@code Problem} responses with
+   * pre-built writers ahead of generic encoders.
+   *
+   * @return the configuration for the problem encoder
+   * @see io.github.problem4j.spring.webflux.ProblemEncoder
+   */
+  public Encoder getEncoder() {
+    return encoder;
+  }
+
+  /**
+   * Returns configuration for {@code ProblemResultHandler}, which writes {@code Problem} and {@code
+   * ProblemResult} values returned by controllers.
+   *
+   * @return the configuration for the result handler
+   * @see io.github.problem4j.spring.webflux.ProblemResultHandler
+   */
+  public ResultHandler getResultHandler() {
+    return resultHandler;
+  }
+
+  /**
+   * Returns configuration for {@code ProblemWebFluxHandlerFilterFunction}, which converts errors
+   * of functional endpoints into {@code Problem} responses.
+   *
+   * @return the configuration for the handler filter function
+   * @see io.github.problem4j.spring.webflux.ProblemWebFluxHandlerFilterFunction
+   */
+  public HandlerFilterFunction getHandlerFilterFunction() {
+    return handlerFilterFunction;
+  }
+
   /**
    * Configuration group for {@code ExceptionWebFluxAdvice}.
    *
@@ -234,7 +286,10 @@ public boolean isEnabled() {
   /**
    * Configuration group for {@code ProblemContextWebFluxFilter}.
    *
-   * <p>Controlled by the property {@code problem4j.webflux.problem-context-filter.enabled}.
+   * <p>Controlled by the property {@code problem4j.webflux.problem-context-filter.enabled}. With
+   * {@code problem4j.webflux.problem-context-filter.lazy}, the context is created only when a
+   * problem response is resolved. Requests matching {@code
+   * problem4j.webflux.problem-context-filter.exclude-patterns} are not filtered at all.
    *
    * @see io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter
    */
@@ -246,20 +301,35 @@ public static class ProblemContextFilter {
     /** Default enabled value as a string for {@code ProblemContextFilter} configuration group. */
     public static final String DEFAULT_ENABLED_VALUE = "true";
 
+    /** Default lazy flag for {@code ProblemContextWebFluxFilter}. */
+    public static final boolean DEFAULT_LAZY = false;
+
+    /** Default lazy value string for {@code ProblemContextWebFluxFilter}. */
+    public static final String DEFAULT_LAZY_VALUE = "false";
+
     private static ProblemContextFilter createDefault() {
-      return new ProblemContextFilter(DEFAULT_ENABLED);
+      return new ProblemContextFilter(DEFAULT_ENABLED, DEFAULT_LAZY, List.of());
     }
 
     private final boolean enabled;
+    private final boolean lazy;
+    private final List<String> excludePatterns;
 
     /**
      * Creates a new configuration group.
      *
      * @param enabled whether the {@code ProblemContextWebFluxFilter} bean should be created
+     * @param lazy whether the context should be created only when a problem response is resolved
+     * @param excludePatterns path patterns of requests that should not be filtered
      * @see io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter
      */
-    public ProblemContextFilter(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+    public ProblemContextFilter(
+        @DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled,
+        @DefaultValue(DEFAULT_LAZY_VALUE) boolean lazy,
+        List<String> excludePatterns) {
       this.enabled = enabled;
+      this.lazy = lazy;
+      this.excludePatterns = excludePatterns != null ? List.copyOf(excludePatterns) : List.of();
     }
 
     /**
@@ -271,6 +341,29 @@ public ProblemContextFilter(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled
     public boolean isEnabled() {
       return enabled;
     }
+
+    /**
+     * Returns whether {@code ProblemContextWebFluxFilter} should create the context and trace
+     * identifier only when a problem response is resolved. Has no effect if {@code
+     * problem4j.tracing-header-name} is set.
+     *
+     * @return {@code true} if the context is created lazily, otherwise {@code false}
+     * @see io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter
+     */
+    public boolean isLazy() {
+      return lazy;
+    }
+
+    /**
+     * Returns path patterns (e.g. {@code /actuator/**}) of requests that {@code
+     * ProblemContextWebFluxFilter} should not filter, relative to application context path.
+     *
+     * @return unmodifiable list of exclude patterns, empty by default
+     * @see org.springframework.web.util.pattern.PathPattern
+     */
+    public List<String> getExcludePatterns() {
+      return excludePatterns;
+    }
   }
 
   /**
@@ -364,4 +457,130 @@ public boolean isEnabled() {
       return enabled;
     }
   }
+
+  /**
+   * Configuration group for {@code ProblemEncoder}.
+   *
+   * <p>Controlled by the property {@code problem4j.webflux.encoder.enabled}.
+   *
+   * @see io.github.problem4j.spring.webflux.ProblemEncoder
+   */
+  public static class Encoder {
+
+    /** Default enabled flag for {@code ProblemEncoder}. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default enabled value string for {@code ProblemEncoder}. */
+    public static final String DEFAULT_ENABLED_VALUE = "true";
+
+    private static Encoder createDefault() {
+      return new Encoder(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new configuration group for {@code ProblemEncoder}.
+     *
+     * @param enabled whether the {@code ProblemEncoder} should be registered
+     * @see io.github.problem4j.spring.webflux.ProblemEncoder
+     */
+    public Encoder(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether {@code ProblemEncoder} should be registered.
+     *
+     * @return {@code true} if the problem encoder is enabled, otherwise {@code false}
+     * @see io.github.problem4j.spring.webflux.ProblemEncoder
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  /**
+   * Configuration group for {@code ProblemResultHandler}.
+   *
+   * <p>Controlled by the property {@code problem4j.webflux.result-handler.enabled}.
+   *
+   * @see io.github.problem4j.spring.webflux.ProblemResultHandler
+   */
+  public static class ResultHandler {
+
+    /** Default enabled flag for {@code ProblemResultHandler}. */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /** Default enabled value string for {@code ProblemResultHandler}. */
+    public static final String DEFAULT_ENABLED_VALUE = "false";
+
+    private static ResultHandler createDefault() {
+      return new ResultHandler(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new configuration group for {@code ProblemResultHandler}.
+     *
+     * @param enabled whether the {@code ProblemResultHandler} should be registered
+     * @see io.github.problem4j.spring.webflux.ProblemResultHandler
+     */
+    public ResultHandler(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether {@code ProblemResultHandler} should be registered.
+     *
+     * @return {@code true} if the problem result handler is enabled, otherwise {@code false}
+     * @see io.github.problem4j.spring.webflux.ProblemResultHandler
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  /**
+   * Configuration group for {@code ProblemWebFluxHandlerFilterFunction}.
+   *
+   * <p>Controlled by the property {@code problem4j.webflux.handler-filter-function.enabled}.
+   *
+   * @see io.github.problem4j.spring.webflux.ProblemWebFluxHandlerFilterFunction
+   */
+  public static class HandlerFilterFunction {
+
+    /** Default enabled flag for {@code ProblemWebFluxHandlerFilterFunction}. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default enabled value string for {@code ProblemWebFluxHandlerFilterFunction}. */
+    public static final String DEFAULT_ENABLED_VALUE = "true";
+
+    private static HandlerFilterFunction createDefault() {
+      return new HandlerFilterFunction(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new configuration group for {@code ProblemWebFluxHandlerFilterFunction}.
+     *
+     * @param enabled whether the {@code ProblemWebFluxHandlerFilterFunction} should be registered
+     * @see io.github.problem4j.spring.webflux.ProblemWebFluxHandlerFilterFunction
+     */
+    public HandlerFilterFunction(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether {@code ProblemWebFluxHandlerFilterFunction} should be registered.
+     *
+     * @return {@code true} if the handler filter function is enabled, otherwise {@code false}
+     * @see io.github.problem4j.spring.webflux.ProblemWebFluxHandlerFilterFunction
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
 }
@@ -21,16 +21,28 @@
 package io.github.problem4j.spring.webflux;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemStatus;
 import io.github.problem4j.spring.web.DefaultProblemResolverStore;
 import io.github.problem4j.spring.web.IdentityProblemPostProcessor;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 class ExceptionWebFluxAdviceTest {
 
@@ -57,4 +69,117 @@ void whileHandlingException_shouldHitInspector() {
 
     assertThat(hits.get()).isEqualTo(1);
   }
+
+  @Test
+  void givenReactiveInspector_whenHandlingException_thenSubscribesToInspection() {
+    ReactiveAdviceWebFluxInspector inspector =
+        (context, problem, ex, headers, status, exchange) ->
+            Mono.fromRunnable(hits::incrementAndGet);
+    ExceptionWebFluxAdvice reactiveAdvice = newAdvice(inspector);
+
+    Mono<ResponseEntity<Problem>> response =
+        reactiveAdvice.handleException(
+            new RuntimeException(),
+            MockServerWebExchange.from(MockServerHttpRequest.get("/test").build()));
+
+    assertThat(hits.get()).isEqualTo(1);
+    assertThat(response.block().getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void givenFailingReactiveInspector_whenHandlingException_thenStillResponds() {
+    ReactiveAdviceWebFluxInspector inspector =
+        (context, problem, ex, headers, status, exchange) ->
+            Mono.error(new IllegalStateException("sink unavailable"));
+    ExceptionWebFluxAdvice reactiveAdvice = newAdvice(inspector);
+
+    ResponseEntity<Problem> response =
+        reactiveAdvice
+            .handleException(
+                new RuntimeException(),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/test").build()))
+            .block();
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void givenHangingReactiveInspector_whenHandlingException_thenRespondsWithoutWaiting() {
+    ReactiveAdviceWebFluxInspector inspector =
+        (context, problem, ex, headers, status, exchange) -> Mono.never();
+    ExceptionWebFluxAdvice reactiveAdvice = newAdvice(inspector);
+
+    ResponseEntity<Problem> response =
+        reactiveAdvice
+            .handleException(
+                new RuntimeException(),
+                MockServerWebExchange.from(MockServerHttpRequest.get("/test").build()))
+            .block(Duration.ofMillis(500));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void givenBoundedReactiveInspectorAtCapacity_whenHandlingException_thenDropsInspection() {
+    BoundedReactiveAdviceWebFluxInspector inspector =
+        new BoundedReactiveAdviceWebFluxInspector(
+            (context, problem, ex, headers, status, exchange) -> Mono.never(), 1);
+    ExceptionWebFluxAdvice reactiveAdvice = newAdvice(inspector);
+
+    for (int i = 0; i < 3; i++) {
+      reactiveAdvice
+          .handleException(
+              new RuntimeException(),
+              MockServerWebExchange.from(MockServerHttpRequest.get("/test").build()))
+          .block(Duration.ofMillis(500));
+    }
+
+    assertThat(inspector.getPendingCount()).isEqualTo(1);
+    assertThat(inspector.getDroppedCount()).isEqualTo(2);
+  }
+
+  @Test
+  void givenBoundedReactiveInspector_whenInspectionTimesOut_thenReleasesSlot() {
+    ReactiveAdviceWebFluxInspector hanging =
+        new ReactiveAdviceWebFluxInspector() {
+          @Override
+          public Mono<Void> inspectReactive(
+              ProblemContext context,
+              Problem problem,
+              Exception ex,
+              HttpHeaders headers,
+              HttpStatusCode status,
+              ServerWebExchange exchange) {
+            return Mono.never();
+          }
+
+          @Override
+          public Duration getTimeout() {
+            return Duration.ofMillis(50);
+          }
+        };
+    BoundedReactiveAdviceWebFluxInspector inspector =
+        new BoundedReactiveAdviceWebFluxInspector(hanging, 1);
+
+    Mono<Void> inspection =
+        inspector.inspectReactive(
+            ProblemContext.create(),
+            Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build(),
+            new RuntimeException(),
+            new HttpHeaders(),
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            MockServerWebExchange.from(MockServerHttpRequest.get("/test").build()));
+
+    assertThatThrownBy(() -> inspection.block(Duration.ofSeconds(5)))
+        .hasCauseInstanceOf(TimeoutException.class);
+    assertThat(inspector.getPendingCount()).isZero();
+  }
+
+  private static ExceptionWebFluxAdvice newAdvice(AdviceWebFluxInspector inspector) {
+    return new ExceptionWebFluxAdvice(
+        ProblemMapper.create(),
+        new DefaultProblemResolverStore(List.of()),
+        new IdentityProblemPostProcessor(),
+        List.of(inspector));
+  }
 }
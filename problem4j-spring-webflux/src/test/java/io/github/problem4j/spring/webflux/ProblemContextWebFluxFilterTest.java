@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import static io.github.problem4j.spring.web.AttributeSupport.LAZY_PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.AttributeSupport;
+import io.github.problem4j.spring.web.LazyProblemContext;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+class ProblemContextWebFluxFilterTest {
+
+  private final AtomicReference<ContextView> reactorContext = new AtomicReference<>();
+
+  private final WebFilterChain chain =
+      exchange ->
+          Mono.deferContextual(
+              ctx -> {
+                reactorContext.set(ctx);
+                return Mono.empty();
+              });
+
+  @Test
+  void givenEagerMode_whenFiltering_thenAssignsContextAndTraceId() {
+    ProblemContextWebFluxFilter filter = new ProblemContextWebFluxFilter(() -> null);
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat((Object) exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE))
+        .isInstanceOf(ProblemContext.class);
+    assertThat((Object) exchange.getAttribute(TRACE_ID_ATTRIBUTE))
+        .asString()
+        .startsWith("urn:uuid:");
+    assertThat(reactorContext.get().hasKey(PROBLEM_CONTEXT_ATTRIBUTE)).isTrue();
+    assertThat(reactorContext.get().hasKey(LAZY_PROBLEM_CONTEXT_ATTRIBUTE)).isFalse();
+    assertThat((Object) exchange.getAttribute(LAZY_PROBLEM_CONTEXT_ATTRIBUTE))
+        .isInstanceOfSatisfying(
+            LazyProblemContext.class, lazy -> assertThat(lazy.isInitialized()).isFalse());
+  }
+
+  @Test
+  void givenEagerModeWithGroupedErrorsProfile_whenResolvingContext_thenRecordsProfile() {
+    ProblemContextWebFluxFilter filter = new ProblemContextWebFluxFilter(() -> null);
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test")
+                .header("Accept", "application/problem+json; profile=\"grouped-errors\"")
+                .build());
+
+    filter.filter(exchange, chain).block();
+
+    ProblemContext eager = exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE);
+    assertThat(eager.get(ERRORS_PROFILE_CONTEXT_KEY)).isNull();
+
+    ProblemContext context = AttributeSupport.resolveProblemContext(exchange::getAttribute);
+
+    assertThat(context.get(ERRORS_PROFILE_CONTEXT_KEY)).isEqualTo(GROUPED_ERRORS_PROFILE);
+    assertThat(context.get("traceId")).isEqualTo(eager.get("traceId"));
+    assertThat((Object) exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isSameAs(context);
+  }
+
+  @Test
+  void givenEagerModeWithoutProfile_whenResolvingContext_thenReturnsAssignedContext() {
+    ProblemContextWebFluxFilter filter = new ProblemContextWebFluxFilter(() -> null);
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test")
+                .header("Accept", "application/problem+json")
+                .build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat(AttributeSupport.resolveProblemContext(exchange::getAttribute))
+        .isSameAs(exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE));
+  }
+
+  @Test
+  void givenLazyMode_whenFiltering_thenDefersContextUntilFirstAccess() {
+    ProblemContextWebFluxFilter filter =
+        ProblemContextWebFluxFilter.builder(() -> null).lazy(true).build();
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat((Object) exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isNull();
+    assertThat((Object) exchange.getAttribute(TRACE_ID_ATTRIBUTE)).isNull();
+    assertThat(reactorContext.get().hasKey(PROBLEM_CONTEXT_ATTRIBUTE)).isFalse();
+    LazyProblemContext lazy = reactorContext.get().get(LAZY_PROBLEM_CONTEXT_ATTRIBUTE);
+    assertThat(lazy.isInitialized()).isFalse();
+    assertThat((Object) exchange.getAttribute(LAZY_PROBLEM_CONTEXT_ATTRIBUTE)).isSameAs(lazy);
+
+    ProblemContext context = AttributeSupport.resolveProblemContext(exchange::getAttribute);
+
+    assertThat(context.get("traceId")).startsWith("urn:uuid:");
+    assertThat(lazy.get()).isSameAs(context);
+    assertThat((Object) exchange.getAttribute(TRACE_ID_ATTRIBUTE))
+        .isEqualTo(context.get("traceId"));
+  }
+
+  @Test
+  void givenLazyMode_whenContextIsCreated_thenModifiesServerExchange() {
+    ProblemContextWebFluxFilter filter =
+        new ProblemContextWebFluxFilter(
+            () -> null, true, new SecureUuidTraceIdGenerator(), List.of(), List.of(), null) {
+          @Override
+          protected void modifyServerExchange(ServerWebExchange exchange, ProblemContext context) {
+            exchange.getResponse().getHeaders().set("X-Context-Trace-Id", context.get("traceId"));
+          }
+        };
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat(exchange.getResponse().getHeaders().getFirst("X-Context-Trace-Id")).isNull();
+
+    ProblemContext context = AttributeSupport.resolveProblemContext(exchange::getAttribute);
+
+    assertThat(exchange.getResponse().getHeaders().getFirst("X-Context-Trace-Id"))
+        .isEqualTo(context.get("traceId"));
+  }
+
+  @Test
+  void givenLazyModeWithTracingHeader_whenFiltering_thenEchoesTraceIdEagerly() {
+    ProblemContextWebFluxFilter filter =
+        ProblemContextWebFluxFilter.builder(() -> "X-Trace-Id").lazy(true).build();
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(
+            MockServerHttpRequest.get("/test").header("X-Trace-Id", "trace-123").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat((Object) exchange.getAttribute(TRACE_ID_ATTRIBUTE)).isEqualTo("trace-123");
+    assertThat((Object) exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE))
+        .isInstanceOf(ProblemContext.class);
+    assertThat(exchange.getResponse().getHeaders().getFirst("X-Trace-Id")).isEqualTo("trace-123");
+  }
+
+  @Test
+  void givenExcludePatterns_whenFilteringMatchingPath_thenPassesExchangeThrough() {
+    ProblemContextWebFluxFilter filter =
+        ProblemContextWebFluxFilter.builder(() -> null)
+            .excludePatterns(List.of("/actuator/**"))
+            .build();
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/actuator/health").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat((Object) exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isNull();
+    assertThat((Object) exchange.getAttribute(TRACE_ID_ATTRIBUTE)).isNull();
+    assertThat(reactorContext.get().hasKey(PROBLEM_CONTEXT_ATTRIBUTE)).isFalse();
+  }
+
+  @Test
+  void givenExcludePatterns_whenFilteringOtherPath_thenAssignsContext() {
+    ProblemContextWebFluxFilter filter =
+        ProblemContextWebFluxFilter.builder(() -> null)
+            .excludePatterns(List.of("/actuator/**"))
+            .build();
+    MockServerWebExchange exchange =
+        MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+
+    filter.filter(exchange, chain).block();
+
+    assertThat((Object) exchange.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE))
+        .isInstanceOf(ProblemContext.class);
+    assertThat(reactorContext.get().hasKey(PROBLEM_CONTEXT_ATTRIBUTE)).isTrue();
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.spring.web.IdentityProblemPostProcessor;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ErrorProperties;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.web.error.ErrorAttributeOptions;
+import org.springframework.boot.webflux.error.DefaultErrorAttributes;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class ProblemErrorWebExceptionHandlerTest {
+
+  private final ProblemErrorWebExceptionHandler handler =
+      new ProblemErrorWebExceptionHandler(
+          new IdentityProblemPostProcessor(),
+          new DefaultErrorAttributes(),
+          new WebProperties.Resources(),
+          new ErrorProperties(),
+          new StaticApplicationContext());
+
+  @Test
+  void givenErrorResponse_whenDeterminingStatus_thenUsesItsStatus() {
+    HttpStatus status =
+        handler.determineStatus(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE));
+
+    assertThat(status).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+  }
+
+  @Test
+  void givenResponseStatusAnnotatedError_whenDeterminingStatus_thenUsesAnnotatedStatus() {
+    HttpStatus status = handler.determineStatus(new AnnotatedException());
+
+    assertThat(status).isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void givenOtherError_whenDeterminingStatus_thenUsesInternalServerError() {
+    HttpStatus status = handler.determineStatus(new IllegalStateException());
+
+    assertThat(status).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void givenCustomErrorAttributes_whenRenderingErrorResponse_thenUsesTheirStatus() {
+    ProblemErrorWebExceptionHandler customHandler =
+        new ProblemErrorWebExceptionHandler(
+            new IdentityProblemPostProcessor(),
+            new TeapotErrorAttributes(),
+            new WebProperties.Resources(),
+            new ErrorProperties(),
+            new StaticApplicationContext());
+
+    ServerResponse response =
+        customHandler.renderErrorResponse(MockServerRequest.builder().build()).block();
+
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+  }
+
+  private static class TeapotErrorAttributes extends DefaultErrorAttributes {
+
+    @Override
+    public Map<String, Object> getErrorAttributes(
+        ServerRequest request, ErrorAttributeOptions options) {
+      Map<String, Object> attributes = new HashMap<>();
+      attributes.put("status", HttpStatus.I_AM_A_TEAPOT.value());
+      return attributes;
+    }
+
+    @Override
+    public Throwable getError(ServerRequest request) {
+      return new IllegalStateException();
+    }
+  }
+
+  @ResponseStatus(HttpStatus.CONFLICT)
+  private static class AnnotatedException extends RuntimeException {}
+}
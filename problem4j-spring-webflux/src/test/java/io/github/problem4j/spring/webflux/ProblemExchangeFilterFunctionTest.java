@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import io.github.problem4j.spring.web.ProblemJsonMapperBuilderCustomizer;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import reactor.core.publisher.Mono;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemExchangeFilterFunctionTest {
+
+  private static final ClientRequest REQUEST =
+      ClientRequest.create(HttpMethod.GET, URI.create("http://localhost/orders")).build();
+
+  private static ProblemExchangeFilterFunction filterFunction(int maxInMemorySize) {
+    JsonMapper.Builder builder = JsonMapper.builder();
+    new ProblemJsonMapperBuilderCustomizer().customize(builder);
+    ProblemCodecs codecs =
+        ProblemCodecs.builder()
+            .register(MediaType.APPLICATION_PROBLEM_JSON, builder.build())
+            .build();
+    return new ProblemExchangeFilterFunction(new ProblemDecoder(codecs, maxInMemorySize));
+  }
+
+  private static Mono<ClientResponse> exchange(
+      ProblemExchangeFilterFunction filterFunction,
+      HttpStatus status,
+      MediaType contentType,
+      String body) {
+    ClientResponse response =
+        ClientResponse.create(status)
+            .header(HttpHeaders.CONTENT_TYPE, contentType.toString())
+            .body(body)
+            .build();
+    return filterFunction.filter(REQUEST, request -> Mono.just(response));
+  }
+
+  @Test
+  void givenProblemResponse_whenFiltering_thenSignalsDecodedProblem() {
+    Mono<ClientResponse> result =
+        exchange(
+            filterFunction(1024),
+            HttpStatus.CONFLICT,
+            MediaType.APPLICATION_PROBLEM_JSON,
+            "{\"title\":\"Conflict\",\"status\":409,\"detail\":\"order already exists\"}");
+
+    assertThatThrownBy(result::block)
+        .isInstanceOf(ProblemException.class)
+        .satisfies(
+            e -> {
+              Problem problem = ((ProblemException) e).getProblem();
+              assertThat(problem.getStatus()).isEqualTo(409);
+              assertThat(problem.getDetail()).isEqualTo("order already exists");
+            });
+  }
+
+  @Test
+  void givenProblemResponseWithoutStatus_whenFiltering_thenFillsInResponseStatus() {
+    Mono<ClientResponse> result =
+        exchange(
+            filterFunction(1024),
+            HttpStatus.CONFLICT,
+            MediaType.APPLICATION_PROBLEM_JSON,
+            "{\"title\":\"Conflict\",\"detail\":\"order already exists\"}");
+
+    assertThatThrownBy(result::block)
+        .isInstanceOf(ProblemException.class)
+        .satisfies(
+            e -> {
+              Problem problem = ((ProblemException) e).getProblem();
+              assertThat(problem.getStatus()).isEqualTo(409);
+              assertThat(problem.getTitle()).isEqualTo("Conflict");
+              assertThat(problem.getDetail()).isEqualTo("order already exists");
+            });
+  }
+
+  @Test
+  void givenProblemBodyOverLimit_whenFiltering_thenSignalsProblemWithStatusOnly() {
+    Mono<ClientResponse> result =
+        exchange(
+            filterFunction(32),
+            HttpStatus.CONFLICT,
+            MediaType.APPLICATION_PROBLEM_JSON,
+            "{\"status\":409,\"detail\":\"" + "x".repeat(1024) + "\"}");
+
+    assertThatThrownBy(result::block)
+        .isInstanceOf(ProblemException.class)
+        .satisfies(
+            e -> {
+              Problem problem = ((ProblemException) e).getProblem();
+              assertThat(problem.getStatus()).isEqualTo(409);
+              assertThat(problem.getDetail()).isNull();
+            });
+  }
+
+  @Test
+  void givenNonProblemErrorResponse_whenFiltering_thenPassesResponseThrough() {
+    ClientResponse response =
+        exchange(
+                filterFunction(1024),
+                HttpStatus.CONFLICT,
+                MediaType.APPLICATION_JSON,
+                "{\"error\":\"conflict\"}")
+            .block();
+
+    assertThat(response).isNotNull();
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.CONFLICT);
+  }
+
+  @Test
+  void givenSuccessfulResponse_whenFiltering_thenPassesResponseThrough() {
+    ClientResponse response =
+        exchange(
+                filterFunction(1024),
+                HttpStatus.OK,
+                MediaType.APPLICATION_PROBLEM_JSON,
+                "{\"status\":200}")
+            .block();
+
+    assertThat(response).isNotNull();
+    assertThat(response.statusCode()).isEqualTo(HttpStatus.OK);
+  }
+}
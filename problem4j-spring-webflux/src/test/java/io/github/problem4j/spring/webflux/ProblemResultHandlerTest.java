@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webflux;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.IdentityProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.http.MediaType;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.reactive.HandlerResult;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ProblemResultHandlerTest {
+
+  private ProblemResultHandler handler;
+
+  @BeforeEach
+  void beforeEach() {
+    handler =
+        new ProblemResultHandler(
+            List.of(),
+            new RequestedContentTypeResolverBuilder().build(),
+            ReactiveAdapterRegistry.getSharedInstance(),
+            new IdentityProblemPostProcessor(),
+            List.of(MediaType.APPLICATION_PROBLEM_JSON));
+  }
+
+  @Test
+  void givenProblemOrProblemResultReturnType_whenCheckingSupport_thenSupportsIt() {
+    assertThat(handler.supports(handlerResult("problem"))).isTrue();
+    assertThat(handler.supports(handlerResult("result"))).isTrue();
+  }
+
+  @Test
+  void givenSingleValuePublisherOfProblemResult_whenCheckingSupport_thenSupportsIt() {
+    assertThat(handler.supports(handlerResult("monoProblem"))).isTrue();
+    assertThat(handler.supports(handlerResult("monoResult"))).isTrue();
+  }
+
+  @Test
+  void givenOtherReturnType_whenCheckingSupport_thenDoesNotSupportIt() {
+    assertThat(handler.supports(handlerResult("string"))).isFalse();
+    assertThat(handler.supports(handlerResult("monoString"))).isFalse();
+    assertThat(handler.supports(handlerResult("fluxResult"))).isFalse();
+  }
+
+  @Test
+  void givenDefaultOrder_whenCreated_thenRunsAheadOfResponseEntityResultHandler() {
+    assertThat(handler.getOrder()).isEqualTo(ProblemResultHandler.DEFAULT_ORDER);
+    assertThat(handler.getOrder()).isLessThan(0);
+  }
+
+  private static HandlerResult handlerResult(String methodName) {
+    MethodParameter returnType =
+        new MethodParameter(ReflectionUtils.findMethod(Controller.class, methodName), -1);
+    return new HandlerResult(new Controller(), null, returnType);
+  }
+
+  @SuppressWarnings("unused")
+  private static class Controller {
+
+    Problem problem() {
+      return null;
+    }
+
+    ProblemResult<String> result() {
+      return null;
+    }
+
+    Mono<Problem> monoProblem() {
+      return null;
+    }
+
+    Mono<ProblemResult<String>> monoResult() {
+      return null;
+    }
+
+    String string() {
+      return null;
+    }
+
+    Mono<String> monoString() {
+      return null;
+    }
+
+    Flux<ProblemResult<String>> fluxResult() {
+      return null;
+    }
+  }
+}
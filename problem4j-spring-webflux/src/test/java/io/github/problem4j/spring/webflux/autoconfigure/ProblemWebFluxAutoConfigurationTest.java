@@ -25,6 +25,7 @@
 import io.github.problem4j.spring.webflux.ExceptionWebFluxAdvice;
 import io.github.problem4j.spring.webflux.ProblemContextWebFluxFilter;
 import io.github.problem4j.spring.webflux.ProblemExceptionWebFluxAdvice;
+import io.github.problem4j.spring.webflux.ProblemResultHandler;
 import io.github.problem4j.spring.webflux.app.WebFluxTestApp;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -214,4 +215,38 @@ void contextLoadsWithoutExceptionAdvice() {
       assertThat(properties.getExceptionHandler().isEnabled()).isFalse();
     }
   }
+
+  @SpringBootTest(classes = {WebFluxTestApp.class})
+  @Nested
+  class WithResultHandlerByDefault {
+
+    @Autowired(required = false)
+    private ProblemResultHandler problemResultHandler;
+
+    @Autowired private ProblemWebFluxProperties properties;
+
+    @Test
+    void contextLoadsWithoutResultHandler() {
+      assertThat(problemResultHandler).isNull();
+      assertThat(properties.getResultHandler().isEnabled()).isFalse();
+    }
+  }
+
+  @SpringBootTest(
+      classes = {WebFluxTestApp.class},
+      properties = {"problem4j.webflux.result-handler.enabled=true"})
+  @Nested
+  class WithResultHandlerEnabled {
+
+    @Autowired(required = false)
+    private ProblemResultHandler problemResultHandler;
+
+    @Autowired private ProblemWebFluxProperties properties;
+
+    @Test
+    void contextLoadsWithResultHandler() {
+      assertThat(problemResultHandler).isNotNull();
+      assertThat(properties.getResultHandler().isEnabled()).isTrue();
+    }
+  }
 }
@@ -22,6 +22,7 @@
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.InspectorInterest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.web.context.request.WebRequest;
@@ -43,7 +44,8 @@ public interface AdviceWebMvcInspector {
    * @param context the {@link ProblemContext} containing information about the current error
    *     handling context
    * @param problem the {@link Problem} object representing the response body
-   * @param ex the original {@link Exception} that triggered the Problem
+   * @param ex the original {@link Exception} that triggered the Problem, or {@code null} if the
+   *     Problem was returned by a controller
    * @param headers the HTTP headers that will be included in the response
    * @param status the HTTP status code for the response
    * @param request the current {@link WebRequest} associated with the handling
@@ -55,4 +57,14 @@ void inspect(
       HttpHeaders headers,
       HttpStatusCode status,
       WebRequest request);
+
+  /**
+   * Returns which problems this inspector is interested in. It is not invoked for the others.
+   * Interest is read once, when the inspector is registered with an advice.
+   *
+   * @return interest of this inspector, {@link InspectorInterest#all()} by default
+   */
+  default InspectorInterest getInterest() {
+    return InspectorInterest.all();
+  }
 }
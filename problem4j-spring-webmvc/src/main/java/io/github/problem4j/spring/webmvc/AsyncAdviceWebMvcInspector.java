@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.AsyncInspectorExecutor;
+import io.github.problem4j.spring.web.InspectorInterest;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Decorates an {@link AdviceWebMvcInspector}, so that it runs on given {@link Executor} instead of
+ * holding up the request thread. Meant for inspectors that publish audit events or call slow
+ * sinks, and opted into explicitly by wrapping such an inspector bean:
+ *
+ * <pre>{@code
+ * @Bean
+ * AdviceWebMvcInspector auditInspector(AsyncInspectorExecutor asyncInspectorExecutor) {
+ *   return new AsyncAdviceWebMvcInspector(new AuditInspector(), asyncInspectorExecutor);
+ * }
+ * }</pre>
+ *
+ * <p><b>The delegate does not receive the live {@link WebRequest}.</b> By the time it runs, the
+ * underlying request may already be completed and recycled, so it receives a {@link
+ * WebRequestSnapshot} taken on the request thread instead, along with a read-only copy of response
+ * headers. The snapshot is not a {@code ServletWebRequest}, so inspectors that cast the request to
+ * obtain the {@code HttpServletRequest} must be changed to use {@link
+ * WebRequestSnapshot#getHttpMethod()}, {@link WebRequestSnapshot#getRequestUri()} and the {@link
+ * WebRequest} methods before being wrapped. Session access and attribute modification are not
+ * supported, see {@link WebRequestSnapshot}. Failures of the delegate are logged and do not affect
+ * the response.
+ *
+ * <p>If the executor is an {@link AsyncInspectorExecutor}, the snapshot is taken only once the
+ * inspection is accepted, so inspections dropped on overflow cost no copying.
+ *
+ * @see AsyncInspectorExecutor
+ */
+public class AsyncAdviceWebMvcInspector implements AdviceWebMvcInspector {
+
+  private static final Logger log = LoggerFactory.getLogger(AsyncAdviceWebMvcInspector.class);
+
+  private final AdviceWebMvcInspector delegate;
+  private final Executor executor;
+
+  /**
+   * Creates a new asynchronous inspector.
+   *
+   * @param delegate the inspector to run asynchronously
+   * @param executor the executor to run the delegate on, preferably a bounded {@link
+   *     AsyncInspectorExecutor}
+   */
+  public AsyncAdviceWebMvcInspector(AdviceWebMvcInspector delegate, Executor executor) {
+    this.delegate = delegate;
+    this.executor = executor;
+  }
+
+  /**
+   * Submits the delegate's inspection to the executor and returns immediately. Headers and request
+   * are copied on the calling thread before submitting.
+   *
+   * @param context the {@link ProblemContext} containing information about the current error
+   *     handling context
+   * @param problem the {@link Problem} object representing the response body
+   * @param ex the original {@link Exception} that triggered the Problem, or {@code null} if the
+   *     Problem was returned by a controller
+   * @param headers the HTTP headers that will be included in the response
+   * @param status the HTTP status code for the response
+   * @param request the current {@link WebRequest} associated with the handling
+   */
+  @Override
+  public void inspect(
+      ProblemContext context,
+      Problem problem,
+      Exception ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      WebRequest request) {
+    if (executor instanceof AsyncInspectorExecutor asyncExecutor) {
+      asyncExecutor.prepareAndExecute(
+          () -> prepareInspection(context, problem, ex, headers, status, request));
+    } else {
+      executor.execute(prepareInspection(context, problem, ex, headers, status, request));
+    }
+  }
+
+  private Runnable prepareInspection(
+      ProblemContext context,
+      Problem problem,
+      Exception ex,
+      HttpHeaders headers,
+      HttpStatusCode status,
+      WebRequest request) {
+    HttpHeaders snapshot = new HttpHeaders();
+    snapshot.addAll(headers);
+    HttpHeaders readOnlyHeaders = HttpHeaders.readOnlyHttpHeaders(snapshot);
+    WebRequestSnapshot requestSnapshot = WebRequestSnapshot.of(request);
+
+    return () -> {
+      try {
+        delegate.inspect(context, problem, ex, readOnlyHeaders, status, requestSnapshot);
+      } catch (RuntimeException e) {
+        log.warn(
+            "Asynchronous inspection failed (inspector={}, status={}, message={})",
+            delegate.getClass().getName(),
+            status.value(),
+            e.getMessage(),
+            e);
+      }
+    };
+  }
+
+  /**
+   * Returns the interest of the delegate inspector.
+   *
+   * @return interest of the delegate inspector
+   */
+  @Override
+  public InspectorInterest getInterest() {
+    return delegate.getInterest();
+  }
+}
@@ -20,32 +20,28 @@
  */
 package io.github.problem4j.spring.webmvc;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
-import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.resolveProblemMediaType;
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
 import io.github.problem4j.core.Problem;
-import io.github.problem4j.core.ProblemBuilder;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemMapper;
 import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ExceptionResolutionPlans;
+import io.github.problem4j.spring.web.InspectorDispatch;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
 import io.github.problem4j.spring.web.ProblemSupport;
-import io.github.problem4j.spring.web.resolver.ProblemResolver;
 import java.util.List;
-import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
@@ -58,7 +54,8 @@
  * <ul>
  *   <li>HTTP status: {@link HttpStatus#INTERNAL_SERVER_ERROR}
  *   <li>Response body: a {@link Problem} object containing the status code and reason phrase
- *   <li>Content type: {@code application/problem+json}
+ *   <li>Content type: {@code application/problem+json}, unless client explicitly accepts another
+ *       supported problem media type
  * </ul>
  *
  * <p>Intended as a **generic fallback**, it ensures that unexpected exceptions still produce a
@@ -70,11 +67,11 @@ public class ExceptionWebMvcAdvice {
 
   private static final Logger log = LoggerFactory.getLogger(ExceptionWebMvcAdvice.class);
 
-  private final ProblemMapper problemMapper;
-  private final ProblemResolverStore problemResolverStore;
+  private final ExceptionResolutionPlans resolutionPlans;
   private final ProblemPostProcessor problemPostProcessor;
 
-  private final List<AdviceWebMvcInspector> adviceWebMvcInspectors;
+  private final InspectorDispatch<AdviceWebMvcInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
 
   /**
    * Creates a new {@link ExceptionWebMvcAdvice}.
@@ -89,10 +86,35 @@ public ExceptionWebMvcAdvice(
       ProblemResolverStore problemResolverStore,
       ProblemPostProcessor problemPostProcessor,
       List<AdviceWebMvcInspector> adviceWebMvcInspectors) {
-    this.problemMapper = problemMapper;
-    this.problemResolverStore = problemResolverStore;
+    this(
+        problemMapper,
+        problemResolverStore,
+        problemPostProcessor,
+        adviceWebMvcInspectors,
+        List.of());
+  }
+
+  /**
+   * Creates a new {@link ExceptionWebMvcAdvice}, which negotiates content type of problem responses
+   * among given problem media types.
+   *
+   * @param problemMapper the problem mapper
+   * @param problemResolverStore the resolver store
+   * @param problemPostProcessor the post-processor
+   * @param adviceWebMvcInspectors the inspectors to invoke after handling
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ExceptionWebMvcAdvice(
+      ProblemMapper problemMapper,
+      ProblemResolverStore problemResolverStore,
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+      List<MediaType> problemMediaTypes) {
+    this.resolutionPlans = new ExceptionResolutionPlans(problemMapper, problemResolverStore);
     this.problemPostProcessor = problemPostProcessor;
-    this.adviceWebMvcInspectors = adviceWebMvcInspectors;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(adviceWebMvcInspectors, AdviceWebMvcInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
   }
 
   /**
@@ -106,17 +128,17 @@ public ExceptionWebMvcAdvice(
   @ExceptionHandler(Exception.class)
   public ResponseEntity<Object> handleException(Exception ex, WebRequest request) {
     ProblemContext context =
-        (ProblemContext) request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE, SCOPE_REQUEST);
+        resolveProblemContext(name -> request.getAttribute(name, SCOPE_REQUEST));
     if (context == null) {
       context = ProblemContext.create();
     }
 
     HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+    headers.setContentType(resolveProblemMediaType(request, problemMediaTypes));
 
     Problem problem;
     try {
-      problem = getProblemBuilder(ex, context, headers).build();
+      problem = resolutionPlans.resolveBuilder(ex, context, headers).build();
       problem = problemPostProcessor.process(context, problem);
     } catch (Exception e) {
       logAdviceException(log, ex, request, e);
@@ -125,39 +147,10 @@ public ResponseEntity<Object> handleException(Exception ex, WebRequest request)
 
     HttpStatus status = ProblemSupport.resolveStatus(problem);
 
-    for (AdviceWebMvcInspector inspector : adviceWebMvcInspectors) {
+    for (AdviceWebMvcInspector inspector : inspectorDispatch.select(ex, problem, status.value())) {
       inspector.inspect(context, problem, ex, headers, status, request);
     }
 
     return new ResponseEntity<>(problem, headers, status);
   }
-
-  private ProblemBuilder getProblemBuilder(
-      Exception ex, ProblemContext context, HttpHeaders headers) {
-    ProblemBuilder builder;
-    if (problemMapper.isMappingCandidate(ex)) {
-      builder = problemMapper.toProblemBuilder(ex, context);
-    } else {
-      Optional<ProblemResolver> optionalResolver = problemResolverStore.findResolver(ex.getClass());
-
-      if (optionalResolver.isPresent()) {
-        builder =
-            optionalResolver
-                .get()
-                .resolveBuilder(context, ex, headers, HttpStatus.INTERNAL_SERVER_ERROR);
-      } else {
-        ResponseStatus responseStatus =
-            AnnotatedElementUtils.findMergedAnnotation(ex.getClass(), ResponseStatus.class);
-        if (responseStatus != null) {
-          builder = Problem.builder().status(resolveStatus(responseStatus.code()));
-          if (StringUtils.hasLength(responseStatus.reason())) {
-            builder = builder.detail(responseStatus.reason());
-          }
-        } else {
-          builder = Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR);
-        }
-      }
-    }
-    return builder;
-  }
 }
@@ -20,20 +20,36 @@
  */
 package io.github.problem4j.spring.webmvc;
 
+import static io.github.problem4j.spring.web.AttributeSupport.LAZY_PROBLEM_CONTEXT_ATTRIBUTE;
 import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
 import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
 
 import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.LazyProblemContext;
+import io.github.problem4j.spring.web.PathExclusions;
+import io.github.problem4j.spring.web.ProblemContextHolder;
 import io.github.problem4j.spring.web.ProblemContextSettings;
+import io.github.problem4j.spring.web.ProblemSupport;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.RequestPath;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ServletRequestPathUtils;
 
 /**
  * {@link OncePerRequestFilter} that ensures each request processed by a Web MVC application has an
@@ -42,18 +58,101 @@
  * <p>The filter reads the trace identifier from a configured HTTP header, generates one if missing,
  * and stores it in the {@link HttpServletRequest} attributes, response headers for downstream
  * access.
+ *
+ * <p>In lazy mode, only a {@link LazyProblemContext} is stored, and the context with its trace
+ * identifier is created once something (typically, an exception advice) asks for it, together with
+ * {@link #modifyServletExchange} call. Requests that complete successfully then skip trace
+ * identifier generation altogether. As the trace identifier must be known before the response is
+ * committed to be echoed in {@code tracing-header-name} response header, lazy mode has no effect
+ * when that header is configured.
+ *
+ * <p>In eager mode, the context is created upfront, but {@link #isGroupedErrorsRequested} is
+ * deferred the same way, through a {@link LazyProblemContext} installed next to the context.
+ *
+ * <p>With thread binding, the context (or its lazy holder) is also bound to the handling thread
+ * through {@link ProblemContextHolder} for the duration of the filter chain.
+ *
+ * <p>Requests matching exclude patterns (e.g. health checks, static resources) are not filtered at
+ * all.
  */
 public class ProblemContextWebMvcFilter extends OncePerRequestFilter {
 
   private final ProblemContextSettings settings;
+  private final boolean lazy;
+  private final TraceIdGenerator traceIdGenerator;
+  private final List<TraceIdResolver> traceIdResolvers;
+  private final boolean threadBinding;
+  private final PathExclusions excludedPaths;
+  private final TraceIdValidator traceIdValidator;
 
   /**
-   * Creates a new {@code ProblemContextWebMvcFilter}.
+   * Creates a new {@code ProblemContextWebMvcFilter}, which creates context eagerly.
    *
    * @param settings the context settings to use
    */
   public ProblemContextWebMvcFilter(ProblemContextSettings settings) {
+    this(settings, false, new SecureUuidTraceIdGenerator(), List.of(), false, List.of(), null);
+  }
+
+  /**
+   * Constructs a new {@link ProblemContextWebMvcFilter}.
+   *
+   * @param settings the context settings to use
+   * @param lazy whether to create context only on first access
+   * @param traceIdGenerator generator of trace IDs for requests that do not carry one
+   * @param traceIdResolvers resolvers of trace IDs already assigned to requests, in order
+   * @param threadBinding whether to bind the context to the handling thread through {@link
+   *     ProblemContextHolder}
+   * @param excludePatterns path patterns of requests that are not filtered
+   * @param traceIdValidator validator of trace IDs received from clients, or {@code null} to accept
+   *     them as they are
+   * @see #builder(ProblemContextSettings)
+   */
+  public ProblemContextWebMvcFilter(
+      ProblemContextSettings settings,
+      boolean lazy,
+      TraceIdGenerator traceIdGenerator,
+      List<TraceIdResolver> traceIdResolvers,
+      boolean threadBinding,
+      List<String> excludePatterns,
+      TraceIdValidator traceIdValidator) {
     this.settings = settings;
+    this.lazy = lazy;
+    this.traceIdGenerator = traceIdGenerator;
+    this.traceIdResolvers = traceIdResolvers;
+    this.threadBinding = threadBinding;
+    this.excludedPaths = new PathExclusions(excludePatterns);
+    this.traceIdValidator = traceIdValidator;
+  }
+
+  /**
+   * Creates a builder of {@link ProblemContextWebMvcFilter}, with the same defaults as {@link
+   * #ProblemContextWebMvcFilter(ProblemContextSettings)}.
+   *
+   * @param settings the context settings to use
+   * @return a new builder
+   */
+  public static Builder builder(ProblemContextSettings settings) {
+    return new Builder(settings);
+  }
+
+  /**
+   * Skips requests matching any of exclude patterns. Request path is parsed only if exclude
+   * patterns are configured, reusing the one already parsed for the request if available.
+   *
+   * @param request the current server request
+   * @return {@code true} if the request is excluded, {@code false} otherwise
+   */
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    if (excludedPaths.isEmpty()) {
+      return false;
+    }
+    RequestPath path =
+        ServletRequestPathUtils.hasParsedRequestPath(request)
+            ? ServletRequestPathUtils.getParsedRequestPath(request)
+            : RequestPath.parse(request.getRequestURI(), request.getContextPath());
+    return excludedPaths.matches(path.pathWithinApplication());
   }
 
   /**
@@ -70,12 +169,76 @@ public ProblemContextWebMvcFilter(ProblemContextSettings settings) {
   protected void doFilterInternal(
       HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
       throws ServletException, IOException {
+    if (isLazy(request)) {
+      LazyProblemContext lazyContext =
+          new LazyProblemContext(() -> initLazyProblemContext(request, response));
+      request.setAttribute(LAZY_PROBLEM_CONTEXT_ATTRIBUTE, lazyContext);
+      if (!threadBinding) {
+        filterChain.doFilter(request, response);
+        return;
+      }
+      ProblemContextHolder.setLazyProblemContext(lazyContext);
+      try {
+        filterChain.doFilter(request, response);
+      } finally {
+        ProblemContextHolder.resetProblemContext();
+      }
+      return;
+    }
+
     ProblemContext context = buildProblemContext(request, response);
 
     assignContextAttributes(request, response, context);
     modifyServletExchange(request, response, context);
+    request.setAttribute(
+        LAZY_PROBLEM_CONTEXT_ATTRIBUTE,
+        new LazyProblemContext(() -> initErrorsProfile(request, context)));
+
+    if (!threadBinding) {
+      filterChain.doFilter(request, response);
+      return;
+    }
+    ProblemContextHolder.setProblemContext(context);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      ProblemContextHolder.resetProblemContext();
+    }
+  }
+
+  /**
+   * Checks whether the context of given request should be created lazily. Requires lazy mode, no
+   * {@code tracing-header-name} to echo and no context assigned upfront.
+   *
+   * @param request the current server request
+   * @return {@code true} if context should be created on first access, {@code false} otherwise
+   */
+  protected boolean isLazy(HttpServletRequest request) {
+    return lazy
+        && !StringUtils.hasLength(getSettings().getTracingHeaderName())
+        && request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE) == null;
+  }
+
+  private ProblemContext initLazyProblemContext(
+      HttpServletRequest request, HttpServletResponse response) {
+    ProblemContext context = withErrorsProfile(request, buildProblemContext(request, response));
+    assignContextAttributes(request, response, context);
+    modifyServletExchange(request, response, context);
+    return context;
+  }
+
+  private ProblemContext initErrorsProfile(HttpServletRequest request, ProblemContext context) {
+    ProblemContext result = withErrorsProfile(request, context);
+    if (result != context) {
+      request.setAttribute(PROBLEM_CONTEXT_ATTRIBUTE, result);
+    }
+    return result;
+  }
 
-    filterChain.doFilter(request, response);
+  private ProblemContext withErrorsProfile(HttpServletRequest request, ProblemContext context) {
+    return isGroupedErrorsRequested(request)
+        ? context.put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE)
+        : context;
   }
 
   /**
@@ -90,12 +253,39 @@ protected void doFilterInternal(
    */
   protected ProblemContext buildProblemContext(
       HttpServletRequest request, HttpServletResponse response) {
-    return request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE) instanceof ProblemContext attribute
-        ? attribute
-        : ProblemContext.create()
+    if (request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE) instanceof ProblemContext attribute) {
+      return attribute;
+    }
+    ProblemContext context =
+        ProblemContext.create()
             .put(
                 "traceId",
                 findTraceId(request, response).orElseGet(() -> initTraceId(request, response)));
+    if (isGroupedErrorsRequested(request)) {
+      context = context.put(ERRORS_PROFILE_CONTEXT_KEY, GROUPED_ERRORS_PROFILE);
+    }
+    return context;
+  }
+
+  /**
+   * Checks whether the client requested {@code errors} extension grouped by field, through {@code
+   * profile} parameter of any of its {@code Accept} media types. If so, grouped encoding is
+   * recorded in the context.
+   *
+   * <p>Called only once the context is resolved for a problem, so that requests which never fail do
+   * not pay for scanning {@code Accept} header.
+   *
+   * @param request the current server request
+   * @return {@code true} if grouped errors are requested, {@code false} otherwise
+   */
+  protected boolean isGroupedErrorsRequested(HttpServletRequest request) {
+    Enumeration<String> accept = request.getHeaders(HttpHeaders.ACCEPT);
+    while (accept != null && accept.hasMoreElements()) {
+      if (ProblemSupport.hasGroupedErrorsProfile(accept.nextElement())) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -113,32 +303,67 @@ protected Optional<String> findTraceId(HttpServletRequest request, HttpServletRe
    * Initializes a new trace identifier for the request if one cannot be found.
    *
    * <p>If a tracing header name is configured in {@link ProblemContextSettings}, the header value
-   * is used if present. Otherwise, a new one is generated using {@link #createNewTraceId}.
+   * is used if present. Then, {@link TraceIdResolver}s are consulted. Received trace IDs are used
+   * only if accepted by {@link #isValidTraceId}. Otherwise, a new one is generated using {@link
+   * #createNewTraceId}.
    *
    * @param request the current server request
    * @param response the current server response
    * @return existing or newly generated trace identifier
    */
   protected String initTraceId(HttpServletRequest request, HttpServletResponse response) {
-    if (!StringUtils.hasLength(getSettings().getTracingHeaderName())) {
-      return createNewTraceId(request, response);
+    if (StringUtils.hasLength(getSettings().getTracingHeaderName())) {
+      String traceId = request.getHeader(getSettings().getTracingHeaderName());
+      if (StringUtils.hasLength(traceId) && isValidTraceId(traceId)) {
+        return traceId;
+      }
     }
-    String traceId = request.getHeader(getSettings().getTracingHeaderName());
-    return StringUtils.hasLength(traceId) ? traceId : createNewTraceId(request, response);
+    String traceId = resolveTraceId(request::getHeader);
+    return traceId != null && isValidTraceId(traceId)
+        ? traceId
+        : createNewTraceId(request, response);
+  }
+
+  /**
+   * Checks whether trace ID received from the client may be used as it is. By default, delegates to
+   * configured {@link TraceIdValidator}, if any.
+   *
+   * @param traceId received trace ID
+   * @return {@code true} if trace ID is accepted, {@code false} if a new one should be generated
+   */
+  protected boolean isValidTraceId(String traceId) {
+    return traceIdValidator == null || traceIdValidator.validate(traceId);
+  }
+
+  /**
+   * Resolves trace ID already assigned to the request, consulting {@link TraceIdResolver}s in
+   * order.
+   *
+   * @param headers reads first value of a request header by its name
+   * @return the first resolved trace ID, or {@code null} if none of resolvers found one
+   */
+  protected String resolveTraceId(Function<String, String> headers) {
+    for (TraceIdResolver resolver : traceIdResolvers) {
+      String traceId = resolver.resolveTraceId(headers);
+      if (traceId != null) {
+        return traceId;
+      }
+    }
+    return null;
   }
 
   /**
    * Generates a new trace identifier.
    *
    * <p>Subclasses may override this method to customize the trace identifier generation logic. By
-   * default, it delegates to {@code getRandomTraceId()}.
+   * default, it delegates to configured {@link TraceIdGenerator}.
    *
    * @param request the current server request
    * @param response the current server response
    * @return a newly generated trace identifier
    */
   protected String createNewTraceId(HttpServletRequest request, HttpServletResponse response) {
-    return "urn:uuid:" + UUID.randomUUID();
+    return traceIdGenerator.generateTraceId();
   }
 
   /**
@@ -157,6 +382,10 @@ protected void assignContextAttributes(
   /**
    * Modifies request and response before passing it through the filter chain.
    *
+   * <p>In lazy mode, invoked only once the context is created, which happens while the filter
+   * chain is already running (typically, in an exception advice) and possibly after the response
+   * is committed, or never at all if nothing asks for the context.
+   *
    * @param request the current server request
    * @param response the current server response
    * @param context the current {@link ProblemContext}
@@ -188,4 +417,102 @@ protected void assignTracingHeader(
   protected ProblemContextSettings getSettings() {
     return settings;
   }
+
+  /** Builder for {@link ProblemContextWebMvcFilter}. */
+  public static final class Builder {
+
+    private final ProblemContextSettings settings;
+    private boolean lazy = false;
+    private TraceIdGenerator traceIdGenerator = new SecureUuidTraceIdGenerator();
+    private List<TraceIdResolver> traceIdResolvers = List.of();
+    private boolean threadBinding = false;
+    private List<String> excludePatterns = List.of();
+    private TraceIdValidator traceIdValidator;
+
+    private Builder(ProblemContextSettings settings) {
+      this.settings = settings;
+    }
+
+    /**
+     * Sets whether to create context only on first access.
+     *
+     * @param lazy whether to create context only on first access
+     * @return this builder
+     */
+    public Builder lazy(boolean lazy) {
+      this.lazy = lazy;
+      return this;
+    }
+
+    /**
+     * Sets generator of trace IDs for requests that do not carry one.
+     *
+     * @param traceIdGenerator the trace ID generator
+     * @return this builder
+     */
+    public Builder traceIdGenerator(TraceIdGenerator traceIdGenerator) {
+      this.traceIdGenerator = traceIdGenerator;
+      return this;
+    }
+
+    /**
+     * Sets resolvers of trace IDs already assigned to requests, in order.
+     *
+     * @param traceIdResolvers the trace ID resolvers
+     * @return this builder
+     */
+    public Builder traceIdResolvers(List<TraceIdResolver> traceIdResolvers) {
+      this.traceIdResolvers = traceIdResolvers;
+      return this;
+    }
+
+    /**
+     * Sets whether to bind the context to the handling thread through {@link ProblemContextHolder}.
+     *
+     * @param threadBinding whether to bind the context to the handling thread
+     * @return this builder
+     */
+    public Builder threadBinding(boolean threadBinding) {
+      this.threadBinding = threadBinding;
+      return this;
+    }
+
+    /**
+     * Sets path patterns of requests that are not filtered.
+     *
+     * @param excludePatterns the exclude patterns
+     * @return this builder
+     */
+    public Builder excludePatterns(List<String> excludePatterns) {
+      this.excludePatterns = excludePatterns;
+      return this;
+    }
+
+    /**
+     * Sets validator of trace IDs received from clients, {@code null} to accept them as they are.
+     *
+     * @param traceIdValidator the trace ID validator
+     * @return this builder
+     */
+    public Builder traceIdValidator(TraceIdValidator traceIdValidator) {
+      this.traceIdValidator = traceIdValidator;
+      return this;
+    }
+
+    /**
+     * Creates the filter.
+     *
+     * @return a new {@link ProblemContextWebMvcFilter}
+     */
+    public ProblemContextWebMvcFilter build() {
+      return new ProblemContextWebMvcFilter(
+          settings,
+          lazy,
+          traceIdGenerator,
+          traceIdResolvers,
+          threadBinding,
+          excludePatterns,
+          traceIdValidator);
+    }
+  }
 }
@@ -20,15 +20,17 @@
  */
 package io.github.problem4j.spring.webmvc;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 import static io.github.problem4j.spring.web.ProblemSupport.resolveStatus;
 import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.resolveProblemMediaType;
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemBuilder;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.InspectorDispatch;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
 import java.util.List;
@@ -52,7 +54,8 @@
  *
  * <ul>
  *   <li>Delegates exception-to-problem mapping to {@link ProblemResolverStore}.
- *   <li>Sets content type to {@code application/problem+json}.
+ *   <li>Sets content type to {@code application/problem+json}, unless client explicitly accepts
+ *       another supported problem media type.
  *   <li>Falls back to {@link ProblemStatus#INTERNAL_SERVER_ERROR} if mapping fails.
  * </ul>
  *
@@ -66,7 +69,8 @@ public class ProblemEnhancedWebMvcHandler extends ResponseEntityExceptionHandler
   private final ProblemResolverStore problemResolverStore;
   private final ProblemPostProcessor problemPostProcessor;
 
-  private final List<AdviceWebMvcInspector> adviceWebMvcInspectors;
+  private final InspectorDispatch<AdviceWebMvcInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
 
   /**
    * Creates a new {@link ProblemEnhancedWebMvcHandler}.
@@ -79,22 +83,41 @@ public ProblemEnhancedWebMvcHandler(
       ProblemResolverStore problemResolverStore,
       ProblemPostProcessor problemPostProcessor,
       List<AdviceWebMvcInspector> adviceWebMvcInspectors) {
+    this(problemResolverStore, problemPostProcessor, adviceWebMvcInspectors, List.of());
+  }
+
+  /**
+   * Creates a new {@link ProblemEnhancedWebMvcHandler}, which negotiates content type of problem
+   * responses among given problem media types.
+   *
+   * @param problemResolverStore the resolver store
+   * @param problemPostProcessor the post-processor
+   * @param adviceWebMvcInspectors the inspectors
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemEnhancedWebMvcHandler(
+      ProblemResolverStore problemResolverStore,
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+      List<MediaType> problemMediaTypes) {
     this.problemResolverStore = problemResolverStore;
     this.problemPostProcessor = problemPostProcessor;
-    this.adviceWebMvcInspectors = adviceWebMvcInspectors;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(adviceWebMvcInspectors, AdviceWebMvcInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
   }
 
   @Override
   protected ResponseEntity<Object> handleExceptionInternal(
       Exception ex, Object body, HttpHeaders headers, HttpStatusCode status, WebRequest request) {
     ProblemContext context =
-        (ProblemContext) request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE, SCOPE_REQUEST);
+        resolveProblemContext(name -> request.getAttribute(name, SCOPE_REQUEST));
     if (context == null) {
       context = ProblemContext.create();
     }
 
     headers = headers != null ? new HttpHeaders(headers) : new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+    headers.setContentType(resolveProblemMediaType(request, problemMediaTypes));
 
     Problem problem;
     try {
@@ -107,7 +130,7 @@ protected ResponseEntity<Object> handleExceptionInternal(
 
     status = resolveStatus(problem);
 
-    for (AdviceWebMvcInspector inspector : adviceWebMvcInspectors) {
+    for (AdviceWebMvcInspector inspector : inspectorDispatch.select(ex, problem, status.value())) {
       inspector.inspect(context, problem, ex, headers, status, request);
     }
 
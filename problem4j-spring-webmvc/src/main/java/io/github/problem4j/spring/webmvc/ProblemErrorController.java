@@ -20,18 +20,24 @@
  */
 package io.github.problem4j.spring.webmvc;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemSupport;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.springframework.boot.webmvc.autoconfigure.error.AbstractErrorController;
 import org.springframework.boot.webmvc.error.ErrorAttributes;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.RequestMapping;
 
@@ -40,13 +46,31 @@
  * returns HTTP problems (RFC 7807) instead of HTML error pages.
  *
  * <p>It converts generic servlet errors into {@link Problem} responses with the appropriate HTTP
- * status and content type {@code application/problem+json}.
+ * status and content type {@code application/problem+json}, unless client explicitly accepts
+ * another supported problem media type.
+ *
+ * <p>Unless {@link ProblemPostProcessor} is context sensitive (e.g. an {@code instance} override
+ * with trace ID), problems are built and post-processed once per status and reused.
+ *
+ * <p>If a {@link ProblemHttpMessageConverter} is given, problems are written through it directly,
+ * without content negotiation among all message converters. Such direct writes bypass Spring MVC's
+ * return value handling, so {@code ResponseBodyAdvice} beans and other hooks applied while writing
+ * response bodies are not invoked for them. Autoconfiguration gives the converter only if {@code
+ * problem4j.webmvc.error-controller.direct-write} is set; otherwise problems are returned from
+ * {@link #error(HttpServletRequest)} as {@link ResponseEntity} and written the usual way.
  */
 @Controller
 @RequestMapping("${server.error.path:${error.path:/error}}")
 public class ProblemErrorController extends AbstractErrorController {
 
+  private static final int MAX_STATUS_CODE = 599;
+
   private final ProblemPostProcessor problemPostProcessor;
+  private final List<MediaType> problemMediaTypes;
+  private final ProblemHttpMessageConverter problemHttpMessageConverter;
+
+  private final AtomicReferenceArray<Problem> problemsByStatus =
+      new AtomicReferenceArray<>(MAX_STATUS_CODE + 1);
 
   /**
    * Creates a new {@link ProblemErrorController}.
@@ -56,35 +80,135 @@ public class ProblemErrorController extends AbstractErrorController {
    */
   public ProblemErrorController(
       ProblemPostProcessor problemPostProcessor, ErrorAttributes errorAttributes) {
+    this(problemPostProcessor, errorAttributes, List.of());
+  }
+
+  /**
+   * Creates a new {@link ProblemErrorController}, which negotiates content type of problem
+   * responses among given problem media types.
+   *
+   * @param problemPostProcessor the post-processor to use
+   * @param errorAttributes the error attributes used to obtain error information
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemErrorController(
+      ProblemPostProcessor problemPostProcessor,
+      ErrorAttributes errorAttributes,
+      List<MediaType> problemMediaTypes) {
+    this(problemPostProcessor, errorAttributes, problemMediaTypes, null);
+  }
+
+  /**
+   * Creates a new {@link ProblemErrorController}, which negotiates content type of problem
+   * responses among given problem media types and writes them with given converter.
+   *
+   * @param problemPostProcessor the post-processor to use
+   * @param errorAttributes the error attributes used to obtain error information
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   * @param problemHttpMessageConverter converter writing problems directly, or {@code null} to
+   *     return them as {@link ResponseEntity}
+   */
+  public ProblemErrorController(
+      ProblemPostProcessor problemPostProcessor,
+      ErrorAttributes errorAttributes,
+      List<MediaType> problemMediaTypes,
+      ProblemHttpMessageConverter problemHttpMessageConverter) {
     super(errorAttributes);
     this.problemPostProcessor = problemPostProcessor;
+    this.problemMediaTypes = problemMediaTypes;
+    this.problemHttpMessageConverter = problemHttpMessageConverter;
   }
 
   /**
-   * Handles all requests to the error path and converts them into {@link Problem} responses.
+   * Handles all requests to the error path. Writes them as {@link Problem} responses directly, if a
+   * {@link ProblemHttpMessageConverter} was given and it can write the negotiated content type, or
+   * delegates to {@link #error(HttpServletRequest)} otherwise.
    *
    * @param request the current HTTP request
-   * @return a {@link ResponseEntity} containing a {@link Problem} body and proper HTTP status
+   * @param response the current HTTP response
+   * @return a {@link ResponseEntity} containing a {@link Problem} body and proper HTTP status, or
+   *     {@code null} if the problem was already written to the response
+   * @throws IOException if writing the response fails
    */
   @RequestMapping
-  public ResponseEntity<Problem> error(HttpServletRequest request) {
+  public ResponseEntity<Problem> error(HttpServletRequest request, HttpServletResponse response)
+      throws IOException {
+    if (problemHttpMessageConverter == null) {
+      return error(request);
+    }
+
     HttpStatus status = getStatus(request);
+    if (status == HttpStatus.NO_CONTENT) {
+      return ResponseEntity.noContent().build();
+    }
+
+    MediaType contentType =
+        ProblemSupport.resolveProblemMediaType(
+            request.getHeader(HttpHeaders.ACCEPT), problemMediaTypes);
+    if (!problemHttpMessageConverter.canWrite(Problem.class, contentType)) {
+      return toResponseEntity(resolveProblem(request, status), contentType, status);
+    }
+
+    response.setStatus(status.value());
+    ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+    problemHttpMessageConverter.write(resolveProblem(request, status), contentType, outputMessage);
+    outputMessage.flush();
+    return null;
+  }
 
+  /**
+   * Converts error dispatch into {@link Problem} response, to be written the usual way through
+   * Spring MVC's return value handling.
+   *
+   * @param request the current HTTP request
+   * @return a {@link ResponseEntity} containing a {@link Problem} body and proper HTTP status
+   */
+  public ResponseEntity<Problem> error(HttpServletRequest request) {
+    HttpStatus status = getStatus(request);
     if (status == HttpStatus.NO_CONTENT) {
       return ResponseEntity.noContent().build();
     }
 
-    ProblemContext context = (ProblemContext) request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE);
-    if (context == null) {
-      context = ProblemContext.create();
+    MediaType contentType =
+        ProblemSupport.resolveProblemMediaType(
+            request.getHeader(HttpHeaders.ACCEPT), problemMediaTypes);
+    return toResponseEntity(resolveProblem(request, status), contentType, status);
+  }
+
+  /**
+   * Returns post-processed problem of given status, reusing the one created for previous requests
+   * if post-processing does not depend on the request's {@link ProblemContext}.
+   *
+   * @param request the current HTTP request
+   * @param status the status of error dispatch
+   * @return the problem to write
+   */
+  protected Problem resolveProblem(HttpServletRequest request, HttpStatus status) {
+    if (problemPostProcessor.isContextSensitive()) {
+      ProblemContext context = resolveProblemContext(request::getAttribute);
+      if (context == null) {
+        context = ProblemContext.create();
+      }
+      return createProblem(context, status);
+    }
+
+    Problem problem = problemsByStatus.get(status.value());
+    if (problem == null) {
+      problem = createProblem(ProblemContext.create(), status);
+      problemsByStatus.set(status.value(), problem);
     }
+    return problem;
+  }
 
+  private Problem createProblem(ProblemContext context, HttpStatus status) {
     Problem problem = Problem.builder().status(status.value()).build();
-    problem = problemPostProcessor.process(context, problem);
+    return problemPostProcessor.process(context, problem);
+  }
 
+  private static ResponseEntity<Problem> toResponseEntity(
+      Problem problem, MediaType contentType, HttpStatus status) {
     HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
-
+    headers.setContentType(contentType);
     return new ResponseEntity<>(problem, headers, status);
   }
 }
@@ -20,14 +20,16 @@
  */
 package io.github.problem4j.spring.webmvc;
 
-import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
 import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.resolveProblemMediaType;
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
 import io.github.problem4j.core.Problem;
 import io.github.problem4j.core.ProblemContext;
 import io.github.problem4j.core.ProblemException;
 import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.InspectorDispatch;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemSupport;
 import java.util.List;
@@ -45,7 +47,8 @@
  * Handles {@link ProblemException} thrown by application code.
  *
  * <p>Converts the exception into a {@link Problem} response with the appropriate HTTP status and
- * content type {@code application/problem+json}.
+ * content type {@code application/problem+json}, unless client explicitly accepts another supported
+ * problem media type.
  *
  * <p>This is intended for application-level exceptions already represented as {@link Problem}.
  */
@@ -56,7 +59,8 @@ public class ProblemExceptionWebMvcAdvice {
 
   private final ProblemPostProcessor problemPostProcessor;
 
-  private final List<AdviceWebMvcInspector> adviceWebMvcInspectors;
+  private final InspectorDispatch<AdviceWebMvcInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
 
   /**
    * Creates a new {@code ProblemExceptionWebMvcAdvice}.
@@ -67,8 +71,25 @@ public class ProblemExceptionWebMvcAdvice {
   public ProblemExceptionWebMvcAdvice(
       ProblemPostProcessor problemPostProcessor,
       List<AdviceWebMvcInspector> adviceWebMvcInspectors) {
+    this(problemPostProcessor, adviceWebMvcInspectors, List.of());
+  }
+
+  /**
+   * Creates a new {@code ProblemExceptionWebMvcAdvice}, which negotiates content type of problem
+   * responses among given problem media types.
+   *
+   * @param problemPostProcessor the post-processor
+   * @param adviceWebMvcInspectors the list of inspectors
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemExceptionWebMvcAdvice(
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+      List<MediaType> problemMediaTypes) {
     this.problemPostProcessor = problemPostProcessor;
-    this.adviceWebMvcInspectors = adviceWebMvcInspectors;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(adviceWebMvcInspectors, AdviceWebMvcInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
   }
 
   /**
@@ -83,13 +104,13 @@ public ProblemExceptionWebMvcAdvice(
   @ExceptionHandler(ProblemException.class)
   public ResponseEntity<Problem> handleProblemException(ProblemException ex, WebRequest request) {
     ProblemContext context =
-        (ProblemContext) request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE, SCOPE_REQUEST);
+        resolveProblemContext(name -> request.getAttribute(name, SCOPE_REQUEST));
     if (context == null) {
       context = ProblemContext.create();
     }
 
     HttpHeaders headers = new HttpHeaders();
-    headers.setContentType(MediaType.APPLICATION_PROBLEM_JSON);
+    headers.setContentType(resolveProblemMediaType(request, problemMediaTypes));
 
     Problem problem;
     try {
@@ -102,7 +123,7 @@ public ResponseEntity<Problem> handleProblemException(ProblemException ex, WebRe
 
     HttpStatus status = ProblemSupport.resolveStatus(problem);
 
-    for (AdviceWebMvcInspector inspector : adviceWebMvcInspectors) {
+    for (AdviceWebMvcInspector inspector : inspectorDispatch.select(ex, problem, status.value())) {
       inspector.inspect(context, problem, ex, headers, status, request);
     }
 
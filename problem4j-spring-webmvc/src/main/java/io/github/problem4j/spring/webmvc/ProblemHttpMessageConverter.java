@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import io.github.problem4j.spring.web.ProblemStreamWriter;
+import java.io.IOException;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+/**
+ * {@code HttpMessageConverter} dedicated to {@link Problem} bodies, registered ahead of generic
+ * Jackson converters.
+ *
+ * <p>Writes and reads problems with the pre-built {@link ObjectWriter}s and {@link
+ * ObjectReader}s of {@link ProblemCodecs}, picked by content type, so no serialization config is
+ * resolved per response. Supports only the media types registered in {@link ProblemCodecs}.
+ *
+ * <p>Media types with a dedicated {@link ProblemStreamWriter} (e.g. StAX-based XML) are written
+ * through it instead.
+ */
+public class ProblemHttpMessageConverter extends AbstractHttpMessageConverter<Problem> {
+
+  private final ProblemCodecs problemCodecs;
+
+  /**
+   * Creates a new converter supporting all media types of given {@link ProblemCodecs}.
+   *
+   * @param problemCodecs writers and readers per problem media type
+   */
+  public ProblemHttpMessageConverter(ProblemCodecs problemCodecs) {
+    super(problemCodecs.getMediaTypes().toArray(new MediaType[0]));
+    this.problemCodecs = problemCodecs;
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return Problem.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  protected Problem readInternal(Class<? extends Problem> clazz, HttpInputMessage inputMessage)
+      throws IOException {
+    MediaType contentType = inputMessage.getHeaders().getContentType();
+    ObjectReader reader = problemCodecs.findReader(contentType);
+    if (reader == null) {
+      throw new HttpMessageNotReadableException(
+          "Unsupported problem media type " + contentType, inputMessage);
+    }
+    try {
+      return reader.readValue(inputMessage.getBody());
+    } catch (JacksonException e) {
+      throw new HttpMessageNotReadableException(
+          "Could not read problem: " + e.getOriginalMessage(), e, inputMessage);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Problem problem, HttpOutputMessage outputMessage)
+      throws IOException {
+    MediaType contentType = outputMessage.getHeaders().getContentType();
+    ProblemStreamWriter writer = problemCodecs.findStreamWriter(contentType);
+    if (writer == null) {
+      throw new HttpMessageNotWritableException("Unsupported problem media type " + contentType);
+    }
+    try {
+      writer.write(problem, StreamUtils.nonClosing(outputMessage.getBody()));
+    } catch (JacksonException e) {
+      throw new HttpMessageNotWritableException(
+          "Could not write problem: " + e.getOriginalMessage(), e);
+    }
+  }
+}
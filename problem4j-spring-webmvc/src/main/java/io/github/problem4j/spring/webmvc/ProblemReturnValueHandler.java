@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
+import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.resolveProblemMediaType;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemResult;
+import io.github.problem4j.spring.web.ProblemSupport;
+import java.util.List;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+
+/**
+ * {@link HandlerMethodReturnValueHandler} for controller methods returning {@link Problem} or
+ * {@link ProblemResult} directly, so that rejecting a request does not require throwing an
+ * exception and dispatching it to an {@code @ExceptionHandler}.
+ *
+ * <p>Returned problems go through {@link ProblemPostProcessor}, the same way as problems resolved
+ * by advices, and are written as {@link ResponseEntity} with status of the problem and negotiated
+ * problem media type. {@link AdviceWebMvcInspector}s are not invoked, as there is no exception that
+ * caused the problem. Values of successful {@link ProblemResult}s are written with {@code 200 OK}
+ * status.
+ *
+ * <p>Writing is delegated to given {@link HttpEntityMethodProcessor}, so the configured message
+ * converters and content negotiation apply. This handler must be registered ahead of default
+ * handlers, as {@code @ResponseBody} handler would otherwise claim these return types.
+ */
+public class ProblemReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+  private static final MethodParameter PROBLEM_ENTITY_TYPE = entityType("problemEntity");
+  private static final MethodParameter VALUE_ENTITY_TYPE = entityType("valueEntity");
+
+  private final HttpEntityMethodProcessor entityProcessor;
+  private final ProblemPostProcessor problemPostProcessor;
+  private final List<MediaType> problemMediaTypes;
+
+  /**
+   * Creates a new {@link ProblemReturnValueHandler}.
+   *
+   * @param entityProcessor processor writing response entities
+   * @param problemPostProcessor the post-processor
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemReturnValueHandler(
+      HttpEntityMethodProcessor entityProcessor,
+      ProblemPostProcessor problemPostProcessor,
+      List<MediaType> problemMediaTypes) {
+    this.entityProcessor = entityProcessor;
+    this.problemPostProcessor = problemPostProcessor;
+    this.problemMediaTypes = problemMediaTypes;
+  }
+
+  /**
+   * Supports methods declared to return {@link Problem} or {@link ProblemResult}.
+   *
+   * @param returnType the method return type
+   * @return {@code true} if return type is {@link Problem} or {@link ProblemResult}
+   */
+  @Override
+  public boolean supportsReturnType(MethodParameter returnType) {
+    Class<?> type = returnType.getParameterType();
+    return Problem.class.isAssignableFrom(type) || ProblemResult.class.isAssignableFrom(type);
+  }
+
+  /**
+   * Writes returned problem, or value of successful {@link ProblemResult}.
+   *
+   * @param returnValue the value returned by the handler method
+   * @param returnType the method return type
+   * @param mavContainer the model and view container of the current request
+   * @param webRequest the current request
+   * @throws Exception if writing the response fails
+   */
+  @Override
+  public void handleReturnValue(
+      Object returnValue,
+      MethodParameter returnType,
+      ModelAndViewContainer mavContainer,
+      NativeWebRequest webRequest)
+      throws Exception {
+    if (returnValue instanceof ProblemResult<?> result && !result.isProblem()) {
+      entityProcessor.handleReturnValue(
+          ResponseEntity.ok(result.getValue()), VALUE_ENTITY_TYPE, mavContainer, webRequest);
+      return;
+    }
+
+    Problem problem =
+        returnValue instanceof ProblemResult<?> result
+            ? result.getProblem()
+            : (Problem) returnValue;
+    entityProcessor.handleReturnValue(
+        buildProblemEntity(problem, webRequest), PROBLEM_ENTITY_TYPE, mavContainer, webRequest);
+  }
+
+  /**
+   * Builds response entity of returned problem, after post-processing.
+   *
+   * @param problem the returned problem, {@code null} is treated as {@code 500 Internal Server
+   *     Error}
+   * @param webRequest the current request
+   * @return response entity to write
+   */
+  protected ResponseEntity<Problem> buildProblemEntity(
+      Problem problem, NativeWebRequest webRequest) {
+    ProblemContext context =
+        resolveProblemContext(name -> webRequest.getAttribute(name, SCOPE_REQUEST));
+    if (context == null) {
+      context = ProblemContext.create();
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(resolveProblemMediaType(webRequest, problemMediaTypes));
+
+    if (problem == null) {
+      problem = Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build();
+    }
+    problem = problemPostProcessor.process(context, problem);
+
+    HttpStatus status = ProblemSupport.resolveStatus(problem);
+    return new ResponseEntity<>(problem, headers, status);
+  }
+
+  private static MethodParameter entityType(String methodName) {
+    return new MethodParameter(
+        ReflectionUtils.findMethod(ProblemReturnValueHandler.class, methodName), -1);
+  }
+
+  @SuppressWarnings("unused")
+  private static ResponseEntity<Problem> problemEntity() {
+    return null;
+  }
+
+  @SuppressWarnings("unused")
+  private static ResponseEntity<Object> valueEntity() {
+    return null;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static io.github.problem4j.spring.web.AttributeSupport.resolveProblemContext;
+import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.logAdviceException;
+import static io.github.problem4j.spring.webmvc.WebMvcAdviceSupport.resolveProblemMediaType;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.ExceptionResolutionPlans;
+import io.github.problem4j.spring.web.InspectorDispatch;
+import io.github.problem4j.spring.web.ProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemResolverStore;
+import io.github.problem4j.spring.web.ProblemSupport;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.function.HandlerFunction;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+/**
+ * {@link HandlerFilterFunction} converting exceptions of WebMvc.fn functional endpoints into {@link
+ * Problem} responses, without leaving them to error handling of the servlet container.
+ *
+ * <p>{@link ProblemException}s are written with their own problem, other exceptions are resolved
+ * the same way as in {@link ExceptionWebMvcAdvice}, through {@link ProblemMapper} and {@link
+ * ProblemResolverStore}. Problems go through {@link ProblemPostProcessor} and {@link
+ * AdviceWebMvcInspector}s as in controller advices.
+ *
+ * <pre>{@code
+ * RouterFunctions.route()
+ *     .GET("/orders/{id}", orderHandler::getOrder)
+ *     .filter(problemWebMvcHandlerFilterFunction)
+ *     .build();
+ * }</pre>
+ */
+public class ProblemWebMvcHandlerFilterFunction
+    implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+  private static final Logger log =
+      LoggerFactory.getLogger(ProblemWebMvcHandlerFilterFunction.class);
+
+  private final ExceptionResolutionPlans resolutionPlans;
+  private final ProblemPostProcessor problemPostProcessor;
+
+  private final InspectorDispatch<AdviceWebMvcInspector> inspectorDispatch;
+  private final List<MediaType> problemMediaTypes;
+
+  /**
+   * Creates a new {@code ProblemWebMvcHandlerFilterFunction}.
+   *
+   * @param problemMapper the problem mapper to use
+   * @param problemResolverStore the resolver store for mapping exceptions
+   * @param problemPostProcessor the post-processor for problems
+   * @param adviceWebMvcInspectors the inspectors to invoke for resolved problems
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   */
+  public ProblemWebMvcHandlerFilterFunction(
+      ProblemMapper problemMapper,
+      ProblemResolverStore problemResolverStore,
+      ProblemPostProcessor problemPostProcessor,
+      List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+      List<MediaType> problemMediaTypes) {
+    this.resolutionPlans = new ExceptionResolutionPlans(problemMapper, problemResolverStore);
+    this.problemPostProcessor = problemPostProcessor;
+    this.inspectorDispatch =
+        new InspectorDispatch<>(adviceWebMvcInspectors, AdviceWebMvcInspector::getInterest);
+    this.problemMediaTypes = problemMediaTypes;
+  }
+
+  /**
+   * Invokes given handler function, converting its exceptions into {@link Problem} responses.
+   *
+   * @param request the current request
+   * @param next the handler function being filtered
+   * @return the response of handler function, or the problem response if it failed
+   */
+  @Override
+  public ServerResponse filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+    try {
+      return next.handle(request);
+    } catch (Exception ex) {
+      return handleException(ex, new ServletWebRequest(request.servletRequest()));
+    }
+  }
+
+  /**
+   * Converts given exception into a {@link Problem} response.
+   *
+   * @param ex the exception to handle
+   * @param request the current request
+   * @return the response with a {@link Problem} body
+   */
+  protected ServerResponse handleException(Exception ex, WebRequest request) {
+    ProblemContext context =
+        resolveProblemContext(name -> request.getAttribute(name, SCOPE_REQUEST));
+    if (context == null) {
+      context = ProblemContext.create();
+    }
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(resolveProblemMediaType(request, problemMediaTypes));
+
+    Problem problem;
+    try {
+      problem =
+          ex instanceof ProblemException pe
+              ? pe.getProblem()
+              : resolutionPlans.resolveBuilder(ex, context, headers).build();
+      problem = problemPostProcessor.process(context, problem);
+    } catch (Exception e) {
+      logAdviceException(log, ex, request, e);
+      problem = Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build();
+    }
+
+    HttpStatus status = ProblemSupport.resolveStatus(problem);
+
+    for (AdviceWebMvcInspector inspector : inspectorDispatch.select(ex, problem, status.value())) {
+      inspector.inspect(context, problem, ex, headers, status, request);
+    }
+
+    return ServerResponse.status(status).headers(h -> h.addAll(headers)).body(problem);
+  }
+}
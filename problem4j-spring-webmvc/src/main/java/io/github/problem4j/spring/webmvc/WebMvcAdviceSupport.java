@@ -20,15 +20,32 @@
  */
 package io.github.problem4j.spring.webmvc;
 
-import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.resolveTraceId;
 import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
+import io.github.problem4j.spring.web.ProblemSupport;
+import java.util.List;
 import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
 
 class WebMvcAdviceSupport {
 
+  /**
+   * Resolves content type of a problem response from {@code Accept} header of given request.
+   *
+   * @param request request that is being handled
+   * @param problemMediaTypes problem media types that can be written, the default one first
+   * @return content type for the problem response
+   * @see ProblemSupport#resolveProblemMediaType(String, List)
+   */
+  static MediaType resolveProblemMediaType(WebRequest request, List<MediaType> problemMediaTypes) {
+    return ProblemSupport.resolveProblemMediaType(
+        request.getHeader(HttpHeaders.ACCEPT), problemMediaTypes);
+  }
+
   /**
    * Logs exception that occurred while processing exception occurred within controller advices.
    *
@@ -46,10 +63,7 @@ static void logAdviceException(Logger log, Exception ex, WebRequest request, Exc
       method = String.valueOf(req.getHttpMethod());
       endpoint = req.getRequest().getRequestURI();
 
-      Object traceIdAttr = req.getAttribute(TRACE_ID_ATTRIBUTE, SCOPE_REQUEST);
-      if (traceIdAttr != null) {
-        traceId = traceIdAttr.toString();
-      }
+      traceId = resolveTraceId(name -> req.getAttribute(name, SCOPE_REQUEST));
     }
 
     log.warn(
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.LazyProblemContext;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Immutable copy of a {@link WebRequest}, taken on the request thread so that it can be safely
+ * handed over to another thread after the original request is completed and recycled.
+ *
+ * <p>Captures the HTTP method, request URI, headers, query parameters, request-scoped attributes
+ * and a few other request properties. Parameters are parsed from the query string only, so that
+ * taking a snapshot never reads the request body to parse form parameters. Attributes are copied
+ * shallowly, except for a lazily created problem context, which is resolved on the request thread
+ * and stored as the regular context and trace ID attributes instead, so that the snapshot does not
+ * reach back to the live request.
+ *
+ * <p>The snapshot is neither a {@code ServletWebRequest} nor a {@code NativeWebRequest}, so the
+ * servlet request cannot be obtained from it. Session is not captured, so session-scoped attributes
+ * are never present, {@link #getSessionId()} and {@link #getSessionMutex()} throw {@link
+ * UnsupportedOperationException}, as do all attempts to modify attributes. {@link
+ * #isUserInRole(String)} always returns {@code false}, as roles cannot be enumerated up front.
+ *
+ * @see AsyncAdviceWebMvcInspector
+ */
+public final class WebRequestSnapshot implements WebRequest {
+
+  private final HttpMethod method;
+  private final String requestUri;
+  private final Map<String, String[]> headers;
+  private final Map<String, String[]> parameters;
+  private final Map<String, Object> attributes;
+  private final Locale locale;
+  private final String contextPath;
+  private final String remoteUser;
+  private final Principal userPrincipal;
+  private final boolean secure;
+  private final String description;
+  private final String descriptionWithClient;
+
+  private WebRequestSnapshot(WebRequest request) {
+    String queryString;
+    if (request instanceof ServletWebRequest servletRequest) {
+      this.method = servletRequest.getHttpMethod();
+      this.requestUri = servletRequest.getRequest().getRequestURI();
+      queryString = servletRequest.getRequest().getQueryString();
+    } else {
+      this.method = null;
+      this.requestUri = null;
+      queryString = null;
+    }
+
+    Map<String, String[]> headers = new LinkedCaseInsensitiveMap<>(Locale.ROOT);
+    for (Iterator<String> it = request.getHeaderNames(); it.hasNext(); ) {
+      String name = it.next();
+      String[] values = request.getHeaderValues(name);
+      if (values != null) {
+        headers.put(name, values.clone());
+      }
+    }
+    this.headers = Collections.unmodifiableMap(headers);
+
+    this.parameters = Collections.unmodifiableMap(parseQueryString(queryString));
+
+    Map<String, Object> attributes = new LinkedHashMap<>();
+    for (String name : request.getAttributeNames(SCOPE_REQUEST)) {
+      Object value = request.getAttribute(name, SCOPE_REQUEST);
+      if (value instanceof LazyProblemContext lazy) {
+        ProblemContext context = lazy.get();
+        attributes.put(PROBLEM_CONTEXT_ATTRIBUTE, context);
+        String traceId = context.get("traceId");
+        if (traceId != null) {
+          attributes.putIfAbsent(TRACE_ID_ATTRIBUTE, traceId);
+        }
+      } else if (value != null) {
+        attributes.put(name, value);
+      }
+    }
+    this.attributes = Collections.unmodifiableMap(attributes);
+
+    this.locale = request.getLocale();
+    this.contextPath = request.getContextPath();
+    this.remoteUser = request.getRemoteUser();
+    this.userPrincipal = request.getUserPrincipal();
+    this.secure = request.isSecure();
+    this.description = request.getDescription(false);
+    this.descriptionWithClient = request.getDescription(true);
+  }
+
+  private static Map<String, String[]> parseQueryString(String queryString) {
+    Map<String, List<String>> values = new LinkedHashMap<>();
+    if (StringUtils.hasLength(queryString)) {
+      for (String pair : queryString.split("&")) {
+        if (pair.isEmpty()) {
+          continue;
+        }
+        int separator = pair.indexOf('=');
+        String name = separator >= 0 ? pair.substring(0, separator) : pair;
+        String value = separator >= 0 ? pair.substring(separator + 1) : "";
+        values.computeIfAbsent(decode(name), k -> new ArrayList<>()).add(decode(value));
+      }
+    }
+    Map<String, String[]> parameters = new LinkedHashMap<>();
+    values.forEach((name, list) -> parameters.put(name, list.toArray(new String[0])));
+    return parameters;
+  }
+
+  private static String decode(String value) {
+    try {
+      return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      return value;
+    }
+  }
+
+  /**
+   * Creates a snapshot of given request. Must be called on the thread handling the request.
+   *
+   * @param request the request to copy
+   * @return immutable copy of the request
+   */
+  public static WebRequestSnapshot of(WebRequest request) {
+    return new WebRequestSnapshot(request);
+  }
+
+  /**
+   * Returns the HTTP method of the request.
+   *
+   * @return the HTTP method, or {@code null} if the original request was not a servlet request
+   */
+  public HttpMethod getHttpMethod() {
+    return method;
+  }
+
+  /**
+   * Returns the request URI, as returned by {@code HttpServletRequest#getRequestURI()}.
+   *
+   * @return the request URI, or {@code null} if the original request was not a servlet request
+   */
+  public String getRequestUri() {
+    return requestUri;
+  }
+
+  @Override
+  public String getHeader(String headerName) {
+    String[] values = headers.get(headerName);
+    return values != null && values.length > 0 ? values[0] : null;
+  }
+
+  @Override
+  public String[] getHeaderValues(String headerName) {
+    String[] values = headers.get(headerName);
+    return values != null ? values.clone() : null;
+  }
+
+  @Override
+  public Iterator<String> getHeaderNames() {
+    return headers.keySet().iterator();
+  }
+
+  @Override
+  public String getParameter(String paramName) {
+    String[] values = parameters.get(paramName);
+    return values != null && values.length > 0 ? values[0] : null;
+  }
+
+  @Override
+  public String[] getParameterValues(String paramName) {
+    String[] values = parameters.get(paramName);
+    return values != null ? values.clone() : null;
+  }
+
+  @Override
+  public Iterator<String> getParameterNames() {
+    return parameters.keySet().iterator();
+  }
+
+  @Override
+  public Map<String, String[]> getParameterMap() {
+    return parameters;
+  }
+
+  @Override
+  public Locale getLocale() {
+    return locale;
+  }
+
+  @Override
+  public String getContextPath() {
+    return contextPath;
+  }
+
+  @Override
+  public String getRemoteUser() {
+    return remoteUser;
+  }
+
+  @Override
+  public Principal getUserPrincipal() {
+    return userPrincipal;
+  }
+
+  /**
+   * Always returns {@code false}, as roles are not captured by the snapshot.
+   *
+   * @param role the role to check
+   * @return {@code false}
+   */
+  @Override
+  public boolean isUserInRole(String role) {
+    return false;
+  }
+
+  @Override
+  public boolean isSecure() {
+    return secure;
+  }
+
+  /**
+   * Always returns {@code false}, as the response is no longer accessible.
+   *
+   * @param lastModifiedTimestamp ignored
+   * @return {@code false}
+   */
+  @Override
+  public boolean checkNotModified(long lastModifiedTimestamp) {
+    return false;
+  }
+
+  /**
+   * Always returns {@code false}, as the response is no longer accessible.
+   *
+   * @param etag ignored
+   * @return {@code false}
+   */
+  @Override
+  public boolean checkNotModified(String etag) {
+    return false;
+  }
+
+  /**
+   * Always returns {@code false}, as the response is no longer accessible.
+   *
+   * @param etag ignored
+   * @param lastModifiedTimestamp ignored
+   * @return {@code false}
+   */
+  @Override
+  public boolean checkNotModified(String etag, long lastModifiedTimestamp) {
+    return false;
+  }
+
+  @Override
+  public String getDescription(boolean includeClientInfo) {
+    return includeClientInfo ? descriptionWithClient : description;
+  }
+
+  @Override
+  public Object getAttribute(String name, int scope) {
+    return scope == SCOPE_REQUEST ? attributes.get(name) : null;
+  }
+
+  @Override
+  public String[] getAttributeNames(int scope) {
+    return scope == SCOPE_REQUEST ? attributes.keySet().toArray(new String[0]) : new String[0];
+  }
+
+  @Override
+  public void setAttribute(String name, Object value, int scope) {
+    throw new UnsupportedOperationException("Request snapshot is read-only");
+  }
+
+  @Override
+  public void removeAttribute(String name, int scope) {
+    throw new UnsupportedOperationException("Request snapshot is read-only");
+  }
+
+  @Override
+  public void registerDestructionCallback(String name, Runnable callback, int scope) {
+    throw new UnsupportedOperationException("Request snapshot is read-only");
+  }
+
+  @Override
+  public Object resolveReference(String key) {
+    return key.equals(REFERENCE_REQUEST) ? this : null;
+  }
+
+  @Override
+  public String getSessionId() {
+    throw new UnsupportedOperationException("Request snapshot does not capture session");
+  }
+
+  @Override
+  public Object getSessionMutex() {
+    throw new UnsupportedOperationException("Request snapshot does not capture session");
+  }
+
+  @Override
+  public String toString() {
+    return "WebRequestSnapshot: " + description;
+  }
+}
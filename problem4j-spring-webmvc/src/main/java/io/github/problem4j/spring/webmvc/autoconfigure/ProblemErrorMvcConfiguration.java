@@ -22,6 +22,8 @@
 
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.webmvc.ProblemErrorController;
+import io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -68,13 +70,25 @@ ErrorAttributes problemErrorAttributes() {
    * <p>Replaces the default error controller when no other implementation is present.
    *
    * @param errorAttributes provides error information for requests
+   * @param webMvcProperties the WebMVC configuration properties
+   * @param problemHttpMessageConverter converter whose media types can be negotiated and which
+   *     writes problems directly if {@code problem4j.webmvc.error-controller.direct-write} is set
    * @return a new {@link ProblemErrorController} instance
    * @see org.springframework.boot.webmvc.autoconfigure.error.ErrorMvcAutoConfiguration
    */
   @ConditionalOnMissingBean(ErrorController.class)
   @Bean
   ErrorController problemErrorController(
-      ProblemPostProcessor problemPostProcessor, ErrorAttributes errorAttributes) {
-    return new ProblemErrorController(problemPostProcessor, errorAttributes);
+      ProblemPostProcessor problemPostProcessor,
+      ErrorAttributes errorAttributes,
+      ProblemWebMvcProperties webMvcProperties,
+      ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
+    return new ProblemErrorController(
+        problemPostProcessor,
+        errorAttributes,
+        ProblemWebMvcAutoConfiguration.problemMediaTypes(problemHttpMessageConverter),
+        webMvcProperties.getErrorController().isDirectWrite()
+            ? problemHttpMessageConverter.getIfAvailable()
+            : null);
   }
 }
@@ -21,15 +21,25 @@
 package io.github.problem4j.spring.webmvc.autoconfigure;
 
 import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.spring.web.ProblemCodecs;
 import io.github.problem4j.spring.web.ProblemPostProcessor;
 import io.github.problem4j.spring.web.ProblemResolverStore;
 import io.github.problem4j.spring.web.autoconfigure.ProblemProperties;
+import io.github.problem4j.spring.web.tracing.TraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
 import io.github.problem4j.spring.webmvc.AdviceWebMvcInspector;
 import io.github.problem4j.spring.webmvc.ExceptionWebMvcAdvice;
 import io.github.problem4j.spring.webmvc.ProblemContextWebMvcFilter;
 import io.github.problem4j.spring.webmvc.ProblemEnhancedWebMvcHandler;
 import io.github.problem4j.spring.webmvc.ProblemExceptionWebMvcAdvice;
+import io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter;
+import io.github.problem4j.spring.webmvc.ProblemReturnValueHandler;
+import io.github.problem4j.spring.webmvc.ProblemWebMvcHandlerFilterFunction;
+import java.util.ArrayList;
 import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
@@ -44,7 +54,14 @@
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.function.HandlerFilterFunction;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 /**
@@ -83,9 +100,14 @@ ExceptionWebMvcAdvice exceptionWebMvcAdvice(
       ProblemMapper problemMapper,
       ProblemResolverStore problemResolverStore,
       ProblemPostProcessor problemPostProcessor,
-      List<AdviceWebMvcInspector> adviceWebMvcInspectors) {
+      List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+      ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
     return new ExceptionWebMvcAdvice(
-        problemMapper, problemResolverStore, problemPostProcessor, adviceWebMvcInspectors);
+        problemMapper,
+        problemResolverStore,
+        problemPostProcessor,
+        adviceWebMvcInspectors,
+        problemMediaTypes(problemHttpMessageConverter));
   }
 
   /**
@@ -103,8 +125,23 @@ ExceptionWebMvcAdvice exceptionWebMvcAdvice(
   @Bean
   ProblemExceptionWebMvcAdvice problemExceptionWebMvcAdvice(
       ProblemPostProcessor problemPostProcessor,
-      List<AdviceWebMvcInspector> adviceWebMvcInspectors) {
-    return new ProblemExceptionWebMvcAdvice(problemPostProcessor, adviceWebMvcInspectors);
+      List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+      ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
+    return new ProblemExceptionWebMvcAdvice(
+        problemPostProcessor,
+        adviceWebMvcInspectors,
+        problemMediaTypes(problemHttpMessageConverter));
+  }
+
+  /**
+   * Returns problem media types that can be negotiated through {@code Accept} header. These are
+   * the ones supported by {@link ProblemHttpMessageConverter}, if registered, otherwise only the
+   * default {@code application/problem+json} is used.
+   */
+  static List<MediaType> problemMediaTypes(
+      ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
+    ProblemHttpMessageConverter converter = problemHttpMessageConverter.getIfAvailable();
+    return converter != null ? converter.getSupportedMediaTypes() : List.of();
   }
 
   /**
@@ -124,8 +161,20 @@ static class ProblemContextMvcFilterConfiguration {
      */
     @ConditionalOnMissingBean(ProblemContextWebMvcFilter.class)
     @Bean
-    ProblemContextWebMvcFilter problemContextWebMvcFilter(ProblemProperties properties) {
-      return new ProblemContextWebMvcFilter(properties);
+    ProblemContextWebMvcFilter problemContextWebMvcFilter(
+        ProblemProperties properties,
+        ProblemWebMvcProperties webMvcProperties,
+        TraceIdGenerator traceIdGenerator,
+        ObjectProvider<TraceIdResolver> traceIdResolvers,
+        ObjectProvider<TraceIdValidator> traceIdValidator) {
+      return new ProblemContextWebMvcFilter(
+          properties,
+          webMvcProperties.getProblemContextFilter().isLazy(),
+          traceIdGenerator,
+          traceIdResolvers.orderedStream().toList(),
+          webMvcProperties.getProblemContextFilter().isThreadBinding(),
+          webMvcProperties.getProblemContextFilter().getExcludePatterns(),
+          traceIdValidator.getIfAvailable());
     }
   }
 
@@ -148,9 +197,139 @@ static class ResponseEntityExceptionHandlerConfiguration {
     ResponseEntityExceptionHandler problemEnhancedWebMvcHandler(
         ProblemResolverStore problemResolverStore,
         ProblemPostProcessor problemPostProcessor,
-        List<AdviceWebMvcInspector> adviceWebMvcInspectors) {
+        List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+        ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
       return new ProblemEnhancedWebMvcHandler(
-          problemResolverStore, problemPostProcessor, adviceWebMvcInspectors);
+          problemResolverStore,
+          problemPostProcessor,
+          adviceWebMvcInspectors,
+          problemMediaTypes(problemHttpMessageConverter));
+    }
+  }
+
+  /**
+   * Nested configuration that registers {@link ProblemHttpMessageConverter} ahead of all other
+   * message converters, so problem responses are written with pre-built writers.
+   */
+  @ConditionalOnProperty(
+      name = "problem4j.webmvc.message-converter.enabled",
+      matchIfMissing = true)
+  @ConditionalOnClass(WebMvcConfigurer.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemMessageConverterConfiguration {
+
+    /**
+     * Provides the {@link ProblemHttpMessageConverter} backed by the application's {@link
+     * ProblemCodecs}.
+     */
+    @ConditionalOnMissingBean(ProblemHttpMessageConverter.class)
+    @Bean
+    ProblemHttpMessageConverter problemHttpMessageConverter(ProblemCodecs problemCodecs) {
+      return new ProblemHttpMessageConverter(problemCodecs);
+    }
+
+    /**
+     * Puts {@link ProblemHttpMessageConverter} in front of the converters configured by Spring
+     * MVC, so it takes precedence over generic Jackson converters for {@code Problem} bodies.
+     */
+    @Bean
+    WebMvcConfigurer problemMessageConverterWebMvcConfigurer(
+        ProblemHttpMessageConverter problemHttpMessageConverter) {
+      return new WebMvcConfigurer() {
+        @Override
+        public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+          converters.add(0, problemHttpMessageConverter);
+        }
+      };
+    }
+  }
+
+  /**
+   * Nested configuration that registers {@link ProblemReturnValueHandler} ahead of return value
+   * handlers configured by Spring MVC, so controllers can return {@code Problem} and {@code
+   * ProblemResult} instead of throwing exceptions. Opt-in, as it changes how controllers returning
+   * {@code Problem} are written.
+   */
+  @ConditionalOnProperty(
+      name = "problem4j.webmvc.return-value-handler.enabled",
+      havingValue = "true")
+  @ConditionalOnClass(RequestMappingHandlerAdapter.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemReturnValueHandlerConfiguration {
+
+    /**
+     * Puts {@link ProblemReturnValueHandler} in front of return value handlers of each {@link
+     * RequestMappingHandlerAdapter}, once all of them are initialized.
+     */
+    @Bean
+    SmartInitializingSingleton problemReturnValueHandlerRegistrar(
+        ObjectProvider<RequestMappingHandlerAdapter> handlerAdapters,
+        ProblemPostProcessor problemPostProcessor,
+        ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
+      return () ->
+          handlerAdapters.orderedStream()
+              .forEach(
+                  adapter ->
+                      registerReturnValueHandler(
+                          adapter,
+                          problemPostProcessor,
+                          problemMediaTypes(problemHttpMessageConverter)));
+    }
+
+    private static void registerReturnValueHandler(
+        RequestMappingHandlerAdapter adapter,
+        ProblemPostProcessor problemPostProcessor,
+        List<MediaType> problemMediaTypes) {
+      List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+      if (handlers == null) {
+        return;
+      }
+      handlers.stream()
+          .filter(HttpEntityMethodProcessor.class::isInstance)
+          .map(HttpEntityMethodProcessor.class::cast)
+          .findFirst()
+          .ifPresent(
+              entityProcessor -> {
+                List<HandlerMethodReturnValueHandler> reordered =
+                    new ArrayList<>(handlers.size() + 1);
+                reordered.add(
+                    new ProblemReturnValueHandler(
+                        entityProcessor, problemPostProcessor, problemMediaTypes));
+                reordered.addAll(handlers);
+                adapter.setReturnValueHandlers(reordered);
+              });
+    }
+  }
+
+  /**
+   * Nested configuration that provides {@link ProblemWebMvcHandlerFilterFunction}, to be applied
+   * on {@code RouterFunction}s of functional endpoints.
+   */
+  @ConditionalOnProperty(
+      name = "problem4j.webmvc.handler-filter-function.enabled",
+      matchIfMissing = true)
+  @ConditionalOnClass(HandlerFilterFunction.class)
+  @Configuration(proxyBeanMethods = false)
+  static class ProblemHandlerFilterFunctionConfiguration {
+
+    /**
+     * Provides the {@link ProblemWebMvcHandlerFilterFunction}, resolving exceptions the same way as
+     * {@link ExceptionWebMvcAdvice}.
+     */
+    @ConditionalOnMissingBean(ProblemWebMvcHandlerFilterFunction.class)
+    @Bean
+    ProblemWebMvcHandlerFilterFunction problemWebMvcHandlerFilterFunction(
+        ProblemMapper problemMapper,
+        ProblemResolverStore problemResolverStore,
+        ProblemPostProcessor problemPostProcessor,
+        List<AdviceWebMvcInspector> adviceWebMvcInspectors,
+        ObjectProvider<ProblemHttpMessageConverter> problemHttpMessageConverter) {
+      return new ProblemWebMvcHandlerFilterFunction(
+          problemMapper,
+          problemResolverStore,
+          problemPostProcessor,
+          adviceWebMvcInspectors,
+          problemMediaTypes(problemHttpMessageConverter));
     }
   }
 }
@@ -20,6 +20,7 @@
  */
 package io.github.problem4j.spring.webmvc.autoconfigure;
 
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
@@ -38,6 +39,9 @@ public class ProblemWebMvcProperties {
   private final ProblemContextFilter problemContextFilter;
   private final ExceptionHandler exceptionHandler;
   private final ErrorController errorController;
+  private final MessageConverter messageConverter;
+  private final ReturnValueHandler returnValueHandler;
+  private final HandlerFilterFunction handlerFilterFunction;
 
   /**
    * Creates a new instance.
@@ -48,11 +52,17 @@ public class ProblemWebMvcProperties {
    * @param problemContextFilter configuration for {@code ProblemContextMvcFilter}
    * @param exceptionHandler configuration for {@code ProblemEnhancedWebMvcHandler}
    * @param errorController configuration for {@code ProblemErrorController}
+   * @param messageConverter configuration for {@code ProblemHttpMessageConverter}
+   * @param returnValueHandler configuration for {@code ProblemReturnValueHandler}
+   * @param handlerFilterFunction configuration for {@code ProblemWebMvcHandlerFilterFunction}
    * @see io.github.problem4j.spring.webmvc.ExceptionWebMvcAdvice
    * @see io.github.problem4j.spring.webmvc.ProblemExceptionWebMvcAdvice
    * @see io.github.problem4j.spring.webmvc.ProblemContextWebMvcFilter
    * @see io.github.problem4j.spring.webmvc.ProblemEnhancedWebMvcHandler
    * @see io.github.problem4j.spring.webmvc.ProblemErrorController
+   * @see io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter
+   * @see io.github.problem4j.spring.webmvc.ProblemReturnValueHandler
+   * @see io.github.problem4j.spring.webmvc.ProblemWebMvcHandlerFilterFunction
    */
   public ProblemWebMvcProperties(
       @DefaultValue("true") boolean enabled,
@@ -60,7 +70,10 @@ public ProblemWebMvcProperties(
       ProblemExceptionAdvice problemExceptionAdvice,
       ProblemContextFilter problemContextFilter,
       ExceptionHandler exceptionHandler,
-      ErrorController errorController) {
+      ErrorController errorController,
+      MessageConverter messageConverter,
+      ReturnValueHandler returnValueHandler,
+      HandlerFilterFunction handlerFilterFunction) {
     this.enabled = enabled;
     this.exceptionAdvice =
         exceptionAdvice != null ? exceptionAdvice : ExceptionAdvice.createDefault();
@@ -74,6 +87,14 @@ public ProblemWebMvcProperties(
         exceptionHandler != null ? exceptionHandler : ExceptionHandler.createDefault();
     this.errorController =
         errorController != null ? errorController : ErrorController.createDefault();
+    this.messageConverter =
+        messageConverter != null ? messageConverter : MessageConverter.createDefault();
+    this.returnValueHandler =
+        returnValueHandler != null ? returnValueHandler : ReturnValueHandler.createDefault();
+    this.handlerFilterFunction =
+        handlerFilterFunction != null
+            ? handlerFilterFunction
+            : HandlerFilterFunction.createDefault();
   }
 
   /**
@@ -144,6 +165,39 @@ public ErrorController getErrorController() {
     return errorController;
   }
 
+  /**
+   * Returns configuration for {@code ProblemHttpMessageConverter}, which writes {@code Problem}
+   * responses with pre-built writers ahead of generic message converters.
+   *
+   * @return the configuration for the problem message converter
+   * @see io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter
+   */
+  public MessageConverter getMessageConverter() {
+    return messageConverter;
+  }
+
+  /**
+   * Returns configuration for {@code ProblemReturnValueHandler}, which writes {@code Problem} and
+   * {@code ProblemResult} values returned by controllers.
+   *
+   * @return the configuration for the return value handler
+   * @see io.github.problem4j.spring.webmvc.ProblemReturnValueHandler
+   */
+  public ReturnValueHandler getReturnValueHandler() {
+    return returnValueHandler;
+  }
+
+  /**
+   * Returns configuration for {@code ProblemWebMvcHandlerFilterFunction}, which converts
+   * exceptions of functional endpoints into {@code Problem} responses.
+   *
+   * @return the configuration for the handler filter function
+   * @see io.github.problem4j.spring.webmvc.ProblemWebMvcHandlerFilterFunction
+   */
+  public HandlerFilterFunction getHandlerFilterFunction() {
+    return handlerFilterFunction;
+  }
+
   /**
    * Configuration group for {@code ExceptionWebMvcAdvice}.
    *
@@ -231,7 +285,10 @@ public boolean isEnabled() {
   /**
    * Configuration group for {@code ProblemContextMvcFilter}.
    *
-   * <p>Controlled by the property {@code problem4j.webmvc.problem-context-filter.enabled}.
+   * <p>Controlled by the property {@code problem4j.webmvc.problem-context-filter.enabled}. With
+   * {@code problem4j.webmvc.problem-context-filter.lazy}, the context is created only when a
+   * problem response is resolved. Requests matching {@code
+   * problem4j.webmvc.problem-context-filter.exclude-patterns} are not filtered at all.
    *
    * @see io.github.problem4j.spring.webmvc.ProblemContextWebMvcFilter
    */
@@ -243,20 +300,46 @@ public static class ProblemContextFilter {
     /** Default enabled value string for {@code ProblemContextMvcFilter}. */
     public static final String DEFAULT_ENABLED_VALUE = "true";
 
+    /** Default lazy flag for {@code ProblemContextMvcFilter}. */
+    public static final boolean DEFAULT_LAZY = false;
+
+    /** Default lazy value string for {@code ProblemContextMvcFilter}. */
+    public static final String DEFAULT_LAZY_VALUE = "false";
+
+    /** Default thread binding flag for {@code ProblemContextMvcFilter}. */
+    public static final boolean DEFAULT_THREAD_BINDING = false;
+
+    /** Default thread binding value string for {@code ProblemContextMvcFilter}. */
+    public static final String DEFAULT_THREAD_BINDING_VALUE = "false";
+
     private static ProblemContextFilter createDefault() {
-      return new ProblemContextFilter(DEFAULT_ENABLED);
+      return new ProblemContextFilter(
+          DEFAULT_ENABLED, DEFAULT_LAZY, DEFAULT_THREAD_BINDING, List.of());
     }
 
     private final boolean enabled;
+    private final boolean lazy;
+    private final boolean threadBinding;
+    private final List<String> excludePatterns;
 
     /**
      * Creates a new configuration group for {@code ProblemContextMvcFilter}.
      *
      * @param enabled whether the {@code ProblemContextMvcFilter} bean should be created
+     * @param lazy whether the context should be created only when a problem response is resolved
+     * @param threadBinding whether the context should be bound to the handling thread
+     * @param excludePatterns path patterns of requests that should not be filtered
      * @see io.github.problem4j.spring.webmvc.ProblemContextWebMvcFilter
      */
-    public ProblemContextFilter(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+    public ProblemContextFilter(
+        @DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled,
+        @DefaultValue(DEFAULT_LAZY_VALUE) boolean lazy,
+        @DefaultValue(DEFAULT_THREAD_BINDING_VALUE) boolean threadBinding,
+        List<String> excludePatterns) {
       this.enabled = enabled;
+      this.lazy = lazy;
+      this.threadBinding = threadBinding;
+      this.excludePatterns = excludePatterns != null ? List.copyOf(excludePatterns) : List.of();
     }
 
     /**
@@ -268,6 +351,40 @@ public ProblemContextFilter(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled
     public boolean isEnabled() {
       return enabled;
     }
+
+    /**
+     * Returns whether {@code ProblemContextMvcFilter} should create the context and trace
+     * identifier only when a problem response is resolved. Has no effect if {@code
+     * problem4j.tracing-header-name} is set.
+     *
+     * @return {@code true} if the context is created lazily, otherwise {@code false}
+     * @see io.github.problem4j.spring.webmvc.ProblemContextWebMvcFilter
+     */
+    public boolean isLazy() {
+      return lazy;
+    }
+
+    /**
+     * Returns whether {@code ProblemContextMvcFilter} should bind the context to the handling
+     * thread, so non-web code can read it through {@code ProblemContextHolder}.
+     *
+     * @return {@code true} if the context is bound to the handling thread, otherwise {@code false}
+     * @see io.github.problem4j.spring.web.ProblemContextHolder
+     */
+    public boolean isThreadBinding() {
+      return threadBinding;
+    }
+
+    /**
+     * Returns path patterns (e.g. {@code /actuator/**}) of requests that {@code
+     * ProblemContextMvcFilter} should not filter, relative to application context path.
+     *
+     * @return unmodifiable list of exclude patterns, empty by default
+     * @see org.springframework.web.util.pattern.PathPattern
+     */
+    public List<String> getExcludePatterns() {
+      return excludePatterns;
+    }
   }
 
   /**
@@ -317,7 +434,10 @@ public boolean isEnabled() {
   /**
    * Configuration group for {@code ProblemErrorController} override.
    *
-   * <p>Controlled by the property {@code problem4j.webmvc.error-web-exception-handler.enabled}.
+   * <p>Controlled by the property {@code problem4j.webmvc.error-controller.enabled}. With {@code
+   * problem4j.webmvc.error-controller.direct-write}, problems of error dispatches are written
+   * straight through {@code ProblemHttpMessageConverter}, bypassing {@code ResponseBodyAdvice}
+   * beans.
    *
    * @see io.github.problem4j.spring.webmvc.ProblemErrorController
    * @see io.github.problem4j.spring.webmvc.autoconfigure.ProblemErrorMvcConfiguration
@@ -331,22 +451,34 @@ public static class ErrorController {
     /** Default enabled value string for {@code ErrorController}. */
     public static final String DEFAULT_ENABLED_VALUE = "true";
 
+    /** Default direct write flag for {@code ErrorController}. */
+    public static final boolean DEFAULT_DIRECT_WRITE = false;
+
+    /** Default direct write value string for {@code ErrorController}. */
+    public static final String DEFAULT_DIRECT_WRITE_VALUE = "false";
+
     private static ErrorController createDefault() {
-      return new ErrorController(DEFAULT_ENABLED);
+      return new ErrorController(DEFAULT_ENABLED, DEFAULT_DIRECT_WRITE);
     }
 
     private final boolean enabled;
+    private final boolean directWrite;
 
     /**
      * Creates a new configuration group.
      *
      * @param enabled whether the {@code ErrorController} should be replaced with {@code
      *     ProblemErrorController}
+     * @param directWrite whether problems should be written directly through {@code
+     *     ProblemHttpMessageConverter}
      * @see io.github.problem4j.spring.webmvc.ProblemErrorController
      * @see org.springframework.boot.webmvc.error.ErrorController
      */
-    public ErrorController(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+    public ErrorController(
+        @DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled,
+        @DefaultValue(DEFAULT_DIRECT_WRITE_VALUE) boolean directWrite) {
       this.enabled = enabled;
+      this.directWrite = directWrite;
     }
 
     /**
@@ -358,5 +490,143 @@ public ErrorController(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
     public boolean isEnabled() {
       return enabled;
     }
+
+    /**
+     * Returns whether {@code ProblemErrorController} should write problems directly through {@code
+     * ProblemHttpMessageConverter}, without content negotiation among all message converters. Such
+     * writes bypass {@code ResponseBodyAdvice} beans, so they are disabled by default.
+     *
+     * @return {@code true} if problems are written directly, otherwise {@code false}
+     * @see io.github.problem4j.spring.webmvc.ProblemErrorController
+     */
+    public boolean isDirectWrite() {
+      return directWrite;
+    }
+  }
+
+  /**
+   * Configuration group for {@code ProblemHttpMessageConverter}.
+   *
+   * <p>Controlled by the property {@code problem4j.webmvc.message-converter.enabled}.
+   *
+   * @see io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter
+   */
+  public static class MessageConverter {
+
+    /** Default enabled flag for {@code ProblemHttpMessageConverter}. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default enabled value string for {@code ProblemHttpMessageConverter}. */
+    public static final String DEFAULT_ENABLED_VALUE = "true";
+
+    private static MessageConverter createDefault() {
+      return new MessageConverter(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new configuration group for {@code ProblemHttpMessageConverter}.
+     *
+     * @param enabled whether the {@code ProblemHttpMessageConverter} should be registered
+     * @see io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter
+     */
+    public MessageConverter(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether {@code ProblemHttpMessageConverter} should be registered.
+     *
+     * @return {@code true} if the problem message converter is enabled, otherwise {@code false}
+     * @see io.github.problem4j.spring.webmvc.ProblemHttpMessageConverter
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  /**
+   * Configuration group for {@code ProblemReturnValueHandler}.
+   *
+   * <p>Controlled by the property {@code problem4j.webmvc.return-value-handler.enabled}.
+   *
+   * @see io.github.problem4j.spring.webmvc.ProblemReturnValueHandler
+   */
+  public static class ReturnValueHandler {
+
+    /** Default enabled flag for {@code ProblemReturnValueHandler}. */
+    public static final boolean DEFAULT_ENABLED = false;
+
+    /** Default enabled value string for {@code ProblemReturnValueHandler}. */
+    public static final String DEFAULT_ENABLED_VALUE = "false";
+
+    private static ReturnValueHandler createDefault() {
+      return new ReturnValueHandler(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new configuration group for {@code ProblemReturnValueHandler}.
+     *
+     * @param enabled whether the {@code ProblemReturnValueHandler} should be registered
+     * @see io.github.problem4j.spring.webmvc.ProblemReturnValueHandler
+     */
+    public ReturnValueHandler(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether {@code ProblemReturnValueHandler} should be registered.
+     *
+     * @return {@code true} if the problem return value handler is enabled, otherwise {@code false}
+     * @see io.github.problem4j.spring.webmvc.ProblemReturnValueHandler
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
+  }
+
+  /**
+   * Configuration group for {@code ProblemWebMvcHandlerFilterFunction}.
+   *
+   * <p>Controlled by the property {@code problem4j.webmvc.handler-filter-function.enabled}.
+   *
+   * @see io.github.problem4j.spring.webmvc.ProblemWebMvcHandlerFilterFunction
+   */
+  public static class HandlerFilterFunction {
+
+    /** Default enabled flag for {@code ProblemWebMvcHandlerFilterFunction}. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default enabled value string for {@code ProblemWebMvcHandlerFilterFunction}. */
+    public static final String DEFAULT_ENABLED_VALUE = "true";
+
+    private static HandlerFilterFunction createDefault() {
+      return new HandlerFilterFunction(DEFAULT_ENABLED);
+    }
+
+    private final boolean enabled;
+
+    /**
+     * Creates a new configuration group for {@code ProblemWebMvcHandlerFilterFunction}.
+     *
+     * @param enabled whether the {@code ProblemWebMvcHandlerFilterFunction} should be registered
+     * @see io.github.problem4j.spring.webmvc.ProblemWebMvcHandlerFilterFunction
+     */
+    public HandlerFilterFunction(@DefaultValue(DEFAULT_ENABLED_VALUE) boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    /**
+     * Returns whether {@code ProblemWebMvcHandlerFilterFunction} should be registered.
+     *
+     * @return {@code true} if the handler filter function is enabled, otherwise {@code false}
+     * @see io.github.problem4j.spring.webmvc.ProblemWebMvcHandlerFilterFunction
+     */
+    public boolean isEnabled() {
+      return enabled;
+    }
   }
 }
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static io.github.problem4j.spring.web.AttributeSupport.LAZY_PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.AsyncInspectorExecutor;
+import io.github.problem4j.spring.web.AsyncInspectorExecutor.OverflowPolicy;
+import io.github.problem4j.spring.web.LazyProblemContext;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+class AsyncAdviceWebMvcInspectorTest {
+
+  @Test
+  void givenAsyncInspector_whenInspecting_thenDelegateReceivesRequestSnapshot() {
+    AtomicReference<WebRequest> received = new AtomicReference<>();
+    List<Runnable> tasks = new ArrayList<>();
+    AsyncAdviceWebMvcInspector inspector =
+        new AsyncAdviceWebMvcInspector(
+            (context, problem, ex, headers, status, request) -> received.set(request), tasks::add);
+
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/orders");
+    servletRequest.addHeader("X-Request-Id", "abc");
+    servletRequest.setQueryString("page=2&tag=a%20b");
+    servletRequest.setAttribute("traceId", "trace-1");
+    ServletWebRequest request = new ServletWebRequest(servletRequest);
+
+    inspector.inspect(
+        ProblemContext.create(),
+        Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build(),
+        new RuntimeException(),
+        new HttpHeaders(),
+        HttpStatus.INTERNAL_SERVER_ERROR,
+        request);
+
+    servletRequest.addHeader("X-Request-Id", "def");
+    servletRequest.setAttribute("traceId", "trace-2");
+    tasks.forEach(Runnable::run);
+
+    assertThat(received.get()).isInstanceOf(WebRequestSnapshot.class).isNotSameAs(request);
+    WebRequestSnapshot snapshot = (WebRequestSnapshot) received.get();
+    assertThat(snapshot.getHttpMethod()).isEqualTo(HttpMethod.POST);
+    assertThat(snapshot.getRequestUri()).isEqualTo("/orders");
+    assertThat(snapshot.getHeaderValues("x-request-id")).containsExactly("abc");
+    assertThat(snapshot.getParameter("page")).isEqualTo("2");
+    assertThat(snapshot.getParameter("tag")).isEqualTo("a b");
+    assertThat(snapshot.getAttribute("traceId", RequestAttributes.SCOPE_REQUEST))
+        .isEqualTo("trace-1");
+  }
+
+  @Test
+  void givenLazyProblemContext_whenTakingSnapshot_thenResolvesContextOnCallingThread() {
+    MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/test");
+    servletRequest.setAttribute(
+        LAZY_PROBLEM_CONTEXT_ATTRIBUTE,
+        new LazyProblemContext(() -> ProblemContext.create().put("traceId", "trace-1")));
+
+    WebRequestSnapshot snapshot = WebRequestSnapshot.of(new ServletWebRequest(servletRequest));
+
+    assertThat(snapshot.getAttributeNames(RequestAttributes.SCOPE_REQUEST))
+        .containsExactlyInAnyOrder(PROBLEM_CONTEXT_ATTRIBUTE, TRACE_ID_ATTRIBUTE);
+    assertThat(snapshot.getAttribute(TRACE_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST))
+        .isEqualTo("trace-1");
+  }
+
+  @Test
+  void givenSaturatedAsyncInspectorExecutor_whenInspecting_thenSkipsSnapshot() {
+    AtomicInteger snapshots = new AtomicInteger();
+    List<Runnable> tasks = new ArrayList<>();
+    AsyncAdviceWebMvcInspector inspector =
+        new AsyncAdviceWebMvcInspector(
+            (context, problem, ex, headers, status, request) -> {},
+            new AsyncInspectorExecutor(tasks::add, 1, OverflowPolicy.DROP));
+    ServletWebRequest request =
+        new ServletWebRequest(new MockHttpServletRequest("GET", "/test")) {
+          @Override
+          public Iterator<String> getHeaderNames() {
+            snapshots.incrementAndGet();
+            return super.getHeaderNames();
+          }
+        };
+
+    for (int i = 0; i < 3; i++) {
+      inspector.inspect(
+          ProblemContext.create(),
+          Problem.builder().status(ProblemStatus.INTERNAL_SERVER_ERROR).build(),
+          new RuntimeException(),
+          new HttpHeaders(),
+          HttpStatus.INTERNAL_SERVER_ERROR,
+          request);
+    }
+
+    assertThat(tasks).hasSize(1);
+    assertThat(snapshots.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenRequestSnapshot_whenModifyingAttributes_thenThrows() {
+    WebRequestSnapshot snapshot =
+        WebRequestSnapshot.of(new ServletWebRequest(new MockHttpServletRequest("GET", "/test")));
+
+    assertThatThrownBy(() -> snapshot.setAttribute("a", "b", RequestAttributes.SCOPE_REQUEST))
+        .isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(snapshot::getSessionId).isInstanceOf(UnsupportedOperationException.class);
+  }
+}
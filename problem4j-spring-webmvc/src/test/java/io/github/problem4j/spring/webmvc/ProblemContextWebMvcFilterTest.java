@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static io.github.problem4j.spring.web.AttributeSupport.LAZY_PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.PROBLEM_CONTEXT_ATTRIBUTE;
+import static io.github.problem4j.spring.web.AttributeSupport.TRACE_ID_ATTRIBUTE;
+import static io.github.problem4j.spring.web.ProblemSupport.ERRORS_PROFILE_CONTEXT_KEY;
+import static io.github.problem4j.spring.web.ProblemSupport.GROUPED_ERRORS_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.AttributeSupport;
+import io.github.problem4j.spring.web.LazyProblemContext;
+import io.github.problem4j.spring.web.ProblemContextHolder;
+import io.github.problem4j.spring.web.tracing.SecureUuidTraceIdGenerator;
+import io.github.problem4j.spring.web.tracing.TraceContextTraceIdResolver;
+import io.github.problem4j.spring.web.tracing.TraceIdValidator;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ProblemContextWebMvcFilterTest {
+
+  @Test
+  void givenEagerMode_whenFiltering_thenAssignsContextAndTraceId()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter = new ProblemContextWebMvcFilter(() -> null);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isInstanceOf(ProblemContext.class);
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).asString().startsWith("urn:uuid:");
+    assertThat(request.getAttribute(LAZY_PROBLEM_CONTEXT_ATTRIBUTE))
+        .isInstanceOfSatisfying(
+            LazyProblemContext.class, lazy -> assertThat(lazy.isInitialized()).isFalse());
+  }
+
+  @Test
+  void givenEagerModeWithGroupedErrorsProfile_whenResolvingContext_thenRecordsProfile()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter = new ProblemContextWebMvcFilter(() -> null);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    request.addHeader("Accept", "application/problem+json; profile=\"grouped-errors\"");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    ProblemContext eager = (ProblemContext) request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE);
+    assertThat(eager.get(ERRORS_PROFILE_CONTEXT_KEY)).isNull();
+
+    ProblemContext context = AttributeSupport.resolveProblemContext(request::getAttribute);
+
+    assertThat(context.get(ERRORS_PROFILE_CONTEXT_KEY)).isEqualTo(GROUPED_ERRORS_PROFILE);
+    assertThat(context.get("traceId")).isEqualTo(eager.get("traceId"));
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isSameAs(context);
+  }
+
+  @Test
+  void givenEagerModeWithoutProfile_whenResolvingContext_thenReturnsAssignedContext()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter = new ProblemContextWebMvcFilter(() -> null);
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    request.addHeader("Accept", "application/problem+json");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(AttributeSupport.resolveProblemContext(request::getAttribute))
+        .isSameAs(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE));
+  }
+
+  @Test
+  void givenLazyMode_whenFiltering_thenDefersContextUntilFirstAccess()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> null).lazy(true).build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isNull();
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).isNull();
+    assertThat(request.getAttribute(LAZY_PROBLEM_CONTEXT_ATTRIBUTE))
+        .isInstanceOfSatisfying(
+            LazyProblemContext.class, lazy -> assertThat(lazy.isInitialized()).isFalse());
+
+    ProblemContext context = AttributeSupport.resolveProblemContext(request::getAttribute);
+
+    assertThat(context.get("traceId")).startsWith("urn:uuid:");
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isSameAs(context);
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).isEqualTo(context.get("traceId"));
+    assertThat(AttributeSupport.resolveTraceId(request::getAttribute))
+        .isEqualTo(context.get("traceId"));
+  }
+
+  @Test
+  void givenLazyMode_whenContextIsCreated_thenModifiesServletExchange()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        new ProblemContextWebMvcFilter(
+            () -> null, true, new SecureUuidTraceIdGenerator(), List.of(), false, List.of(), null) {
+          @Override
+          protected void modifyServletExchange(
+              HttpServletRequest request, HttpServletResponse response, ProblemContext context) {
+            response.setHeader("X-Context-Trace-Id", context.get("traceId"));
+          }
+        };
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, new MockFilterChain());
+
+    assertThat(response.getHeader("X-Context-Trace-Id")).isNull();
+
+    ProblemContext context = AttributeSupport.resolveProblemContext(request::getAttribute);
+
+    assertThat(response.getHeader("X-Context-Trace-Id")).isEqualTo(context.get("traceId"));
+  }
+
+  @Test
+  void givenLazyModeWithTracingHeader_whenFiltering_thenEchoesTraceIdEagerly()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> "X-Trace-Id").lazy(true).build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    request.addHeader("X-Trace-Id", "trace-123");
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, new MockFilterChain());
+
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).isEqualTo("trace-123");
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isInstanceOf(ProblemContext.class);
+    assertThat(response.getHeader("X-Trace-Id")).isEqualTo("trace-123");
+  }
+
+  @Test
+  void givenTraceIdResolver_whenFiltering_thenReusesResolvedTraceId()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> null)
+            .traceIdResolvers(List.of(new TraceContextTraceIdResolver()))
+            .build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    request.addHeader("traceparent", "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE))
+        .isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+  }
+
+  @Test
+  void givenThreadBinding_whenFiltering_thenBindsContextForFilterChainOnly()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> null).lazy(true).threadBinding(true).build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    AtomicReference<String> boundTraceId = new AtomicReference<>();
+
+    filter.doFilter(
+        request,
+        new MockHttpServletResponse(),
+        (req, res) -> boundTraceId.set(ProblemContextHolder.getTraceId()));
+
+    assertThat(boundTraceId.get()).startsWith("urn:uuid:");
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).isEqualTo(boundTraceId.get());
+    assertThat(ProblemContextHolder.getProblemContext()).isNull();
+  }
+
+  @Test
+  void givenExcludePatterns_whenFilteringMatchingPath_thenSkipsRequest()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> null)
+            .excludePatterns(List.of("/actuator/**"))
+            .build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/actuator/health");
+    request.setContextPath("/app");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isNull();
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).isNull();
+  }
+
+  @Test
+  void givenExcludePatterns_whenFilteringOtherPath_thenAssignsContext()
+      throws ServletException, IOException {
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> null)
+            .excludePatterns(List.of("/actuator/**"))
+            .build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+    assertThat(request.getAttribute(PROBLEM_CONTEXT_ATTRIBUTE)).isInstanceOf(ProblemContext.class);
+  }
+
+  @Test
+  void givenOversizedTracingHeader_whenFiltering_thenReplacesItWithGeneratedTraceId()
+      throws ServletException, IOException {
+    TraceIdValidator validator = new TraceIdValidator();
+    ProblemContextWebMvcFilter filter =
+        ProblemContextWebMvcFilter.builder(() -> "X-Trace-Id").traceIdValidator(validator).build();
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/test");
+    request.addHeader("X-Trace-Id", "a".repeat(8192));
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    filter.doFilter(request, response, new MockFilterChain());
+
+    assertThat(request.getAttribute(TRACE_ID_ATTRIBUTE)).asString().startsWith("urn:uuid:");
+    assertThat(response.getHeader("X-Trace-Id"))
+        .isEqualTo(request.getAttribute(TRACE_ID_ATTRIBUTE));
+    assertThat(validator.getRejectedCount()).isEqualTo(1);
+  }
+}
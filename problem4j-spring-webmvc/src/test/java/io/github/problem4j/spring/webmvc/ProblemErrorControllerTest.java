@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemContext;
+import io.github.problem4j.spring.web.IdentityProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemCodecs;
+import io.github.problem4j.spring.web.ProblemPostProcessor;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.webmvc.error.DefaultErrorAttributes;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+
+class ProblemErrorControllerTest {
+
+  private static final JsonMapper MAPPER =
+      JsonMapper.builder().addMixIn(Problem.class, ProblemJacksonMixIn.class).build();
+
+  @Test
+  void givenErrorStatusCode_whenHandlingError_thenRespondsWithProblemOfThatStatus()
+      throws IOException {
+    ProblemErrorController controller =
+        new ProblemErrorController(
+            new IdentityProblemPostProcessor(),
+            new DefaultErrorAttributes(),
+            List.of(MediaType.APPLICATION_PROBLEM_JSON));
+
+    ResponseEntity<Problem> response = handleError(controller, errorRequest(404));
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    assertThat(response.getBody().getStatus()).isEqualTo(404);
+    assertThat(response.getHeaders().getContentType())
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+  }
+
+  @Test
+  void givenMissingOrUnknownStatusCode_whenHandlingError_thenRespondsWithInternalServerError()
+      throws IOException {
+    ProblemErrorController controller =
+        new ProblemErrorController(
+            new IdentityProblemPostProcessor(), new DefaultErrorAttributes());
+
+    assertThat(handleError(controller, new MockHttpServletRequest()).getStatusCode())
+        .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    assertThat(handleError(controller, errorRequest(999)).getStatusCode())
+        .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  @Test
+  void givenContextInsensitivePostProcessor_whenHandlingErrors_thenReusesProblemPerStatus()
+      throws IOException {
+    ProblemErrorController controller =
+        new ProblemErrorController(
+            new IdentityProblemPostProcessor(), new DefaultErrorAttributes());
+
+    Problem first = handleError(controller, errorRequest(404)).getBody();
+    Problem second = handleError(controller, errorRequest(404)).getBody();
+    Problem other = handleError(controller, errorRequest(405)).getBody();
+
+    assertThat(second).isSameAs(first);
+    assertThat(other.getStatus()).isEqualTo(405);
+  }
+
+  @Test
+  void givenContextSensitivePostProcessor_whenHandlingErrors_thenBuildsProblemPerRequest()
+      throws IOException {
+    ProblemPostProcessor postProcessor = (ProblemContext context, Problem problem) -> problem;
+    ProblemErrorController controller =
+        new ProblemErrorController(postProcessor, new DefaultErrorAttributes());
+
+    Problem first = handleError(controller, errorRequest(404)).getBody();
+    Problem second = handleError(controller, errorRequest(404)).getBody();
+
+    assertThat(second).isNotSameAs(first).isEqualTo(first);
+  }
+
+  @Test
+  void givenProblemHttpMessageConverter_whenHandlingError_thenWritesProblemDirectly()
+      throws IOException {
+    ProblemErrorController controller =
+        new ProblemErrorController(
+            new IdentityProblemPostProcessor(),
+            new DefaultErrorAttributes(),
+            List.of(MediaType.APPLICATION_PROBLEM_JSON),
+            problemHttpMessageConverter());
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    ResponseEntity<Problem> result = controller.error(errorRequest(404), response);
+
+    assertThat(result).isNull();
+    assertThat(response.getStatus()).isEqualTo(404);
+    assertThat(MediaType.parseMediaType(response.getContentType()))
+        .isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+    assertThat(response.getContentAsString()).isEqualTo(MAPPER.writeValueAsString(problem(404)));
+  }
+
+  @Test
+  void givenNoProblemHttpMessageConverter_whenHandlingError_thenDelegatesToResponseEntityHandler()
+      throws IOException {
+    ProblemErrorController controller =
+        new ProblemErrorController(
+            new IdentityProblemPostProcessor(), new DefaultErrorAttributes()) {
+          @Override
+          public ResponseEntity<Problem> error(HttpServletRequest request) {
+            return ResponseEntity.status(HttpStatus.I_AM_A_TEAPOT).build();
+          }
+        };
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    ResponseEntity<Problem> result = controller.error(errorRequest(404), response);
+
+    assertThat(result.getStatusCode()).isEqualTo(HttpStatus.I_AM_A_TEAPOT);
+    assertThat(response.getContentAsString()).isEmpty();
+  }
+
+  private static ProblemHttpMessageConverter problemHttpMessageConverter() {
+    return new ProblemHttpMessageConverter(
+        ProblemCodecs.builder().register(MediaType.APPLICATION_PROBLEM_JSON, MAPPER).build());
+  }
+
+  private static Problem problem(int status) {
+    return Problem.builder().status(status).build();
+  }
+
+  private static MockHttpServletRequest errorRequest(int statusCode) {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/error");
+    request.setAttribute(RequestDispatcher.ERROR_STATUS_CODE, statusCode);
+    return request;
+  }
+
+  private static ResponseEntity<Problem> handleError(
+      ProblemErrorController controller, MockHttpServletRequest request) throws IOException {
+    return controller.error(request, new MockHttpServletResponse());
+  }
+}
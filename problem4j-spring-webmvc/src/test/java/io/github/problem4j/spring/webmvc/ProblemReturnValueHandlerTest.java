@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.IdentityProblemPostProcessor;
+import io.github.problem4j.spring.web.ProblemResult;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+class ProblemReturnValueHandlerTest {
+
+  private ProblemReturnValueHandler handler;
+
+  @BeforeEach
+  void beforeEach() {
+    handler =
+        new ProblemReturnValueHandler(
+            null, new IdentityProblemPostProcessor(), List.of(MediaType.APPLICATION_PROBLEM_JSON));
+  }
+
+  @Test
+  void givenProblemOrProblemResultReturnType_whenCheckingSupport_thenSupportsIt() {
+    assertThat(handler.supportsReturnType(returnType("problem"))).isTrue();
+    assertThat(handler.supportsReturnType(returnType("result"))).isTrue();
+    assertThat(handler.supportsReturnType(returnType("string"))).isFalse();
+  }
+
+  @Test
+  void givenReturnedProblem_whenBuildingEntity_thenUsesProblemStatusAndMediaType() {
+    Problem problem = Problem.builder().status(ProblemStatus.BAD_REQUEST).build();
+
+    ResponseEntity<Problem> entity =
+        handler.buildProblemEntity(
+            problem, new ServletWebRequest(new MockHttpServletRequest("GET", "/test")));
+
+    assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(entity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+    assertThat(entity.getBody()).isEqualTo(problem);
+  }
+
+  @Test
+  void givenNullProblem_whenBuildingEntity_thenFallsBackToInternalServerError() {
+    ResponseEntity<Problem> entity =
+        handler.buildProblemEntity(
+            null, new ServletWebRequest(new MockHttpServletRequest("GET", "/test")));
+
+    assertThat(entity.getStatusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+
+  private static MethodParameter returnType(String methodName) {
+    return new MethodParameter(ReflectionUtils.findMethod(Controller.class, methodName), -1);
+  }
+
+  @SuppressWarnings("unused")
+  private static class Controller {
+
+    Problem problem() {
+      return null;
+    }
+
+    ProblemResult<String> result() {
+      return null;
+    }
+
+    String string() {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2025 Damian Malczewski
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package io.github.problem4j.spring.webmvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.problem4j.core.Problem;
+import io.github.problem4j.core.ProblemException;
+import io.github.problem4j.core.ProblemMapper;
+import io.github.problem4j.core.ProblemStatus;
+import io.github.problem4j.spring.web.DefaultProblemResolverStore;
+import io.github.problem4j.spring.web.IdentityProblemPostProcessor;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.function.ServerRequest;
+import org.springframework.web.servlet.function.ServerResponse;
+
+class ProblemWebMvcHandlerFilterFunctionTest {
+
+  private ProblemWebMvcHandlerFilterFunction filterFunction;
+
+  private AtomicInteger hits;
+
+  @BeforeEach
+  void beforeEach() {
+    hits = new AtomicInteger(0);
+    filterFunction =
+        new ProblemWebMvcHandlerFilterFunction(
+            ProblemMapper.create(),
+            new DefaultProblemResolverStore(List.of()),
+            new IdentityProblemPostProcessor(),
+            List.of((context, problem, ex, headers, status, request) -> hits.incrementAndGet()),
+            List.of(MediaType.APPLICATION_PROBLEM_JSON));
+  }
+
+  @Test
+  void givenSuccessfulHandler_whenFiltering_thenReturnsItsResponse() throws Exception {
+    ServerResponse response = ServerResponse.ok().build();
+
+    ServerResponse result = filterFunction.filter(request(), r -> response);
+
+    assertThat(result).isSameAs(response);
+    assertThat(hits.get()).isZero();
+  }
+
+  @Test
+  void givenProblemException_whenFiltering_thenRespondsWithItsProblem() throws Exception {
+    Problem problem = Problem.builder().status(ProblemStatus.CONFLICT).build();
+
+    ServerResponse result =
+        filterFunction.filter(
+            request(),
+            r -> {
+              throw new ProblemException(problem);
+            });
+
+    assertThat(result.statusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(result.headers().getContentType()).isEqualTo(MediaType.APPLICATION_PROBLEM_JSON);
+    assertThat(hits.get()).isEqualTo(1);
+  }
+
+  @Test
+  void givenUnresolvableException_whenFiltering_thenRespondsWithInternalServerError()
+      throws Exception {
+    ServerResponse result =
+        filterFunction.filter(
+            request(),
+            r -> {
+              throw new IllegalStateException("boom");
+            });
+
+    assertThat(result.statusCode()).isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+    assertThat(hits.get()).isEqualTo(1);
+  }
+
+  private static ServerRequest request() {
+    return ServerRequest.create(new MockHttpServletRequest("GET", "/test"), List.of());
+  }
+}
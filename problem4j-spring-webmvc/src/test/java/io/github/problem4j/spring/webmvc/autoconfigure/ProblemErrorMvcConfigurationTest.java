@@ -48,6 +48,24 @@ void contextLoads() {
       assertThat(problemErrorMvcConfiguration).isNotNull();
       assertThat(errorController).isInstanceOf(ProblemErrorController.class);
       assertThat(properties.getErrorController().isEnabled()).isTrue();
+      assertThat(properties.getErrorController().isDirectWrite()).isFalse();
+    }
+  }
+
+  @SpringBootTest(
+      classes = {WebMvcTestApp.class},
+      properties = {"problem4j.webmvc.error-controller.direct-write=true"})
+  @Nested
+  class WithDirectWrite {
+
+    @Autowired private ErrorController errorController;
+
+    @Autowired private ProblemWebMvcProperties properties;
+
+    @Test
+    void contextLoads() {
+      assertThat(errorController).isInstanceOf(ProblemErrorController.class);
+      assertThat(properties.getErrorController().isDirectWrite()).isTrue();
     }
   }
 
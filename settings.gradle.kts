@@ -10,6 +10,7 @@
 
 rootProject.name = "problem4j-spring"
 
+include(":problem4j-spring-benchmarks")
 include(":problem4j-spring-bom")
 include(":problem4j-spring-web")
 include(":problem4j-spring-webflux")